@@ -20,6 +20,9 @@ plugins {
 
 dependencies {
     jmh(project(":client"))
+    jmh(platform(libs.opentelemetry.bom))
+    jmh(libs.opentelemetry.sdk)
+    jmh(libs.opentelemetry.sdk.testing)
 }
 
 jmh {
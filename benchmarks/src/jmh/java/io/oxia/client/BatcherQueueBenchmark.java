@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.oxia.client.util.BatchedArrayBlockingQueue;
+import io.oxia.client.util.BatchedBlockingQueue;
+import io.oxia.client.util.MpscArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the batcher command queue under producer contention: several threads enqueue while a
+ * single batching thread drains with {@code pollAll}, comparing the lock-based queue against the
+ * lock-free MPSC queue with each of its wait strategies. Producers use a non-blocking {@code offer}
+ * so that the run can always stop, and the score of the {@code offer} methods is the producer-side
+ * cost of a hand-off. Run with {@code ./gradlew :benchmarks:jmh}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+public class BatcherQueueBenchmark {
+
+    private static final int CAPACITY = 10_000;
+    private static final Object COMMAND = new Object();
+
+    public enum QueueType {
+        BLOCKING,
+        MPSC_SPIN_THEN_PARK,
+        MPSC_PARK,
+    }
+
+    @State(Scope.Group)
+    public static class Queue {
+        @Param({"BLOCKING", "MPSC_SPIN_THEN_PARK", "MPSC_PARK"})
+        public QueueType type;
+
+        private BatchedBlockingQueue<Object> queue;
+
+        @Setup
+        public void setup() {
+            queue =
+                    switch (type) {
+                        case BLOCKING -> new BatchedArrayBlockingQueue<>(CAPACITY);
+                        case MPSC_SPIN_THEN_PARK ->
+                                new MpscArrayBlockingQueue<>(
+                                        CAPACITY, MpscArrayBlockingQueue.WaitStrategy.SPIN_THEN_PARK);
+                        case MPSC_PARK ->
+                                new MpscArrayBlockingQueue<>(
+                                        CAPACITY, MpscArrayBlockingQueue.WaitStrategy.PARK);
+                    };
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Consumer {
+        final Object[] local = new Object[CAPACITY];
+    }
+
+    @Benchmark
+    @Group("producers1")
+    @GroupThreads(1)
+    public boolean offer1(Queue q) {
+        return q.queue.offer(COMMAND);
+    }
+
+    @Benchmark
+    @Group("producers1")
+    @GroupThreads(1)
+    public int drain1(Queue q, Consumer c) throws InterruptedException {
+        return q.queue.pollAll(c.local, 0, NANOSECONDS);
+    }
+
+    @Benchmark
+    @Group("producers4")
+    @GroupThreads(4)
+    public boolean offer4(Queue q) {
+        return q.queue.offer(COMMAND);
+    }
+
+    @Benchmark
+    @Group("producers4")
+    @GroupThreads(1)
+    public int drain4(Queue q, Consumer c) throws InterruptedException {
+        return q.queue.pollAll(c.local, 0, NANOSECONDS);
+    }
+
+    @Benchmark
+    @Group("producers16")
+    @GroupThreads(16)
+    public boolean offer16(Queue q) {
+        return q.queue.offer(COMMAND);
+    }
+
+    @Benchmark
+    @Group("producers16")
+    @GroupThreads(1)
+    public int drain16(Queue q, Consumer c) throws InterruptedException {
+        return q.queue.pollAll(c.local, 0, NANOSECONDS);
+    }
+}
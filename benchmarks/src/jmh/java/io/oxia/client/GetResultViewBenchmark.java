@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.proto.GetResponse;
+import io.oxia.proto.Status;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the per-record cost of decoding a received {@link GetResponse} into a {@link GetResult}
+ * against wrapping it into a {@link io.oxia.client.api.GetResultView}. Both benchmarks parse the
+ * same serialized frame, so the difference in {@code gc.alloc.rate.norm} is the cost of the result
+ * type itself. Run with {@code ./gradlew :benchmarks:jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+public class GetResultViewBenchmark {
+
+    @Param({"128", "4096", "65536"})
+    int valueSize;
+
+    private byte[] frame;
+
+    @Setup
+    public void setup() {
+        var value = new byte[valueSize];
+        ThreadLocalRandom.current().nextBytes(value);
+        var response = new GetResponse();
+        response.setKey("/registry/tenant-01/key-00000001").setStatus(Status.OK).setValue(value);
+        response
+                .setVersion()
+                .setVersionId(42L)
+                .setCreatedTimestamp(System.currentTimeMillis())
+                .setModifiedTimestamp(System.currentTimeMillis())
+                .setModificationsCount(3L);
+        frame = response.toByteArray();
+    }
+
+    private GetResponse receive() {
+        var response = new GetResponse();
+        response.parseFrom(frame);
+        return response;
+    }
+
+    @Benchmark
+    public void getResult(Blackhole bh) {
+        var result = ProtoUtil.getResultFromProto("", receive());
+        bh.consume(result.value().length);
+        bh.consume(result.version().versionId());
+    }
+
+    @Benchmark
+    public void getResultView(Blackhole bh) {
+        try (var view = ProtoUtil.getResultViewFromProto("", receive())) {
+            bh.consume(view.value().remaining());
+            bh.consume(view.versionId());
+        }
+    }
+
+    @Benchmark
+    public void getResultViewWithVersion(Blackhole bh) {
+        try (var view = ProtoUtil.getResultViewFromProto("", receive())) {
+            bh.consume(view.value().remaining());
+            bh.consume(view.version());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.oxia.client.api.MetricsLevel;
+import io.oxia.client.metrics.Counter;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.metrics.LatencyHistogram;
+import io.oxia.client.metrics.Unit;
+import io.oxia.client.metrics.UpDownCounter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the metrics cost of a single put against an SDK-backed {@link
+ * io.opentelemetry.api.OpenTelemetry}: two pending gauges incremented at start, then decremented,
+ * plus a byte counter and a latency record at completion. {@code synchronousOtel} makes the same
+ * calls straight on the OpenTelemetry instruments, as the client did before metrics were
+ * accumulated in memory. Run with {@code ./gradlew :benchmarks:jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+public class MetricsBenchmark {
+
+    private static final Attributes PUT = Attributes.of(AttributeKey.stringKey("oxia.op"), "put");
+    private static final Attributes PUT_SUCCESS =
+            PUT.toBuilder().put("oxia.response.status", "success").build();
+
+    @State(Scope.Benchmark)
+    public static class ClientMetrics {
+        @Param({"OFF", "BASIC", "DETAILED"})
+        public MetricsLevel level;
+
+        private SdkMeterProvider meterProvider;
+        private InstrumentProvider instrumentProvider;
+        private UpDownCounter pendingRequests;
+        private UpDownCounter pendingBytes;
+        private Counter bytes;
+        private LatencyHistogram latency;
+
+        @Setup
+        public void setup() {
+            meterProvider = newMeterProvider();
+            var otel = OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build();
+            instrumentProvider = new InstrumentProvider(otel, "default", level);
+            pendingRequests =
+                    instrumentProvider.newUpDownCounter("oxia.client.ops.pending", Unit.Events, "", PUT);
+            pendingBytes =
+                    instrumentProvider.newUpDownCounter(
+                            "oxia.client.ops.outstanding", Unit.Bytes, "", PUT);
+            bytes = instrumentProvider.newCounter("oxia.client.ops.size", Unit.Bytes, "", PUT);
+            latency = instrumentProvider.newLatencyHistogram("oxia.client.ops", "", PUT);
+        }
+
+        @TearDown
+        public void tearDown() {
+            instrumentProvider.close();
+            meterProvider.close();
+        }
+
+        void recordPut() {
+            pendingRequests.increment();
+            pendingBytes.add(128);
+            pendingRequests.decrement();
+            pendingBytes.subtract(128);
+            bytes.add(128);
+            latency.recordSuccess(1_000_000);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SynchronousOtelMetrics {
+        private SdkMeterProvider meterProvider;
+        private LongUpDownCounter pendingRequests;
+        private LongUpDownCounter pendingBytes;
+        private LongCounter bytes;
+        private DoubleHistogram latency;
+
+        @Setup
+        public void setup() {
+            meterProvider = newMeterProvider();
+            var meter = meterProvider.get("io.oxia.client");
+            pendingRequests = meter.upDownCounterBuilder("oxia.client.ops.pending").build();
+            pendingBytes = meter.upDownCounterBuilder("oxia.client.ops.outstanding").build();
+            bytes = meter.counterBuilder("oxia.client.ops.size").build();
+            latency = meter.histogramBuilder("oxia.client.ops").build();
+        }
+
+        @TearDown
+        public void tearDown() {
+            meterProvider.close();
+        }
+
+        void recordPut() {
+            pendingRequests.add(1, PUT);
+            pendingBytes.add(128, PUT);
+            pendingRequests.add(-1, PUT);
+            pendingBytes.add(-128, PUT);
+            bytes.add(128, PUT);
+            latency.record(0.001, PUT_SUCCESS);
+        }
+    }
+
+    private static SdkMeterProvider newMeterProvider() {
+        return SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    }
+
+    @Benchmark
+    public void put(ClientMetrics metrics) {
+        metrics.recordPut();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void putContended(ClientMetrics metrics) {
+        metrics.recordPut();
+    }
+
+    @Benchmark
+    public void synchronousOtel(SynchronousOtelMetrics metrics) {
+        metrics.recordPut();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void synchronousOtelContended(SynchronousOtelMetrics metrics) {
+        metrics.recordPut();
+    }
+}
@@ -24,9 +24,14 @@ import io.oxia.client.api.options.ListOption;
 import io.oxia.client.api.options.PutOption;
 import io.oxia.client.api.options.RangeScanOption;
 import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -87,6 +92,72 @@ public interface AsyncOxiaClient extends AutoCloseable {
      */
     CompletableFuture<PutResult> put(String key, byte[] value);
 
+    /**
+     * Conditionally associates a value with a key, sending the bytes of the supplied buffer without
+     * copying them. Behaves like {@link #put(String, byte[], Set)} otherwise.
+     *
+     * <p>The bytes between the buffer's position and limit are used as the value; the buffer's
+     * position and limit are not modified. Heap and direct buffers are both accepted. The caller must
+     * not modify or recycle the buffer until the returned future completes, at which point the client
+     * no longer holds any reference to it.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The buffer holding the value to associate with the key.
+     * @param options Set {@link PutOption options} for the put.
+     * @return The result of the put at the specified key. Supplied via a future that returns the
+     *     {@link PutResult}.
+     */
+    CompletableFuture<PutResult> putBuffer(String key, ByteBuffer value, Set<PutOption> options);
+
+    /**
+     * Associates a value with a key, sending the bytes of the supplied buffer without copying them.
+     * See {@link #putBuffer(String, ByteBuffer, Set)} for the buffer ownership rules.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The buffer holding the value to associate with the key.
+     * @return The result of the put at the specified key. Supplied via a future that returns the
+     *     {@link PutResult}.
+     */
+    CompletableFuture<PutResult> putBuffer(String key, ByteBuffer value);
+
+    /**
+     * Associates each value of {@code records} with its key. The records are grouped by shard and
+     * submitted to the batching layer together, which is cheaper than one {@link #put(String, byte[],
+     * Set)} call per record. The same {@link PutOption options} apply to every record.
+     *
+     * <p>The records are written independently of each other: there is no atomicity across records,
+     * and when some of them fail the others may still have been applied.
+     *
+     * @param records The values to write, by key.
+     * @param options Set {@link PutOption options} applied to each put.
+     * @return A future that completes with the result of each put, by key, in the iteration order of
+     *     {@code records}. It completes exceptionally with the first failure if any of the puts
+     *     fails.
+     */
+    CompletableFuture<Map<String, PutResult>> putAll(
+            Map<String, byte[]> records, Set<PutOption> options);
+
+    /**
+     * Associates each value of {@code records} with its key. See {@link #putAll(Map, Set)}.
+     *
+     * @param records The values to write, by key.
+     * @return A future that completes with the result of each put, by key.
+     */
+    CompletableFuture<Map<String, PutResult>> putAll(Map<String, byte[]> records);
+
+    /**
+     * Creates a {@link BulkWriter} that writes records with the given {@link PutOption options}.
+     * Unless the options set a priority, the records are written with {@link PutOption#PriorityBulk}.
+     *
+     * @param options Set {@link PutOption options} applied to each record.
+     * @param failureCallback Invoked with the key and the cause of each record that fails. It is
+     *     called from the client's internal threads and must not block.
+     * @return A new writer, to be owned by a single thread.
+     * @throws IllegalArgumentException if the options are not valid, or if they ask for ephemeral
+     *     records, which are not supported by bulk writers.
+     */
+    BulkWriter bulkWriter(Set<PutOption> options, BiConsumer<String, Throwable> failureCallback);
+
     /**
      * Conditionally deletes the record associated with the key if the record exists, and the server's
      * versionId of the record is as specified, at the instant when the delete is applied. The delete
@@ -111,6 +182,28 @@ public interface AsyncOxiaClient extends AutoCloseable {
      */
     CompletableFuture<Boolean> delete(String key);
 
+    /**
+     * Deletes the records associated with the given keys. The keys are grouped by shard and submitted
+     * to the batching layer together, which is cheaper than one {@link #delete(String, Set)} call per
+     * key. The same {@link DeleteOption options} apply to every key.
+     *
+     * @param keys The keys of the records to delete. Duplicates are deleted once.
+     * @param options Set {@link DeleteOption options} applied to each delete.
+     * @return A future that completes with, for each key, {@code true} if the record was deleted or
+     *     {@code false} if it did not exist. It completes exceptionally with the first failure if any
+     *     of the deletes fails.
+     */
+    CompletableFuture<Map<String, Boolean>> deleteAll(
+            Collection<String> keys, Set<DeleteOption> options);
+
+    /**
+     * Deletes the records associated with the given keys. See {@link #deleteAll(Collection, Set)}.
+     *
+     * @param keys The keys of the records to delete.
+     * @return A future that completes with the outcome of each delete, by key.
+     */
+    CompletableFuture<Map<String, Boolean>> deleteAll(Collection<String> keys);
+
     /**
      * Deletes any records with keys within the specified range. For more information on how keys are
      * sorted, check the relevant section in the <a
@@ -160,6 +253,54 @@ public interface AsyncOxiaClient extends AutoCloseable {
      */
     CompletableFuture<GetResult> get(String key, Set<GetOption> options);
 
+    /**
+     * Returns the records associated with the given keys. The keys are grouped by shard and submitted
+     * to the batching layer together, which is cheaper than one {@link #get(String, Set)} call per
+     * key.
+     *
+     * <p>Only exact key lookups are supported: {@link GetOption options} changing the key comparison
+     * or using a secondary index are rejected.
+     *
+     * @param keys The keys of the records to fetch. Duplicates are fetched once.
+     * @param options Set {@link GetOption options} applied to each get.
+     * @return A future that completes with the records that exist, by key, in the iteration order of
+     *     {@code keys}; keys without a record are absent from the map. It completes exceptionally
+     *     with the first failure if any of the gets fails.
+     */
+    CompletableFuture<Map<String, GetResult>> getAll(
+            Collection<String> keys, Set<GetOption> options);
+
+    /**
+     * Returns the records associated with the given keys. See {@link #getAll(Collection, Set)}.
+     *
+     * @param keys The keys of the records to fetch.
+     * @return A future that completes with the records that exist, by key.
+     */
+    CompletableFuture<Map<String, GetResult>> getAll(Collection<String> keys);
+
+    /**
+     * Returns the record associated with the specified key as a {@link GetResultView}, which exposes
+     * the value without copying it out of the server response. The caller must close the returned
+     * view once done with it.
+     *
+     * @param key The key associated with the record to be fetched.
+     * @return The view over the record associated with the supplied key, or {@code null} if the key
+     *     did not exist. Supplied via a future returning a {@link GetResultView}.
+     */
+    CompletableFuture<GetResultView> getView(String key);
+
+    /**
+     * Returns the record associated with the specified key as a {@link GetResultView}, which exposes
+     * the value without copying it out of the server response. The caller must close the returned
+     * view once done with it.
+     *
+     * @param key The key associated with the record to be fetched.
+     * @param options Set {@link GetOption options} for the get operation.
+     * @return The view over the record associated with the supplied key, or {@code null} if the key
+     *     did not exist. Supplied via a future returning a {@link GetResultView}.
+     */
+    CompletableFuture<GetResultView> getView(String key, Set<GetOption> options);
+
     /**
      * Lists any existing keys within the specified range. For more information on how keys are
      * sorted, check the relevant section in the <a
@@ -190,6 +331,112 @@ public interface AsyncOxiaClient extends AutoCloseable {
     CompletableFuture<List<String>> list(
             String startKeyInclusive, String endKeyExclusive, Set<ListOption> options);
 
+    /**
+     * Streams any existing keys within the specified range to a consumer. The per-shard streams are
+     * merged as they arrive, so keys are delivered in sorted order without first collecting the whole
+     * range.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param consumer A {@link ListConsumer} that will be invoked with the keys or errors.
+     */
+    void list(String startKeyInclusive, String endKeyExclusive, ListConsumer consumer);
+
+    /**
+     * Streams any existing keys within the specified range to a consumer. The per-shard streams are
+     * merged as they arrive, so keys are delivered in sorted order without first collecting the whole
+     * range. With a {@link ListOption#Limit(int) limit}, the remaining server streams are cancelled
+     * as soon as enough keys have been delivered.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param consumer A {@link ListConsumer} that will be invoked with the keys or errors.
+     * @param options Set {@link ListOption options} for the list operation.
+     */
+    void list(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            ListConsumer consumer,
+            Set<ListOption> options);
+
+    /**
+     * Lists a page of the existing keys within the specified range, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last key it returned, instead of listing the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of keys in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @return The page of keys. Supplied via a future.
+     */
+    CompletableFuture<Page<String>> listPage(
+            String startKeyInclusive, String endKeyExclusive, int pageSize, String continuationToken);
+
+    /**
+     * Lists a page of the existing keys within the specified range, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last key it returned, instead of listing the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of keys in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @param options Set {@link ListOption options} for the list operation. A secondary index can't
+     *     be used with a paginated list.
+     * @return The page of keys. Supplied via a future.
+     */
+    CompletableFuture<Page<String>> listPage(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            Set<ListOption> options);
+
+    /**
+     * Lists any existing keys within the specified range as a {@link Flow.Publisher}.
+     *
+     * <p>Every subscription starts its own list. The keys are requested from the server as the
+     * subscriber requests them, so a slow subscriber throttles the list instead of having the keys
+     * buffered in memory.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @return A publisher of the keys.
+     */
+    Flow.Publisher<String> listPublisher(String startKeyInclusive, String endKeyExclusive);
+
+    /**
+     * Lists any existing keys within the specified range as a {@link Flow.Publisher}.
+     *
+     * <p>Every subscription starts its own list. The keys are requested from the server as the
+     * subscriber requests them, so a slow subscriber throttles the list instead of having the keys
+     * buffered in memory. A list that uses a secondary index is collected before it is published.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param options the list options
+     * @return A publisher of the keys.
+     */
+    Flow.Publisher<String> listPublisher(
+            String startKeyInclusive, String endKeyExclusive, Set<ListOption> options);
+
     /**
      * Scan any existing records within the specified range of keys.
      *
@@ -217,6 +464,152 @@ public interface AsyncOxiaClient extends AutoCloseable {
             RangeScanConsumer consumer,
             Set<RangeScanOption> options);
 
+    /**
+     * Scans a page of the existing records within the specified range of keys, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last record it returned, instead of scanning the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of records in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @return The page of records. Supplied via a future.
+     */
+    CompletableFuture<Page<GetResult>> rangeScanPage(
+            String startKeyInclusive, String endKeyExclusive, int pageSize, String continuationToken);
+
+    /**
+     * Scans a page of the existing records within the specified range of keys, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last record it returned, instead of scanning the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of records in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @param options the range scan options. A secondary index can't be used with a paginated range
+     *     scan.
+     * @return The page of records. Supplied via a future.
+     */
+    CompletableFuture<Page<GetResult>> rangeScanPage(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            Set<RangeScanOption> options);
+
+    /**
+     * Scans any existing records within the specified range of keys as a {@link Flow.Publisher}.
+     *
+     * <p>Every subscription starts its own range scan. The records are requested from the server as
+     * the subscriber requests them, so a slow subscriber throttles the shard streams instead of
+     * having the records buffered in memory.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @return A publisher of the records.
+     */
+    Flow.Publisher<GetResult> rangeScanPublisher(String startKeyInclusive, String endKeyExclusive);
+
+    /**
+     * Scans any existing records within the specified range of keys as a {@link Flow.Publisher}.
+     *
+     * <p>Every subscription starts its own range scan. The records are requested from the server as
+     * the subscriber requests them, so a slow subscriber throttles the shard streams instead of
+     * having the records buffered in memory.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param options the range scan options
+     * @return A publisher of the records.
+     */
+    Flow.Publisher<GetResult> rangeScanPublisher(
+            String startKeyInclusive, String endKeyExclusive, Set<RangeScanOption> options);
+
+    /**
+     * Scan any existing records within the specified range of keys, delivering each of them as a
+     * {@link GetResultView} that the consumer must close.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param consumer A {@link RangeScanViewConsumer} that will be invoked with the records or
+     *     errors.
+     */
+    void rangeScanView(
+            String startKeyInclusive, String endKeyExclusive, RangeScanViewConsumer consumer);
+
+    /**
+     * Scan any existing records within the specified range of keys, delivering each of them as a
+     * {@link GetResultView} that the consumer must close.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param consumer A {@link RangeScanViewConsumer} that will be invoked with the records or
+     *     errors.
+     * @param options the range scan options
+     */
+    void rangeScanView(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            RangeScanViewConsumer consumer,
+            Set<RangeScanOption> options);
+
+    /**
+     * Validates and compiles a set of {@link PutOption options} once, returning a handle that applies
+     * them to any number of puts. This avoids re-processing the same options on every call.
+     *
+     * @param options Set {@link PutOption options} for the puts.
+     * @return A reusable handle to perform puts with the given options.
+     * @throws IllegalArgumentException if the options are not valid.
+     */
+    PreparedPut preparePut(Set<PutOption> options);
+
+    /**
+     * Validates and compiles a set of {@link GetOption options} once, returning a handle that applies
+     * them to any number of gets.
+     *
+     * @param options Set {@link GetOption options} for the gets.
+     * @return A reusable handle to perform gets with the given options.
+     * @throws IllegalArgumentException if the options are not valid.
+     */
+    PreparedGet prepareGet(Set<GetOption> options);
+
+    /**
+     * Validates and compiles a set of {@link DeleteOption options} once, returning a handle that
+     * applies them to any number of deletes.
+     *
+     * @param options Set {@link DeleteOption options} for the deletes.
+     * @return A reusable handle to perform deletes with the given options.
+     * @throws IllegalArgumentException if the options are not valid.
+     */
+    PreparedDelete prepareDelete(Set<DeleteOption> options);
+
+    /**
+     * Validates and compiles a set of {@link RangeScanOption options} once, returning a handle that
+     * applies them to any number of range scans.
+     *
+     * @param options Set {@link RangeScanOption options} for the range scans.
+     * @return A reusable handle to perform range scans with the given options.
+     * @throws IllegalArgumentException if the options are not valid.
+     */
+    PreparedRangeScan prepareRangeScan(Set<RangeScanOption> options);
+
     /**
      * Registers a callback to receive Oxia {@link Notification record change notifications}. Multiple
      * callbacks can be registered.
@@ -225,6 +618,29 @@ public interface AsyncOxiaClient extends AutoCloseable {
      */
     void notifications(Consumer<Notification> notificationCallback);
 
+    /**
+     * Publishes the Oxia {@link Notification record change notifications} to each subscriber.
+     *
+     * <p>The notifications are shared by all the subscribers and callbacks of the client, so they
+     * can't be throttled by a subscriber: up to {@link Flow#defaultBufferSize()} notifications are
+     * buffered for a subscriber that hasn't requested them yet, after which its subscription fails.
+     *
+     * @return A publisher of the notifications received after each subscription.
+     */
+    Flow.Publisher<Notification> notificationPublisher();
+
+    /**
+     * Creates a {@link MaterializedView} of the records within the specified range of keys, which
+     * starts loading right away. Use {@link MaterializedView#ready()} to wait for it to be loaded.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @return The view, to be closed when no longer needed.
+     */
+    MaterializedView materializedView(String startKeyInclusive, String endKeyExclusive);
+
     /**
      * GetSequenceUpdates allows to subscribe to the updates happening on a sequential key The channel
      * will report the current latest sequence for a given key. Multiple updates can be collapsed into
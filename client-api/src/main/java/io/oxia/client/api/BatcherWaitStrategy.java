@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+/**
+ * The queue that hands operations from the calling threads to the batching threads, and how a
+ * batching thread waits on it when there is nothing to do.
+ */
+public enum BatcherWaitStrategy {
+
+    /** A lock-based bounded queue; the batching thread blocks on a condition variable. */
+    BLOCKING,
+
+    /**
+     * A lock-free multi-producer queue; the batching thread busy-spins briefly before parking. This
+     * minimizes the hand-off latency under load, at the cost of some CPU on the batching threads.
+     */
+    SPIN_THEN_PARK,
+
+    /** A lock-free multi-producer queue; the batching thread parks as soon as it runs out of work. */
+    PARK,
+}
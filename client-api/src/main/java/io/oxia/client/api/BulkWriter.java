@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A writer for ingesting a large number of records with less overhead than individual {@link
+ * AsyncOxiaClient#put(String, byte[], java.util.Set) puts}. Records are partitioned by shard in the
+ * calling thread and handed to the batching layer in groups, and no per-record result is produced:
+ * completion is reported in aggregate by the future returned by {@link #flush()}, and each record
+ * that fails is reported, with its key, to the failure callback given to {@link
+ * AsyncOxiaClient#bulkWriter(java.util.Set, java.util.function.BiConsumer)}.
+ *
+ * <p>Records are written independently of each other: there is no atomicity across records, and
+ * records of different shards may be applied in any order. Within a shard, records are applied in
+ * the order they were written, except for the values that are split into chunks (see {@link
+ * OxiaClientBuilder#chunkLargeValues(int)}), which are committed once all their chunks are written.
+ *
+ * <p>A writer is not thread-safe. It is meant to be owned by a single ingesting thread, and
+ * concurrent ingesting threads should each use their own writer.
+ */
+public interface BulkWriter extends AutoCloseable {
+
+    /**
+     * Adds a record to the writer. The record is held in its shard's group until the group is full or
+     * the writer is flushed. This call blocks when the client's limit of pending bytes is reached,
+     * until enough of the records already submitted have completed.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The value to associate with the key.
+     * @throws IllegalStateException if the writer or the client has been closed.
+     */
+    void write(String key, byte[] value);
+
+    /**
+     * Submits all the records held by the writer.
+     *
+     * @return A future that completes once every record written before this call has completed. It
+     *     completes exceptionally with the first failure if any of those records failed, each failure
+     *     having also been reported to the failure callback.
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Flushes the writer and waits for all its records to complete. Failed records are only reported
+     * to the failure callback.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A record returned by {@link AsyncOxiaClient#getView(String, java.util.Set)} or {@link
+ * AsyncOxiaClient#rangeScanView(String, String, RangeScanViewConsumer, java.util.Set)} that refers
+ * to the response received from the server instead of copying out of it.
+ *
+ * <p>Compared to {@link GetResult}, the value is exposed as a read-only {@link ByteBuffer} over the
+ * received message and the {@link Version} is only decoded when {@link #version()} is invoked. In
+ * exchange, the view keeps the underlying message alive until it is {@link #close() closed}: the
+ * owner of a view must close it once done with it, after which neither the view nor any buffer
+ * obtained from {@link #value()} may be used. Use {@link #toGetResult()} to keep a copy of the
+ * record beyond that point.
+ *
+ * <p>Views are not thread-safe.
+ */
+public interface GetResultView extends AutoCloseable {
+
+    /**
+     * @return the key of the record returned by the server
+     */
+    String key();
+
+    /**
+     * Returns the value of the record as a read-only buffer over the received message. The same
+     * buffer instance is returned on each invocation; its position and limit initially span the whole
+     * value. When {@link io.oxia.client.api.options.GetOption#ExcludeValue} is used, the buffer is
+     * empty.
+     *
+     * @return the record's value
+     * @throws IllegalStateException if the view has been closed
+     */
+    ByteBuffer value();
+
+    /**
+     * @return the versionId of the record, without decoding the whole {@link Version}
+     * @throws IllegalStateException if the view has been closed
+     */
+    long versionId();
+
+    /**
+     * @return the number of modifications since the record was created, without decoding the whole
+     *     {@link Version}
+     * @throws IllegalStateException if the view has been closed
+     */
+    long modificationsCount();
+
+    /**
+     * @return the metadata of the record, decoded on the first invocation
+     * @throws IllegalStateException if the view has been closed
+     */
+    Version version();
+
+    /**
+     * @return a copy of this record that does not depend on the view
+     * @throws IllegalStateException if the view has been closed
+     */
+    GetResult toGetResult();
+
+    /** Releases the received message backing this view. Closing a view more than once is a no-op. */
+    @Override
+    void close();
+}
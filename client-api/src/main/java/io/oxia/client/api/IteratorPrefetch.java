@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+/**
+ * When the range scan iterators of a {@link SyncOxiaClient} ask the server for the next response of
+ * a stream: as soon as the records they have buffered fall below a low watermark, so that the next
+ * response is already on its way while the buffered records are consumed.
+ */
+public sealed interface IteratorPrefetch {
+
+    /** The next response is only requested once all the buffered records have been consumed. */
+    IteratorPrefetch NONE = new Records(1);
+
+    /**
+     * @param lowWatermark the number of buffered records below which the next response is requested
+     * @return the prefetch policy
+     */
+    static IteratorPrefetch records(int lowWatermark) {
+        return new Records(lowWatermark);
+    }
+
+    /**
+     * @param lowWatermark the size of the buffered values below which the next response is requested
+     * @return the prefetch policy
+     */
+    static IteratorPrefetch bytes(long lowWatermark) {
+        return new Bytes(lowWatermark);
+    }
+
+    /**
+     * Requests the next response when fewer than {@code lowWatermark} records are buffered.
+     *
+     * @param lowWatermark the number of records, greater than 0
+     */
+    record Records(int lowWatermark) implements IteratorPrefetch {
+        public Records {
+            if (lowWatermark <= 0) {
+                throw new IllegalArgumentException("lowWatermark must be greater than 0");
+            }
+        }
+    }
+
+    /**
+     * Requests the next response when the buffered values add up to fewer than {@code lowWatermark}
+     * bytes.
+     *
+     * @param lowWatermark the number of bytes, greater than 0
+     */
+    record Bytes(long lowWatermark) implements IteratorPrefetch {
+        public Bytes {
+            if (lowWatermark <= 0) {
+                throw new IllegalArgumentException("lowWatermark must be greater than 0");
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+/**
+ * Callback used by {@link AsyncOxiaClient#list(String, String, ListConsumer)} to deliver keys,
+ * errors, and the completion signal for a streaming list.
+ *
+ * <p>Keys are delivered in the order they sort in, across all the shards, as soon as they are known
+ * to be the next one: the per-shard streams are merged as they arrive, instead of being collected
+ * and sorted. Exactly one of {@link #onError(Throwable)} or {@link #onCompleted()} is invoked per
+ * list, and always after the final {@link #onNext(String)} call. Returning {@code false} from
+ * {@code onNext} stops the iteration early; the underlying server streams are cancelled and {@link
+ * #onCompleted()} is invoked once.
+ *
+ * <p>For a synchronous, iterator-style alternative, see {@link SyncOxiaClient#listIterable(String,
+ * String)} which returns a {@link CloseableIterable}.
+ */
+public interface ListConsumer {
+
+    /**
+     * Invoked for each key returned by the list operation.
+     *
+     * @param key The key.
+     * @return {@code true} to keep receiving keys, {@code false} to stop the iteration. When {@code
+     *     false} is returned, the underlying server streams are cancelled, no further {@link #onNext}
+     *     invocations will be made, and {@link #onCompleted()} will be invoked once.
+     */
+    boolean onNext(String key);
+
+    /**
+     * Invoked when an error occurs during the list operation.
+     *
+     * <p>A shard stream that fails with a retryable error, such as a leader change, is resumed after
+     * the last key it delivered, and is not reported here, unless the list uses a secondary index.
+     *
+     * @param throwable the exception that occurred.
+     */
+    void onError(Throwable throwable);
+
+    /** Invoked when the list operation completes. */
+    void onCompleted();
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An in-memory copy of the records in a range of keys, kept up to date by the client.
+ *
+ * <p>The view is loaded with a range scan and then follows the key notifications, fetching the new
+ * values of the changed keys in batches. When the notifications of a shard may have been missed,
+ * only that shard is scanned again. Changes are applied with the delay of their notification, so
+ * the view may briefly lag behind the server.
+ *
+ * <p>Only records written without a partition key are mirrored.
+ *
+ * <pre>{@code
+ * try (MaterializedView config = client.materializedView("/config/a", "/config/z")) {
+ *     config.ready().join();
+ *     GetResult timeout = config.get("/config/timeout");
+ * }
+ * }</pre>
+ */
+public interface MaterializedView extends AutoCloseable {
+
+    /**
+     * @return a future that completes once the view has been loaded and caught up with the changes
+     *     notified meanwhile
+     */
+    CompletableFuture<Void> ready();
+
+    /**
+     * @param key the key of the record
+     * @return the record currently in the view, or {@code null} if there is none. The value array is
+     *     shared with the view and must not be modified.
+     */
+    GetResult get(String key);
+
+    /**
+     * @return the number of records currently in the view
+     */
+    int size();
+
+    /**
+     * @return a sorted, unmodifiable copy of the records in the view at a single point in time, to
+     *     iterate without observing concurrent updates
+     */
+    NavigableMap<String, GetResult> snapshot();
+
+    /** Stops following the changes of the range. */
+    @Override
+    void close();
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+/** How much metric detail a client records and exports through OpenTelemetry. */
+public enum MetricsLevel {
+
+    /** Record nothing. */
+    OFF,
+
+    /**
+     * Counters and gauges, plus request count, sum and bucket counts for each latency metric.
+     * Everything is accumulated in memory and only read by OpenTelemetry at collection time, so the
+     * per-operation cost does not depend on the SDK.
+     */
+    BASIC,
+
+    /**
+     * Like {@link #BASIC}, but latencies are recorded into native OpenTelemetry histograms, which
+     * costs one SDK call per operation.
+     */
+    DETAILED,
+}
@@ -92,6 +92,22 @@ public interface OxiaClientBuilder {
     @Deprecated(since = "0.9.0", forRemoval = true)
     OxiaClientBuilder batchLinger(Duration batchLinger);
 
+    /**
+     * Enable adaptive lingering, holding batches for up to {@code maxBatchLinger}.
+     *
+     * <p>By default, a batch is flushed as soon as no more operations are pending. Under moderate
+     * load, where operations arrive slightly slower than they are batched, this sends many small
+     * batches. With adaptive lingering, the client learns the rate of operations and the request
+     * round-trip time of each shard, and holds a batch briefly when more operations are expected
+     * shortly, never for longer than a fraction of the round-trip time.
+     *
+     * <p>Default is <code>0</code>, which disables lingering.
+     *
+     * @param maxBatchLinger the maximum time a batch may be held
+     * @return the builder instance
+     */
+    OxiaClientBuilder adaptiveBatchLinger(Duration maxBatchLinger);
+
     /**
      * Specify the maximum number of requests to include in a batch.
      *
@@ -142,6 +158,114 @@ public interface OxiaClientBuilder {
      */
     OxiaClientBuilder maxReadBatchesInFlight(int maxReadBatchesInFlight);
 
+    /**
+     * Let the number of batches in flight to each shard adapt to the shard leader's capacity.
+     *
+     * <p>Each shard's limit starts from {@link #maxWriteBatchesInFlight(int)} and {@link
+     * #maxReadBatchesInFlight(int)}, then follows the round-trip time of the requests: it grows while
+     * the leader answers as fast as usual and shrinks when requests start queueing or failing, always
+     * staying between {@code minBatchesInFlight} and {@code maxBatchesInFlight}.
+     *
+     * <p>By default, the limits are fixed.
+     *
+     * @param minBatchesInFlight the lowest limit of in-flight batches per shard
+     * @param maxBatchesInFlight the highest limit of in-flight batches per shard
+     * @return the builder instance
+     */
+    OxiaClientBuilder adaptiveBatchesInFlight(int minBatchesInFlight, int maxBatchesInFlight);
+
+    /**
+     * Coalesce unconditional puts to the same key that are waiting in the same batch, so that only
+     * the last one is sent to the server (last writer wins).
+     *
+     * <p>A put is unconditional when it has no expected version, no sequence keys and is not
+     * ephemeral. The futures of the superseded puts complete with the result of the put that replaced
+     * them. Any other operation on the key in between, such as a conditional put or a delete, stops
+     * the coalescing, so it still observes the earlier puts.
+     *
+     * <p>Default is <code>false</code>.
+     *
+     * @param coalescePuts whether to coalesce unconditional puts
+     * @return the builder instance
+     */
+    OxiaClientBuilder coalescePuts(boolean coalescePuts);
+
+    /**
+     * Cache the results of {@code get()} calls in the client, up to {@code maxBytes} of keys and
+     * values, and serve repeated gets of the same key from memory.
+     *
+     * <p>Only gets that look up a key by equality and include the value are cached, including the
+     * absence of a record. The client subscribes to the key notifications and drops an entry as soon
+     * as its key is created, modified or deleted, so a cached record may be stale for as long as a
+     * change takes to be notified. Writes made through this client drop their keys before they
+     * complete.
+     *
+     * <p>Default is <code>0</code>, no cache.
+     *
+     * @param maxBytes the maximum size of the cache, or <code>0</code> to disable it
+     * @return the builder instance
+     */
+    OxiaClientBuilder nearCache(long maxBytes);
+
+    /**
+     * Encode the values written by this client with {@code valueCodec}, and decode the values it
+     * reads, e.g. to compress or encrypt them. The codec must return values it did not encode
+     * unchanged, so that records written without it remain readable.
+     *
+     * <p>Default is <code>null</code>, values are stored as-is.
+     *
+     * @param valueCodec the codec, or <code>null</code> to store values as-is
+     * @return the builder instance
+     */
+    OxiaClientBuilder valueCodec(ValueCodec valueCodec);
+
+    /**
+     * Compress the values of at least {@code thresholdBytes} with the built-in LZ4 codec. Smaller
+     * values, and values that do not shrink, are stored as-is. Compressed values carry a header that
+     * tells them apart from uncompressed ones, so enabling compression on an existing namespace is
+     * safe, but clients without compression cannot read the values compressed by this one.
+     *
+     * <p>This is a shortcut for {@link #valueCodec(ValueCodec)} with the built-in codec.
+     *
+     * @param thresholdBytes the size below which values are not compressed
+     * @return the builder instance
+     */
+    OxiaClientBuilder compressValues(int thresholdBytes);
+
+    /**
+     * Split the values larger than {@code chunkSizeBytes} into chunk records, so that a large value
+     * does not hold up the smaller operations queued behind it on the same shard, nor approach the
+     * maximum message size.
+     *
+     * <p>This applies to the values written by {@code put()}, {@code putAll()} and bulk writers. The
+     * chunks are written to the shard of the record, each acquiring its own share of the {@link
+     * #maxPendingBytes(long) pending bytes}, and are then committed by writing a small manifest as
+     * the value of the record. Gets and range scans fetch the chunks in parallel and return the whole
+     * value. Deleting the record with {@code delete()} also deletes its chunks; {@code deleteAll()}
+     * and {@code deleteRange()} leave them behind. Ephemeral records and records with sequence keys
+     * are never chunked.
+     *
+     * <p>Chunked values can only be read by clients that have this option enabled.
+     *
+     * <p>Default is <code>0</code>, values are never chunked.
+     *
+     * @param chunkSizeBytes the maximum size of a chunk, or <code>0</code> to disable chunking
+     * @return the builder instance
+     */
+    OxiaClientBuilder chunkLargeValues(int chunkSizeBytes);
+
+    /**
+     * Select when the range scan iterators of the {@link SyncOxiaClient} request the next response of
+     * a stream. Prefetching hides the round trip to the server behind the consumption of the buffered
+     * records, at the cost of buffering up to one more response per stream.
+     *
+     * <p>Default is {@link IteratorPrefetch#NONE}.
+     *
+     * @param prefetch the prefetch policy
+     * @return the builder instance
+     */
+    OxiaClientBuilder iteratorPrefetch(IteratorPrefetch prefetch);
+
     /**
      * Specify the number of threads dedicated to assembling operation batches, shared by all the
      * shards.
@@ -153,6 +277,17 @@ public interface OxiaClientBuilder {
      */
     OxiaClientBuilder batchingThreads(int batchingThreads);
 
+    /**
+     * Select the queue used to hand operations to the batching threads, and how those threads wait
+     * for new operations.
+     *
+     * <p>Default is {@link BatcherWaitStrategy#BLOCKING}.
+     *
+     * @param batcherWaitStrategy the batcher wait strategy
+     * @return the builder instance
+     */
+    OxiaClientBuilder batcherWaitStrategy(BatcherWaitStrategy batcherWaitStrategy);
+
     /**
      * Specify the Oxia namesace to use for this client instance.
      *
@@ -210,6 +345,16 @@ public interface OxiaClientBuilder {
      */
     OxiaClientBuilder openTelemetry(OpenTelemetry openTelemetry);
 
+    /**
+     * Select how much metric detail the client records.
+     *
+     * <p>Default is {@link MetricsLevel#DETAILED}.
+     *
+     * @param metricsLevel the metrics level
+     * @return the builder instance
+     */
+    OxiaClientBuilder metricsLevel(MetricsLevel metricsLevel);
+
     /**
      * Configure the authentication plugin and its parameters.
      *
@@ -0,0 +1,29 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A page of a paginated list or range scan.
+ *
+ * @param items the items of the page, in key order
+ * @param continuationToken the token to pass to the next call to get the following page, or empty
+ *     if this is the last page
+ * @param <T> the type of the items
+ */
+public record Page<T>(List<T> items, Optional<String> continuationToken) {}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import io.oxia.client.api.options.DeleteOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A delete whose {@link DeleteOption options} have been validated and compiled once by {@link
+ * AsyncOxiaClient#prepareDelete(java.util.Set)}, to be reused across calls that share them. Each
+ * call behaves like {@link AsyncOxiaClient#delete(String, java.util.Set)} with the prepared
+ * options.
+ *
+ * <p>Instances are immutable and can be shared across threads. They are bound to the client that
+ * created them and must not be used after it is closed.
+ */
+public interface PreparedDelete {
+
+    /**
+     * Deletes the record associated with the key, using the prepared options.
+     *
+     * @param key Deletes the record with the specified key.
+     * @return A future that completes with {@code true} if the key was found and deleted, or {@code
+     *     false} if the key was not found.
+     */
+    CompletableFuture<Boolean> delete(String key);
+
+    /**
+     * Deletes the record associated with the key, using the prepared options and replacing any
+     * expected version among them with {@code expectedVersionId}.
+     *
+     * @param key Deletes the record with the specified key.
+     * @param expectedVersionId The versionId that the record must have for the delete to be applied.
+     * @return A future that completes with {@code true} if the key was found and deleted, or {@code
+     *     false} if the key was not found.
+     */
+    CompletableFuture<Boolean> delete(String key, long expectedVersionId);
+}
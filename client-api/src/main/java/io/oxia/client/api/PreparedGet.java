@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import io.oxia.client.api.options.GetOption;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A get whose {@link GetOption options} have been validated and compiled once by {@link
+ * AsyncOxiaClient#prepareGet(java.util.Set)}, to be reused across calls that share them. Each call
+ * behaves like {@link AsyncOxiaClient#get(String, java.util.Set)} with the prepared options.
+ *
+ * <p>Instances are immutable and can be shared across threads. They are bound to the client that
+ * created them and must not be used after it is closed.
+ */
+public interface PreparedGet {
+
+    /**
+     * Returns the record associated with the specified key, using the prepared options.
+     *
+     * @param key The key associated with the record to be fetched.
+     * @return The value associated with the supplied key, or {@code null} if the key did not exist.
+     */
+    CompletableFuture<GetResult> get(String key);
+}
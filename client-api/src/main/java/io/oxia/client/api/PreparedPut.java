@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import io.oxia.client.api.options.PutOption;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A put whose {@link PutOption options} have been validated and compiled once by {@link
+ * AsyncOxiaClient#preparePut(java.util.Set)}, to be reused across calls that share them. Each call
+ * behaves like {@link AsyncOxiaClient#put(String, byte[], java.util.Set)} with the prepared
+ * options.
+ *
+ * <p>Instances are immutable and can be shared across threads. They are bound to the client that
+ * created them and must not be used after it is closed.
+ */
+public interface PreparedPut {
+
+    /**
+     * Associates a value with a key, using the prepared options.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The value to associate with the key.
+     * @return The result of the put at the specified key.
+     */
+    CompletableFuture<PutResult> put(String key, byte[] value);
+
+    /**
+     * Associates a value with a key, using the prepared options and replacing any expected version
+     * among them with {@code expectedVersionId}.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The value to associate with the key.
+     * @param expectedVersionId The versionId that the record must have for the put to be applied.
+     * @return The result of the put at the specified key.
+     */
+    CompletableFuture<PutResult> put(String key, byte[] value, long expectedVersionId);
+
+    /**
+     * Associates the bytes of a buffer with a key without copying them, using the prepared options.
+     * The buffer ownership rules of {@link AsyncOxiaClient#putBuffer(String, ByteBuffer,
+     * java.util.Set)} apply.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The buffer holding the value to associate with the key.
+     * @return The result of the put at the specified key.
+     */
+    CompletableFuture<PutResult> putBuffer(String key, ByteBuffer value);
+}
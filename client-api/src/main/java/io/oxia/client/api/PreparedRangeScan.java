@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import io.oxia.client.api.options.RangeScanOption;
+
+/**
+ * A range scan whose {@link RangeScanOption options} have been validated and compiled once by
+ * {@link AsyncOxiaClient#prepareRangeScan(java.util.Set)}, to be reused across calls that share
+ * them. Each call behaves like {@link AsyncOxiaClient#rangeScan(String, String, RangeScanConsumer,
+ * java.util.Set)} with the prepared options.
+ *
+ * <p>Instances are immutable and can be shared across threads. They are bound to the client that
+ * created them and must not be used after it is closed.
+ */
+public interface PreparedRangeScan {
+
+    /**
+     * Scan any existing records within the specified range of keys, using the prepared options.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param consumer A {@link RangeScanConsumer} that will be invoked with the records or errors.
+     */
+    void rangeScan(String startKeyInclusive, String endKeyExclusive, RangeScanConsumer consumer);
+}
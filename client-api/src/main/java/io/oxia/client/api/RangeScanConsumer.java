@@ -53,6 +53,10 @@ public interface RangeScanConsumer {
     /**
      * Invoked when an error occurs during the range scan operation.
      *
+     * <p>A shard stream that fails with a retryable error, such as a leader change, is resumed after
+     * the last key it delivered, and is not reported here, unless the range scan uses a secondary
+     * index.
+     *
      * @param throwable the exception that occurred.
      */
     void onError(Throwable throwable);
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+/**
+ * Callback used by {@link AsyncOxiaClient#rangeScanView(String, String, RangeScanViewConsumer)} to
+ * deliver records as {@link GetResultView}s. It follows the same contract as {@link
+ * RangeScanConsumer}.
+ *
+ * <p>Each view passed to {@link #onNext(GetResultView)} is owned by the consumer, which must {@link
+ * GetResultView#close() close} it, either before returning or later if the record needs to outlive
+ * the callback.
+ */
+public interface RangeScanViewConsumer {
+
+    /**
+     * Invoked for each record returned by the range scan operation.
+     *
+     * @param view The view over the record, to be closed by the consumer.
+     * @return {@code true} to keep receiving records, {@code false} to stop the iteration. When
+     *     {@code false} is returned, the underlying server stream is cancelled, no further {@link
+     *     #onNext} invocations will be made, and {@link #onCompleted()} will be invoked once.
+     */
+    boolean onNext(GetResultView view);
+
+    /**
+     * Invoked when an error occurs during the range scan operation.
+     *
+     * @param throwable the exception that occurred.
+     */
+    void onError(Throwable throwable);
+
+    /** Invoked when the range scan operation completes. */
+    void onCompleted();
+}
@@ -30,6 +30,7 @@ import java.time.Duration;
  * <ul>
  *   <li>a single background thread pool;
  *   <li>a single pool of gRPC connections;
+ *   <li>a single timer tracking request deadlines;
  *   <li>a single shard-assignment stream per {@code (serviceAddress, namespace)}.
  * </ul>
  *
@@ -93,6 +94,17 @@ public interface SharedResources extends AutoCloseable {
          */
         Builder batchingThreads(int batchingThreads);
 
+        /**
+         * Select the queue used to hand operations to the shared batching threads, and how those
+         * threads wait for new operations.
+         *
+         * <p>Default is {@link BatcherWaitStrategy#BLOCKING}.
+         *
+         * @param batcherWaitStrategy the batcher wait strategy
+         * @return the builder instance
+         */
+        Builder batcherWaitStrategy(BatcherWaitStrategy batcherWaitStrategy);
+
         /**
          * Configure whether to enable TLS for the shared connections.
          *
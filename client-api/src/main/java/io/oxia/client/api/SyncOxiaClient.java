@@ -25,9 +25,13 @@ import io.oxia.client.api.options.ListOption;
 import io.oxia.client.api.options.PutOption;
 import io.oxia.client.api.options.RangeScanOption;
 import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Blocking client for the Oxia service.
@@ -85,6 +89,52 @@ public interface SyncOxiaClient extends AutoCloseable {
     PutResult put(String key, byte[] value, Set<PutOption> options)
             throws UnexpectedVersionIdException, KeyAlreadyExistsException;
 
+    /**
+     * Associates a value with a key, sending the bytes of the supplied buffer without copying them.
+     * The bytes between the buffer's position and limit are used as the value, and the buffer may be
+     * reused once this method returns.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The buffer holding the value to associate with the key.
+     * @return The result of the put at the specified key.
+     */
+    PutResult putBuffer(String key, ByteBuffer value);
+
+    /**
+     * Conditionally associates a value with a key, sending the bytes of the supplied buffer without
+     * copying them. The bytes between the buffer's position and limit are used as the value, and the
+     * buffer may be reused once this method returns.
+     *
+     * @param key The key with which the value should be associated.
+     * @param value The buffer holding the value to associate with the key.
+     * @param options Set {@link PutOption options} for the put.
+     * @return The result of the put at the specified key.
+     * @throws UnexpectedVersionIdException The versionId at the server did not that match supplied in
+     *     the call.
+     * @throws KeyAlreadyExistsException The key already exists on the server and the put was
+     *     conditional on it not existing (via {@link PutOption#IfRecordDoesNotExist}).
+     */
+    PutResult putBuffer(String key, ByteBuffer value, Set<PutOption> options)
+            throws UnexpectedVersionIdException, KeyAlreadyExistsException;
+
+    /**
+     * Associates each value of {@code records} with its key, submitting the records grouped by shard.
+     * See {@link AsyncOxiaClient#putAll(Map, Set)}.
+     *
+     * @param records The values to write, by key.
+     * @param options Set {@link PutOption options} applied to each put.
+     * @return The result of each put, by key, in the iteration order of {@code records}.
+     */
+    Map<String, PutResult> putAll(Map<String, byte[]> records, Set<PutOption> options);
+
+    /**
+     * Associates each value of {@code records} with its key, submitting the records grouped by shard.
+     *
+     * @param records The values to write, by key.
+     * @return The result of each put, by key, in the iteration order of {@code records}.
+     */
+    Map<String, PutResult> putAll(Map<String, byte[]> records);
+
     /**
      * Unconditionally deletes the record associated with the key if the record exists.
      *
@@ -107,6 +157,26 @@ public interface SyncOxiaClient extends AutoCloseable {
      */
     boolean delete(String key, Set<DeleteOption> options) throws UnexpectedVersionIdException;
 
+    /**
+     * Deletes the records associated with the given keys, submitting the keys grouped by shard. See
+     * {@link AsyncOxiaClient#deleteAll(Collection, Set)}.
+     *
+     * @param keys The keys of the records to delete.
+     * @param options Set {@link DeleteOption options} applied to each delete.
+     * @return For each key, {@code true} if the record was deleted or {@code false} if it did not
+     *     exist.
+     */
+    Map<String, Boolean> deleteAll(Collection<String> keys, Set<DeleteOption> options);
+
+    /**
+     * Deletes the records associated with the given keys, submitting the keys grouped by shard.
+     *
+     * @param keys The keys of the records to delete.
+     * @return For each key, {@code true} if the record was deleted or {@code false} if it did not
+     *     exist.
+     */
+    Map<String, Boolean> deleteAll(Collection<String> keys);
+
     /**
      * Deletes any records with keys within the specified range. For more information on how keys are
      * sorted, check the relevant section in the <a
@@ -152,6 +222,47 @@ public interface SyncOxiaClient extends AutoCloseable {
      */
     GetResult get(String key, Set<GetOption> options);
 
+    /**
+     * Returns the records associated with the given keys, submitting the keys grouped by shard. See
+     * {@link AsyncOxiaClient#getAll(Collection, Set)}.
+     *
+     * @param keys The keys of the records to fetch.
+     * @param options Set {@link GetOption options} applied to each get.
+     * @return The records that exist, by key, in the iteration order of {@code keys}.
+     */
+    Map<String, GetResult> getAll(Collection<String> keys, Set<GetOption> options);
+
+    /**
+     * Returns the records associated with the given keys, submitting the keys grouped by shard.
+     *
+     * @param keys The keys of the records to fetch.
+     * @return The records that exist, by key, in the iteration order of {@code keys}.
+     */
+    Map<String, GetResult> getAll(Collection<String> keys);
+
+    /**
+     * Returns the record associated with the specified key as a {@link GetResultView}, which exposes
+     * the value without copying it out of the server response. The caller must close the returned
+     * view once done with it.
+     *
+     * @param key The key associated with the record to be fetched.
+     * @return The view over the record associated with the supplied key, or {@code null} if the key
+     *     did not exist.
+     */
+    GetResultView getView(String key);
+
+    /**
+     * Returns the record associated with the specified key as a {@link GetResultView}, which exposes
+     * the value without copying it out of the server response. The caller must close the returned
+     * view once done with it.
+     *
+     * @param key The key associated with the record to be fetched.
+     * @param options Set {@link GetOption options} for the get operation.
+     * @return The view over the record associated with the supplied key, or {@code null} if the key
+     *     did not exist.
+     */
+    GetResultView getView(String key, Set<GetOption> options);
+
     /**
      * Lists any existing keys within the specified range. For more information on how keys are
      * sorted, check the relevant section in the <a
@@ -181,6 +292,82 @@ public interface SyncOxiaClient extends AutoCloseable {
      */
     List<String> list(String startKeyInclusive, String endKeyExclusive, Set<ListOption> options);
 
+    /**
+     * Lists any existing keys within the specified range, in sorted order, as they are streamed from
+     * the shards.
+     *
+     * <p>The returned iterable holds active server streams and should be closed (e.g. via
+     * try-with-resources) when iteration is abandoned before completion, otherwise the streams are
+     * only torn down when iteration runs to its natural end.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @return An iterable object that will provide the keys within the range.
+     */
+    CloseableIterable<String> listIterable(String startKeyInclusive, String endKeyExclusive);
+
+    /**
+     * Lists any existing keys within the specified range, in sorted order, as they are streamed from
+     * the shards.
+     *
+     * <p>The returned iterable holds active server streams and should be closed (e.g. via
+     * try-with-resources) when iteration is abandoned before completion, otherwise the streams are
+     * only torn down when iteration runs to its natural end.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param options Set {@link ListOption options} for the list operation.
+     * @return An iterable object that will provide the keys within the range.
+     */
+    CloseableIterable<String> listIterable(
+            String startKeyInclusive, String endKeyExclusive, Set<ListOption> options);
+
+    /**
+     * Lists a page of the existing keys within the specified range, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last key it returned, instead of listing the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of keys in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @return The page of keys.
+     */
+    Page<String> listPage(
+            String startKeyInclusive, String endKeyExclusive, int pageSize, String continuationToken);
+
+    /**
+     * Lists a page of the existing keys within the specified range, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last key it returned, instead of listing the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of keys in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @param options Set {@link ListOption options} for the list operation. A secondary index can't
+     *     be used with a paginated list.
+     * @return The page of keys.
+     */
+    Page<String> listPage(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            Set<ListOption> options);
+
     /**
      * Scan any existing records within the specified range of keys.
      *
@@ -213,6 +400,89 @@ public interface SyncOxiaClient extends AutoCloseable {
     CloseableIterable<GetResult> rangeScan(
             String startKeyInclusive, String endKeyExclusive, Set<RangeScanOption> options);
 
+    /**
+     * Scans any existing records within the specified range of keys as a stream that can be consumed
+     * in parallel.
+     *
+     * <p>The stream splits by shard: each split scans its own shards through flow-controlled server
+     * streams, so a {@link Stream#parallel() parallel} pipeline consumes the shards concurrently,
+     * each at its own pace. The records are in no particular order.
+     *
+     * <p>The returned stream holds active server streams and should be closed (e.g. via
+     * try-with-resources) when it is not consumed to its end.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @return A stream of the records and their version objects.
+     */
+    Stream<GetResult> rangeScanStream(String startKeyInclusive, String endKeyExclusive);
+
+    /**
+     * Scans any existing records within the specified range of keys as a stream that can be consumed
+     * in parallel.
+     *
+     * <p>The stream splits by shard: each split scans its own shards through flow-controlled server
+     * streams, so a {@link Stream#parallel() parallel} pipeline consumes the shards concurrently,
+     * each at its own pace. The records are in no particular order, unless {@link
+     * RangeScanOption#Ordered} is set: the stream is then sequential and ordered by key.
+     *
+     * <p>The returned stream holds active server streams and should be closed (e.g. via
+     * try-with-resources) when it is not consumed to its end.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param options the range scan options
+     * @return A stream of the records and their version objects.
+     */
+    Stream<GetResult> rangeScanStream(
+            String startKeyInclusive, String endKeyExclusive, Set<RangeScanOption> options);
+
+    /**
+     * Scans a page of the existing records within the specified range of keys, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last record it returned, instead of scanning the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of records in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @return The page of records.
+     */
+    Page<GetResult> rangeScanPage(
+            String startKeyInclusive, String endKeyExclusive, int pageSize, String continuationToken);
+
+    /**
+     * Scans a page of the existing records within the specified range of keys, in key order.
+     *
+     * <p>The first page is requested without a continuation token. Each following page is requested
+     * with the same range and the token returned with the previous page, and resumes every shard
+     * right after the last record it returned, instead of scanning the range again from its start.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @param pageSize The maximum number of records in the page, greater than 0.
+     * @param continuationToken The token returned with the previous page, or null for the first page.
+     * @param options the range scan options. A secondary index can't be used with a paginated range
+     *     scan.
+     * @return The page of records.
+     */
+    Page<GetResult> rangeScanPage(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            Set<RangeScanOption> options);
+
     /**
      * Registers a callback to receive Oxia {@link Notification record change notifications}. Multiple
      * callbacks can be registered.
@@ -221,6 +491,18 @@ public interface SyncOxiaClient extends AutoCloseable {
      */
     void notifications(Consumer<Notification> notificationCallback);
 
+    /**
+     * Creates a {@link MaterializedView} of the records within the specified range of keys, and waits
+     * for it to be loaded.
+     *
+     * @param startKeyInclusive The key that declares start of the range, and is <b>included</b> from
+     *     the range.
+     * @param endKeyExclusive The key that declares the end of the range, and is <b>excluded</b> from
+     *     the range.
+     * @return The loaded view, to be closed when no longer needed.
+     */
+    MaterializedView materializedView(String startKeyInclusive, String endKeyExclusive);
+
     /**
      * GetSequenceUpdates allows to subscribe to the updates happening on a sequential key The channel
      * will report the current latest sequence for a given key. Multiple updates can be collapsed into
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Transforms record values on their way to and from the server, e.g. to compress them. Configured
+ * with {@link OxiaClientBuilder#valueCodec(ValueCodec)}, a codec encodes the values of every put
+ * and decodes the values returned by gets, range scans and materialized views.
+ *
+ * <p>A codec must be able to tell its own output apart from values written without it: {@link
+ * #decode(ByteBuffer)} is also invoked on values stored before the codec was configured (or by
+ * other clients) and must return those unchanged. Implementations must be thread-safe and must not
+ * modify the position or limit of the buffers they are given.
+ *
+ * <p>The values passed to {@link RangeScanConsumer} and returned by {@link GetResult} are always
+ * decoded; a codec is transparent to applications other than for the stored size of the records.
+ */
+public interface ValueCodec {
+
+    /**
+     * @param value the value to store, which must not be modified
+     * @return the encoded value, or {@code value} itself to store it as-is
+     */
+    ByteBuffer encode(ByteBuffer value);
+
+    /**
+     * @param stored the value received from the server, which must not be modified
+     * @return the decoded value, in a buffer that does not share memory with {@code stored}, or
+     *     {@code stored} itself when the value was not encoded by this codec
+     */
+    ByteBuffer decode(ByteBuffer stored);
+}
@@ -16,6 +16,7 @@
 package io.oxia.client.api.options;
 
 import io.oxia.client.api.options.defs.OptionPartitionKey;
+import io.oxia.client.api.options.defs.OptionPriority;
 import io.oxia.client.api.options.defs.OptionVersionId;
 
 /** Options for deleting a record. */
@@ -44,4 +45,22 @@ public interface DeleteOption {
     static DeleteOption PartitionKey(String partitionKey) {
         return new OptionPartitionKey(partitionKey);
     }
+
+    /**
+     * PriorityInteractive marks the operation as latency-sensitive. This is the default: interactive
+     * operations are batched separately from bulk ones, and always have a share of the in-flight
+     * requests to each shard reserved to them.
+     */
+    DeleteOption PriorityInteractive = new OptionPriority(OptionPriority.Priority.Interactive);
+
+    /**
+     * PriorityBulk marks the operation as throughput-oriented, e.g. part of a backfill or an import.
+     * Bulk operations are batched separately from interactive ones, and only take the in-flight
+     * requests to each shard that interactive operations leave free, so that a large bulk load does
+     * not delay interactive traffic.
+     *
+     * <p>Operations with different priorities are not ordered with respect to each other, even on the
+     * same key.
+     */
+    DeleteOption PriorityBulk = new OptionPriority(OptionPriority.Priority.Bulk);
 }
@@ -18,6 +18,7 @@ package io.oxia.client.api.options;
 import io.oxia.client.api.options.defs.OptionComparisonType;
 import io.oxia.client.api.options.defs.OptionIncludeValue;
 import io.oxia.client.api.options.defs.OptionPartitionKey;
+import io.oxia.client.api.options.defs.OptionPriority;
 import io.oxia.client.api.options.defs.OptionSecondaryIndexName;
 
 /** Options for getting a record. */
@@ -94,4 +95,22 @@ public interface GetOption {
     static GetOption UseIndex(String secondaryIndexName) {
         return new OptionSecondaryIndexName(secondaryIndexName);
     }
+
+    /**
+     * PriorityInteractive marks the operation as latency-sensitive. This is the default: interactive
+     * operations are batched separately from bulk ones, and always have a share of the in-flight
+     * requests to each shard reserved to them.
+     */
+    GetOption PriorityInteractive = new OptionPriority(OptionPriority.Priority.Interactive);
+
+    /**
+     * PriorityBulk marks the operation as throughput-oriented, e.g. part of a backfill or an import.
+     * Bulk operations are batched separately from interactive ones, and only take the in-flight
+     * requests to each shard that interactive operations leave free, so that a large bulk load does
+     * not delay interactive traffic.
+     *
+     * <p>Operations with different priorities are not ordered with respect to each other, even on the
+     * same key.
+     */
+    GetOption PriorityBulk = new OptionPriority(OptionPriority.Priority.Bulk);
 }
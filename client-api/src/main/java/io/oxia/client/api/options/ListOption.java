@@ -15,6 +15,7 @@
  */
 package io.oxia.client.api.options;
 
+import io.oxia.client.api.options.defs.OptionLimit;
 import io.oxia.client.api.options.defs.OptionPartitionKey;
 import io.oxia.client.api.options.defs.OptionSecondaryIndexName;
 
@@ -46,4 +47,15 @@ public interface ListOption {
     static ListOption UseIndex(String secondaryIndexName) {
         return new OptionSecondaryIndexName(secondaryIndexName);
     }
+
+    /**
+     * Limit caps the number of keys returned by the list operation. Only the first {@code limit} keys
+     * of the range are returned, and the server streams are cancelled as soon as they are known.
+     *
+     * @param limit the maximum number of keys to return, greater than 0
+     * @return the ListOption.
+     */
+    static ListOption Limit(int limit) {
+        return new OptionLimit(limit);
+    }
 }
@@ -18,6 +18,7 @@ package io.oxia.client.api.options;
 import io.oxia.client.api.SyncOxiaClient;
 import io.oxia.client.api.options.defs.OptionEphemeral;
 import io.oxia.client.api.options.defs.OptionPartitionKey;
+import io.oxia.client.api.options.defs.OptionPriority;
 import io.oxia.client.api.options.defs.OptionSecondaryIndex;
 import io.oxia.client.api.options.defs.OptionSequenceKeysDeltas;
 import io.oxia.client.api.options.defs.OptionVersionId;
@@ -108,4 +109,22 @@ public interface PutOption {
     static PutOption SecondaryIndex(String indexName, String secondaryKey) {
         return new OptionSecondaryIndex(indexName, secondaryKey);
     }
+
+    /**
+     * PriorityInteractive marks the operation as latency-sensitive. This is the default: interactive
+     * operations are batched separately from bulk ones, and always have a share of the in-flight
+     * requests to each shard reserved to them.
+     */
+    PutOption PriorityInteractive = new OptionPriority(OptionPriority.Priority.Interactive);
+
+    /**
+     * PriorityBulk marks the operation as throughput-oriented, e.g. part of a backfill or an import.
+     * Bulk operations are batched separately from interactive ones, and only take the in-flight
+     * requests to each shard that interactive operations leave free, so that a large bulk load does
+     * not delay interactive traffic.
+     *
+     * <p>Operations with different priorities are not ordered with respect to each other, even on the
+     * same key.
+     */
+    PutOption PriorityBulk = new OptionPriority(OptionPriority.Priority.Bulk);
 }
@@ -15,6 +15,7 @@
  */
 package io.oxia.client.api.options;
 
+import io.oxia.client.api.options.defs.OptionOrdered;
 import io.oxia.client.api.options.defs.OptionPartitionKey;
 import io.oxia.client.api.options.defs.OptionSecondaryIndexName;
 
@@ -25,6 +26,17 @@ import io.oxia.client.api.options.defs.OptionSecondaryIndexName;
  */
 public interface RangeScanOption {
 
+    /**
+     * Ordered delivers the records of a range scan across all the shards in key order, instead of
+     * interleaving the shard streams in arrival order.
+     *
+     * <p>The shard streams are merged as they arrive, holding about one response per shard, so the
+     * records don't need to be collected and sorted by the caller. This option has no effect when a
+     * {@link #PartitionKey(String) partition key} is set, since a single shard is scanned, and it
+     * can't be combined with {@link #UseIndex(String)} nor used with a range scan of views.
+     */
+    RangeScanOption Ordered = new OptionOrdered();
+
     /**
      * PartitionKey overrides the partition routing with the specified `partitionKey` instead of the
      * regular record key.
@@ -20,10 +20,22 @@ import io.netty.buffer.ByteBufUtil;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.oxia.client.api.AsyncOxiaClient;
+import io.oxia.client.api.BulkWriter;
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
+import io.oxia.client.api.IteratorPrefetch;
+import io.oxia.client.api.ListConsumer;
+import io.oxia.client.api.MaterializedView;
 import io.oxia.client.api.Notification;
+import io.oxia.client.api.Page;
+import io.oxia.client.api.PreparedDelete;
+import io.oxia.client.api.PreparedGet;
+import io.oxia.client.api.PreparedPut;
+import io.oxia.client.api.PreparedRangeScan;
 import io.oxia.client.api.PutResult;
 import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.api.RangeScanViewConsumer;
+import io.oxia.client.api.ValueCodec;
 import io.oxia.client.api.options.DeleteOption;
 import io.oxia.client.api.options.DeleteRangeOption;
 import io.oxia.client.api.options.GetOption;
@@ -31,12 +43,18 @@ import io.oxia.client.api.options.GetSequenceUpdatesOption;
 import io.oxia.client.api.options.ListOption;
 import io.oxia.client.api.options.PutOption;
 import io.oxia.client.api.options.RangeScanOption;
+import io.oxia.client.api.options.defs.OptionPriority;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.batch.BatchManager;
 import io.oxia.client.batch.BatcherPool;
+import io.oxia.client.batch.Operation;
+import io.oxia.client.batch.Operation.ReadOperation;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
+import io.oxia.client.batch.Operation.ReadOperation.GetViewOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteRangeOperation;
 import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
+import io.oxia.client.codec.InstrumentedValueCodec;
 import io.oxia.client.grpc.RpcProvider;
 import io.oxia.client.grpc.observer.CancelableStreamObserver;
 import io.oxia.client.metrics.Counter;
@@ -46,65 +64,99 @@ import io.oxia.client.metrics.Unit;
 import io.oxia.client.metrics.UpDownCounter;
 import io.oxia.client.notify.NotificationManager;
 import io.oxia.client.operation.rangescan.CompositeRangeScanConsumer;
+import io.oxia.client.operation.rangescan.CompositeRangeScanViewConsumer;
+import io.oxia.client.options.DeleteOptions;
 import io.oxia.client.options.GetOptions;
+import io.oxia.client.options.PutOptions;
+import io.oxia.client.options.RangeScanOptions;
 import io.oxia.client.session.SessionManager;
 import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.CompletableFutures;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.client.util.PendingBytesLimiter;
+import io.oxia.proto.GetResponse;
 import io.oxia.proto.KeyComparisonType;
 import io.oxia.proto.ListRequest;
 import io.oxia.proto.ListResponse;
 import io.oxia.proto.RangeScanRequest;
 import io.oxia.proto.RangeScanResponse;
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.NonNull;
 
 class AsyncOxiaClientImpl implements AsyncOxiaClient {
 
-    static @NonNull CompletableFuture<AsyncOxiaClient> newInstance(@NonNull ClientConfig config) {
+    static @NonNull CompletableFuture<AsyncOxiaClientImpl> newInstance(@NonNull ClientConfig config) {
         final ScheduledExecutorService asyncExecutor =
                 Executors.newScheduledThreadPool(
                         Runtime.getRuntime().availableProcessors(),
                         new DefaultThreadFactory("oxia-client-async"));
-        var instrumentProvider = new InstrumentProvider(config.openTelemetry(), config.namespace());
+        var instrumentProvider =
+                new InstrumentProvider(
+                        config.openTelemetry(), config.namespace(), config.metricsLevel());
+        var timer = new DeadlineTimer("oxia-client-timer", instrumentProvider);
         var shardManagerRef = new AtomicReference<ShardManager>();
         var rpcProvider =
-                RpcProvider.create(config, asyncExecutor, shardId -> shardManagerRef.get().leader(shardId));
+                RpcProvider.create(
+                        config, asyncExecutor, timer, shardId -> shardManagerRef.get().leader(shardId));
         var shardManager =
                 new ShardManager(asyncExecutor, rpcProvider, instrumentProvider, config.namespace());
         shardManagerRef.set(shardManager);
         var notificationManager =
                 new NotificationManager(asyncExecutor, rpcProvider, shardManager, instrumentProvider);
         shardManager.addCallback(notificationManager);
-        var readBatcherPool = new BatcherPool("oxia-read-batcher", config.batchingThreads());
+        var readBatcherPool =
+                new BatcherPool(
+                        "oxia-read-batcher", config.batchingThreads(), config.batcherWaitStrategy());
         var readBatchManager =
                 BatchManager.newReadBatchManager(
                         config, rpcProvider, instrumentProvider, readBatcherPool, true);
         var sessionManager = new SessionManager(asyncExecutor, config, rpcProvider, instrumentProvider);
         shardManager.addCallback(sessionManager);
-        var writeBatcherPool = new BatcherPool("oxia-write-batcher", config.batchingThreads());
+        var writeBatcherPool =
+                new BatcherPool(
+                        "oxia-write-batcher", config.batchingThreads(), config.batcherWaitStrategy());
         var writeBatchManager =
                 BatchManager.newWriteBatchManager(
                         config, rpcProvider, sessionManager, instrumentProvider, writeBatcherPool, true);
+        var nearCache = newNearCache(config, instrumentProvider);
 
         var client =
                 new AsyncOxiaClientImpl(
                         config.clientIdentifier(),
                         asyncExecutor,
+                        timer,
                         instrumentProvider,
                         rpcProvider,
                         shardManager,
@@ -112,8 +164,13 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                         readBatchManager,
                         writeBatchManager,
                         sessionManager,
+                        nearCache,
+                        config.valueCodec(),
+                        config.valueChunkSize(),
                         config.requestTimeout(),
                         config.maxPendingBytes(),
+                        config.maxRequestsPerBatch(),
+                        config.maxBatchSize(),
                         true);
         return shardManager.start().thenApply(v -> client);
     }
@@ -124,18 +181,24 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
      * per-client state (sessions, notifications, batchers); the shared resources live until the pool
      * itself is closed.
      */
-    static @NonNull CompletableFuture<AsyncOxiaClient> newInstance(
+    static @NonNull CompletableFuture<AsyncOxiaClientImpl> newInstance(
             @NonNull ClientConfig config, @NonNull SharedResourcesImpl sharedResources) {
         final ScheduledExecutorService asyncExecutor = sharedResources.executor();
         final var connectionManager = sharedResources.connectionManager();
-        var instrumentProvider = new InstrumentProvider(config.openTelemetry(), config.namespace());
+        var instrumentProvider =
+                new InstrumentProvider(
+                        config.openTelemetry(), config.namespace(), config.metricsLevel());
         return sharedResources
                 .getOrCreateShardManager(config)
                 .thenApply(
                         shardManager -> {
                             var rpcProvider =
                                     RpcProvider.create(
-                                            config, asyncExecutor, connectionManager, shardManager::leader);
+                                            config,
+                                            asyncExecutor,
+                                            connectionManager,
+                                            sharedResources.timer(),
+                                            shardManager::leader);
                             var notificationManager =
                                     new NotificationManager(
                                             asyncExecutor, rpcProvider, shardManager, instrumentProvider);
@@ -161,6 +224,7 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                             return new AsyncOxiaClientImpl(
                                     config.clientIdentifier(),
                                     asyncExecutor,
+                                    sharedResources.timer(),
                                     instrumentProvider,
                                     rpcProvider,
                                     shardManager,
@@ -168,12 +232,25 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                                     readBatchManager,
                                     writeBatchManager,
                                     sessionManager,
+                                    newNearCache(config, instrumentProvider),
+                                    config.valueCodec(),
+                                    config.valueChunkSize(),
                                     config.requestTimeout(),
                                     config.maxPendingBytes(),
+                                    config.maxRequestsPerBatch(),
+                                    config.maxBatchSize(),
                                     false);
                         });
     }
 
+    private static NearCache newNearCache(
+            @NonNull ClientConfig config, @NonNull InstrumentProvider instrumentProvider) {
+        if (config.nearCacheMaxBytes() == 0) {
+            return null;
+        }
+        return new NearCache(config.nearCacheMaxBytes(), instrumentProvider);
+    }
+
     private final @NonNull String clientIdentifier;
     private final @NonNull InstrumentProvider instrumentProvider;
     private final @NonNull RpcProvider rpcProvider;
@@ -182,7 +259,12 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
     private final @NonNull BatchManager readBatchManager;
     private final @NonNull BatchManager writeBatchManager;
     private final @NonNull SessionManager sessionManager;
+    private final NearCache nearCache;
+    private final ValueCodec valueCodec;
+    private final ChunkedValues chunkedValues;
     private final long requestTimeoutMs;
+    private final int maxRequestsPerBatch;
+    private final int maxBatchSize;
     private final @NonNull PendingBytesLimiter pendingBytesLimiter;
     private volatile boolean closed;
 
@@ -206,19 +288,24 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
     private final LatencyHistogram histogramDeleteRangeLatency;
     private final LatencyHistogram histogramListLatency;
     private final LatencyHistogram histogramRangeScanLatency;
+    private final LatencyHistogram histogramGetAllLatency;
+    private final LatencyHistogram histogramPutAllLatency;
+    private final LatencyHistogram histogramDeleteAllLatency;
 
     private final ScheduledExecutorService scheduledExecutor;
+    private final DeadlineTimer timer;
 
     /**
-     * Whether this client owns the {@link #scheduledExecutor} and {@link #shardManager}. {@code true}
-     * for standalone clients (they close them on {@link #close()}); {@code false} for clients backed
-     * by a shared-resources pool (which owns and closes them).
+     * Whether this client owns the {@link #scheduledExecutor}, {@link #timer} and {@link
+     * #shardManager}. {@code true} for standalone clients (they close them on {@link #close()});
+     * {@code false} for clients backed by a shared-resources pool (which owns and closes them).
      */
     private final boolean ownsResources;
 
     AsyncOxiaClientImpl(
             @NonNull String clientIdentifier,
             @NonNull ScheduledExecutorService scheduledExecutor,
+            @NonNull DeadlineTimer timer,
             @NonNull InstrumentProvider instrumentProvider,
             @NonNull RpcProvider rpcProvider,
             @NonNull ShardManager shardManager,
@@ -226,8 +313,13 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
             @NonNull BatchManager readBatchManager,
             @NonNull BatchManager writeBatchManager,
             @NonNull SessionManager sessionManager,
+            NearCache nearCache,
+            ValueCodec valueCodec,
+            int valueChunkSize,
             Duration requestTimeout,
             long maxPendingBytes,
+            int maxRequestsPerBatch,
+            int maxBatchSize,
             boolean ownsResources) {
         this.clientIdentifier = clientIdentifier;
         this.pendingBytesLimiter = new PendingBytesLimiter(maxPendingBytes);
@@ -238,9 +330,25 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
         this.readBatchManager = readBatchManager;
         this.writeBatchManager = writeBatchManager;
         this.sessionManager = sessionManager;
+        this.nearCache = nearCache;
+        this.valueCodec =
+                valueCodec != null ? new InstrumentedValueCodec(valueCodec, instrumentProvider) : null;
+        this.chunkedValues =
+                valueChunkSize > 0
+                        ? new ChunkedValues(
+                                valueChunkSize,
+                                shardManager,
+                                readBatchManager,
+                                writeBatchManager,
+                                pendingBytesLimiter,
+                                this.valueCodec)
+                        : null;
         this.scheduledExecutor = scheduledExecutor;
+        this.timer = timer;
         this.ownsResources = ownsResources;
         this.requestTimeoutMs = requestTimeout.toMillis();
+        this.maxRequestsPerBatch = maxRequestsPerBatch;
+        this.maxBatchSize = maxBatchSize;
 
         counterPutBytes =
                 instrumentProvider.newCounter(
@@ -345,6 +453,26 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                         "oxia.client.ops",
                         "Duration of operations",
                         Attributes.of(AttributeKey.stringKey("oxia.op"), "range-scan"));
+        histogramGetAllLatency =
+                instrumentProvider.newLatencyHistogram(
+                        "oxia.client.ops",
+                        "Duration of operations",
+                        Attributes.of(AttributeKey.stringKey("oxia.op"), "get-all"));
+        histogramPutAllLatency =
+                instrumentProvider.newLatencyHistogram(
+                        "oxia.client.ops",
+                        "Duration of operations",
+                        Attributes.of(AttributeKey.stringKey("oxia.op"), "put-all"));
+        histogramDeleteAllLatency =
+                instrumentProvider.newLatencyHistogram(
+                        "oxia.client.ops",
+                        "Duration of operations",
+                        Attributes.of(AttributeKey.stringKey("oxia.op"), "delete-all"));
+
+        if (nearCache != null) {
+            notificationManager.registerShardResetCallback(nearCache::invalidateShard);
+            notificationManager.registerCallback(nearCache::onNotification);
+        }
     }
 
     @Override
@@ -355,97 +483,124 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
     @Override
     public @NonNull CompletableFuture<PutResult> put(
             String key, byte[] value, Set<PutOption> options) {
+        return putValue(key, value != null ? ByteBuffer.wrap(value) : null, options, null, false);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<PutResult> putBuffer(String key, ByteBuffer value) {
+        return putBuffer(key, value, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<PutResult> putBuffer(
+            String key, ByteBuffer value, Set<PutOption> options) {
+        return putValue(key, value, options, null, true);
+    }
+
+    /**
+     * @param prepared the compiled options of a {@link PreparedPut}, or {@code null} to parse {@code
+     *     options}
+     * @param holdUntilReleased when the value is a caller-owned buffer, the returned future must not
+     *     complete (not even on timeout) before the batching layer stops referencing the buffer, so
+     *     that the caller can safely recycle it as soon as the future completes.
+     */
+    private CompletableFuture<PutResult> putValue(
+            String key,
+            ByteBuffer value,
+            Set<PutOption> options,
+            PutOptions prepared,
+            boolean holdUntilReleased) {
         long startTime = System.nanoTime();
         CompletableFuture<PutResult> callback;
 
         long acquiredBytes = 0;
+        int encodedSize = 0;
         try {
             checkIfClosed();
             Objects.requireNonNull(key);
             Objects.requireNonNull(value);
+            if (valueCodec != null) {
+                value = valueCodec.encode(value);
+            }
+            encodedSize = value.remaining();
+
+            var putOptions = prepared != null ? prepared : PutOptions.parseFrom(options);
+            if (chunkedValues != null && chunkedValues.shouldChunk(value, putOptions)) {
+                // The pending bytes are acquired chunk by chunk
+                gaugePendingPutRequests.increment();
+                gaugePendingPutBytes.add(encodedSize);
+                callback = invalidateOnCompletion(chunkedValues.put(key, value, putOptions), key);
+            } else {
+                long size = ByteBufUtil.utf8Bytes(key) + encodedSize;
+                pendingBytesLimiter.acquire(size);
+                acquiredBytes = size;
 
-            long size = ByteBufUtil.utf8Bytes(key) + value.length;
-            pendingBytesLimiter.acquire(size);
-            acquiredBytes = size;
-
-            callback = internalPut(key, value, options);
+                // Slice so that the operation gets its own position/limit over the caller's memory
+                callback = invalidateOnCompletion(internalPut(key, value.slice(), putOptions), key);
+            }
         } catch (RuntimeException e) {
             callback = CompletableFuture.failedFuture(e);
         }
         final long pendingBytes = acquiredBytes;
-        return callback
-                .orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS)
-                .whenComplete(
-                        (putResult, throwable) -> {
-                            if (pendingBytes > 0) {
-                                pendingBytesLimiter.release(pendingBytes);
-                            }
-                            gaugePendingPutRequests.decrement();
-                            gaugePendingPutBytes.add(-value.length);
-
-                            if (throwable == null) {
-                                counterPutBytes.add(value.length);
-                                histogramPutLatency.recordSuccess(System.nanoTime() - startTime);
-                            } else {
-                                histogramPutLatency.recordFailure(System.nanoTime() - startTime);
-                            }
-                        });
+        final int valueSize = encodedSize;
+
+        CompletableFuture<PutResult> result;
+        if (holdUntilReleased) {
+            var timed = withDeadline(callback.copy());
+            result =
+                    CompletableFuture.allOf(callback, timed)
+                            .handle((v, ex) -> timed)
+                            .thenCompose(f -> f);
+        } else {
+            result = withDeadline(callback);
+        }
+        return result.whenComplete(
+                (putResult, throwable) -> {
+                    if (pendingBytes > 0) {
+                        pendingBytesLimiter.release(pendingBytes);
+                    }
+                    gaugePendingPutRequests.decrement();
+                    gaugePendingPutBytes.add(-valueSize);
+
+                    if (throwable == null) {
+                        counterPutBytes.add(valueSize);
+                        histogramPutLatency.recordSuccess(System.nanoTime() - startTime);
+                    } else {
+                        histogramPutLatency.recordFailure(System.nanoTime() - startTime);
+                    }
+                });
     }
 
     private CompletableFuture<PutResult> internalPut(
-            String key, byte[] value, Set<PutOption> options) {
+            String key, ByteBuffer value, PutOptions putOptions) {
         gaugePendingPutRequests.increment();
-        gaugePendingPutBytes.add(value.length);
+        gaugePendingPutBytes.add(value.remaining());
 
-        var partitionKey = OptionsUtils.getPartitionKey(options);
-        var shardId = shardManager.getShardForKey(partitionKey.orElse(key));
-        var versionId = OptionsUtils.getVersionId(options);
-        var sequenceKeysDeltas = OptionsUtils.getSequenceKeysDeltas(options);
-        var secondaryIndexes = OptionsUtils.getSecondaryIndexes(options);
-        var overrideVersionId = OptionsUtils.getOverrideVersionId(options);
-        var overrideModificationsCount = OptionsUtils.getOverrideModificationsCount(options);
+        var shardId = shardManager.getShardForKey(putOptions.routingKey(key));
 
         CompletableFuture<PutResult> future = new CompletableFuture<>();
 
-        if (!OptionsUtils.isEphemeral(options)) {
-            var op =
-                    new PutOperation(
-                            shardId,
-                            future,
-                            key,
-                            partitionKey,
-                            sequenceKeysDeltas,
-                            value,
-                            versionId,
-                            OptionalLong.empty(),
-                            Optional.empty(),
-                            secondaryIndexes,
-                            overrideVersionId,
-                            overrideModificationsCount);
-            writeBatchManager.add(op);
+        if (!putOptions.ephemeral()) {
+            writeBatchManager.add(
+                    putOptions.toOperation(
+                            shardId, future, key, value, OptionalLong.empty(), Optional.empty()),
+                    putOptions.priority());
         } else {
             // The put operation is trying to write an ephemeral record. We need to have a valid session
             // id for this
             sessionManager
                     .getSession(shardId)
                     .thenAccept(
-                            session -> {
-                                var op =
-                                        new PutOperation(
-                                                shardId,
-                                                future,
-                                                key,
-                                                partitionKey,
-                                                sequenceKeysDeltas,
-                                                value,
-                                                versionId,
-                                                OptionalLong.of(session.getSessionId()),
-                                                Optional.of(clientIdentifier),
-                                                secondaryIndexes,
-                                                overrideVersionId,
-                                                overrideModificationsCount);
-                                writeBatchManager.add(op);
-                            })
+                            session ->
+                                    writeBatchManager.add(
+                                            putOptions.toOperation(
+                                                    shardId,
+                                                    future,
+                                                    key,
+                                                    value,
+                                                    OptionalLong.of(session.getSessionId()),
+                                                    Optional.of(clientIdentifier)),
+                                            putOptions.priority()))
                     .exceptionally(
                             ex -> {
                                 future.completeExceptionally(ex);
@@ -463,6 +618,11 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
 
     @Override
     public @NonNull CompletableFuture<Boolean> delete(String key, Set<DeleteOption> options) {
+        return delete(key, options, null);
+    }
+
+    private CompletableFuture<Boolean> delete(
+            String key, Set<DeleteOption> options, DeleteOptions prepared) {
         long startTime = System.nanoTime();
 
         gaugePendingDeleteRequests.increment();
@@ -473,21 +633,34 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
             checkIfClosed();
             Objects.requireNonNull(key);
 
-            OptionalLong versionId = OptionsUtils.getVersionId(options);
-            var partitionKey = OptionsUtils.getPartitionKey(options);
-            var shardId = shardManager.getShardForKey(partitionKey.orElse(key));
+            var deleteOptions = prepared != null ? prepared : DeleteOptions.parseFrom(options);
+            var shardId = shardManager.getShardForKey(deleteOptions.routingKey(key));
 
             long size = ByteBufUtil.utf8Bytes(key);
             pendingBytesLimiter.acquire(size);
             acquiredBytes = size;
 
-            writeBatchManager.add(new DeleteOperation(shardId, callback, key, versionId));
+            if (chunkedValues != null) {
+                chunkedValues
+                        .delete(shardId, key, deleteOptions)
+                        .whenComplete(
+                                (deleted, ex) -> {
+                                    if (ex != null) {
+                                        callback.completeExceptionally(CompletableFutures.unwrapException(ex));
+                                    } else {
+                                        callback.complete(deleted);
+                                    }
+                                });
+            } else {
+                writeBatchManager.add(
+                        new DeleteOperation(shardId, callback, key, deleteOptions.expectedVersionId()),
+                        deleteOptions.priority());
+            }
         } catch (RuntimeException e) {
             callback.completeExceptionally(e);
         }
         final long pendingBytes = acquiredBytes;
-        return callback
-                .orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS)
+        return withDeadline(invalidateOnCompletion(callback, key))
                 .whenComplete(
                         (putResult, throwable) -> {
                             if (pendingBytes > 0) {
@@ -546,12 +719,16 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                                 .toArray(CompletableFuture[]::new);
                 callback = CompletableFuture.allOf(shardDeletes);
             }
+            if (nearCache != null) {
+                callback =
+                        callback.whenComplete(
+                                (v, ex) -> nearCache.invalidateRange(startKeyInclusive, endKeyExclusive));
+            }
         } catch (RuntimeException e) {
             callback = CompletableFuture.failedFuture(e);
         }
         final long pendingBytes = acquiredBytes;
-        return callback
-                .orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS)
+        return withDeadline(callback)
                 .whenComplete(
                         (putResult, throwable) -> {
                             if (pendingBytes > 0) {
@@ -573,7 +750,10 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
 
     @Override
     public @NonNull CompletableFuture<GetResult> get(String key, Set<GetOption> options) {
-        final GetOptions internalOptions = GetOptions.parseFrom(options);
+        return get(key, GetOptions.parseFrom(options));
+    }
+
+    private CompletableFuture<GetResult> get(String key, GetOptions internalOptions) {
         long startTime = System.nanoTime();
         gaugePendingGetRequests.increment();
         var callback = new CompletableFuture<GetResult>();
@@ -586,13 +766,17 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
             pendingBytesLimiter.acquire(size);
             acquiredBytes = size;
 
-            internalGet(key, internalOptions, callback);
+            if (nearCache != null && NearCache.isCacheable(internalOptions)) {
+                cachedGet(key, internalOptions, callback);
+            } else {
+                internalGet(
+                        key, internalOptions, readInto(callback), GetOperation::new, GetResult::key);
+            }
         } catch (RuntimeException e) {
             callback.completeExceptionally(e);
         }
         final long pendingBytes = acquiredBytes;
-        return callback
-                .orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS)
+        return withDeadline(callback)
                 .whenComplete(
                         (getResult, throwable) -> {
                             if (pendingBytes > 0) {
@@ -610,63 +794,563 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                         });
     }
 
-    private void internalGet(String key, GetOptions options, CompletableFuture<GetResult> result) {
+    private void cachedGet(String key, GetOptions options, CompletableFuture<GetResult> callback) {
+        String partitionKey = options.partitionKey();
+        long shardId = shardManager.getShardForKey(partitionKey != null ? partitionKey : key);
+        long stamp = nearCache.stamp();
+        if (nearCache.lookup(key, partitionKey, shardId, stamp, callback)) {
+            return;
+        }
+        var response = new CompletableFuture<GetResult>();
+        response.whenComplete(
+                (result, ex) -> {
+                    if (ex != null) {
+                        callback.completeExceptionally(ex);
+                    } else {
+                        nearCache.fill(key, partitionKey, shardId, stamp, result);
+                        callback.complete(result);
+                    }
+                });
+        readBatchManager.add(
+                new GetOperation(shardId, readInto(response), key, options), options.priority());
+    }
+
+    /**
+     * @return the future to hand to the read operation, which completes {@code callback} with the
+     *     decoded result, after fetching its chunks if it is a chunked value
+     */
+    private <R> CompletableFuture<R> readInto(
+            CompletableFuture<R> callback,
+            BiFunction<R, ValueCodec, R> decoder,
+            Function<R, CompletableFuture<R>> chunksResolver) {
+        if (valueCodec == null && chunkedValues == null) {
+            return callback;
+        }
+        Function<R, CompletableFuture<R>> resolver =
+                chunkedValues != null ? chunksResolver : CompletableFuture::completedFuture;
+        var response = new CompletableFuture<R>();
+        response
+                .thenApply(result -> decoder.apply(result, valueCodec))
+                .thenCompose(resolver)
+                .whenComplete(
+                        (result, ex) -> {
+                            if (ex != null) {
+                                callback.completeExceptionally(CompletableFutures.unwrapException(ex));
+                            } else {
+                                callback.complete(result);
+                            }
+                        });
+        return response;
+    }
+
+    private CompletableFuture<GetResult> readInto(CompletableFuture<GetResult> callback) {
+        return readInto(callback, ProtoUtil::decodeValue, r -> chunkedValues.resolve(r));
+    }
+
+    /** Drops the written keys from the near cache before the write completes to the caller. */
+    private <T> CompletableFuture<T> invalidateOnCompletion(CompletableFuture<T> future, String key) {
+        if (nearCache == null) {
+            return future;
+        }
+        return future.whenComplete((r, ex) -> nearCache.invalidate(key));
+    }
+
+    private <T> CompletableFuture<T> invalidateOnCompletion(
+            CompletableFuture<T> future, Collection<String> keys) {
+        if (nearCache == null) {
+            return future;
+        }
+        return future.whenComplete((r, ex) -> keys.forEach(nearCache::invalidate));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<GetResultView> getView(String key) {
+        return getView(key, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<GetResultView> getView(String key, Set<GetOption> options) {
+        final GetOptions internalOptions = GetOptions.parseFrom(options);
+        long startTime = System.nanoTime();
+        gaugePendingGetRequests.increment();
+        var callback = new CompletableFuture<GetResultView>();
+        long acquiredBytes = 0;
+        try {
+            checkIfClosed();
+            Objects.requireNonNull(key);
+
+            long size = ByteBufUtil.utf8Bytes(key);
+            pendingBytesLimiter.acquire(size);
+            acquiredBytes = size;
+
+            internalGet(
+                    key,
+                    internalOptions,
+                    readInto(callback, ProtoUtil::decodeValue, v -> chunkedValues.resolve(v)),
+                    GetViewOperation::new,
+                    GetResultView::key);
+        } catch (RuntimeException e) {
+            callback.completeExceptionally(e);
+        }
+        final long pendingBytes = acquiredBytes;
+        return withDeadline(callback)
+                .whenComplete(
+                        (view, throwable) -> {
+                            if (pendingBytes > 0) {
+                                pendingBytesLimiter.release(pendingBytes);
+                            }
+                            gaugePendingGetRequests.decrement();
+                            if (throwable == null) {
+                                if (view != null) {
+                                    counterGetBytes.add(view.value().remaining());
+                                }
+                                histogramGetLatency.recordSuccess(System.nanoTime() - startTime);
+                            } else {
+                                histogramGetLatency.recordFailure(System.nanoTime() - startTime);
+                            }
+                        });
+    }
+
+    /** Creates the read operation delivering a single shard's result into the given future. */
+    @FunctionalInterface
+    private interface ReadOperationFactory<R> {
+        ReadOperation<R> create(
+                long shardId, CompletableFuture<R> callback, String key, GetOptions options);
+    }
+
+    private <R> void internalGet(
+            String key,
+            GetOptions options,
+            CompletableFuture<R> result,
+            ReadOperationFactory<R> operationFactory,
+            Function<R, String> keyOf) {
         if (options.partitionKey() == null
                 && (options.comparisonType() != KeyComparisonType.EQUAL
                         || options.secondaryIndexName() != null)) {
-            internalGetMultiShards(key, options, result);
+            internalGetMultiShards(key, options, result, operationFactory, keyOf);
         } else {
             // Single shard get operation
             long shardId =
                     shardManager.getShardForKey(Optional.ofNullable(options.partitionKey()).orElse(key));
-            readBatchManager.add(new GetOperation(shardId, result, key, options));
+            readBatchManager.add(
+                    operationFactory.create(shardId, result, key, options), options.priority());
         }
     }
 
-    private void internalGetMultiShards(
-            String key, GetOptions options, CompletableFuture<GetResult> result) {
+    private <R> void internalGetMultiShards(
+            String key,
+            GetOptions options,
+            CompletableFuture<R> result,
+            ReadOperationFactory<R> operationFactory,
+            Function<R, String> keyOf) {
         // We need check on all the shards for a floor/ceiling query
-        List<CompletableFuture<GetResult>> futures = new ArrayList<>();
+        List<CompletableFuture<R>> futures = new ArrayList<>();
         for (long shardId : shardManager.allShardIds()) {
-            CompletableFuture<GetResult> f = new CompletableFuture<>();
-            readBatchManager.add(new GetOperation(shardId, f, key, options));
+            CompletableFuture<R> f = new CompletableFuture<>();
+            readBatchManager.add(
+                    operationFactory.create(shardId, f, key, options), options.priority());
             futures.add(f);
         }
 
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
                 .whenComplete(
                         (v, ex) -> {
-                            if (ex != null) {
-                                result.completeExceptionally(ex);
-                                return;
-                            }
-
+                            List<R> results = List.of();
+                            R selected = null;
                             try {
-                                List<GetResult> results =
+                                results =
                                         futures.stream()
+                                                .filter(f -> !f.isCompletedExceptionally())
                                                 .map(CompletableFuture::join)
                                                 .filter(Objects::nonNull)
-                                                .sorted((o1, o2) -> CompareWithSlash.INSTANCE.compare(o1.key(), o2.key()))
+                                                .sorted(
+                                                        (o1, o2) ->
+                                                                CompareWithSlash.INSTANCE.compare(
+                                                                        keyOf.apply(o1), keyOf.apply(o2)))
                                                 .toList();
-                                if (results.isEmpty()) {
-                                    result.complete(null);
-                                    return;
+                                if (ex != null) {
+                                    result.completeExceptionally(ex);
+                                } else {
+                                    if (!results.isEmpty()) {
+                                        selected =
+                                                switch (options.comparisonType()) {
+                                                    case EQUAL, CEILING, HIGHER -> results.get(0);
+                                                    case FLOOR, LOWER -> results.get(results.size() - 1);
+                                                    default -> null;
+                                                };
+                                    }
+                                    if (!result.complete(selected)) {
+                                        selected = null;
+                                    }
                                 }
-
-                                GetResult gr =
-                                        switch (options.comparisonType()) {
-                                            case EQUAL, CEILING, HIGHER -> results.get(0);
-                                            case FLOOR, LOWER -> results.get(results.size() - 1);
-                                            default -> null;
-                                        };
-
-                                result.complete(gr);
                             } catch (Throwable t) {
                                 result.completeExceptionally(t);
+                                selected = null;
+                            }
+
+                            // Views over the per-shard responses that were not handed out must be released
+                            for (R r : results) {
+                                if (r != selected && r instanceof GetResultView view) {
+                                    view.close();
+                                }
+                            }
+                        });
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, GetResult>> getAll(Collection<String> keys) {
+        return getAll(keys, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, GetResult>> getAll(
+            Collection<String> keys, Set<GetOption> options) {
+        long startTime = System.nanoTime();
+        CompletableFuture<Map<String, GetResult>> callback;
+        long acquiredBytes = 0;
+        int pendingKeys = 0;
+        try {
+            checkIfClosed();
+            final GetOptions internalOptions = GetOptions.parseFrom(options);
+            if (internalOptions.comparisonType() != KeyComparisonType.EQUAL
+                    || internalOptions.secondaryIndexName() != null) {
+                throw new IllegalArgumentException("getAll only supports exact key lookups");
+            }
+            List<String> distinctKeys = distinctKeys(keys);
+
+            long size = 0;
+            for (String key : distinctKeys) {
+                size += ByteBufUtil.utf8Bytes(key);
+            }
+            pendingBytesLimiter.acquire(size);
+            acquiredBytes = size;
+
+            gaugePendingGetRequests.add(distinctKeys.size());
+            pendingKeys = distinctKeys.size();
+
+            var collector = new MultiKeyCollector<GetResult>(distinctKeys, true);
+            Map<Long, List<GetOperation>> operationsByShard = new HashMap<>();
+            for (int i = 0; i < distinctKeys.size(); i++) {
+                String key = distinctKeys.get(i);
+                long shardId =
+                        shardManager.getShardForKey(
+                                Optional.ofNullable(internalOptions.partitionKey()).orElse(key));
+                operationsByShard
+                        .computeIfAbsent(shardId, id -> new ArrayList<>())
+                        .add(new GetOperation(shardId, collector.slot(i), key, internalOptions));
+            }
+            submitByShard(readBatchManager, operationsByShard, internalOptions.priority());
+            callback = collector.future();
+            if (valueCodec != null) {
+                callback =
+                        callback.thenApply(
+                                results -> {
+                                    results.replaceAll((k, r) -> ProtoUtil.decodeValue(r, valueCodec));
+                                    return results;
+                                });
+            }
+            if (chunkedValues != null) {
+                callback = callback.thenCompose(chunkedValues::resolveAll);
+            }
+        } catch (RuntimeException e) {
+            callback = CompletableFuture.failedFuture(e);
+        }
+        final long pendingBytes = acquiredBytes;
+        final int keysCount = pendingKeys;
+        return withDeadline(callback)
+                .whenComplete(
+                        (results, throwable) -> {
+                            if (pendingBytes > 0) {
+                                pendingBytesLimiter.release(pendingBytes);
+                            }
+                            gaugePendingGetRequests.subtract(keysCount);
+                            if (throwable == null) {
+                                long bytes = 0;
+                                for (GetResult result : results.values()) {
+                                    bytes += result.value().length;
+                                }
+                                counterGetBytes.add(bytes);
+                                histogramGetAllLatency.recordSuccess(System.nanoTime() - startTime);
+                            } else {
+                                histogramGetAllLatency.recordFailure(System.nanoTime() - startTime);
+                            }
+                        });
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, PutResult>> putAll(Map<String, byte[]> records) {
+        return putAll(records, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, PutResult>> putAll(
+            Map<String, byte[]> records, Set<PutOption> options) {
+        long startTime = System.nanoTime();
+        CompletableFuture<Map<String, PutResult>> callback;
+        long acquiredBytes = 0;
+        long valueBytes = 0;
+        int pendingKeys = 0;
+        try {
+            checkIfClosed();
+            Objects.requireNonNull(records);
+            var putOptions = PutOptions.parseFrom(options);
+
+            List<String> keys = new ArrayList<>(records.size());
+            List<ByteBuffer> values = new ArrayList<>(records.size());
+            var chunked = new BitSet();
+            long size = 0;
+            long totalValueBytes = 0;
+            for (var record : records.entrySet()) {
+                String key = Objects.requireNonNull(record.getKey());
+                var value = ByteBuffer.wrap(Objects.requireNonNull(record.getValue()));
+                if (valueCodec != null) {
+                    value = valueCodec.encode(value);
+                }
+                if (chunkedValues != null && chunkedValues.shouldChunk(value, putOptions)) {
+                    // The pending bytes of chunked values are acquired chunk by chunk
+                    chunked.set(keys.size());
+                } else {
+                    size += ByteBufUtil.utf8Bytes(key) + value.remaining();
+                }
+                keys.add(key);
+                values.add(value);
+                totalValueBytes += value.remaining();
+            }
+            pendingBytesLimiter.acquire(size);
+            acquiredBytes = size;
+
+            gaugePendingPutRequests.add(keys.size());
+            gaugePendingPutBytes.add(totalValueBytes);
+            pendingKeys = keys.size();
+            valueBytes = totalValueBytes;
+
+            var collector = new MultiKeyCollector<PutResult>(keys, false);
+            Map<Long, List<Integer>> indexesByShard = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (chunked.get(i)) {
+                    continue;
+                }
+                long shardId = shardManager.getShardForKey(putOptions.routingKey(keys.get(i)));
+                indexesByShard.computeIfAbsent(shardId, id -> new ArrayList<>()).add(i);
+            }
+            indexesByShard.forEach(
+                    (shardId, indexes) -> {
+                        if (!putOptions.ephemeral()) {
+                            submitPuts(
+                                    shardId,
+                                    indexes,
+                                    keys,
+                                    values,
+                                    putOptions,
+                                    collector,
+                                    OptionalLong.empty(),
+                                    Optional.empty());
+                            return;
+                        }
+                        // Ephemeral records need the shard's session, which is resolved once per group
+                        sessionManager
+                                .getSession(shardId)
+                                .thenAccept(
+                                        session ->
+                                                submitPuts(
+                                                        shardId,
+                                                        indexes,
+                                                        keys,
+                                                        values,
+                                                        putOptions,
+                                                        collector,
+                                                        OptionalLong.of(session.getSessionId()),
+                                                        Optional.of(clientIdentifier)))
+                                .exceptionally(
+                                        ex -> {
+                                            collector.fail(ex);
+                                            return null;
+                                        });
+                    });
+            for (int i = chunked.nextSetBit(0); i >= 0; i = chunked.nextSetBit(i + 1)) {
+                putChunked(keys.get(i), values.get(i), putOptions, collector.slot(i));
+            }
+            callback = invalidateOnCompletion(collector.future(), keys);
+        } catch (RuntimeException e) {
+            callback = CompletableFuture.failedFuture(e);
+        }
+        final long pendingBytes = acquiredBytes;
+        final int keysCount = pendingKeys;
+        final long pendingValueBytes = valueBytes;
+        return withDeadline(callback)
+                .whenComplete(
+                        (results, throwable) -> {
+                            if (pendingBytes > 0) {
+                                pendingBytesLimiter.release(pendingBytes);
+                            }
+                            gaugePendingPutRequests.subtract(keysCount);
+                            gaugePendingPutBytes.subtract(pendingValueBytes);
+                            if (throwable == null) {
+                                counterPutBytes.add(pendingValueBytes);
+                                histogramPutAllLatency.recordSuccess(System.nanoTime() - startTime);
+                            } else {
+                                histogramPutAllLatency.recordFailure(System.nanoTime() - startTime);
+                            }
+                        });
+    }
+
+    @Override
+    public @NonNull BulkWriter bulkWriter(
+            @NonNull Set<PutOption> options, @NonNull BiConsumer<String, Throwable> failureCallback) {
+        checkIfClosed();
+        Set<PutOption> bulkOptions = options;
+        if (options.stream().noneMatch(o -> o instanceof OptionPriority)) {
+            bulkOptions = new HashSet<>(options);
+            bulkOptions.add(PutOption.PriorityBulk);
+        }
+        var putOptions = PutOptions.parseFrom(bulkOptions);
+        if (putOptions.ephemeral()) {
+            throw new IllegalArgumentException("Bulk writers do not support ephemeral records");
+        }
+        return new BulkWriterImpl(
+                shardManager,
+                writeBatchManager,
+                pendingBytesLimiter,
+                valueCodec,
+                chunkedValues,
+                nearCache,
+                gaugePendingPutRequests,
+                gaugePendingPutBytes,
+                counterPutBytes,
+                this::checkIfClosed,
+                putOptions,
+                maxRequestsPerBatch,
+                maxBatchSize,
+                failureCallback);
+    }
+
+    /** Writes a value through {@link ChunkedValues}, completing {@code slot} with its result. */
+    private void putChunked(
+            String key, ByteBuffer value, PutOptions putOptions, CompletableFuture<PutResult> slot) {
+        try {
+            chunkedValues
+                    .put(key, value, putOptions)
+                    .whenComplete(
+                            (result, ex) -> {
+                                if (ex != null) {
+                                    slot.completeExceptionally(CompletableFutures.unwrapException(ex));
+                                } else {
+                                    slot.complete(result);
+                                }
+                            });
+        } catch (RuntimeException e) {
+            slot.completeExceptionally(e);
+        }
+    }
+
+    private void submitPuts(
+            long shardId,
+            List<Integer> indexes,
+            List<String> keys,
+            List<ByteBuffer> values,
+            PutOptions putOptions,
+            MultiKeyCollector<PutResult> collector,
+            OptionalLong sessionId,
+            Optional<String> clientIdentifier) {
+        List<PutOperation> operations = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            operations.add(
+                    putOptions.toOperation(
+                            shardId,
+                            collector.slot(i),
+                            keys.get(i),
+                            values.get(i),
+                            sessionId,
+                            clientIdentifier));
+        }
+        submitByShard(writeBatchManager, Map.of(shardId, operations), putOptions.priority());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, Boolean>> deleteAll(Collection<String> keys) {
+        return deleteAll(keys, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Map<String, Boolean>> deleteAll(
+            Collection<String> keys, Set<DeleteOption> options) {
+        long startTime = System.nanoTime();
+        CompletableFuture<Map<String, Boolean>> callback;
+        long acquiredBytes = 0;
+        int pendingKeys = 0;
+        try {
+            checkIfClosed();
+            var deleteOptions = DeleteOptions.parseFrom(options);
+            List<String> distinctKeys = distinctKeys(keys);
+
+            long size = 0;
+            for (String key : distinctKeys) {
+                size += ByteBufUtil.utf8Bytes(key);
+            }
+            pendingBytesLimiter.acquire(size);
+            acquiredBytes = size;
+
+            gaugePendingDeleteRequests.add(distinctKeys.size());
+            pendingKeys = distinctKeys.size();
+
+            var collector = new MultiKeyCollector<Boolean>(distinctKeys, false);
+            Map<Long, List<DeleteOperation>> operationsByShard = new HashMap<>();
+            for (int i = 0; i < distinctKeys.size(); i++) {
+                String key = distinctKeys.get(i);
+                long shardId = shardManager.getShardForKey(deleteOptions.routingKey(key));
+                operationsByShard
+                        .computeIfAbsent(shardId, id -> new ArrayList<>())
+                        .add(
+                                new DeleteOperation(
+                                        shardId, collector.slot(i), key, deleteOptions.expectedVersionId()));
+            }
+            submitByShard(writeBatchManager, operationsByShard, deleteOptions.priority());
+            callback = invalidateOnCompletion(collector.future(), distinctKeys);
+        } catch (RuntimeException e) {
+            callback = CompletableFuture.failedFuture(e);
+        }
+        final long pendingBytes = acquiredBytes;
+        final int keysCount = pendingKeys;
+        return withDeadline(callback)
+                .whenComplete(
+                        (results, throwable) -> {
+                            if (pendingBytes > 0) {
+                                pendingBytesLimiter.release(pendingBytes);
+                            }
+                            gaugePendingDeleteRequests.subtract(keysCount);
+                            if (throwable == null) {
+                                histogramDeleteAllLatency.recordSuccess(System.nanoTime() - startTime);
+                            } else {
+                                histogramDeleteAllLatency.recordFailure(System.nanoTime() - startTime);
                             }
                         });
     }
 
+    private static List<String> distinctKeys(Collection<String> keys) {
+        Objects.requireNonNull(keys);
+        var distinct = new LinkedHashSet<String>(Math.max(16, (int) (keys.size() / 0.75f) + 1));
+        for (String key : keys) {
+            distinct.add(Objects.requireNonNull(key));
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Hands each shard's group of operations to the batching layer as a single command. The
+     * operations of a group that cannot be submitted are failed.
+     */
+    private static <O extends Operation<?>> void submitByShard(
+            BatchManager batchManager, Map<Long, List<O>> operationsByShard, Priority priority) {
+        operationsByShard.forEach(
+                (shardId, operations) -> {
+                    try {
+                        batchManager.addAll(shardId, operations, priority);
+                    } catch (RuntimeException e) {
+                        operations.forEach(operation -> operation.fail(e));
+                    }
+                });
+    }
+
     @Override
     public @NonNull CompletableFuture<List<String>> list(
             String startKeyInclusive, String endKeyExclusive) {
@@ -679,6 +1363,7 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
         long startTime = System.nanoTime();
         gaugePendingListRequests.increment();
         CompletableFuture<List<String>> callback;
+        OrderedShardMerge<ListResponse, String> stream = null;
         try {
             checkIfClosed();
             Objects.requireNonNull(startKeyInclusive);
@@ -686,17 +1371,46 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
 
             Optional<String> partitionKey = OptionsUtils.getPartitionKey(options);
             Optional<String> secondaryIndex = OptionsUtils.getSecondaryIndexName(options);
-            if (partitionKey.isPresent()) {
-                long shardId = shardManager.getShardForKey(partitionKey.get());
-                callback = internalShardlist(shardId, startKeyInclusive, endKeyExclusive, secondaryIndex);
+            OptionalInt limit = OptionsUtils.getLimit(options);
+            if (secondaryIndex.isPresent()) {
+                callback =
+                        internalListWithSecondaryIndex(
+                                startKeyInclusive, endKeyExclusive, partitionKey, secondaryIndex.get(), limit);
             } else {
-                callback = internalListMultiShards(startKeyInclusive, endKeyExclusive, secondaryIndex);
+                var collected = new CompletableFuture<List<String>>();
+                stream =
+                        internalMergedList(
+                                startKeyInclusive,
+                                endKeyExclusive,
+                                partitionKey,
+                                limit,
+                                new ListConsumer() {
+                                    final List<String> keys = new ArrayList<>();
+
+                                    @Override
+                                    public boolean onNext(String key) {
+                                        keys.add(key);
+                                        return true;
+                                    }
+
+                                    @Override
+                                    public void onError(Throwable throwable) {
+                                        collected.completeExceptionally(throwable);
+                                    }
+
+                                    @Override
+                                    public void onCompleted() {
+                                        collected.complete(keys);
+                                    }
+                                },
+                                null);
+                callback = collected;
             }
         } catch (Exception e) {
             callback = CompletableFuture.failedFuture(e);
         }
-        return callback
-                .orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS)
+        final var openStream = stream;
+        return withDeadline(callback)
                 .whenComplete(
                         (listResult, throwable) -> {
                             gaugePendingListRequests.decrement();
@@ -704,16 +1418,430 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                                 counterListBytes.add(listResult.stream().mapToInt(String::length).sum());
                                 histogramListLatency.recordSuccess(System.nanoTime() - startTime);
                             } else {
+                                if (openStream != null) {
+                                    openStream.cancel();
+                                }
                                 histogramListLatency.recordFailure(System.nanoTime() - startTime);
                             }
                         });
     }
 
     @Override
-    public void notifications(@NonNull Consumer<Notification> notificationCallback) {
-        checkIfClosed();
-        notificationManager.registerCallback(notificationCallback);
-    }
+    public void list(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull ListConsumer consumer) {
+        list(startKeyInclusive, endKeyExclusive, consumer, Collections.emptySet());
+    }
+
+    @Override
+    public void list(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull ListConsumer consumer,
+            @NonNull Set<ListOption> options) {
+        gaugePendingListRequests.increment();
+
+        final ListConsumer timedConsumer =
+                new ListConsumer() {
+                    final long startTime = System.nanoTime();
+                    final AtomicLong totalSize = new AtomicLong();
+
+                    @Override
+                    public boolean onNext(String key) {
+                        totalSize.addAndGet(key.length());
+                        return consumer.onNext(key);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        gaugePendingListRequests.decrement();
+                        histogramListLatency.recordFailure(System.nanoTime() - startTime);
+                        consumer.onError(throwable);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        gaugePendingListRequests.decrement();
+                        counterListBytes.add(totalSize.longValue());
+                        histogramListLatency.recordSuccess(System.nanoTime() - startTime);
+                        consumer.onCompleted();
+                    }
+                };
+
+        try {
+            checkIfClosed();
+
+            Optional<String> partitionKey = OptionsUtils.getPartitionKey(options);
+            Optional<String> secondaryIndex = OptionsUtils.getSecondaryIndexName(options);
+            OptionalInt limit = OptionsUtils.getLimit(options);
+            if (secondaryIndex.isPresent()) {
+                // The shards return the keys in the order of the index, so they can't be merged by
+                // primary key as they arrive
+                internalListWithSecondaryIndex(
+                                startKeyInclusive, endKeyExclusive, partitionKey, secondaryIndex.get(), limit)
+                        .whenComplete(
+                                (keys, ex) -> {
+                                    if (ex != null) {
+                                        timedConsumer.onError(ex);
+                                        return;
+                                    }
+                                    for (String key : keys) {
+                                        if (!timedConsumer.onNext(key)) {
+                                            break;
+                                        }
+                                    }
+                                    timedConsumer.onCompleted();
+                                });
+                return;
+            }
+
+            final var flowControl = consumer instanceof FlowControlledRangeScanConsumer fc ? fc : null;
+            internalMergedList(
+                    startKeyInclusive, endKeyExclusive, partitionKey, limit, timedConsumer, flowControl);
+        } catch (Exception e) {
+            timedConsumer.onError(e);
+        }
+    }
+
+    @Override
+    public @NonNull PreparedPut preparePut(@NonNull Set<PutOption> options) {
+        final PutOptions putOptions = PutOptions.parseFrom(options);
+        return new PreparedPut() {
+            @Override
+            public CompletableFuture<PutResult> put(String key, byte[] value) {
+                return putValue(
+                        key, value != null ? ByteBuffer.wrap(value) : null, null, putOptions, false);
+            }
+
+            @Override
+            public CompletableFuture<PutResult> put(String key, byte[] value, long expectedVersionId) {
+                return putValue(
+                        key,
+                        value != null ? ByteBuffer.wrap(value) : null,
+                        null,
+                        putOptions.withExpectedVersionId(expectedVersionId),
+                        false);
+            }
+
+            @Override
+            public CompletableFuture<PutResult> putBuffer(String key, ByteBuffer value) {
+                return putValue(key, value, null, putOptions, true);
+            }
+        };
+    }
+
+    @Override
+    public @NonNull PreparedGet prepareGet(@NonNull Set<GetOption> options) {
+        final GetOptions getOptions = GetOptions.parseFrom(options);
+        return key -> get(key, getOptions);
+    }
+
+    @Override
+    public @NonNull PreparedDelete prepareDelete(@NonNull Set<DeleteOption> options) {
+        final DeleteOptions deleteOptions = DeleteOptions.parseFrom(options);
+        return new PreparedDelete() {
+            @Override
+            public CompletableFuture<Boolean> delete(String key) {
+                return AsyncOxiaClientImpl.this.delete(key, null, deleteOptions);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> delete(String key, long expectedVersionId) {
+                return AsyncOxiaClientImpl.this.delete(
+                        key, null, deleteOptions.withExpectedVersionId(expectedVersionId));
+            }
+        };
+    }
+
+    @Override
+    public @NonNull PreparedRangeScan prepareRangeScan(@NonNull Set<RangeScanOption> options) {
+        final RangeScanOptions scanOptions = RangeScanOptions.parseFrom(options);
+        return (startKeyInclusive, endKeyExclusive, consumer) ->
+                rangeScan(startKeyInclusive, endKeyExclusive, consumer, null, scanOptions);
+    }
+
+    @Override
+    public void notifications(@NonNull Consumer<Notification> notificationCallback) {
+        checkIfClosed();
+        notificationManager.registerCallback(notificationCallback);
+    }
+
+    @Override
+    public Flow.Publisher<Notification> notificationPublisher() {
+        checkIfClosed();
+        return Publishers.notifications(notificationManager, Flow.defaultBufferSize());
+    }
+
+    @Override
+    public @NonNull MaterializedView materializedView(
+            @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        checkIfClosed();
+        var source =
+                new MaterializedViewImpl.Source() {
+                    @Override
+                    public Set<Long> shardIds() {
+                        return shardManager.allShardIds();
+                    }
+
+                    @Override
+                    public long shardForKey(String key) {
+                        return shardManager.getShardForKey(key);
+                    }
+
+                    @Override
+                    public void scan(
+                            long shardId, String start, String end, RangeScanConsumer consumer) {
+                        var delivered =
+                                chunkedValues != null ? chunkedValues.resolving(consumer) : consumer;
+                        internalShardRangeScan(
+                                shardId,
+                                start,
+                                end,
+                                Optional.empty(),
+                                RangeScanRecordSink.of(delivered, valueCodec),
+                                null);
+                    }
+
+                    @Override
+                    public CompletableFuture<Map<String, GetResult>> fetch(List<String> keys) {
+                        return getAll(keys);
+                    }
+                };
+        var view =
+                new MaterializedViewImpl(
+                        startKeyInclusive,
+                        endKeyExclusive,
+                        source,
+                        scheduledExecutor,
+                        v -> {
+                            notificationManager.removeCallback(v.notificationCallback);
+                            notificationManager.removeShardResetCallback(v.shardResetCallback);
+                        });
+        // Follow the changes before loading, so that none made during the load is missed
+        notificationManager.registerShardResetCallback(view.shardResetCallback);
+        notificationManager.registerCallback(view.notificationCallback);
+        view.start();
+        return view;
+    }
+
+    private OrderedShardMerge<ListResponse, String> internalMergedList(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            Optional<String> partitionKey,
+            OptionalInt limit,
+            ListConsumer consumer,
+            FlowControlledRangeScanConsumer flowControl) {
+        final Collection<Long> shardIds = shardIdsFor(partitionKey);
+        final Predicate<String> filter =
+                chunkedValues != null ? key -> !ChunkedValues.isChunkKey(key) : key -> true;
+        var merge =
+                new OrderedShardMerge<ListResponse, String>(
+                        AsyncOxiaClientImpl::keysOf,
+                        key -> key,
+                        sinkOf(consumer),
+                        flowControl,
+                        filter,
+                        limit.orElse(-1));
+        merge.start(
+                shardIds,
+                (shardId, observer) ->
+                        rpcProvider.list(listRequest(shardId, startKeyInclusive, endKeyExclusive), observer));
+        return merge;
+    }
+
+    @Override
+    public Flow.Publisher<String> listPublisher(
+            @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        return listPublisher(startKeyInclusive, endKeyExclusive, Collections.emptySet());
+    }
+
+    @Override
+    public Flow.Publisher<String> listPublisher(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull Set<ListOption> options) {
+        return Publishers.list(consumer -> list(startKeyInclusive, endKeyExclusive, consumer, options));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Page<String>> listPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken) {
+        return listPage(
+                startKeyInclusive, endKeyExclusive, pageSize, continuationToken, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Page<String>> listPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            @NonNull Set<ListOption> options) {
+        long startTime = System.nanoTime();
+        gaugePendingListRequests.increment();
+        CompletableFuture<Page<String>> callback;
+        OrderedShardMerge<ListResponse, String> merge = null;
+        try {
+            checkIfClosed();
+            Objects.requireNonNull(startKeyInclusive);
+            Objects.requireNonNull(endKeyExclusive);
+            checkPageSize(pageSize);
+            final Optional<String> secondaryIndex = OptionsUtils.getSecondaryIndexName(options);
+            if (secondaryIndex.isPresent()) {
+                throw new IllegalArgumentException("A paginated list can't use a secondary index");
+            }
+
+            final Collection<Long> shardIds = shardIdsFor(OptionsUtils.getPartitionKey(options));
+            final Map<Long, String> positions =
+                    ContinuationTokens.decode(
+                            continuationToken, startKeyInclusive, endKeyExclusive, secondaryIndex, shardIds);
+            final var collected = new CompletableFuture<List<String>>();
+            final var keys = new ArrayList<String>();
+            final var pageMerge =
+                    new OrderedShardMerge<ListResponse, String>(
+                            AsyncOxiaClientImpl::keysOf,
+                            key -> key,
+                            sinkOf(
+                                    new ListConsumer() {
+                                        @Override
+                                        public boolean onNext(String key) {
+                                            return keys.add(key);
+                                        }
+
+                                        @Override
+                                        public void onError(Throwable throwable) {
+                                            collected.completeExceptionally(throwable);
+                                        }
+
+                                        @Override
+                                        public void onCompleted() {
+                                            collected.complete(keys);
+                                        }
+                                    }),
+                            null,
+                            chunkedValues != null ? key -> !ChunkedValues.isChunkKey(key) : key -> true,
+                            pageSize);
+            pageMerge.start(
+                    positions,
+                    (shardId, observer) ->
+                            rpcProvider.list(
+                                    listRequest(
+                                            shardId,
+                                            Objects.requireNonNullElse(positions.get(shardId), startKeyInclusive),
+                                            endKeyExclusive),
+                                    observer));
+            merge = pageMerge;
+            callback =
+                    collected.thenApply(
+                            page ->
+                                    new Page<>(
+                                            page,
+                                            ContinuationTokens.encode(
+                                                    startKeyInclusive,
+                                                    endKeyExclusive,
+                                                    secondaryIndex,
+                                                    shardIds,
+                                                    pageMerge.resumePositions())));
+        } catch (Exception e) {
+            callback = CompletableFuture.failedFuture(e);
+        }
+        final var openMerge = merge;
+        return withDeadline(callback)
+                .whenComplete(
+                        (page, throwable) -> {
+                            gaugePendingListRequests.decrement();
+                            if (throwable == null) {
+                                counterListBytes.add(page.items().stream().mapToInt(String::length).sum());
+                                histogramListLatency.recordSuccess(System.nanoTime() - startTime);
+                            } else {
+                                if (openMerge != null) {
+                                    openMerge.cancel();
+                                }
+                                histogramListLatency.recordFailure(System.nanoTime() - startTime);
+                            }
+                        });
+    }
+
+    private Collection<Long> shardIdsFor(Optional<String> partitionKey) {
+        return partitionKey.isPresent()
+                ? List.of(shardManager.getShardForKey(partitionKey.get()))
+                : shardManager.allShardIds();
+    }
+
+    private static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0, was: " + pageSize);
+        }
+    }
+
+    private static ListRequest listRequest(
+            long shardId, String startKeyInclusive, String endKeyExclusive) {
+        var request = new ListRequest();
+        request.setShard(shardId).setStartInclusive(startKeyInclusive).setEndExclusive(endKeyExclusive);
+        return request;
+    }
+
+    private static OrderedShardMerge.Sink<String> sinkOf(ListConsumer consumer) {
+        return new OrderedShardMerge.Sink<>() {
+            @Override
+            public boolean onNext(String key) {
+                return consumer.onNext(key);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                consumer.onError(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+                consumer.onCompleted();
+            }
+        };
+    }
+
+    private static List<String> keysOf(ListResponse response) {
+        List<String> keys = new ArrayList<>(response.getKeysCount());
+        for (int i = 0; i < response.getKeysCount(); i++) {
+            keys.add(response.getKeyAt(i));
+        }
+        return keys;
+    }
+
+    private CompletableFuture<List<String>> internalListWithSecondaryIndex(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            Optional<String> partitionKey,
+            String secondaryIndex,
+            OptionalInt limit) {
+        CompletableFuture<List<String>> callback;
+        if (partitionKey.isPresent()) {
+            long shardId = shardManager.getShardForKey(partitionKey.get());
+            callback =
+                    internalShardlist(
+                            shardId, startKeyInclusive, endKeyExclusive, Optional.of(secondaryIndex));
+        } else {
+            callback =
+                    internalListMultiShards(
+                            startKeyInclusive, endKeyExclusive, Optional.of(secondaryIndex));
+        }
+        if (chunkedValues != null) {
+            callback =
+                    callback.thenApply(
+                            keys -> keys.stream().filter(k -> !ChunkedValues.isChunkKey(k)).toList());
+        }
+        if (limit.isPresent()) {
+            callback =
+                    callback.thenApply(
+                            keys ->
+                                    keys.size() > limit.getAsInt() ? keys.subList(0, limit.getAsInt()) : keys);
+        }
+        return callback;
+    }
 
     private CompletableFuture<List<String>> internalListMultiShards(
             String startKeyInclusive, String endKeyExclusive, Optional<String> secondaryIndex) {
@@ -812,24 +1940,189 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
             @NonNull String endKeyExclusive,
             @NonNull RangeScanConsumer consumer,
             @NonNull Set<RangeScanOption> options) {
+        rangeScan(startKeyInclusive, endKeyExclusive, consumer, options, null);
+    }
+
+    private void rangeScan(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull RangeScanConsumer consumer,
+            Set<RangeScanOption> options,
+            RangeScanOptions prepared) {
+        final RangeScanConsumer timedConsumer = timedRangeScanConsumer(consumer);
+        try {
+            checkIfClosed();
+            Objects.requireNonNull(startKeyInclusive);
+            Objects.requireNonNull(endKeyExclusive);
+
+            final var flowControl = consumer instanceof FlowControlledRangeScanConsumer fc ? fc : null;
+
+            final var scanOptions = prepared != null ? prepared : RangeScanOptions.parseFrom(options);
+            final Optional<String> partitionKey = scanOptions.partitionKey();
+            final Optional<String> secondaryIndexName = scanOptions.secondaryIndexName();
+            if (partitionKey.isPresent()) {
+                long shardId = shardManager.getShardForKey(partitionKey.get());
+                internalShardRangeScan(
+                        shardId,
+                        startKeyInclusive,
+                        endKeyExclusive,
+                        secondaryIndexName,
+                        RangeScanRecordSink.of(timedConsumer, valueCodec),
+                        flowControl);
+                return;
+            }
+            final Set<Long> shardIds = shardManager.allShardIds();
+            if (scanOptions.ordered()) {
+                if (secondaryIndexName.isPresent()) {
+                    throw new IllegalArgumentException(
+                            "An ordered range scan can't use a secondary index");
+                }
+                internalOrderedRangeScan(
+                        shardIds, startKeyInclusive, endKeyExclusive, timedConsumer, flowControl);
+                return;
+            }
+            final CompositeRangeScanConsumer multiShardConsumer =
+                    new CompositeRangeScanConsumer(shardIds.size(), timedConsumer);
+            for (Long shardId : shardIds) {
+                internalShardRangeScan(
+                        shardId,
+                        startKeyInclusive,
+                        endKeyExclusive,
+                        secondaryIndexName,
+                        RangeScanRecordSink.of(multiShardConsumer, valueCodec),
+                        flowControl);
+            }
+        } catch (Exception e) {
+            consumer.onError(e);
+        }
+    }
+
+    /** Records the range scan metrics, and resolves the chunked values, of a scan. */
+    private RangeScanConsumer timedRangeScanConsumer(RangeScanConsumer consumer) {
+        gaugePendingRangeScanRequests.increment();
+
+        final RangeScanConsumer delivered =
+                chunkedValues != null ? chunkedValues.resolving(consumer) : consumer;
+        return new RangeScanConsumer() {
+            final long startTime = System.nanoTime();
+            final AtomicLong totalSize = new AtomicLong();
+
+            @Override
+            public boolean onNext(GetResult result) {
+                totalSize.addAndGet(result.value().length);
+                return delivered.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                gaugePendingRangeScanRequests.decrement();
+                histogramRangeScanLatency.recordFailure(System.nanoTime() - startTime);
+                delivered.onError(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+                gaugePendingRangeScanRequests.decrement();
+                counterRangeScanBytes.add(totalSize.longValue());
+                histogramRangeScanLatency.recordSuccess(System.nanoTime() - startTime);
+                delivered.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * Scans a range of keys as a stream that splits by shard, each shard being scanned through its
+     * own flow-controlled stream once a split starts consuming it.
+     */
+    Stream<GetResult> rangeScanStream(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull Set<RangeScanOption> options,
+            @NonNull IteratorPrefetch prefetch) {
+        checkIfClosed();
+        final var scanOptions = RangeScanOptions.parseFrom(options);
+        final Optional<String> partitionKey = scanOptions.partitionKey();
+        if (scanOptions.ordered() && partitionKey.isEmpty()) {
+            // The ordered merge of the shards can't be split
+            var iterator = new GetResultIterator(prefetch);
+            rangeScan(startKeyInclusive, endKeyExclusive, iterator, options, scanOptions);
+            return StreamSupport.stream(
+                            Spliterators.spliteratorUnknownSize(
+                                    iterator, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL),
+                            false)
+                    .onClose(iterator::close);
+        }
+        final List<Long> shardIds =
+                partitionKey.isPresent()
+                        ? List.of(shardManager.getShardForKey(partitionKey.get()))
+                        : List.copyOf(shardManager.allShardIds());
+        return ShardSpliterator.stream(
+                shardIds,
+                prefetch,
+                (shardId, iterator) ->
+                        shardRangeScan(
+                                shardId,
+                                startKeyInclusive,
+                                endKeyExclusive,
+                                scanOptions.secondaryIndexName(),
+                                iterator));
+    }
+
+    private void shardRangeScan(
+            long shardId,
+            String startKeyInclusive,
+            String endKeyExclusive,
+            Optional<String> secondaryIndexName,
+            GetResultIterator iterator) {
+        final RangeScanConsumer timedConsumer = timedRangeScanConsumer(iterator);
+        try {
+            checkIfClosed();
+            internalShardRangeScan(
+                    shardId,
+                    startKeyInclusive,
+                    endKeyExclusive,
+                    secondaryIndexName,
+                    RangeScanRecordSink.of(timedConsumer, valueCodec),
+                    iterator);
+        } catch (Exception e) {
+            timedConsumer.onError(e);
+        }
+    }
+
+    @Override
+    public void rangeScanView(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull RangeScanViewConsumer consumer) {
+        rangeScanView(startKeyInclusive, endKeyExclusive, consumer, Collections.emptySet());
+    }
+
+    @Override
+    public void rangeScanView(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull RangeScanViewConsumer consumer,
+            @NonNull Set<RangeScanOption> options) {
         gaugePendingRangeScanRequests.increment();
 
-        final RangeScanConsumer timedConsumer =
-                new RangeScanConsumer() {
+        final RangeScanViewConsumer delivered =
+                chunkedValues != null ? chunkedValues.resolving(consumer) : consumer;
+        final RangeScanViewConsumer timedConsumer =
+                new RangeScanViewConsumer() {
                     final long startTime = System.nanoTime();
                     final AtomicLong totalSize = new AtomicLong();
 
                     @Override
-                    public boolean onNext(GetResult result) {
-                        totalSize.addAndGet(result.value().length);
-                        return consumer.onNext(result);
+                    public boolean onNext(GetResultView view) {
+                        totalSize.addAndGet(view.value().remaining());
+                        return delivered.onNext(view);
                     }
 
                     @Override
                     public void onError(Throwable throwable) {
                         gaugePendingRangeScanRequests.decrement();
                         histogramRangeScanLatency.recordFailure(System.nanoTime() - startTime);
-                        consumer.onError(throwable);
+                        delivered.onError(throwable);
                     }
 
                     @Override
@@ -837,7 +2130,7 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                         gaugePendingRangeScanRequests.decrement();
                         counterRangeScanBytes.add(totalSize.longValue());
                         histogramRangeScanLatency.recordSuccess(System.nanoTime() - startTime);
-                        consumer.onCompleted();
+                        delivered.onCompleted();
                     }
                 };
 
@@ -846,10 +2139,12 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
             Objects.requireNonNull(startKeyInclusive);
             Objects.requireNonNull(endKeyExclusive);
 
-            final var flowControl = consumer instanceof FlowControlledRangeScanConsumer fc ? fc : null;
-
-            final Optional<String> partitionKey = OptionsUtils.getPartitionKey(options);
-            final Optional<String> secondaryIndexName = OptionsUtils.getSecondaryIndexName(options);
+            final var scanOptions = RangeScanOptions.parseFrom(options);
+            final Optional<String> partitionKey = scanOptions.partitionKey();
+            final Optional<String> secondaryIndexName = scanOptions.secondaryIndexName();
+            if (scanOptions.ordered() && partitionKey.isEmpty()) {
+                throw new IllegalArgumentException("A range scan of views can't be ordered");
+            }
             if (partitionKey.isPresent()) {
                 long shardId = shardManager.getShardForKey(partitionKey.get());
                 internalShardRangeScan(
@@ -857,62 +2152,286 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
                         startKeyInclusive,
                         endKeyExclusive,
                         secondaryIndexName,
-                        timedConsumer,
-                        flowControl);
+                        RangeScanRecordSink.ofViews(timedConsumer, valueCodec),
+                        null);
                 return;
             }
             final Set<Long> shardIds = shardManager.allShardIds();
-            final CompositeRangeScanConsumer multiShardConsumer =
-                    new CompositeRangeScanConsumer(shardIds.size(), timedConsumer);
+            final CompositeRangeScanViewConsumer multiShardConsumer =
+                    new CompositeRangeScanViewConsumer(shardIds.size(), timedConsumer);
             for (Long shardId : shardIds) {
                 internalShardRangeScan(
                         shardId,
                         startKeyInclusive,
                         endKeyExclusive,
                         secondaryIndexName,
-                        multiShardConsumer,
-                        flowControl);
+                        RangeScanRecordSink.ofViews(multiShardConsumer, valueCodec),
+                        null);
             }
         } catch (Exception e) {
             consumer.onError(e);
         }
     }
 
+    private void internalOrderedRangeScan(
+            Collection<Long> shardIds,
+            String startKeyInclusive,
+            String endKeyExclusive,
+            RangeScanConsumer consumer,
+            FlowControlledRangeScanConsumer flowControl) {
+        var merge =
+                new OrderedShardMerge<RangeScanResponse, GetResult>(
+                        this::resultsOf, GetResult::key, sinkOf(consumer), flowControl, result -> true, -1);
+        merge.start(
+                shardIds,
+                (shardId, observer) ->
+                        rpcProvider.rangeScan(
+                                rangeScanRequest(shardId, startKeyInclusive, endKeyExclusive), observer));
+    }
+
+    @Override
+    public Flow.Publisher<GetResult> rangeScanPublisher(
+            @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        return rangeScanPublisher(startKeyInclusive, endKeyExclusive, Collections.emptySet());
+    }
+
+    @Override
+    public Flow.Publisher<GetResult> rangeScanPublisher(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull Set<RangeScanOption> options) {
+        return Publishers.rangeScan(
+                consumer -> rangeScan(startKeyInclusive, endKeyExclusive, consumer, options));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Page<GetResult>> rangeScanPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken) {
+        return rangeScanPage(
+                startKeyInclusive, endKeyExclusive, pageSize, continuationToken, Collections.emptySet());
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Page<GetResult>> rangeScanPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            @NonNull Set<RangeScanOption> options) {
+        long startTime = System.nanoTime();
+        gaugePendingRangeScanRequests.increment();
+        CompletableFuture<Page<GetResult>> callback;
+        OrderedShardMerge<RangeScanResponse, GetResult> merge = null;
+        try {
+            checkIfClosed();
+            Objects.requireNonNull(startKeyInclusive);
+            Objects.requireNonNull(endKeyExclusive);
+            checkPageSize(pageSize);
+            final var scanOptions = RangeScanOptions.parseFrom(options);
+            final Optional<String> secondaryIndex = scanOptions.secondaryIndexName();
+            if (secondaryIndex.isPresent()) {
+                throw new IllegalArgumentException(
+                        "A paginated range scan can't use a secondary index");
+            }
+
+            final Collection<Long> shardIds = shardIdsFor(scanOptions.partitionKey());
+            final Map<Long, String> positions =
+                    ContinuationTokens.decode(
+                            continuationToken, startKeyInclusive, endKeyExclusive, secondaryIndex, shardIds);
+            final var collected = new CompletableFuture<List<GetResult>>();
+            final var results = new ArrayList<GetResult>();
+            final RangeScanConsumer collector =
+                    new RangeScanConsumer() {
+                        @Override
+                        public boolean onNext(GetResult result) {
+                            return results.add(result);
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            collected.completeExceptionally(throwable);
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            collected.complete(results);
+                        }
+                    };
+            // The chunk records are filtered by the merge, so that they don't count toward the page
+            final var pageMerge =
+                    new OrderedShardMerge<RangeScanResponse, GetResult>(
+                            this::resultsOf,
+                            GetResult::key,
+                            sinkOf(chunkedValues != null ? chunkedValues.resolving(collector) : collector),
+                            null,
+                            chunkedValues != null
+                                    ? result -> !ChunkedValues.isChunkKey(result.key())
+                                    : result -> true,
+                            pageSize);
+            pageMerge.start(
+                    positions,
+                    (shardId, observer) ->
+                            rpcProvider.rangeScan(
+                                    rangeScanRequest(
+                                            shardId,
+                                            Objects.requireNonNullElse(positions.get(shardId), startKeyInclusive),
+                                            endKeyExclusive),
+                                    observer));
+            merge = pageMerge;
+            callback =
+                    collected.thenApply(
+                            page ->
+                                    new Page<>(
+                                            page,
+                                            ContinuationTokens.encode(
+                                                    startKeyInclusive,
+                                                    endKeyExclusive,
+                                                    secondaryIndex,
+                                                    shardIds,
+                                                    pageMerge.resumePositions())));
+        } catch (Exception e) {
+            callback = CompletableFuture.failedFuture(e);
+        }
+        final var openMerge = merge;
+        return withDeadline(callback)
+                .whenComplete(
+                        (page, throwable) -> {
+                            gaugePendingRangeScanRequests.decrement();
+                            if (throwable == null) {
+                                counterRangeScanBytes.add(
+                                        page.items().stream().mapToLong(r -> r.value().length).sum());
+                                histogramRangeScanLatency.recordSuccess(System.nanoTime() - startTime);
+                            } else {
+                                if (openMerge != null) {
+                                    openMerge.cancel();
+                                }
+                                histogramRangeScanLatency.recordFailure(System.nanoTime() - startTime);
+                            }
+                        });
+    }
+
+    /** The records are decoded as they arrive: they can't outlive the buffer of their response. */
+    private List<GetResult> resultsOf(RangeScanResponse response) {
+        List<GetResult> results = new ArrayList<>(response.getRecordsCount());
+        for (int i = 0; i < response.getRecordsCount(); i++) {
+            results.add(ProtoUtil.getResultFromProto("", response.getRecordAt(i), valueCodec));
+        }
+        return results;
+    }
+
+    private static RangeScanRequest rangeScanRequest(
+            long shardId, String startKeyInclusive, String endKeyExclusive) {
+        var request = new RangeScanRequest();
+        request.setShard(shardId).setStartInclusive(startKeyInclusive).setEndExclusive(endKeyExclusive);
+        return request;
+    }
+
+    private static OrderedShardMerge.Sink<GetResult> sinkOf(RangeScanConsumer consumer) {
+        return new OrderedShardMerge.Sink<>() {
+            @Override
+            public boolean onNext(GetResult result) {
+                return consumer.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                consumer.onError(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+                consumer.onCompleted();
+            }
+        };
+    }
+
     private void internalShardRangeScan(
             long shardId,
             String startKeyInclusive,
             String endKeyExclusive,
             Optional<String> secondaryIndexName,
-            RangeScanConsumer consumer,
+            RangeScanRecordSink sink,
             FlowControlledRangeScanConsumer flowControl) {
         var request = new RangeScanRequest();
         request.setShard(shardId).setStartInclusive(startKeyInclusive).setEndExclusive(endKeyExclusive);
         secondaryIndexName.ifPresent(request::setSecondaryIndexName);
-        var observer = new RangeScanShardObserver(consumer, flowControl);
+        var observer = new RangeScanShardObserver(sink, flowControl);
         rpcProvider.rangeScan(request, observer);
         if (flowControl != null) {
             flowControl.onStreamStarted(observer);
         }
     }
 
+    /**
+     * Receives the raw records of a single-shard range scan stream and converts them into what the
+     * consumer expects, so that the stream handling is shared by all the range scan flavors.
+     */
+    private interface RangeScanRecordSink {
+        boolean onRecord(GetResponse record);
+
+        void onError(Throwable throwable);
+
+        void onCompleted();
+
+        static RangeScanRecordSink of(RangeScanConsumer consumer, ValueCodec codec) {
+            return new RangeScanRecordSink() {
+                @Override
+                public boolean onRecord(GetResponse record) {
+                    return consumer.onNext(ProtoUtil.getResultFromProto("", record, codec));
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    consumer.onError(throwable);
+                }
+
+                @Override
+                public void onCompleted() {
+                    consumer.onCompleted();
+                }
+            };
+        }
+
+        static RangeScanRecordSink ofViews(RangeScanViewConsumer consumer, ValueCodec codec) {
+            return new RangeScanRecordSink() {
+                @Override
+                public boolean onRecord(GetResponse record) {
+                    return consumer.onNext(
+                            ProtoUtil.decodeValue(ProtoUtil.getResultViewFromProto("", record), codec));
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    consumer.onError(throwable);
+                }
+
+                @Override
+                public void onCompleted() {
+                    consumer.onCompleted();
+                }
+            };
+        }
+    }
+
     private static final class RangeScanShardObserver
             extends CancelableStreamObserver<RangeScanResponse>
             implements FlowControlledRangeScanConsumer.StreamHandle {
-        private final RangeScanConsumer consumer;
+        private final RangeScanRecordSink sink;
         private final FlowControlledRangeScanConsumer flowControl;
 
-        RangeScanShardObserver(
-                RangeScanConsumer consumer, FlowControlledRangeScanConsumer flowControl) {
+        RangeScanShardObserver(RangeScanRecordSink sink, FlowControlledRangeScanConsumer flowControl) {
             super(flowControl != null);
-            this.consumer = consumer;
+            this.sink = sink;
             this.flowControl = flowControl;
         }
 
         @Override
         protected void handleNext(RangeScanResponse response) {
             for (int i = 0; i < response.getRecordsCount(); i++) {
-                final boolean needNext =
-                        consumer.onNext(ProtoUtil.getResultFromProto("", response.getRecordAt(i)));
+                final boolean needNext = sink.onRecord(response.getRecordAt(i));
                 if (!needNext) {
                     cancelAndComplete();
                     return;
@@ -925,12 +2444,12 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
 
         @Override
         protected void handleError(Throwable t) {
-            consumer.onError(t);
+            sink.onError(t);
         }
 
         @Override
         protected void handleComplete() {
-            consumer.onCompleted();
+            sink.onCompleted();
         }
 
         @Override
@@ -963,8 +2482,18 @@ class AsyncOxiaClientImpl implements AsyncOxiaClient {
         // per-client write streams; the shared connections stay open for other clients.
         rpcProvider.close();
         if (ownsResources) {
+            timer.close();
             scheduledExecutor.shutdownNow();
         }
+        instrumentProvider.close();
+    }
+
+    /**
+     * Fail {@code future} with a {@link java.util.concurrent.TimeoutException} if it outlives the
+     * request timeout.
+     */
+    private <T> CompletableFuture<T> withDeadline(CompletableFuture<T> future) {
+        return timer.orTimeout(future, requestTimeoutMs, TimeUnit.MILLISECONDS);
     }
 
     private void checkIfClosed() {
@@ -0,0 +1,340 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static io.oxia.client.util.CompletableFutures.unwrapException;
+
+import io.github.merlimat.slog.Logger;
+import io.netty.buffer.ByteBufUtil;
+import io.oxia.client.api.BulkWriter;
+import io.oxia.client.api.PutResult;
+import io.oxia.client.api.ValueCodec;
+import io.oxia.client.batch.BatchManager;
+import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
+import io.oxia.client.metrics.Counter;
+import io.oxia.client.metrics.UpDownCounter;
+import io.oxia.client.options.PutOptions;
+import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.PendingBytesLimiter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import lombok.NonNull;
+
+/**
+ * The {@link BulkWriter} of {@link AsyncOxiaClientImpl}. The records are gathered per shard in the
+ * writing thread and each shard's {@link Group} is handed to the batching layer as a single command
+ * once it is full, or when the writer is flushed.
+ *
+ * <p>Instead of the future, timeout and metrics stages of a regular put, the callback of each
+ * record's operation is a {@link Slot} that only accounts for the record in its group, and reports
+ * it if it failed. The pending bytes are acquired once per group, before it is submitted, and
+ * released once all its records have completed. Requests that never get a response are failed by
+ * the request timeout of the write stream.
+ */
+final class BulkWriterImpl implements BulkWriter {
+
+    private static final Logger log = Logger.get(BulkWriterImpl.class);
+
+    private final ShardManager shardManager;
+    private final BatchManager writeBatchManager;
+    private final PendingBytesLimiter pendingBytesLimiter;
+    private final ValueCodec valueCodec;
+    private final ChunkedValues chunkedValues;
+    private final NearCache nearCache;
+    private final UpDownCounter gaugePendingPutRequests;
+    private final UpDownCounter gaugePendingPutBytes;
+    private final Counter counterPutBytes;
+    private final Runnable checkIfClosed;
+    private final PutOptions putOptions;
+    // A shard's group is submitted as soon as it would fill a write batch
+    private final int maxGroupRecords;
+    private final long maxGroupBytes;
+    private final BiConsumer<String, Throwable> failureCallback;
+
+    private final Map<Long, Group> groups = new HashMap<>();
+    private Generation generation = new Generation();
+    private CompletableFuture<Void> flushed = CompletableFuture.completedFuture(null);
+    private boolean closed;
+
+    BulkWriterImpl(
+            @NonNull ShardManager shardManager,
+            @NonNull BatchManager writeBatchManager,
+            @NonNull PendingBytesLimiter pendingBytesLimiter,
+            ValueCodec valueCodec,
+            ChunkedValues chunkedValues,
+            NearCache nearCache,
+            @NonNull UpDownCounter gaugePendingPutRequests,
+            @NonNull UpDownCounter gaugePendingPutBytes,
+            @NonNull Counter counterPutBytes,
+            @NonNull Runnable checkIfClosed,
+            @NonNull PutOptions putOptions,
+            int maxGroupRecords,
+            long maxGroupBytes,
+            @NonNull BiConsumer<String, Throwable> failureCallback) {
+        this.shardManager = shardManager;
+        this.writeBatchManager = writeBatchManager;
+        this.pendingBytesLimiter = pendingBytesLimiter;
+        this.valueCodec = valueCodec;
+        this.chunkedValues = chunkedValues;
+        this.nearCache = nearCache;
+        this.gaugePendingPutRequests = gaugePendingPutRequests;
+        this.gaugePendingPutBytes = gaugePendingPutBytes;
+        this.counterPutBytes = counterPutBytes;
+        this.checkIfClosed = checkIfClosed;
+        this.putOptions = putOptions;
+        this.maxGroupRecords = maxGroupRecords;
+        this.maxGroupBytes = maxGroupBytes;
+        this.failureCallback = failureCallback;
+    }
+
+    @Override
+    public void write(String key, byte[] value) {
+        if (closed) {
+            throw new IllegalStateException("Bulk writer has been closed");
+        }
+        checkIfClosed.run();
+        Objects.requireNonNull(key);
+        var buffer = ByteBuffer.wrap(Objects.requireNonNull(value));
+        if (valueCodec != null) {
+            buffer = valueCodec.encode(buffer);
+        }
+
+        long shardId = shardManager.getShardForKey(putOptions.routingKey(key));
+        var group = groups.get(shardId);
+        if (chunkedValues != null && chunkedValues.shouldChunk(buffer, putOptions)) {
+            // Submit the records written before this one on the shard, as its manifest can only be
+            // committed after its chunks
+            if (group != null) {
+                submit(group);
+            }
+            writeChunked(key, buffer);
+            return;
+        }
+
+        if (group == null) {
+            group = new Group(shardId, generation);
+            groups.put(shardId, group);
+        }
+        group.add(key, buffer);
+        if (group.operations.size() >= maxGroupRecords || group.bytes >= maxGroupBytes) {
+            submit(group);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        if (closed) {
+            return flushed;
+        }
+        groups.values().forEach(Group::submit);
+        groups.clear();
+
+        var sealed = generation;
+        generation = new Generation();
+        sealed.release();
+        flushed = CompletableFuture.allOf(flushed, sealed.future);
+        return flushed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        var done = flush();
+        closed = true;
+        try {
+            done.join();
+        } catch (CompletionException | CancellationException e) {
+            // The failed records have been reported to the failure callback
+        }
+    }
+
+    private void submit(Group group) {
+        groups.remove(group.shardId);
+        group.submit();
+    }
+
+    /** Large values are written through the chunked path, which acquires its own pending bytes. */
+    private void writeChunked(String key, ByteBuffer value) {
+        var owner = generation;
+        int valueSize = value.remaining();
+        owner.retain();
+        gaugePendingPutRequests.increment();
+        gaugePendingPutBytes.add(valueSize);
+
+        CompletableFuture<PutResult> future;
+        try {
+            future = chunkedValues.put(key, value, putOptions);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete(
+                (result, throwable) -> {
+                    recordCompleted(
+                            owner, key, valueSize, throwable != null ? unwrapException(throwable) : null);
+                    owner.release();
+                });
+    }
+
+    private void recordCompleted(Generation owner, String key, int valueSize, Throwable throwable) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        gaugePendingPutRequests.decrement();
+        gaugePendingPutBytes.add(-valueSize);
+        if (throwable == null) {
+            counterPutBytes.add(valueSize);
+            return;
+        }
+        owner.fail(throwable);
+        try {
+            failureCallback.accept(key, throwable);
+        } catch (RuntimeException e) {
+            log.warn().attr("key", key).exceptionMessage(e).log("Bulk writer failure callback failed");
+        }
+    }
+
+    /** The records written between two flushes, which complete the future of the second one. */
+    private final class Generation {
+        // One for each submitted group, plus one held until the generation is flushed
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        void retain() {
+            pending.incrementAndGet();
+        }
+
+        void fail(Throwable throwable) {
+            failure.compareAndSet(null, throwable);
+        }
+
+        void release() {
+            if (pending.decrementAndGet() == 0) {
+                var throwable = failure.get();
+                if (throwable == null) {
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(throwable);
+                }
+            }
+        }
+    }
+
+    /** The records of a shard that are submitted together. */
+    private final class Group {
+        private final long shardId;
+        private final Generation owner;
+        private final List<PutOperation> operations = new ArrayList<>();
+        private final AtomicInteger remaining = new AtomicInteger();
+        private long bytes;
+        private long valueBytes;
+        // Published to the completing threads by the hand-off to the batching layer
+        private long acquiredBytes;
+
+        Group(long shardId, Generation owner) {
+            this.shardId = shardId;
+            this.owner = owner;
+        }
+
+        void add(String key, ByteBuffer value) {
+            int valueSize = value.remaining();
+            operations.add(
+                    putOptions.toOperation(
+                            shardId,
+                            new Slot(this, key, valueSize),
+                            key,
+                            value,
+                            OptionalLong.empty(),
+                            Optional.empty()));
+            bytes += ByteBufUtil.utf8Bytes(key) + valueSize;
+            valueBytes += valueSize;
+        }
+
+        void submit() {
+            owner.retain();
+            remaining.set(operations.size());
+            gaugePendingPutRequests.add(operations.size());
+            gaugePendingPutBytes.add(valueBytes);
+            try {
+                // Blocks the writing thread while the client has too many pending bytes
+                pendingBytesLimiter.acquire(bytes);
+                acquiredBytes = bytes;
+                writeBatchManager.addAll(shardId, operations, putOptions.priority());
+            } catch (RuntimeException e) {
+                operations.forEach(operation -> operation.fail(e));
+            }
+        }
+
+        void completed(String key, int valueSize, Throwable throwable) {
+            recordCompleted(owner, key, valueSize, throwable);
+            if (remaining.decrementAndGet() == 0) {
+                if (acquiredBytes > 0) {
+                    pendingBytesLimiter.release(acquiredBytes);
+                }
+                owner.release();
+            }
+        }
+    }
+
+    /**
+     * The callback of a record's operation. It is completed by the batching layer like any other
+     * operation callback, but nothing is chained to it: it reports the record to its group directly,
+     * and does not keep the result.
+     */
+    private static final class Slot extends CompletableFuture<PutResult> {
+        private final Group group;
+        private final String key;
+        private final int valueSize;
+
+        Slot(Group group, String key, int valueSize) {
+            this.group = group;
+            this.key = key;
+            this.valueSize = valueSize;
+        }
+
+        @Override
+        public boolean complete(PutResult result) {
+            if (!super.complete(null)) {
+                return false;
+            }
+            group.completed(key, valueSize, null);
+            return true;
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+            if (!super.completeExceptionally(throwable)) {
+                return false;
+            }
+            group.completed(key, valueSize, throwable);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,599 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static io.oxia.client.util.CompletableFutures.unwrapException;
+
+import io.github.merlimat.slog.Logger;
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
+import io.oxia.client.api.PutResult;
+import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.api.RangeScanViewConsumer;
+import io.oxia.client.api.ValueCodec;
+import io.oxia.client.api.exceptions.UnexpectedVersionIdException;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
+import io.oxia.client.api.options.defs.OptionVersionId;
+import io.oxia.client.batch.BatchManager;
+import io.oxia.client.batch.Operation;
+import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
+import io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
+import io.oxia.client.options.DeleteOptions;
+import io.oxia.client.options.GetOptions;
+import io.oxia.client.options.PutOptions;
+import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.PendingBytesLimiter;
+import io.oxia.proto.KeyComparisonType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.NonNull;
+
+/**
+ * Splits the values larger than the chunk size into chunk records, so that a large value does not
+ * hold up, inside a single batch, the operations queued behind it on the same shard.
+ *
+ * <p>The chunks are written under unique keys in the {@value #CHUNK_KEY_PREFIX} namespace, routed
+ * like the record itself so that they live on its shard, then the record is written with a small
+ * manifest as value. The manifest is committed conditionally on the version that was read before
+ * writing the chunks, so that the chunks of the manifest it replaced can be deleted. Readers fetch
+ * the chunks listed in the manifest in parallel; when a chunk is missing (the record was replaced
+ * in between), the record is read again.
+ */
+final class ChunkedValues {
+
+    private static final Logger log = Logger.get(ChunkedValues.class);
+
+    static final String CHUNK_KEY_PREFIX = "__oxia_chunks/";
+
+    // 0xF5 never appears in UTF-8 text, so textual values cannot be mistaken for a manifest
+    private static final byte[] MAGIC = {(byte) 0xF5, 'O', 'X', 'C'};
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final int chunkSize;
+    private final ShardManager shardManager;
+    private final BatchManager readBatchManager;
+    private final BatchManager writeBatchManager;
+    private final PendingBytesLimiter pendingBytesLimiter;
+    private final ValueCodec valueCodec;
+
+    ChunkedValues(
+            int chunkSize,
+            @NonNull ShardManager shardManager,
+            @NonNull BatchManager readBatchManager,
+            @NonNull BatchManager writeBatchManager,
+            @NonNull PendingBytesLimiter pendingBytesLimiter,
+            ValueCodec valueCodec) {
+        this.chunkSize = chunkSize;
+        this.shardManager = shardManager;
+        this.readBatchManager = readBatchManager;
+        this.writeBatchManager = writeBatchManager;
+        this.pendingBytesLimiter = pendingBytesLimiter;
+        this.valueCodec = valueCodec;
+    }
+
+    /** Ephemeral records and records with sequence keys are always written as a single record. */
+    boolean shouldChunk(ByteBuffer value, PutOptions options) {
+        return value.remaining() > chunkSize
+                && !options.ephemeral()
+                && options.sequenceKeysDeltas().isEmpty();
+    }
+
+    /**
+     * Submits the chunks of {@code value} from the calling thread, acquiring the pending bytes one
+     * chunk at a time, then commits the manifest once all the chunks are written.
+     */
+    CompletableFuture<PutResult> put(String key, ByteBuffer value, PutOptions options) {
+        String routingKey = options.routingKey(key);
+        long shardId = shardManager.getShardForKey(routingKey);
+        int chunks = (value.remaining() + chunkSize - 1) / chunkSize;
+        var manifest =
+                new Manifest(routingKey, UUID.randomUUID().toString(), chunks, value.remaining());
+        var previous = readRaw(shardId, key);
+
+        var chunkOptions =
+                new PutOptions(
+                        Optional.of(routingKey),
+                        OptionalLong.empty(),
+                        Optional.empty(),
+                        List.of(),
+                        OptionalLong.empty(),
+                        OptionalLong.empty(),
+                        false);
+        List<CompletableFuture<PutResult>> written = new ArrayList<>(chunks);
+        try {
+            for (int i = 0; i < chunks; i++) {
+                int offset = value.position() + i * chunkSize;
+                int length = Math.min(chunkSize, value.limit() - offset);
+                pendingBytesLimiter.acquire(length);
+                var future = new CompletableFuture<PutResult>();
+                written.add(future.whenComplete((r, ex) -> pendingBytesLimiter.release(length)));
+                writeBatchManager.add(
+                        chunkOptions.toOperation(
+                                shardId,
+                                future,
+                                manifest.chunkKey(i),
+                                value.slice(offset, length),
+                                OptionalLong.empty(),
+                                Optional.empty()),
+                        options.priority());
+            }
+        } catch (RuntimeException e) {
+            // Complete only once the submitted chunks no longer reference the value
+            return allOf(written)
+                    .handle(
+                            (v, ex) -> {
+                                deleteChunks(shardId, manifest, written.size());
+                                throw e;
+                            });
+        }
+        return allOf(written)
+                .thenCompose(v -> commit(shardId, key, manifest, options, previous, 1))
+                .whenComplete(
+                        (result, ex) -> {
+                            if (ex != null) {
+                                deleteChunks(shardId, manifest, chunks);
+                            }
+                        });
+    }
+
+    private CompletableFuture<PutResult> commit(
+            long shardId,
+            String key,
+            Manifest manifest,
+            PutOptions options,
+            CompletableFuture<GetResult> previous,
+            int attempt) {
+        return previous.thenCompose(
+                current -> {
+                    var commitOptions =
+                            options.expectedVersionId().isPresent()
+                                    ? options
+                                    : options.withExpectedVersionId(
+                                            current != null
+                                                    ? current.version().versionId()
+                                                    : OptionVersionId.KEY_NOT_EXISTS);
+                    var future = new CompletableFuture<PutResult>();
+                    writeBatchManager.add(
+                            commitOptions.toOperation(
+                                    shardId,
+                                    future,
+                                    key,
+                                    ByteBuffer.wrap(manifest.serialize()),
+                                    OptionalLong.empty(),
+                                    Optional.empty()),
+                            options.priority());
+                    return future
+                            .handle(
+                                    (result, ex) -> {
+                                        if (ex == null) {
+                                            deleteChunksOf(current);
+                                            return CompletableFuture.completedFuture(result);
+                                        }
+                                        if (isRetryable(ex, options.expectedVersionId(), attempt)) {
+                                            return commit(
+                                                    shardId, key, manifest, options, readRaw(shardId, key), attempt + 1);
+                                        }
+                                        return CompletableFuture.<PutResult>failedFuture(unwrapException(ex));
+                                    })
+                            .thenCompose(Function.identity());
+                });
+    }
+
+    /**
+     * Deletes {@code key} and, when it holds a manifest, its chunks. An unconditional delete is made
+     * conditional on the manifest that was read, so that only the chunks of the deleted manifest are
+     * dropped.
+     */
+    CompletableFuture<Boolean> delete(long shardId, String key, DeleteOptions options) {
+        return delete(shardId, key, options, 1);
+    }
+
+    private CompletableFuture<Boolean> delete(
+            long shardId, String key, DeleteOptions options, int attempt) {
+        return readRaw(shardId, key)
+                .thenCompose(
+                        current -> {
+                            var manifest = current != null ? Manifest.parse(current.value()) : null;
+                            var expectedVersionId = options.expectedVersionId();
+                            if (manifest != null && expectedVersionId.isEmpty()) {
+                                expectedVersionId = OptionalLong.of(current.version().versionId());
+                            }
+                            var future = new CompletableFuture<Boolean>();
+                            writeBatchManager.add(
+                                    new DeleteOperation(shardId, future, key, expectedVersionId),
+                                    options.priority());
+                            return future
+                                    .handle(
+                                            (deleted, ex) -> {
+                                                if (ex == null) {
+                                                    if (deleted) {
+                                                        deleteChunksOf(current);
+                                                    }
+                                                    return CompletableFuture.completedFuture(deleted);
+                                                }
+                                                if (isRetryable(ex, options.expectedVersionId(), attempt)) {
+                                                    return delete(shardId, key, options, attempt + 1);
+                                                }
+                                                return CompletableFuture.<Boolean>failedFuture(unwrapException(ex));
+                                            })
+                                    .thenCompose(Function.identity());
+                        });
+    }
+
+    /**
+     * Replaces a manifest by the value it refers to, decoded with the value codec. Any other record
+     * is returned as-is. Completes with {@code null} if the record was deleted in the meantime.
+     */
+    CompletableFuture<GetResult> resolve(GetResult result) {
+        return resolve(result, 1);
+    }
+
+    private CompletableFuture<GetResult> resolve(GetResult result, int attempt) {
+        var manifest = result != null ? Manifest.parse(result.value()) : null;
+        if (manifest == null) {
+            return CompletableFuture.completedFuture(result);
+        }
+        long shardId = shardManager.getShardForKey(manifest.routingKey());
+        List<CompletableFuture<GetResult>> chunks = new ArrayList<>(manifest.chunks());
+        for (int i = 0; i < manifest.chunks(); i++) {
+            chunks.add(readRaw(shardId, manifest.chunkKey(i)));
+        }
+        return allOf(chunks)
+                .thenCompose(
+                        v -> {
+                            byte[] value = assemble(manifest, chunks);
+                            if (value != null) {
+                                var assembled = new GetResult(result.key(), value, result.version());
+                                return CompletableFuture.completedFuture(
+                                        ProtoUtil.decodeValue(assembled, valueCodec));
+                            }
+                            if (attempt >= MAX_ATTEMPTS) {
+                                return CompletableFuture.failedFuture(
+                                        new IllegalStateException(
+                                                "Chunks of the value of '" + result.key() + "' are missing"));
+                            }
+                            // The record was replaced or deleted since its manifest was read
+                            return readRaw(shardManager.getShardForKey(manifest.routingKey()), result.key())
+                                    .thenApply(r -> ProtoUtil.decodeValue(r, valueCodec))
+                                    .thenCompose(r -> resolve(r, attempt + 1));
+                        });
+    }
+
+    /**
+     * Resolves the manifests of a {@code getAll()} result. The records deleted in the meantime are
+     * dropped from the result.
+     */
+    CompletableFuture<Map<String, GetResult>> resolveAll(Map<String, GetResult> results) {
+        List<CompletableFuture<GetResult>> resolved = new ArrayList<>(results.size());
+        for (GetResult result : results.values()) {
+            resolved.add(resolve(result));
+        }
+        return allOf(resolved)
+                .thenApply(
+                        v -> {
+                            Map<String, GetResult> map = new LinkedHashMap<>();
+                            for (var future : resolved) {
+                                var result = future.join();
+                                if (result != null) {
+                                    map.put(result.key(), result);
+                                }
+                            }
+                            return map;
+                        });
+    }
+
+    /** Same as {@link #resolve(GetResult)}, the view is closed when it is replaced. */
+    CompletableFuture<GetResultView> resolve(GetResultView view) {
+        if (view == null || !isManifest(view.value())) {
+            return CompletableFuture.completedFuture(view);
+        }
+        GetResult result;
+        try (view) {
+            result = view.toGetResult();
+        }
+        return resolve(result)
+                .thenApply(
+                        r ->
+                                r != null
+                                        ? new DecodedGetResultView(r.key(), ByteBuffer.wrap(r.value()), r.version())
+                                        : null);
+    }
+
+    /**
+     * Wraps a range scan consumer so that manifests are resolved before being delivered and chunk
+     * records are skipped. Records are still delivered one at a time and in order.
+     */
+    RangeScanConsumer resolving(RangeScanConsumer consumer) {
+        var delivery =
+                new OrderedDelivery<GetResult>(
+                        r -> isChunkKey(r.key()) ? CompletableFuture.completedFuture(null) : resolve(r),
+                        consumer::onNext,
+                        r -> {},
+                        consumer::onError,
+                        consumer::onCompleted);
+        return new RangeScanConsumer() {
+            @Override
+            public boolean onNext(GetResult result) {
+                return delivery.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                delivery.onError(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+                delivery.onCompleted();
+            }
+        };
+    }
+
+    RangeScanViewConsumer resolving(RangeScanViewConsumer consumer) {
+        var delivery =
+                new OrderedDelivery<GetResultView>(
+                        v -> {
+                            if (isChunkKey(v.key())) {
+                                v.close();
+                                return CompletableFuture.completedFuture(null);
+                            }
+                            return resolve(v);
+                        },
+                        consumer::onNext,
+                        GetResultView::close,
+                        consumer::onError,
+                        consumer::onCompleted);
+        return new RangeScanViewConsumer() {
+            @Override
+            public boolean onNext(GetResultView view) {
+                return delivery.onNext(view);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                delivery.onError(throwable);
+            }
+
+            @Override
+            public void onCompleted() {
+                delivery.onCompleted();
+            }
+        };
+    }
+
+    static boolean isChunkKey(String key) {
+        return key.startsWith(CHUNK_KEY_PREFIX);
+    }
+
+    static boolean isManifest(ByteBuffer value) {
+        if (value.remaining() < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (value.get(value.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CompletableFuture<GetResult> readRaw(long shardId, String key) {
+        var future = new CompletableFuture<GetResult>();
+        readBatchManager.add(
+                new GetOperation(
+                        shardId, future, key, new GetOptions(null, true, KeyComparisonType.EQUAL, null)));
+        return future;
+    }
+
+    private void deleteChunksOf(GetResult replaced) {
+        var manifest = replaced != null ? Manifest.parse(replaced.value()) : null;
+        if (manifest != null) {
+            deleteChunks(shardManager.getShardForKey(manifest.routingKey()), manifest, manifest.chunks());
+        }
+    }
+
+    private void deleteChunks(long shardId, Manifest manifest, int chunks) {
+        List<Operation<?>> deletes = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            var future = new CompletableFuture<Boolean>();
+            String chunkKey = manifest.chunkKey(i);
+            future.exceptionally(
+                    ex -> {
+                        log.warn()
+                                .attr("key", chunkKey)
+                                .exceptionMessage(ex)
+                                .log("Failed to delete the chunk of a replaced value");
+                        return false;
+                    });
+            deletes.add(new DeleteOperation(shardId, future, chunkKey, OptionalLong.empty()));
+        }
+        if (!deletes.isEmpty()) {
+            // Nobody waits for the cleanup: keep it out of the way of interactive operations
+            writeBatchManager.addAll(shardId, deletes, Priority.Bulk);
+        }
+    }
+
+    private static boolean isRetryable(
+            Throwable ex, OptionalLong userExpectedVersionId, int attempt) {
+        return userExpectedVersionId.isEmpty()
+                && attempt < MAX_ATTEMPTS
+                && unwrapException(ex) instanceof UnexpectedVersionIdException;
+    }
+
+    /**
+     * @return the value, or {@code null} if a chunk is missing
+     */
+    private static byte[] assemble(Manifest manifest, List<CompletableFuture<GetResult>> chunks) {
+        byte[] value = new byte[(int) manifest.length()];
+        int offset = 0;
+        for (var chunk : chunks) {
+            GetResult result = chunk.join();
+            if (result == null) {
+                return null;
+            }
+            byte[] bytes = result.value();
+            if (bytes.length > value.length - offset) {
+                throw new IllegalStateException("Chunk " + result.key() + " exceeds the value length");
+            }
+            System.arraycopy(bytes, 0, value, offset, bytes.length);
+            offset += bytes.length;
+        }
+        if (offset != value.length) {
+            throw new IllegalStateException("Chunks of " + manifest.writeId() + " are truncated");
+        }
+        return value;
+    }
+
+    private static <T> CompletableFuture<Void> allOf(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * The value of a record whose actual value is split into {@code chunks} records.
+     *
+     * @param routingKey the key the record and its chunks are routed by
+     * @param writeId identifies the chunks of this write among those of the other writes of the key
+     */
+    record Manifest(String routingKey, String writeId, int chunks, long length) {
+
+        String chunkKey(int index) {
+            return CHUNK_KEY_PREFIX + writeId + "/" + index;
+        }
+
+        byte[] serialize() {
+            byte[] routingKeyBytes = routingKey.getBytes(StandardCharsets.UTF_8);
+            byte[] writeIdBytes = writeId.getBytes(StandardCharsets.UTF_8);
+            var buffer =
+                    ByteBuffer.allocate(
+                            MAGIC.length + 4 + 8 + 4 + routingKeyBytes.length + 4 + writeIdBytes.length);
+            buffer.put(MAGIC).putInt(chunks).putLong(length);
+            buffer.putInt(routingKeyBytes.length).put(routingKeyBytes);
+            buffer.putInt(writeIdBytes.length).put(writeIdBytes);
+            return buffer.array();
+        }
+
+        /**
+         * @return the manifest, or {@code null} if {@code value} is not a well-formed manifest
+         */
+        static Manifest parse(byte[] value) {
+            var buffer = ByteBuffer.wrap(value);
+            if (!isManifest(buffer) || value.length < MAGIC.length + 4 + 8 + 4) {
+                return null;
+            }
+            buffer.position(MAGIC.length);
+            int chunks = buffer.getInt();
+            long length = buffer.getLong();
+            if (chunks <= 0 || length < chunks || length > Integer.MAX_VALUE) {
+                return null;
+            }
+            String routingKey = readString(buffer);
+            String writeId = routingKey != null ? readString(buffer) : null;
+            if (writeId == null || buffer.hasRemaining()) {
+                return null;
+            }
+            return new Manifest(routingKey, writeId, chunks, length);
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            if (buffer.remaining() < 4) {
+                return null;
+            }
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                return null;
+            }
+            var string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return string;
+        }
+    }
+
+    /**
+     * Delivers the records of a range scan in order while their resolution completes asynchronously,
+     * and the completion signal after the last of them.
+     */
+    private static final class OrderedDelivery<T> {
+        private final Function<T, CompletableFuture<T>> resolver;
+        private final Predicate<T> onNext;
+        private final Consumer<T> discard;
+        private final Consumer<Throwable> onError;
+        private final Runnable onCompleted;
+
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        private volatile boolean stopped;
+
+        OrderedDelivery(
+                Function<T, CompletableFuture<T>> resolver,
+                Predicate<T> onNext,
+                Consumer<T> discard,
+                Consumer<Throwable> onError,
+                Runnable onCompleted) {
+            this.resolver = resolver;
+            this.onNext = onNext;
+            this.discard = discard;
+            this.onError = onError;
+            this.onCompleted = onCompleted;
+        }
+
+        synchronized boolean onNext(T record) {
+            if (stopped || tail.isCompletedExceptionally()) {
+                discard.accept(record);
+                return false;
+            }
+            var resolved = resolver.apply(record);
+            tail =
+                    tail.thenCombine(resolved, (v, r) -> r)
+                            .thenAccept(
+                                    r -> {
+                                        if (r == null) {
+                                            return;
+                                        }
+                                        if (stopped) {
+                                            discard.accept(r);
+                                        } else if (!onNext.test(r)) {
+                                            stopped = true;
+                                        }
+                                    });
+            return true;
+        }
+
+        synchronized void onError(Throwable throwable) {
+            tail.whenComplete((v, ex) -> onError.accept(throwable));
+        }
+
+        synchronized void onCompleted() {
+            tail.whenComplete(
+                    (v, ex) -> {
+                        if (ex != null) {
+                            onError.accept(unwrapException(ex));
+                        } else {
+                            onCompleted.run();
+                        }
+                    });
+        }
+    }
+}
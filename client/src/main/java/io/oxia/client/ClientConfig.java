@@ -17,6 +17,9 @@ package io.oxia.client;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.oxia.client.api.Authentication;
+import io.oxia.client.api.BatcherWaitStrategy;
+import io.oxia.client.api.MetricsLevel;
+import io.oxia.client.api.ValueCodec;
 import java.time.Duration;
 import javax.annotation.Nullable;
 import lombok.NonNull;
@@ -40,4 +43,65 @@ public record ClientConfig(
         @NonNull Duration connectionBackoffMaxDelay,
         Duration connectionKeepAliveTime,
         Duration connectionKeepAliveTimeout,
-        int maxConnectionPerNode) {}
+        int maxConnectionPerNode,
+        @NonNull MetricsLevel metricsLevel,
+        @NonNull BatcherWaitStrategy batcherWaitStrategy,
+        @NonNull Duration maxBatchLinger,
+        int minAdaptiveBatchesInFlight,
+        int maxAdaptiveBatchesInFlight,
+        boolean coalescePuts,
+        long nearCacheMaxBytes,
+        @Nullable ValueCodec valueCodec,
+        int valueChunkSize) {
+
+    public ClientConfig(
+            @NonNull String serviceAddress,
+            @NonNull Duration requestTimeout,
+            int maxRequestsPerBatch,
+            int maxBatchSize,
+            long maxPendingBytes,
+            int maxWriteBatchesInFlight,
+            int maxReadBatchesInFlight,
+            int batchingThreads,
+            @NonNull Duration sessionTimeout,
+            @NonNull String clientIdentifier,
+            OpenTelemetry openTelemetry,
+            @NonNull String namespace,
+            @Nullable Authentication authentication,
+            boolean enableTls,
+            @NonNull Duration connectionBackoffMinDelay,
+            @NonNull Duration connectionBackoffMaxDelay,
+            Duration connectionKeepAliveTime,
+            Duration connectionKeepAliveTimeout,
+            int maxConnectionPerNode) {
+        this(
+                serviceAddress,
+                requestTimeout,
+                maxRequestsPerBatch,
+                maxBatchSize,
+                maxPendingBytes,
+                maxWriteBatchesInFlight,
+                maxReadBatchesInFlight,
+                batchingThreads,
+                sessionTimeout,
+                clientIdentifier,
+                openTelemetry,
+                namespace,
+                authentication,
+                enableTls,
+                connectionBackoffMinDelay,
+                connectionBackoffMaxDelay,
+                connectionKeepAliveTime,
+                connectionKeepAliveTimeout,
+                maxConnectionPerNode,
+                MetricsLevel.DETAILED,
+                BatcherWaitStrategy.BLOCKING,
+                Duration.ZERO,
+                0,
+                0,
+                false,
+                0L,
+                null,
+                0);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes where each shard stopped in a paginated list or range scan, so that the next page resumes
+ * every shard exactly where the previous one left it instead of scanning the range again.
+ *
+ * <p>The token records the state of every shard the scan covers: not started, resumed after a given
+ * key, or done. It is an opaque, URL-safe string, only valid for the range and the secondary index
+ * it was issued for, which it records as well.
+ */
+@UtilityClass
+class ContinuationTokens {
+
+    private static final byte VERSION = 2;
+
+    private static final byte FROM_START = 0;
+    private static final byte AFTER_KEY = 1;
+    private static final byte DONE = 2;
+
+    /**
+     * @param startKeyInclusive the start of the range of the scan
+     * @param endKeyExclusive the end of the range of the scan
+     * @param secondaryIndexName the secondary index of the scan, if any
+     * @param shardIds all the shards covered by the scan
+     * @param positions the shards that may have more items, with the key to resume them after, or
+     *     null to resume them from the start
+     * @return the token, or empty if every shard is done
+     */
+    static Optional<String> encode(
+            String startKeyInclusive,
+            String endKeyExclusive,
+            Optional<String> secondaryIndexName,
+            Collection<Long> shardIds,
+            Map<Long, String> positions) {
+        if (positions.isEmpty()) {
+            return Optional.empty();
+        }
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, startKeyInclusive);
+            writeString(out, endKeyExclusive);
+            out.writeBoolean(secondaryIndexName.isPresent());
+            if (secondaryIndexName.isPresent()) {
+                writeString(out, secondaryIndexName.get());
+            }
+            out.writeInt(shardIds.size());
+            for (long shardId : new TreeSet<>(shardIds)) {
+                out.writeLong(shardId);
+                if (!positions.containsKey(shardId)) {
+                    out.writeByte(DONE);
+                } else if (positions.get(shardId) == null) {
+                    out.writeByte(FROM_START);
+                } else {
+                    out.writeByte(AFTER_KEY);
+                    writeString(out, positions.get(shardId));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Optional.of(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray()));
+    }
+
+    /**
+     * @param token the token returned with the previous page, or null for the first page
+     * @param startKeyInclusive the start of the range of the scan
+     * @param endKeyExclusive the end of the range of the scan
+     * @param secondaryIndexName the secondary index of the scan, if any
+     * @param shardIds all the shards covered by the scan
+     * @return the shards that still have to be scanned, with the key to resume them after, or null to
+     *     scan them from the start
+     * @throws IllegalArgumentException if the token is malformed, or was issued for another range or
+     *     secondary index
+     * @throws IllegalStateException if the shards have changed since the token was issued
+     */
+    static Map<Long, String> decode(
+            String token,
+            String startKeyInclusive,
+            String endKeyExclusive,
+            Optional<String> secondaryIndexName,
+            Collection<Long> shardIds) {
+        Map<Long, String> positions = new HashMap<>();
+        if (token == null) {
+            shardIds.forEach(shardId -> positions.put(shardId, null));
+            return positions;
+        }
+
+        String tokenStartKey;
+        String tokenEndKey;
+        String tokenIndexName = null;
+        Set<Long> tokenShardIds = new HashSet<>();
+        try (var in =
+                new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version: " + version);
+            }
+            tokenStartKey = readString(in);
+            tokenEndKey = readString(in);
+            if (in.readBoolean()) {
+                tokenIndexName = readString(in);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long shardId = in.readLong();
+                tokenShardIds.add(shardId);
+                byte state = in.readByte();
+                switch (state) {
+                    case FROM_START -> positions.put(shardId, null);
+                    case AFTER_KEY -> positions.put(shardId, readString(in));
+                    case DONE -> {}
+                    default -> throw new IOException("Unknown shard state: " + state);
+                }
+            }
+            if (in.available() > 0) {
+                throw new IOException("Trailing bytes");
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+
+        if (!tokenStartKey.equals(startKeyInclusive)
+                || !tokenEndKey.equals(endKeyExclusive)
+                || !Objects.equals(tokenIndexName, secondaryIndexName.orElse(null))) {
+            throw new IllegalArgumentException(
+                    "The continuation token was issued for the range ["
+                            + tokenStartKey
+                            + ", "
+                            + tokenEndKey
+                            + ")"
+                            + (tokenIndexName != null ? " of the secondary index " + tokenIndexName : "")
+                            + ", not for this one");
+        }
+
+        if (!tokenShardIds.equals(new HashSet<>(shardIds))) {
+            throw new IllegalStateException(
+                    "The shards have changed since the continuation token was issued");
+        }
+        return positions;
+    }
+
+    // Keys can be longer than the 64KB that DataOutputStream#writeUTF supports
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
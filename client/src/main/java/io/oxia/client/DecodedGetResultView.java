@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
+import io.oxia.client.api.Version;
+import java.nio.ByteBuffer;
+import lombok.NonNull;
+
+/**
+ * {@link GetResultView} over a value decoded by a {@link io.oxia.client.api.ValueCodec}. The
+ * decoded value lives on the heap, so the view does not hold any received message.
+ */
+final class DecodedGetResultView implements GetResultView {
+
+    private final String key;
+    private final Version version;
+    private ByteBuffer value;
+    private boolean closed;
+
+    DecodedGetResultView(@NonNull String key, @NonNull ByteBuffer value, @NonNull Version version) {
+        this.key = key;
+        this.value = value.asReadOnlyBuffer();
+        this.version = version;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public ByteBuffer value() {
+        ensureOpen();
+        return value;
+    }
+
+    @Override
+    public long versionId() {
+        ensureOpen();
+        return version.versionId();
+    }
+
+    @Override
+    public long modificationsCount() {
+        ensureOpen();
+        return version.modificationsCount();
+    }
+
+    @Override
+    public Version version() {
+        ensureOpen();
+        return version;
+    }
+
+    @Override
+    public GetResult toGetResult() {
+        ensureOpen();
+        byte[] bytes = new byte[value.remaining()];
+        value.get(value.position(), bytes);
+        return new GetResult(key, bytes, version);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        value = null;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The view over '" + key + "' has been closed");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GetResultView[key=" + key + ", closed=" + closed + "]";
+    }
+}
@@ -22,6 +22,9 @@ package io.oxia.client;
  * been delivered, the stream is paused until the consumer requests the next response through the
  * stream handle. This lets a slow consumer apply backpressure to the server instead of blocking the
  * gRPC transport threads.
+ *
+ * <p>For an ordered range scan, and for the {@link io.oxia.client.api.ListConsumer}s of a streaming
+ * list, all the shard streams are merged behind a single handle.
  */
 interface FlowControlledRangeScanConsumer {
 
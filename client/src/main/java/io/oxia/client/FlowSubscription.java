@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Flow;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * The {@link Flow.Subscription} of a publisher fed by a push source: the items are buffered as they
+ * are pushed, and delivered to the subscriber as it requests them.
+ *
+ * <p>All the signals to the subscriber are issued by a single drainer at a time, outside of the
+ * lock, so that the subscriber can request or cancel from within its callbacks. The source is
+ * throttled through {@link #onDemand()}, invoked whenever the buffer has been drained while the
+ * subscriber still has an outstanding demand.
+ *
+ * @param <T> the type of the items
+ */
+abstract class FlowSubscription<T> implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super T> subscriber;
+
+    @GuardedBy("this")
+    private final Deque<T> buffer = new ArrayDeque<>();
+
+    @GuardedBy("this")
+    private long demand;
+
+    @GuardedBy("this")
+    private boolean completed;
+
+    @GuardedBy("this")
+    private Throwable error;
+
+    @GuardedBy("this")
+    private boolean cancelled;
+
+    @GuardedBy("this")
+    private boolean terminated;
+
+    @GuardedBy("this")
+    private boolean draining;
+
+    @GuardedBy("this")
+    private boolean drainAgain;
+
+    FlowSubscription(Flow.Subscriber<? super T> subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    /** Invoked, outside of the lock, when the subscriber is waiting for more items. */
+    protected abstract void onDemand();
+
+    /** Invoked once, outside of the lock, when the subscription is cancelled or has failed. */
+    protected abstract void onCancel();
+
+    /** Whether all the items pushed so far have been delivered, with an outstanding demand. */
+    final synchronized boolean isWaiting() {
+        return !terminated && buffer.isEmpty() && demand > 0;
+    }
+
+    /** Whether no more signals will be delivered to the subscriber. */
+    final synchronized boolean isTerminated() {
+        return terminated;
+    }
+
+    final synchronized int buffered() {
+        return buffer.size();
+    }
+
+    /** Pushes an item. Returns false once no more items are wanted. */
+    final boolean push(T item) {
+        synchronized (this) {
+            if (cancelled || completed || error != null) {
+                return false;
+            }
+            buffer.add(item);
+        }
+        drain();
+        return true;
+    }
+
+    final void complete() {
+        synchronized (this) {
+            if (completed || error != null) {
+                return;
+            }
+            completed = true;
+        }
+        drain();
+    }
+
+    final void fail(Throwable throwable) {
+        synchronized (this) {
+            if (completed || error != null) {
+                return;
+            }
+            error = throwable;
+            // The items not yet delivered are dropped: the error is signalled right away
+            buffer.clear();
+        }
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            fail(new IllegalArgumentException("The requested number of items must be positive: " + n));
+            return;
+        }
+        synchronized (this) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            buffer.clear();
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+        }
+        onCancel();
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                drainAgain = true;
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            T item = null;
+            boolean complete = false;
+            Throwable failure = null;
+            boolean waiting = false;
+            synchronized (this) {
+                drainAgain = false;
+                if (terminated) {
+                    draining = false;
+                    return;
+                }
+                if (error != null) {
+                    terminated = true;
+                    failure = error;
+                } else if (demand > 0 && !buffer.isEmpty()) {
+                    item = buffer.poll();
+                    demand--;
+                } else if (buffer.isEmpty() && completed) {
+                    terminated = true;
+                    complete = true;
+                } else {
+                    waiting = demand > 0;
+                }
+            }
+
+            if (item != null) {
+                try {
+                    subscriber.onNext(item);
+                } catch (Throwable t) {
+                    onSubscriberFailure(t);
+                    return;
+                }
+                continue;
+            }
+            if (failure != null) {
+                onCancel();
+                subscriber.onError(failure);
+            } else if (complete) {
+                subscriber.onComplete();
+            } else if (waiting) {
+                onDemand();
+            }
+
+            synchronized (this) {
+                if (terminated || !drainAgain) {
+                    draining = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A subscriber that throws from {@code onNext} breaks rule 2.13 of Reactive Streams: the
+     * subscription is then considered cancelled, and the failure is signalled to the subscriber.
+     */
+    private void onSubscriberFailure(Throwable failure) {
+        synchronized (this) {
+            draining = false;
+            cancelled = true;
+            buffer.clear();
+            if (terminated) {
+                // Cancelled from within onNext
+                return;
+            }
+            terminated = true;
+        }
+        onCancel();
+        subscriber.onError(failure);
+    }
+}
@@ -16,13 +16,18 @@
 package io.oxia.client;
 
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.IteratorPrefetch;
 import io.oxia.client.api.RangeScanConsumer;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
 import lombok.SneakyThrows;
 
 public class GetResultIterator
@@ -31,18 +36,52 @@ public class GetResultIterator
                 FlowControlledRangeScanConsumer,
                 AutoCloseable {
 
-    // Records received but not yet consumed. Bounded through flow control: each underlying
-    // stream has at most one response in flight, and idle streams are only resumed once the
-    // buffer has been drained.
-    private final Deque<GetResult> buffer = new ArrayDeque<>();
+    // Records received but not yet consumed, handed over from the gRPC threads to the iterating
+    // thread without taking a lock. Bounded through flow control: each underlying stream has at
+    // most one response in flight, and idle streams are only resumed once the buffered records
+    // fall below the prefetch watermark.
+    private final Queue<GetResult> buffer = new ConcurrentLinkedQueue<>();
+
+    // Incremented before a record is added to the buffer, so that they never underestimate it
+    private final AtomicInteger bufferedRecords = new AtomicInteger();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private final int recordsWatermark;
+    private final long bytesWatermark;
 
     // A scan without a partition key opens one stream per shard, all feeding this iterator.
+    // Guarded by this: the flow control state only changes once per response.
     private final List<StreamHandle> streams = new ArrayList<>();
     private final List<StreamHandle> idleStreams = new ArrayList<>();
 
-    private Throwable error = null;
-    private boolean completed = false;
-    private boolean closed = false;
+    private volatile Throwable error = null;
+    private volatile boolean completed = false;
+    private volatile boolean closed = false;
+
+    // The iterating thread, while it is parked waiting for records
+    private volatile Thread waiter;
+
+    public GetResultIterator() {
+        this(IteratorPrefetch.NONE);
+    }
+
+    public GetResultIterator(@NonNull IteratorPrefetch prefetch) {
+        if (prefetch instanceof IteratorPrefetch.Records records) {
+            this.recordsWatermark = records.lowWatermark();
+            this.bytesWatermark = 0;
+        } else {
+            this.recordsWatermark = 0;
+            this.bytesWatermark = ((IteratorPrefetch.Bytes) prefetch).lowWatermark();
+        }
+    }
+
+    private boolean belowWatermark() {
+        return bufferedRecords.get() < recordsWatermark || bufferedBytes.get() < bytesWatermark;
+    }
+
+    private static long sizeOf(GetResult result) {
+        return result.value().length;
+    }
 
     @Override
     public void onStreamStarted(StreamHandle handle) {
@@ -65,7 +104,9 @@ public class GetResultIterator
             if (closed) {
                 return;
             }
-            requestNow = buffer.isEmpty();
+            // Checked under the lock: the iterating thread takes it to resume the idle streams
+            // after it has consumed records, so the stream is either requested here or resumed there
+            requestNow = belowWatermark();
             if (!requestNow) {
                 idleStreams.add(handle);
             }
@@ -78,71 +119,101 @@ public class GetResultIterator
     }
 
     @Override
-    public synchronized boolean onNext(GetResult result) {
+    public boolean onNext(GetResult result) {
         if (closed) {
             return false;
         }
+        bufferedRecords.incrementAndGet();
+        bufferedBytes.addAndGet(sizeOf(result));
         buffer.add(result);
-        notifyAll();
+        wakeWaiter();
         return true;
     }
 
     @Override
-    public synchronized void onError(Throwable throwable) {
+    public void onError(Throwable throwable) {
         // Don't cancel the other streams here: onError can be invoked while holding another
         // stream observer's lock, and cancelling a stream takes its observer's lock. The
         // streams are cancelled by close().
         this.error = new Exception("Range scan error", throwable);
-        notifyAll();
+        wakeWaiter();
     }
 
     @Override
-    public synchronized void onCompleted() {
+    public void onCompleted() {
         this.completed = true;
-        notifyAll();
+        wakeWaiter();
+    }
+
+    private void wakeWaiter() {
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private boolean ready() {
+        return error != null || completed || !buffer.isEmpty() || closed;
+    }
+
+    private void awaitReady() throws InterruptedException {
+        if (ready()) {
+            return;
+        }
+        // The producers check the waiter after publishing, so publishing it before the last check
+        // below guarantees that a concurrent signal either is seen here or unparks this thread.
+        waiter = Thread.currentThread();
+        try {
+            while (!ready()) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiter = null;
+        }
     }
 
     @Override
     @SneakyThrows
-    public synchronized boolean hasNext() {
-        while (error == null && !completed && buffer.isEmpty() && !closed) {
-            wait();
-        }
+    public boolean hasNext() {
+        awaitReady();
 
         if (error != null) {
             throw new RuntimeException(error);
         }
 
-        return !buffer.isEmpty();
+        // A record may still be added by a producer that raced with close()
+        return !closed && !buffer.isEmpty();
     }
 
     @Override
     @SneakyThrows
     public GetResult next() {
-        GetResult res;
-        List<StreamHandle> toRequest = null;
-        synchronized (this) {
-            while (error == null && !completed && buffer.isEmpty() && !closed) {
-                wait();
-            }
+        awaitReady();
 
-            if (error != null) {
-                throw new RuntimeException(error);
-            }
+        if (error != null) {
+            throw new RuntimeException(error);
+        }
 
-            res = buffer.poll();
-            if (res == null) {
-                throw new NoSuchElementException();
-            }
+        GetResult res = closed ? null : buffer.poll();
+        if (res == null) {
+            throw new NoSuchElementException();
+        }
+        bufferedRecords.decrementAndGet();
+        bufferedBytes.addAndGet(-sizeOf(res));
 
-            if (buffer.isEmpty() && !idleStreams.isEmpty()) {
-                toRequest = new ArrayList<>(idleStreams);
+        if (belowWatermark()) {
+            List<StreamHandle> toRequest;
+            synchronized (this) {
+                toRequest = idleStreams.isEmpty() ? null : new ArrayList<>(idleStreams);
                 idleStreams.clear();
             }
-        }
-        // Outside the monitor: see onStreamIdle().
-        if (toRequest != null) {
-            toRequest.forEach(StreamHandle::requestNext);
+            // Outside the monitor: see onStreamIdle().
+            if (toRequest != null) {
+                toRequest.forEach(StreamHandle::requestNext);
+            }
         }
         return res;
     }
@@ -158,9 +229,9 @@ public class GetResultIterator
             toCancel = new ArrayList<>(streams);
             streams.clear();
             idleStreams.clear();
-            buffer.clear();
-            notifyAll();
         }
+        buffer.clear();
+        wakeWaiter();
         toCancel.forEach(StreamHandle::cancel);
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.oxia.client.api.ListConsumer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.SneakyThrows;
+
+/**
+ * Blocking iterator over the keys of a streaming list. The counterpart of {@link GetResultIterator}
+ * for {@link ListConsumer}s: the merged shard streams are only resumed once the keys received so
+ * far have been consumed.
+ */
+class KeyIterator
+        implements Iterator<String>, ListConsumer, FlowControlledRangeScanConsumer, AutoCloseable {
+
+    private final Deque<String> buffer = new ArrayDeque<>();
+
+    private StreamHandle stream = null;
+    private boolean idle = false;
+
+    private Throwable error = null;
+    private boolean completed = false;
+    private boolean closed = false;
+
+    @Override
+    public void onStreamStarted(StreamHandle handle) {
+        boolean cancelNow;
+        synchronized (this) {
+            cancelNow = closed;
+            if (!cancelNow) {
+                stream = handle;
+            }
+        }
+        if (cancelNow) {
+            handle.cancel();
+        }
+    }
+
+    @Override
+    public void onStreamIdle(StreamHandle handle) {
+        boolean requestNow;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            requestNow = buffer.isEmpty();
+            idle = !requestNow;
+        }
+        // Outside the monitor: the next keys can be delivered inline, re-entering onNext()
+        if (requestNow) {
+            handle.requestNext();
+        }
+    }
+
+    @Override
+    public synchronized boolean onNext(String key) {
+        if (closed) {
+            return false;
+        }
+        buffer.add(key);
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized void onError(Throwable throwable) {
+        this.error = new Exception("List error", throwable);
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void onCompleted() {
+        this.completed = true;
+        notifyAll();
+    }
+
+    @Override
+    @SneakyThrows
+    public synchronized boolean hasNext() {
+        while (error == null && !completed && buffer.isEmpty() && !closed) {
+            wait();
+        }
+
+        if (error != null) {
+            throw new RuntimeException(error);
+        }
+
+        return !buffer.isEmpty();
+    }
+
+    @Override
+    @SneakyThrows
+    public String next() {
+        String res;
+        StreamHandle toRequest = null;
+        synchronized (this) {
+            while (error == null && !completed && buffer.isEmpty() && !closed) {
+                wait();
+            }
+
+            if (error != null) {
+                throw new RuntimeException(error);
+            }
+
+            res = buffer.poll();
+            if (res == null) {
+                throw new NoSuchElementException();
+            }
+
+            if (buffer.isEmpty() && idle) {
+                idle = false;
+                toRequest = stream;
+            }
+        }
+        // Outside the monitor: see onStreamIdle().
+        if (toRequest != null) {
+            toRequest.requestNext();
+        }
+        return res;
+    }
+
+    @Override
+    public void close() {
+        StreamHandle toCancel;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toCancel = stream;
+            stream = null;
+            idle = false;
+            buffer.clear();
+            notifyAll();
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+    }
+}
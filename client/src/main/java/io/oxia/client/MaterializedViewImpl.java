@@ -0,0 +1,391 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.github.merlimat.slog.Logger;
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.MaterializedView;
+import io.oxia.client.api.Notification;
+import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.util.Backoff;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Mirrors a range of keys: each shard is loaded with a range scan, then every notified key is
+ * marked dirty and fetched again, in batches, by a single fetch in flight at a time.
+ *
+ * <p>While any shard is being scanned the fetches are held back, so that scanned records, which may
+ * be older than the notifications received meanwhile, are always followed by a fetch of the keys
+ * changed during the scan. Range deletes are applied right away and once more when the scans
+ * complete, in case a scan returned a record they removed.
+ *
+ * <p>Fetched and scanned records never replace a record with a higher version, and a fetched result
+ * is dropped if its key was notified again while it was in flight.
+ */
+final class MaterializedViewImpl implements MaterializedView {
+
+    /** Where the view loads its records from, implemented by the client. */
+    interface Source {
+        Set<Long> shardIds();
+
+        long shardForKey(String key);
+
+        void scan(
+                long shardId,
+                String startKeyInclusive,
+                String endKeyExclusive,
+                RangeScanConsumer consumer);
+
+        CompletableFuture<Map<String, GetResult>> fetch(List<String> keys);
+    }
+
+    static final int MAX_FETCH_KEYS = 1024;
+
+    private static final Logger log = Logger.get(MaterializedViewImpl.class);
+
+    private final String startKeyInclusive;
+    private final String endKeyExclusive;
+    private final Source source;
+    private final ScheduledExecutorService executor;
+    private final Consumer<MaterializedViewImpl> onClose;
+
+    final Consumer<Notification> notificationCallback = this::onNotification;
+    final Consumer<Long> shardResetCallback = this::onShardReset;
+
+    private final ConcurrentSkipListMap<String, GetResult> records =
+            new ConcurrentSkipListMap<>(CompareWithSlash.INSTANCE);
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private final Backoff backoff = new Backoff();
+
+    // The fields below are guarded by this
+    private final Set<String> dirtyKeys = new LinkedHashSet<>();
+    private final Set<String> fetchingKeys = new HashSet<>();
+    private final Set<Long> scanningShards = new HashSet<>();
+    private final Set<Long> rescanShards = new HashSet<>();
+    private final List<String[]> rangeDeletesDuringScans = new ArrayList<>();
+    private boolean started;
+    private boolean loaded;
+    private boolean fetching;
+    private boolean closed;
+
+    MaterializedViewImpl(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull Source source,
+            @NonNull ScheduledExecutorService executor,
+            @NonNull Consumer<MaterializedViewImpl> onClose) {
+        this.startKeyInclusive = startKeyInclusive;
+        this.endKeyExclusive = endKeyExclusive;
+        this.source = source;
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    /** Loads every shard. Notifications must already be delivered to the view. */
+    void start() {
+        Set<Long> shardIds;
+        synchronized (this) {
+            started = true;
+            shardIds = source.shardIds();
+        }
+        if (shardIds.isEmpty()) {
+            onScanned();
+        }
+        shardIds.forEach(this::scanShard);
+    }
+
+    @Override
+    public CompletableFuture<Void> ready() {
+        return ready;
+    }
+
+    @Override
+    public GetResult get(@NonNull String key) {
+        return records.get(key);
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    @Override
+    public synchronized NavigableMap<String, GetResult> snapshot() {
+        return Collections.unmodifiableNavigableMap(new TreeMap<>(records));
+    }
+
+    void onNotification(@NonNull Notification notification) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (notification instanceof Notification.KeyRangeDelete r) {
+                deleteRange(r.startKeyInclusive(), r.endKeyExclusive());
+                if (!scanningShards.isEmpty()) {
+                    rangeDeletesDuringScans.add(
+                            new String[] {r.startKeyInclusive(), r.endKeyExclusive()});
+                }
+            } else if (inRange(notification.key())) {
+                dirtyKeys.add(notification.key());
+            } else {
+                return;
+            }
+        }
+        fetchDirtyKeys();
+    }
+
+    /** The notifications of the shard may have been missed: scan it again. */
+    void onShardReset(long shardId) {
+        synchronized (this) {
+            if (!started || closed) {
+                return;
+            }
+        }
+        scanShard(shardId);
+    }
+
+    private void scanShard(long shardId) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (!scanningShards.add(shardId)) {
+                rescanShards.add(shardId);
+                return;
+            }
+        }
+        Set<String> scanned = ConcurrentHashMap.newKeySet();
+        source.scan(
+                shardId,
+                startKeyInclusive,
+                endKeyExclusive,
+                new RangeScanConsumer() {
+                    @Override
+                    public boolean onNext(GetResult result) {
+                        scanned.add(result.key());
+                        synchronized (MaterializedViewImpl.this) {
+                            if (closed) {
+                                return false;
+                            }
+                            putIfNewer(result);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        long delayMillis;
+                        synchronized (MaterializedViewImpl.this) {
+                            endScan(shardId);
+                            delayMillis = backoff.nextDelayMillis();
+                        }
+                        log.warn()
+                                .attr("shard", shardId)
+                                .attr("retryInSeconds", delayMillis / 1000.0)
+                                .exceptionMessage(throwable)
+                                .log("Failed to scan the range of a materialized view");
+                        retryLater(() -> scanShard(shardId), delayMillis);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        onShardScanned(shardId, scanned);
+                    }
+                });
+    }
+
+    private void onShardScanned(long shardId, Set<String> scanned) {
+        boolean rescan;
+        boolean allScanned;
+        synchronized (this) {
+            if (loaded) {
+                // Records the scan no longer returned may have been deleted: fetch them to find out
+                for (String key : records.keySet()) {
+                    if (!scanned.contains(key) && source.shardForKey(key) == shardId) {
+                        dirtyKeys.add(key);
+                    }
+                }
+            }
+            rescan = endScan(shardId);
+            allScanned = scanningShards.isEmpty() && !rescan;
+            if (allScanned) {
+                backoff.reset();
+            }
+        }
+        if (rescan) {
+            scanShard(shardId);
+        } else if (allScanned) {
+            onScanned();
+        }
+    }
+
+    /** Ends the scan of a shard, returning whether it must be scanned again. */
+    private boolean endScan(long shardId) {
+        scanningShards.remove(shardId);
+        if (scanningShards.isEmpty()) {
+            rangeDeletesDuringScans.forEach(r -> deleteRange(r[0], r[1]));
+            rangeDeletesDuringScans.clear();
+        }
+        return rescanShards.remove(shardId);
+    }
+
+    private void onScanned() {
+        synchronized (this) {
+            loaded = true;
+        }
+        fetchDirtyKeys();
+    }
+
+    private void fetchDirtyKeys() {
+        List<String> keys;
+        synchronized (this) {
+            if (closed || fetching || !loaded || !scanningShards.isEmpty()) {
+                return;
+            }
+            if (dirtyKeys.isEmpty()) {
+                ready.complete(null);
+                return;
+            }
+            keys = new ArrayList<>(Math.min(dirtyKeys.size(), MAX_FETCH_KEYS));
+            var it = dirtyKeys.iterator();
+            while (it.hasNext() && keys.size() < MAX_FETCH_KEYS) {
+                keys.add(it.next());
+                it.remove();
+            }
+            fetchingKeys.addAll(keys);
+            fetching = true;
+        }
+        CompletableFuture<Map<String, GetResult>> fetched;
+        try {
+            fetched = source.fetch(keys);
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+        fetched.whenComplete((results, ex) -> onFetched(keys, results, ex));
+    }
+
+    private void onFetched(List<String> keys, Map<String, GetResult> results, Throwable ex) {
+        long retryDelayMillis = 0;
+        synchronized (this) {
+            fetching = false;
+            fetchingKeys.clear();
+            if (ex != null) {
+                dirtyKeys.addAll(keys);
+                retryDelayMillis = backoff.nextDelayMillis();
+            } else {
+                backoff.reset();
+                for (String key : keys) {
+                    if (dirtyKeys.contains(key)) {
+                        // Notified again while in flight: the next fetch has the latest value
+                        continue;
+                    }
+                    var result = results.get(key);
+                    if (result == null) {
+                        records.remove(key);
+                    } else {
+                        putIfNewer(result);
+                    }
+                }
+            }
+        }
+        if (ex != null) {
+            log.warn()
+                    .attr("keys", keys.size())
+                    .attr("retryInSeconds", retryDelayMillis / 1000.0)
+                    .exceptionMessage(ex)
+                    .log("Failed to fetch the changed records of a materialized view");
+            retryLater(this::fetchDirtyKeys, retryDelayMillis);
+        } else {
+            fetchDirtyKeys();
+        }
+    }
+
+    private void retryLater(Runnable task, long delayMillis) {
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The client is closing
+            close();
+        }
+    }
+
+    private void putIfNewer(GetResult result) {
+        records.merge(
+                result.key(),
+                result,
+                (existing, updated) ->
+                        updated.version().versionId() >= existing.version().versionId()
+                                ? updated
+                                : existing);
+    }
+
+    private void deleteRange(String start, String end) {
+        String from = max(start, startKeyInclusive);
+        String to = min(end, endKeyExclusive);
+        if (CompareWithSlash.INSTANCE.compare(from, to) >= 0) {
+            return;
+        }
+        records.subMap(from, to).clear();
+        // Records being fetched may come back from before the delete: fetch them again
+        for (String key : fetchingKeys) {
+            if (CompareWithSlash.INSTANCE.compare(key, from) >= 0
+                    && CompareWithSlash.INSTANCE.compare(key, to) < 0) {
+                dirtyKeys.add(key);
+            }
+        }
+    }
+
+    private boolean inRange(String key) {
+        return CompareWithSlash.INSTANCE.compare(key, startKeyInclusive) >= 0
+                && CompareWithSlash.INSTANCE.compare(key, endKeyExclusive) < 0;
+    }
+
+    private static String max(String a, String b) {
+        return CompareWithSlash.INSTANCE.compare(a, b) >= 0 ? a : b;
+    }
+
+    private static String min(String a, String b) {
+        return CompareWithSlash.INSTANCE.compare(a, b) <= 0 ? a : b;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        onClose.accept(this);
+        ready.completeExceptionally(new IllegalStateException("Materialized view has been closed"));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+
+/**
+ * Gathers the per-key results of a multi-key operation into a single future holding a map, in the
+ * order of the keys. Each key gets a slot future that is handed to its operation; when every slot
+ * has completed, the map is built at once. The first failing slot fails the whole result.
+ *
+ * <p>This avoids the {@code allOf()} tree and the per-key timeout and metrics stages that
+ * individual calls would create.
+ */
+final class MultiKeyCollector<V> {
+
+    private final List<String> keys;
+    private final Object[] results;
+    private final AtomicInteger remaining;
+    private final boolean skipNullResults;
+    private final CompletableFuture<Map<String, V>> future = new CompletableFuture<>();
+
+    /**
+     * @param keys the distinct keys of the operation, in the order of the resulting map
+     * @param skipNullResults whether keys whose result is {@code null} are left out of the map
+     */
+    MultiKeyCollector(@NonNull List<String> keys, boolean skipNullResults) {
+        this.keys = keys;
+        this.results = new Object[keys.size()];
+        this.remaining = new AtomicInteger(keys.size());
+        this.skipNullResults = skipNullResults;
+        if (keys.isEmpty()) {
+            future.complete(Collections.emptyMap());
+        }
+    }
+
+    /** Returns the future to be completed with the result of the key at {@code index}. */
+    CompletableFuture<V> slot(int index) {
+        var slot = new CompletableFuture<V>();
+        slot.whenComplete(
+                (result, throwable) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                        return;
+                    }
+                    results[index] = result;
+                    // The decrement publishes the write above to the thread that completes the map
+                    if (remaining.decrementAndGet() == 0) {
+                        future.complete(toMap());
+                    }
+                });
+        return slot;
+    }
+
+    /** Fails the whole result, e.g. when some of the keys could not be submitted. */
+    void fail(@NonNull Throwable throwable) {
+        future.completeExceptionally(throwable);
+    }
+
+    CompletableFuture<Map<String, V>> future() {
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, V> toMap() {
+        Map<String, V> map = new LinkedHashMap<>(Math.max(16, (int) (keys.size() / 0.75f) + 1));
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != null || !skipNullResults) {
+                map.put(keys.get(i), (V) results[i]);
+            }
+        }
+        return map;
+    }
+}
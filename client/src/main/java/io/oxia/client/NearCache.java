@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.Notification;
+import io.oxia.client.metrics.Counter;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.metrics.Unit;
+import io.oxia.client.options.GetOptions;
+import io.oxia.proto.KeyComparisonType;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+
+/**
+ * Client-side cache of {@code get()} results, bounded by bytes and kept coherent by the key
+ * notifications stream.
+ *
+ * <p>A miss leaves a pending entry for the key before the get is sent, stamped with the current
+ * invalidation stamp. Every invalidation (a notification, a local write or a shard flush) takes a
+ * new stamp and removes the entry, so a fill is only accepted while the entry it started from is
+ * still there and no newer than the fill itself: a response that raced with a change to the key is
+ * dropped rather than cached. Among fills that race with each other, the one with the higher {@code
+ * versionId} wins.
+ *
+ * <p>The cache is only as fresh as the notifications: a cached value may be stale for as long as a
+ * remote change takes to be notified. Local writes invalidate their keys before completing.
+ */
+final class NearCache {
+
+    // Rough per-entry footprint on top of the key and value bytes
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private enum State {
+        PENDING,
+        FOUND,
+        NOT_FOUND
+    }
+
+    private record Entry(
+            State state, String partitionKey, long shardId, GetResult result, long stamp) {
+
+        long versionId() {
+            return result != null ? result.version().versionId() : -1L;
+        }
+    }
+
+    private final Cache<String, Entry> cache;
+    private final ConcurrentMap<String, Entry> entries;
+    private final AtomicLong stamps = new AtomicLong();
+
+    private final Counter counterHits;
+    private final Counter counterMisses;
+
+    NearCache(long maxBytes, @NonNull InstrumentProvider instrumentProvider) {
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher(NearCache::weigh)
+                        .build();
+        this.entries = cache.asMap();
+
+        this.counterHits =
+                instrumentProvider.newCounter(
+                        "oxia.client.cache.hits",
+                        Unit.Events,
+                        "The number of gets served by the near cache",
+                        Attributes.empty());
+        this.counterMisses =
+                instrumentProvider.newCounter(
+                        "oxia.client.cache.misses",
+                        Unit.Events,
+                        "The number of cacheable gets sent to the server",
+                        Attributes.empty());
+    }
+
+    /** Only plain point lookups that return the value are cached. */
+    static boolean isCacheable(@NonNull GetOptions options) {
+        return options.includeValue()
+                && options.comparisonType() == KeyComparisonType.EQUAL
+                && options.secondaryIndexName() == null;
+    }
+
+    /**
+     * Looks up {@code key} as stored in {@code shardId}.
+     *
+     * @return {@code true} if {@code result} was completed from the cache; otherwise a pending entry
+     *     is left for the key and the caller must send the get and pass its result to {@link #fill}
+     *     along with the stamp returned by {@link #stamp()} before calling this method
+     */
+    boolean lookup(
+            @NonNull String key,
+            String partitionKey,
+            long shardId,
+            long stamp,
+            @NonNull CompletableFuture<GetResult> result) {
+        var entry = entries.get(key);
+        if (entry != null
+                && entry.state() != State.PENDING
+                && entry.shardId() == shardId
+                && Objects.equals(entry.partitionKey(), partitionKey)) {
+            counterHits.increment();
+            // Hand out a copy: the value array of a GetResult is mutable
+            result.complete(entry.result() != null ? copy(entry.result()) : null);
+            return true;
+        }
+        counterMisses.increment();
+        if (entry == null) {
+            entries.putIfAbsent(key, new Entry(State.PENDING, partitionKey, shardId, null, stamp));
+        }
+        return false;
+    }
+
+    /** The stamp to pass to {@link #lookup} and {@link #fill} for a get about to be looked up. */
+    long stamp() {
+        return stamps.get();
+    }
+
+    /** Caches the result of a get that missed, unless the key changed since the get started. */
+    void fill(
+            @NonNull String key, String partitionKey, long shardId, long stamp, GetResult result) {
+        var filled =
+                new Entry(
+                        result != null ? State.FOUND : State.NOT_FOUND,
+                        partitionKey,
+                        shardId,
+                        result != null ? copy(result) : null,
+                        stamp);
+        entries.computeIfPresent(
+                key,
+                (k, existing) -> {
+                    if (existing.stamp() > stamp) {
+                        // Invalidated, and possibly re-read, after this get started
+                        return existing;
+                    }
+                    if (existing.state() == State.FOUND
+                            && filled.state() == State.FOUND
+                            && existing.versionId() > filled.versionId()) {
+                        return existing;
+                    }
+                    return filled;
+                });
+    }
+
+    void onNotification(@NonNull Notification notification) {
+        // Created keys are invalidated too, which drops any cached KEY_NOT_FOUND
+        if (notification instanceof Notification.KeyRangeDelete r) {
+            invalidateRange(r.startKeyInclusive(), r.endKeyExclusive());
+        } else {
+            invalidate(notification.key());
+        }
+    }
+
+    void invalidate(@NonNull String key) {
+        stamps.incrementAndGet();
+        entries.remove(key);
+    }
+
+    void invalidateRange(@NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        stamps.incrementAndGet();
+        entries
+                .keySet()
+                .removeIf(
+                        key ->
+                                CompareWithSlash.INSTANCE.compare(key, startKeyInclusive) >= 0
+                                        && CompareWithSlash.INSTANCE.compare(key, endKeyExclusive) < 0);
+    }
+
+    /** Drops every entry of a shard whose notifications may have been missed. */
+    void invalidateShard(long shardId) {
+        stamps.incrementAndGet();
+        entries.values().removeIf(entry -> entry.shardId() == shardId);
+    }
+
+    private static GetResult copy(GetResult result) {
+        return new GetResult(result.key(), result.value().clone(), result.version());
+    }
+
+    private static int weigh(String key, Entry entry) {
+        long bytes = 2L * key.length() + ENTRY_OVERHEAD_BYTES;
+        if (entry.result() != null) {
+            bytes += entry.result().value().length;
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
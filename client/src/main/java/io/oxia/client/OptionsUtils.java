@@ -18,9 +18,12 @@ package io.oxia.client;
 import io.oxia.client.api.options.GetOption;
 import io.oxia.client.api.options.defs.OptionComparisonType;
 import io.oxia.client.api.options.defs.OptionEphemeral;
+import io.oxia.client.api.options.defs.OptionLimit;
+import io.oxia.client.api.options.defs.OptionOrdered;
 import io.oxia.client.api.options.defs.OptionOverrideModificationsCount;
 import io.oxia.client.api.options.defs.OptionOverrideVersionId;
 import io.oxia.client.api.options.defs.OptionPartitionKey;
+import io.oxia.client.api.options.defs.OptionPriority;
 import io.oxia.client.api.options.defs.OptionSecondaryIndex;
 import io.oxia.client.api.options.defs.OptionSecondaryIndexName;
 import io.oxia.client.api.options.defs.OptionSequenceKeysDeltas;
@@ -30,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
 import lombok.experimental.UtilityClass;
@@ -71,6 +75,20 @@ public class OptionsUtils {
         return false;
     }
 
+    public static boolean isOrdered(Set<?> options) {
+        if (options == null || options.isEmpty()) {
+            return false;
+        }
+
+        for (var option : options) {
+            if (option instanceof OptionOrdered) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     public static Optional<String> getPartitionKey(Set<?> options) {
         if (options == null || options.isEmpty()) {
             return Optional.empty();
@@ -218,4 +236,42 @@ public class OptionsUtils {
 
         return secondaryIndexName;
     }
+
+    public static OptionPriority.Priority getPriority(Set<?> options) {
+        if (options == null || options.isEmpty()) {
+            return OptionPriority.Priority.Interactive;
+        }
+
+        OptionPriority.Priority priority = null;
+        for (var o : options) {
+            if (o instanceof OptionPriority p) {
+                if (priority != null) {
+                    throw new IllegalArgumentException("Priority can only specified once:  " + options);
+                }
+
+                priority = p.priority();
+            }
+        }
+
+        return priority != null ? priority : OptionPriority.Priority.Interactive;
+    }
+
+    public static OptionalInt getLimit(Set<?> options) {
+        if (options == null || options.isEmpty()) {
+            return OptionalInt.empty();
+        }
+
+        OptionalInt limit = OptionalInt.empty();
+        for (var o : options) {
+            if (o instanceof OptionLimit l) {
+                if (limit.isPresent()) {
+                    throw new IllegalArgumentException("Limit can only specified once:  " + options);
+                }
+
+                limit = OptionalInt.of(l.limit());
+            }
+        }
+
+        return limit;
+    }
 }
@@ -0,0 +1,448 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.oxia.client.grpc.observer.CancelableStreamObserver;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * Merges the streams of a multi-shard operation (list, range scan) into a single stream of items
+ * delivered in key order.
+ *
+ * <p>Each shard returns its items already sorted by key, so instead of collecting every stream and
+ * sorting the result, the streams are merged as they arrive: the item with the smallest head key
+ * across the shards is emitted as soon as every shard that has not completed has at least one
+ * buffered item. The shard streams use manual flow control, and a shard is only asked for its next
+ * response once its buffered items have all been merged, so the client holds at most about one
+ * response per shard.
+ *
+ * <p>All the sink callbacks, as well as the flow control requests and cancellations of the shard
+ * streams, are issued by a single draining thread and never while holding {@link #lock}. A shard
+ * observer invokes its callbacks while holding its own lock, so this is what keeps the observers
+ * from waiting on each other.
+ *
+ * @param <R> the type of the responses of the shard streams
+ * @param <T> the type of the merged items
+ */
+@ThreadSafe
+final class OrderedShardMerge<R, T> implements FlowControlledRangeScanConsumer.StreamHandle {
+
+    /** Receives the merged items. */
+    interface Sink<T> {
+        /**
+         * @return {@code false} to stop the merge, which cancels the shard streams and completes the
+         *     sink
+         */
+        boolean onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onCompleted();
+    }
+
+    private final Function<R, List<T>> unpack;
+    private final Function<T, String> keyOf;
+    private final Sink<T> sink;
+    private final FlowControlledRangeScanConsumer flowControl;
+    private final Predicate<T> filter;
+    private final long limit;
+    private final List<ShardStream> shards = new ArrayList<>();
+
+    private final Object lock = new Object();
+
+    // Shards with buffered items, ordered by the key of their head item.
+    @GuardedBy("lock")
+    private final PriorityQueue<ShardStream> ready;
+
+    // Shards whose buffered items have been merged and that need to be asked for more.
+    @GuardedBy("lock")
+    private final List<ShardStream> toRequest = new ArrayList<>();
+
+    // Shards that have neither buffered items nor completed: nothing can be emitted until every one
+    // of them has received its next response.
+    @GuardedBy("lock")
+    private int pending;
+
+    @GuardedBy("lock")
+    private long delivered;
+
+    @GuardedBy("lock")
+    private boolean idle;
+
+    @GuardedBy("lock")
+    private boolean requested;
+
+    @GuardedBy("lock")
+    private boolean stopped;
+
+    @GuardedBy("lock")
+    private boolean cancelled;
+
+    @GuardedBy("lock")
+    private Throwable error;
+
+    @GuardedBy("lock")
+    private boolean terminated;
+
+    @GuardedBy("lock")
+    private boolean draining;
+
+    @GuardedBy("lock")
+    private boolean drainAgain;
+
+    /**
+     * @param unpack extracts the items of a shard response, in key order.
+     * @param keyOf the key the items are merged by.
+     * @param flowControl when not null, the shard streams are only resumed once the consumer has
+     *     requested more items through this stream handle.
+     * @param filter items for which the filter returns false are skipped, and are not counted towards
+     *     the limit.
+     * @param limit the maximum number of items to deliver, or a negative value for no limit.
+     */
+    OrderedShardMerge(
+            @NonNull Function<R, List<T>> unpack,
+            @NonNull Function<T, String> keyOf,
+            @NonNull Sink<T> sink,
+            FlowControlledRangeScanConsumer flowControl,
+            @NonNull Predicate<T> filter,
+            long limit) {
+        this.unpack = unpack;
+        this.keyOf = keyOf;
+        this.sink = sink;
+        this.flowControl = flowControl;
+        this.filter = filter;
+        this.limit = limit < 0 ? Long.MAX_VALUE : limit;
+        this.ready =
+                new PriorityQueue<>(
+                        (a, b) ->
+                                CompareWithSlash.INSTANCE.compare(
+                                        keyOf.apply(a.buffer.peek()), keyOf.apply(b.buffer.peek())));
+    }
+
+    /**
+     * Opens one stream per shard, through {@code open}, and starts merging them.
+     *
+     * @param open starts the stream of a shard, feeding its responses to the given observer.
+     */
+    void start(
+            @NonNull Collection<Long> shardIds,
+            @NonNull BiConsumer<Long, CancelableStreamObserver<R>> open) {
+        Map<Long, String> fromStart = new HashMap<>();
+        shardIds.forEach(shardId -> fromStart.put(shardId, null));
+        start(fromStart, open);
+    }
+
+    /**
+     * Same as {@link #start(Collection, BiConsumer)}, resuming each shard after a key.
+     *
+     * @param resumeAfter the key to resume each shard after, or null to merge a shard from the start.
+     *     The stream of a resumed shard is expected to start at that key: the items up to it are
+     *     skipped.
+     */
+    void start(
+            @NonNull Map<Long, String> resumeAfter,
+            @NonNull BiConsumer<Long, CancelableStreamObserver<R>> open) {
+        resumeAfter.forEach((shardId, key) -> shards.add(new ShardStream(shardId, key)));
+        synchronized (lock) {
+            pending = shards.size();
+        }
+        if (flowControl != null) {
+            flowControl.onStreamStarted(this);
+        }
+        for (ShardStream shard : shards) {
+            open.accept(shard.shardId, shard);
+        }
+        // Completes right away when there are no shards
+        drain();
+    }
+
+    /**
+     * Where each shard stopped, once the merge has terminated: the key of the last item delivered (or
+     * filtered out) from each shard that may have more items, or null when nothing was delivered from
+     * it. The shards whose items have all been delivered are absent.
+     */
+    Map<Long, String> resumePositions() {
+        synchronized (lock) {
+            Map<Long, String> positions = new HashMap<>();
+            for (ShardStream shard : shards) {
+                if (!shard.completed || !shard.buffer.isEmpty()) {
+                    positions.put(shard.shardId, shard.lastKey);
+                }
+            }
+            return positions;
+        }
+    }
+
+    @Override
+    public void requestNext() {
+        synchronized (lock) {
+            idle = false;
+            requested = true;
+        }
+        drain();
+    }
+
+    /** Cancels all the shard streams. The sink is not notified. */
+    @Override
+    public void cancel() {
+        synchronized (lock) {
+            cancelled = true;
+        }
+        drain();
+    }
+
+    private void onShardResponse(ShardStream shard, R response) {
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            boolean wasEmpty = shard.buffer.isEmpty();
+            for (T item : unpack.apply(response)) {
+                if (shard.skipUpTo != null) {
+                    if (CompareWithSlash.INSTANCE.compare(keyOf.apply(item), shard.skipUpTo) <= 0) {
+                        continue;
+                    }
+                    shard.skipUpTo = null;
+                }
+                shard.buffer.add(item);
+            }
+            if (wasEmpty) {
+                if (shard.buffer.isEmpty()) {
+                    // An empty response still uses up the flow control request
+                    if (!toRequest.contains(shard)) {
+                        toRequest.add(shard);
+                    }
+                } else {
+                    pending--;
+                    ready.add(shard);
+                }
+            }
+        }
+        drain();
+    }
+
+    private void onShardCompleted(ShardStream shard) {
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            shard.completed = true;
+            toRequest.remove(shard);
+            if (shard.buffer.isEmpty()) {
+                pending--;
+            }
+        }
+        drain();
+    }
+
+    private void onShardError(Throwable t) {
+        synchronized (lock) {
+            if (error == null) {
+                error = t;
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        synchronized (lock) {
+            if (draining) {
+                drainAgain = true;
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            List<Merged> items = null;
+            List<ShardStream> toResume = null;
+            List<ShardStream> toCancel = null;
+            boolean notifyIdle = false;
+            boolean complete = false;
+            Throwable failure = null;
+
+            synchronized (lock) {
+                drainAgain = false;
+                if (!terminated) {
+                    if (error != null) {
+                        terminated = true;
+                        failure = error;
+                        toCancel = shards;
+                    } else if (cancelled || stopped) {
+                        terminated = true;
+                        complete = !cancelled;
+                        toCancel = shards;
+                    } else {
+                        items = merge();
+                        if (delivered >= limit) {
+                            terminated = true;
+                            complete = true;
+                            toCancel = shards;
+                        } else if (pending == 0 && ready.isEmpty()) {
+                            terminated = true;
+                            complete = true;
+                        } else if (pending > 0 && !toRequest.isEmpty()) {
+                            if (flowControl == null || requested) {
+                                requested = false;
+                                toResume = new ArrayList<>(toRequest);
+                                toRequest.clear();
+                            } else if (!idle) {
+                                idle = true;
+                                notifyIdle = true;
+                            }
+                        }
+                    }
+                    if (terminated) {
+                        ready.clear();
+                        toRequest.clear();
+                    }
+                }
+            }
+
+            if (items != null) {
+                int sent = 0;
+                boolean stop = false;
+                while (sent < items.size() && !stop) {
+                    Merged merged = items.get(sent++);
+                    stop = merged.accepted && !sink.onNext(merged.item);
+                }
+                synchronized (lock) {
+                    for (int i = 0; i < sent; i++) {
+                        Merged merged = items.get(i);
+                        merged.shard.lastKey = keyOf.apply(merged.item);
+                    }
+                    if (stop) {
+                        // The items after the one that stopped the merge were never delivered: they
+                        // go back to their shards, so that the resume positions come before them
+                        for (int i = items.size() - 1; i >= sent; i--) {
+                            Merged merged = items.get(i);
+                            merged.shard.buffer.addFirst(merged.item);
+                        }
+                        stopped = true;
+                        drainAgain = true;
+                    }
+                }
+            }
+            if (toCancel != null) {
+                toCancel.forEach(CancelableStreamObserver::cancel);
+            }
+            if (toResume != null) {
+                toResume.forEach(CancelableStreamObserver::requestNextMessage);
+            }
+            if (notifyIdle) {
+                flowControl.onStreamIdle(this);
+            }
+            if (failure != null) {
+                sink.onError(failure);
+            } else if (complete) {
+                sink.onCompleted();
+            }
+
+            synchronized (lock) {
+                if (!drainAgain) {
+                    draining = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes the items that are known to come next, in order, up to the limit. The last keys of their
+     * shards are only advanced once the items have been passed to the sink.
+     */
+    @GuardedBy("lock")
+    private List<Merged> merge() {
+        List<Merged> items = null;
+        while (pending == 0 && !ready.isEmpty() && delivered < limit) {
+            ShardStream shard = ready.poll();
+            T item = shard.buffer.poll();
+            if (!shard.buffer.isEmpty()) {
+                ready.add(shard);
+            } else if (!shard.completed) {
+                pending++;
+                toRequest.add(shard);
+            }
+            boolean accepted = filter.test(item);
+            if (accepted) {
+                delivered++;
+            }
+            if (items == null) {
+                items = new ArrayList<>();
+            }
+            items.add(new Merged(shard, item, accepted));
+        }
+        return items;
+    }
+
+    /** An item taken from the buffer of its shard, to be delivered unless the filter rejected it. */
+    private final class Merged {
+        private final ShardStream shard;
+        private final T item;
+        private final boolean accepted;
+
+        Merged(ShardStream shard, T item, boolean accepted) {
+            this.shard = shard;
+            this.item = item;
+            this.accepted = accepted;
+        }
+    }
+
+    private final class ShardStream extends CancelableStreamObserver<R> {
+        private final long shardId;
+
+        // Guarded by the enclosing stream's lock
+        private final Deque<T> buffer = new ArrayDeque<>();
+        private boolean completed;
+        private String skipUpTo;
+        private String lastKey;
+
+        ShardStream(long shardId, String resumeAfter) {
+            super(true);
+            this.shardId = shardId;
+            this.skipUpTo = resumeAfter;
+            this.lastKey = resumeAfter;
+        }
+
+        @Override
+        protected void handleNext(@NonNull R response) {
+            onShardResponse(this, response);
+        }
+
+        @Override
+        protected void handleError(@NonNull Throwable t) {
+            onShardError(t);
+        }
+
+        @Override
+        protected void handleComplete() {
+            onShardCompleted(this);
+        }
+    }
+}
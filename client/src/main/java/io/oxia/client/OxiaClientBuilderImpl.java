@@ -22,12 +22,17 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.oxia.client.api.AsyncOxiaClient;
 import io.oxia.client.api.Authentication;
+import io.oxia.client.api.BatcherWaitStrategy;
+import io.oxia.client.api.IteratorPrefetch;
+import io.oxia.client.api.MetricsLevel;
 import io.oxia.client.api.OxiaClientBuilder;
 import io.oxia.client.api.SharedResources;
 import io.oxia.client.api.SyncOxiaClient;
+import io.oxia.client.api.ValueCodec;
 import io.oxia.client.api.exceptions.OxiaException;
 import io.oxia.client.api.exceptions.UnsupportedAuthenticationException;
 import io.oxia.client.auth.AuthenticationFactory;
+import io.oxia.client.codec.Lz4ValueCodec;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -48,6 +53,7 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
 
     @Deprecated(since = "0.9.0", forRemoval = true)
     public static final Duration DefaultBatchLinger = Duration.ofMillis(5);
+    public static final Duration DefaultMaxBatchLinger = ZERO;
 
     public static final int DefaultMaxRequestsPerBatch = 1000;
     public static final int DefaultMaxBatchSize = 128 * 1024;
@@ -60,6 +66,9 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
     public static final String DefaultNamespace = "default";
     public static final boolean DefaultEnableTls = false;
     public static final int DefaultMaxConnectionPerNode = 1;
+    public static final MetricsLevel DefaultMetricsLevel = MetricsLevel.DETAILED;
+    public static final BatcherWaitStrategy DefaultBatcherWaitStrategy =
+            BatcherWaitStrategy.BLOCKING;
 
     @NonNull protected final String serviceAddress;
     @NonNull protected Duration requestTimeout = DefaultRequestTimeout;
@@ -69,11 +78,21 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
     @NonNull
     protected Duration batchLinger = DefaultBatchLinger;
 
+    @NonNull protected Duration maxBatchLinger = DefaultMaxBatchLinger;
     protected int maxRequestsPerBatch = DefaultMaxRequestsPerBatch;
     protected long maxPendingBytes = DefaultMaxPendingBytes;
     protected int maxWriteBatchesInFlight = DefaultMaxWriteBatchesInFlight;
     protected int maxReadBatchesInFlight = DefaultMaxReadBatchesInFlight;
+    // 0 when the batches in flight are not adaptive
+    protected int minAdaptiveBatchesInFlight;
+    protected int maxAdaptiveBatchesInFlight;
+    protected boolean coalescePuts;
+    protected long nearCacheMaxBytes;
+    protected ValueCodec valueCodec;
+    protected int valueChunkSize;
+    @NonNull protected IteratorPrefetch iteratorPrefetch = IteratorPrefetch.NONE;
     protected int batchingThreads = DefaultBatchingThreads;
+    @NonNull protected BatcherWaitStrategy batcherWaitStrategy = DefaultBatcherWaitStrategy;
     @NonNull protected Duration sessionTimeout = DefaultSessionTimeout;
 
     protected String clientIdentifier = randomClientIdentifier();
@@ -81,6 +100,7 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
 
     @NonNull protected String namespace = DefaultNamespace;
     @NonNull protected OpenTelemetry openTelemetry = GlobalOpenTelemetry.get();
+    @NonNull protected MetricsLevel metricsLevel = DefaultMetricsLevel;
     @Nullable protected String authPluginClassName;
     @Nullable protected String authParams;
     @Nullable protected Authentication authentication;
@@ -123,6 +143,16 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
         return this;
     }
 
+    @Override
+    public @NonNull OxiaClientBuilder adaptiveBatchLinger(@NonNull Duration maxBatchLinger) {
+        if (maxBatchLinger.isNegative()) {
+            throw new IllegalArgumentException(
+                    "maxBatchLinger must not be negative: " + maxBatchLinger);
+        }
+        this.maxBatchLinger = maxBatchLinger;
+        return this;
+    }
+
     @Override
     public @NonNull OxiaClientBuilder maxRequestsPerBatch(int maxRequestsPerBatch) {
         if (maxRequestsPerBatch <= 0) {
@@ -163,6 +193,69 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
         return this;
     }
 
+    @Override
+    public @NonNull OxiaClientBuilder adaptiveBatchesInFlight(
+            int minBatchesInFlight, int maxBatchesInFlight) {
+        if (minBatchesInFlight <= 0 || minBatchesInFlight > maxBatchesInFlight) {
+            throw new IllegalArgumentException(
+                    "Invalid adaptive batches in flight bounds: ["
+                            + minBatchesInFlight
+                            + ", "
+                            + maxBatchesInFlight
+                            + "]");
+        }
+        this.minAdaptiveBatchesInFlight = minBatchesInFlight;
+        this.maxAdaptiveBatchesInFlight = maxBatchesInFlight;
+        return this;
+    }
+
+    @Override
+    public @NonNull OxiaClientBuilder coalescePuts(boolean coalescePuts) {
+        this.coalescePuts = coalescePuts;
+        return this;
+    }
+
+    @Override
+    public @NonNull OxiaClientBuilder nearCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+        }
+        this.nearCacheMaxBytes = maxBytes;
+        return this;
+    }
+
+    @Override
+    public @NonNull OxiaClientBuilder valueCodec(ValueCodec valueCodec) {
+        this.valueCodec = valueCodec;
+        return this;
+    }
+
+    @Override
+    public @NonNull OxiaClientBuilder compressValues(int thresholdBytes) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException(
+                    "thresholdBytes must not be negative: " + thresholdBytes);
+        }
+        this.valueCodec = new Lz4ValueCodec(thresholdBytes);
+        return this;
+    }
+
+    @Override
+    public @NonNull OxiaClientBuilder chunkLargeValues(int chunkSizeBytes) {
+        if (chunkSizeBytes < 0) {
+            throw new IllegalArgumentException(
+                    "chunkSizeBytes must not be negative: " + chunkSizeBytes);
+        }
+        this.valueChunkSize = chunkSizeBytes;
+        return this;
+    }
+
+    @Override
+    public @NonNull OxiaClientBuilder iteratorPrefetch(@NonNull IteratorPrefetch prefetch) {
+        this.iteratorPrefetch = prefetch;
+        return this;
+    }
+
     @Override
     public @NonNull OxiaClientBuilder batchingThreads(int batchingThreads) {
         if (batchingThreads <= 0) {
@@ -174,6 +267,14 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
         return this;
     }
 
+    @Override
+    public @NonNull OxiaClientBuilder batcherWaitStrategy(
+            @NonNull BatcherWaitStrategy batcherWaitStrategy) {
+        this.batcherWaitStrategy = batcherWaitStrategy;
+        explicitTransportSettings.add("batcherWaitStrategy");
+        return this;
+    }
+
     @Override
     public @NonNull OxiaClientBuilder namespace(@NonNull String namespace) {
         if (Strings.isNullOrEmpty(namespace)) {
@@ -213,6 +314,12 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
         return this;
     }
 
+    @Override
+    public @NonNull OxiaClientBuilder metricsLevel(@NonNull MetricsLevel metricsLevel) {
+        this.metricsLevel = metricsLevel;
+        return this;
+    }
+
     @Override
     public OxiaClientBuilder authentication(Authentication authentication) {
         this.authentication = authentication;
@@ -314,8 +421,12 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
                     field.set(this, Duration.ofMillis(Long.parseLong(properties.getProperty(name))));
                 } else if (field.getType().equals(int.class)) {
                     field.set(this, Integer.parseInt(properties.getProperty(name)));
+                } else if (field.getType().equals(long.class)) {
+                    field.set(this, Long.parseLong(properties.getProperty(name)));
                 } else if (field.getType().equals(boolean.class)) {
                     field.set(this, Boolean.parseBoolean(properties.getProperty(name)));
+                } else if (field.getType().isEnum()) {
+                    field.set(this, enumValue(field.getType(), properties.getProperty(name)));
                 } else {
                     field.set(this, properties.getProperty(name));
                 }
@@ -339,13 +450,19 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
         return this;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String value) {
+        return Enum.valueOf((Class) type, value.toUpperCase());
+    }
+
     /** Record, by builder-property name, that a shared-resources-owned transport setting was set. */
     private void recordExplicitTransportSetting(String propertyName) {
         switch (propertyName) {
             case "enableTls",
                     "connectionKeepAliveTime",
                     "connectionKeepAliveTimeout",
-                    "batchingThreads" ->
+                    "batchingThreads",
+                    "batcherWaitStrategy" ->
                     explicitTransportSettings.add(propertyName);
             case "maxConnectionsPerNode" -> explicitTransportSettings.add("maxConnectionPerNode");
             case "authPluginClassName", "authParams" -> explicitTransportSettings.add("authentication");
@@ -357,6 +474,10 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
 
     @Override
     public @NonNull CompletableFuture<AsyncOxiaClient> asyncClient() {
+        return newAsyncClient().thenApply(client -> client);
+    }
+
+    private @NonNull CompletableFuture<AsyncOxiaClientImpl> newAsyncClient() {
         if (sharedResources != null) {
             if (!explicitTransportSettings.isEmpty()) {
                 throw new IllegalArgumentException(
@@ -392,12 +513,21 @@ public class OxiaClientBuilderImpl implements OxiaClientBuilder {
                 connectionBackoffMaxDelay,
                 connectionKeepAliveTime,
                 connectionKeepAliveTimeout,
-                maxConnectionsPerNode);
+                maxConnectionsPerNode,
+                metricsLevel,
+                batcherWaitStrategy,
+                maxBatchLinger,
+                minAdaptiveBatchesInFlight,
+                maxAdaptiveBatchesInFlight,
+                coalescePuts,
+                nearCacheMaxBytes,
+                valueCodec,
+                valueChunkSize);
     }
 
     @Override
     public SyncOxiaClient syncClient() throws OxiaException {
-        return new SyncOxiaClientImpl(asyncClient().join());
+        return new SyncOxiaClientImpl(newAsyncClient().join(), iteratorPrefetch);
     }
 
     private static @NonNull String randomClientIdentifier() {
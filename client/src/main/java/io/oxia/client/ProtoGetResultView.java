@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.netty.buffer.ByteBuf;
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
+import io.oxia.client.api.Version;
+import io.oxia.proto.GetResponse;
+import java.nio.ByteBuffer;
+import lombok.NonNull;
+
+/**
+ * {@link GetResultView} over a decoded {@link GetResponse}. The value slice is retained for the
+ * lifetime of the view, which also keeps the lazily decoded fields of the version (e.g. the client
+ * identity) readable.
+ */
+final class ProtoGetResultView implements GetResultView {
+    private static final ByteBuffer EMPTY_VALUE = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    private final String key;
+    private final io.oxia.proto.Version protoVersion;
+    private ByteBuf valueSlice;
+    private ByteBuffer value;
+    private Version version;
+    private boolean closed;
+
+    ProtoGetResultView(@NonNull String key, @NonNull GetResponse response) {
+        this.key = key;
+        this.protoVersion = response.getVersion();
+        if (response.hasValue()) {
+            this.valueSlice = response.getValueSlice().retain();
+        } else {
+            // Nothing holds the message alive, so the version must be decoded now
+            this.version = ProtoUtil.getVersionFromProto(protoVersion);
+        }
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public ByteBuffer value() {
+        ensureOpen();
+        if (value == null) {
+            value = valueSlice != null ? valueSlice.nioBuffer().asReadOnlyBuffer() : EMPTY_VALUE;
+        }
+        return value;
+    }
+
+    @Override
+    public long versionId() {
+        ensureOpen();
+        return protoVersion.getVersionId();
+    }
+
+    @Override
+    public long modificationsCount() {
+        ensureOpen();
+        return protoVersion.getModificationsCount();
+    }
+
+    @Override
+    public Version version() {
+        ensureOpen();
+        if (version == null) {
+            version = ProtoUtil.getVersionFromProto(protoVersion);
+        }
+        return version;
+    }
+
+    @Override
+    public GetResult toGetResult() {
+        ensureOpen();
+        byte[] bytes = new byte[valueSlice != null ? valueSlice.readableBytes() : 0];
+        if (valueSlice != null) {
+            valueSlice.getBytes(valueSlice.readerIndex(), bytes);
+        }
+        return new GetResult(key, bytes, version());
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        value = null;
+        if (valueSlice != null) {
+            valueSlice.release();
+            valueSlice = null;
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The view over '" + key + "' has been closed");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GetResultView[key=" + key + ", closed=" + closed + "]";
+    }
+}
@@ -16,10 +16,13 @@
 package io.oxia.client;
 
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
 import io.oxia.client.api.PutResult;
+import io.oxia.client.api.ValueCodec;
 import io.oxia.client.api.Version;
 import io.oxia.proto.GetResponse;
 import io.oxia.proto.PutResponse;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
@@ -54,6 +57,67 @@ public class ProtoUtil {
         return new GetResult(key, value, getVersionFromProto(response.getVersion()));
     }
 
+    /**
+     * Same as {@link #getResultFromProto(String, GetResponse)}, with the value decoded by {@code
+     * codec} when one is configured.
+     */
+    public static @NonNull GetResult getResultFromProto(
+            @NonNull String originalKey, @NonNull GetResponse response, ValueCodec codec) {
+        return decodeValue(getResultFromProto(originalKey, response), codec);
+    }
+
+    /**
+     * @return {@code result} with its value decoded by {@code codec}, or {@code result} itself when
+     *     there is no codec or the value was stored as-is
+     */
+    public static GetResult decodeValue(GetResult result, ValueCodec codec) {
+        if (codec == null || result == null) {
+            return result;
+        }
+        ByteBuffer stored = ByteBuffer.wrap(result.value());
+        ByteBuffer decoded = codec.decode(stored);
+        if (decoded == stored) {
+            return result;
+        }
+        byte[] value = new byte[decoded.remaining()];
+        decoded.get(decoded.position(), value);
+        return new GetResult(result.key(), value, result.version());
+    }
+
+    /**
+     * Decodes the value of {@code view} with {@code codec}. When the value was encoded, the view is
+     * closed and replaced by one over the decoded value; otherwise {@code view} is returned as-is.
+     */
+    public static GetResultView decodeValue(GetResultView view, ValueCodec codec) {
+        if (codec == null || view == null) {
+            return view;
+        }
+        ByteBuffer stored = view.value();
+        ByteBuffer decoded;
+        try {
+            decoded = codec.decode(stored);
+        } catch (RuntimeException e) {
+            view.close();
+            throw e;
+        }
+        if (decoded == stored) {
+            return view;
+        }
+        try (view) {
+            return new DecodedGetResultView(view.key(), decoded, view.version());
+        }
+    }
+
+    /**
+     * Wraps the response into a {@link GetResultView} that shares, rather than copies, its value. The
+     * returned view retains the response buffer until it is closed.
+     */
+    public static @NonNull GetResultView getResultViewFromProto(
+            @NonNull String originalKey, @NonNull GetResponse response) {
+        String key = response.hasKey() ? response.getKey() : originalKey;
+        return new ProtoGetResultView(key, response);
+    }
+
     public static @NonNull Version getVersionFromProto(@NonNull io.oxia.proto.Version version) {
         return new Version(
                 version.getVersionId(),
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.ListConsumer;
+import io.oxia.client.api.Notification;
+import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.notify.NotificationManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * {@link Flow.Publisher}s over the streaming operations of the client. They are cold: every
+ * subscription starts its own operation.
+ *
+ * <p>The range scans and the lists are flow-controlled: the shard streams are only asked for their
+ * next response once the subscriber has requested more than what was already delivered, so a slow
+ * subscriber throttles the server instead of growing the heap.
+ */
+@UtilityClass
+class Publishers {
+
+    /**
+     * @param scan starts a range scan, feeding its records to the given consumer
+     */
+    static Flow.Publisher<GetResult> rangeScan(@NonNull Consumer<RangeScanConsumer> scan) {
+        return subscriber -> {
+            var subscription = new RangeScanSubscription(Objects.requireNonNull(subscriber));
+            subscriber.onSubscribe(subscription);
+            start(subscription, () -> scan.accept(subscription));
+        };
+    }
+
+    /**
+     * @param list starts a list, feeding its keys to the given consumer
+     */
+    static Flow.Publisher<String> list(@NonNull Consumer<ListConsumer> list) {
+        return subscriber -> {
+            var subscription = new ListSubscription(Objects.requireNonNull(subscriber));
+            subscriber.onSubscribe(subscription);
+            start(subscription, () -> list.accept(subscription));
+        };
+    }
+
+    /**
+     * The notifications are shared by all the callbacks of the client, so they can't be throttled by
+     * a subscriber: the subscription fails when more than {@code bufferSize} of them are waiting for
+     * the subscriber to request them.
+     */
+    static Flow.Publisher<Notification> notifications(
+            @NonNull NotificationManager notificationManager, int bufferSize) {
+        return subscriber -> {
+            var subscription =
+                    new NotificationSubscription(
+                            Objects.requireNonNull(subscriber), notificationManager, bufferSize);
+            subscriber.onSubscribe(subscription);
+            start(
+                    subscription,
+                    () -> {
+                        notificationManager.registerCallback(subscription);
+                        // The subscription may have been cancelled while registering
+                        if (subscription.isTerminated()) {
+                            notificationManager.removeCallback(subscription);
+                        }
+                    });
+        };
+    }
+
+    private static void start(FlowSubscription<?> subscription, Runnable start) {
+        if (subscription.isTerminated()) {
+            return;
+        }
+        try {
+            start.run();
+        } catch (Exception e) {
+            subscription.fail(e);
+        }
+    }
+
+    /** Feeds a subscription from the flow-controlled streams of a range scan or a list. */
+    private abstract static class StreamSubscription<T> extends FlowSubscription<T>
+            implements FlowControlledRangeScanConsumer {
+
+        // Guarded by this
+        private final List<StreamHandle> streams = new ArrayList<>();
+        private final List<StreamHandle> idleStreams = new ArrayList<>();
+
+        StreamSubscription(Flow.Subscriber<? super T> subscriber) {
+            super(subscriber);
+        }
+
+        public boolean onNext(T item) {
+            return push(item);
+        }
+
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        public void onCompleted() {
+            complete();
+        }
+
+        @Override
+        public void onStreamStarted(StreamHandle handle) {
+            boolean cancelNow;
+            synchronized (this) {
+                cancelNow = isTerminated();
+                if (!cancelNow) {
+                    streams.add(handle);
+                }
+            }
+            if (cancelNow) {
+                handle.cancel();
+            }
+        }
+
+        @Override
+        public void onStreamIdle(StreamHandle handle) {
+            boolean requestNow;
+            synchronized (this) {
+                if (isTerminated()) {
+                    return;
+                }
+                requestNow = isWaiting();
+                if (!requestNow) {
+                    idleStreams.add(handle);
+                }
+            }
+            // Outside the lock: with a direct executor gRPC can deliver the next response inline
+            if (requestNow) {
+                handle.requestNext();
+            }
+        }
+
+        @Override
+        protected void onDemand() {
+            List<StreamHandle> toRequest;
+            synchronized (this) {
+                if (idleStreams.isEmpty()) {
+                    return;
+                }
+                toRequest = new ArrayList<>(idleStreams);
+                idleStreams.clear();
+            }
+            toRequest.forEach(StreamHandle::requestNext);
+        }
+
+        @Override
+        protected void onCancel() {
+            List<StreamHandle> toCancel;
+            synchronized (this) {
+                toCancel = new ArrayList<>(streams);
+                streams.clear();
+                idleStreams.clear();
+            }
+            toCancel.forEach(StreamHandle::cancel);
+        }
+    }
+
+    private static final class RangeScanSubscription extends StreamSubscription<GetResult>
+            implements RangeScanConsumer {
+        RangeScanSubscription(Flow.Subscriber<? super GetResult> subscriber) {
+            super(subscriber);
+        }
+    }
+
+    private static final class ListSubscription extends StreamSubscription<String>
+            implements ListConsumer {
+        ListSubscription(Flow.Subscriber<? super String> subscriber) {
+            super(subscriber);
+        }
+    }
+
+    private static final class NotificationSubscription extends FlowSubscription<Notification>
+            implements Consumer<Notification> {
+        private final NotificationManager notificationManager;
+        private final int bufferSize;
+
+        NotificationSubscription(
+                Flow.Subscriber<? super Notification> subscriber,
+                NotificationManager notificationManager,
+                int bufferSize) {
+            super(subscriber);
+            this.notificationManager = notificationManager;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public void accept(Notification notification) {
+            if (buffered() >= bufferSize) {
+                fail(
+                        new IllegalStateException(
+                                "The subscriber isn't keeping up with the notifications: "
+                                        + bufferSize
+                                        + " are waiting to be requested"));
+                return;
+            }
+            push(notification);
+        }
+
+        @Override
+        protected void onDemand() {}
+
+        @Override
+        protected void onCancel() {
+            notificationManager.removeCallback(this);
+        }
+    }
+}
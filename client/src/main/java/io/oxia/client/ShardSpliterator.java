@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.IteratorPrefetch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+
+/**
+ * A {@link Spliterator} over the records of a range scan that splits by shard, so that the shards
+ * can be consumed concurrently by a parallel stream.
+ *
+ * <p>A shard is only scanned once a split starts consuming it, through a {@link GetResultIterator}
+ * of its own: each shard stream is flow-controlled by the split that consumes it, instead of being
+ * serialized with the other shards into a single consumer.
+ */
+final class ShardSpliterator implements Spliterator<GetResult> {
+
+    private final Scan scan;
+    private final List<Long> shardIds;
+    private int index;
+    private int fence;
+    private GetResultIterator current;
+
+    /**
+     * @param shardIds the shards to scan
+     * @param prefetch the prefetch policy of the shard iterators
+     * @param open starts the scan of a shard, feeding its records to the given iterator
+     * @return a stream over all the shards, that cancels the shard scans still open when closed
+     */
+    static Stream<GetResult> stream(
+            @NonNull List<Long> shardIds,
+            @NonNull IteratorPrefetch prefetch,
+            @NonNull BiConsumer<Long, GetResultIterator> open) {
+        var scan = new Scan(prefetch, open);
+        return StreamSupport.stream(new ShardSpliterator(scan, shardIds, 0, shardIds.size()), false)
+                .onClose(scan::close);
+    }
+
+    private ShardSpliterator(Scan scan, List<Long> shardIds, int index, int fence) {
+        this.scan = scan;
+        this.shardIds = shardIds;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super GetResult> action) {
+        while (true) {
+            if (current == null) {
+                if (index >= fence) {
+                    return false;
+                }
+                current = scan.open(shardIds.get(index++));
+            }
+            if (current.hasNext()) {
+                action.accept(current.next());
+                return true;
+            }
+            scan.done(current);
+            current = null;
+        }
+    }
+
+    @Override
+    public Spliterator<GetResult> trySplit() {
+        // The shard being consumed stays with this split
+        int unopened = fence - index;
+        int keep = current == null ? (unopened + 1) / 2 : unopened / 2;
+        if (keep == unopened) {
+            return null;
+        }
+        int mid = index + keep;
+        var split = new ShardSpliterator(scan, shardIds, mid, fence);
+        fence = mid;
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return current == null && index >= fence ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return DISTINCT | NONNULL;
+    }
+
+    /** The shard scans of a stream, shared by all its splits. */
+    private static final class Scan {
+        private final IteratorPrefetch prefetch;
+        private final BiConsumer<Long, GetResultIterator> open;
+        private final List<GetResultIterator> active = new ArrayList<>();
+        private boolean closed;
+
+        Scan(IteratorPrefetch prefetch, BiConsumer<Long, GetResultIterator> open) {
+            this.prefetch = prefetch;
+            this.open = open;
+        }
+
+        GetResultIterator open(long shardId) {
+            var iterator = new GetResultIterator(prefetch);
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("Range scan stream is closed");
+                }
+                active.add(iterator);
+            }
+            open.accept(shardId, iterator);
+            return iterator;
+        }
+
+        synchronized void done(GetResultIterator iterator) {
+            active.remove(iterator);
+        }
+
+        void close() {
+            List<GetResultIterator> toClose;
+            synchronized (this) {
+                closed = true;
+                toClose = new ArrayList<>(active);
+                active.clear();
+            }
+            toClose.forEach(GetResultIterator::close);
+        }
+    }
+}
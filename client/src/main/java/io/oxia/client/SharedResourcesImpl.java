@@ -21,12 +21,14 @@ import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.oxia.client.api.Authentication;
+import io.oxia.client.api.BatcherWaitStrategy;
 import io.oxia.client.api.SharedResources;
 import io.oxia.client.batch.BatcherPool;
 import io.oxia.client.grpc.ConnectionManager;
 import io.oxia.client.grpc.RpcProvider;
 import io.oxia.client.metrics.InstrumentProvider;
 import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.DeadlineTimer;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -43,6 +45,7 @@ import lombok.NonNull;
  *
  * <ul>
  *   <li>a single background {@link ScheduledExecutorService};
+ *   <li>a single {@link DeadlineTimer} tracking request and write-stream deadlines;
  *   <li>a single {@link ConnectionManager} (gRPC channel pool) — namespaces are applied per-RPC, so
  *       connections are namespace-agnostic and shared across all clients;
  *   <li>one shard-assignment stream ({@link ShardManager}) per {@code (serviceAddress, namespace)}.
@@ -61,6 +64,8 @@ public class SharedResourcesImpl implements SharedResources {
     private final ConnectionManager connectionManager;
     private final BatcherPool readBatcherPool;
     private final BatcherPool writeBatcherPool;
+    private final DeadlineTimer timer;
+    private final InstrumentProvider timerInstrumentProvider;
     private final OpenTelemetry openTelemetry;
     private final Map<NamespaceKey, SharedNamespace> namespaces = new ConcurrentHashMap<>();
     private volatile boolean closed;
@@ -75,10 +80,18 @@ public class SharedResourcesImpl implements SharedResources {
                         numWorkerThreads, new DefaultThreadFactory("oxia-client-shared"));
         this.connectionManager = new ConnectionManager(transportConfig, executor);
         this.readBatcherPool =
-                new BatcherPool("oxia-shared-read-batcher", transportConfig.batchingThreads());
+                new BatcherPool(
+                        "oxia-shared-read-batcher",
+                        transportConfig.batchingThreads(),
+                        transportConfig.batcherWaitStrategy());
         this.writeBatcherPool =
-                new BatcherPool("oxia-shared-write-batcher", transportConfig.batchingThreads());
+                new BatcherPool(
+                        "oxia-shared-write-batcher",
+                        transportConfig.batchingThreads(),
+                        transportConfig.batcherWaitStrategy());
         this.openTelemetry = transportConfig.openTelemetry();
+        this.timerInstrumentProvider = new InstrumentProvider(openTelemetry, null);
+        this.timer = new DeadlineTimer("oxia-shared-timer", timerInstrumentProvider);
     }
 
     ScheduledExecutorService executor() {
@@ -97,6 +110,10 @@ public class SharedResourcesImpl implements SharedResources {
         return writeBatcherPool;
     }
 
+    DeadlineTimer timer() {
+        return timer;
+    }
+
     /** The number of currently-open shared connections. Exposed to demonstrate connection sharing. */
     @VisibleForTesting
     public int getConnectionCount() {
@@ -127,15 +144,21 @@ public class SharedResourcesImpl implements SharedResources {
     private SharedNamespace createNamespace(@NonNull ClientConfig config) {
         // The shard-assignment stream is shared, so attribute its metrics to the pool's OpenTelemetry
         // rather than to whichever client happened to create the namespace first.
-        var instrumentProvider = new InstrumentProvider(openTelemetry, config.namespace());
+        var instrumentProvider =
+                new InstrumentProvider(openTelemetry, config.namespace(), config.metricsLevel());
         var shardManagerRef = new AtomicReference<ShardManager>();
         var rpcProvider =
                 RpcProvider.create(
-                        config, executor, connectionManager, shardId -> shardManagerRef.get().leader(shardId));
+                        config,
+                        executor,
+                        connectionManager,
+                        timer,
+                        shardId -> shardManagerRef.get().leader(shardId));
         var shardManager =
                 new ShardManager(executor, rpcProvider, instrumentProvider, config.namespace());
         shardManagerRef.set(shardManager);
-        return new SharedNamespace(rpcProvider, shardManager, shardManager.start());
+        return new SharedNamespace(
+                instrumentProvider, rpcProvider, shardManager, shardManager.start());
     }
 
     @Override
@@ -153,6 +176,7 @@ public class SharedResourcesImpl implements SharedResources {
             } catch (Exception e) {
                 log.warn().exception(e).log("Failed to close shared shard RpcProvider");
             }
+            ns.instrumentProvider().close();
         }
         namespaces.clear();
         try {
@@ -162,18 +186,25 @@ public class SharedResourcesImpl implements SharedResources {
         }
         readBatcherPool.close();
         writeBatcherPool.close();
+        timer.close();
+        timerInstrumentProvider.close();
         executor.shutdownNow();
     }
 
     record NamespaceKey(String serviceAddress, String namespace) {}
 
     private record SharedNamespace(
-            RpcProvider rpcProvider, ShardManager shardManager, CompletableFuture<Void> started) {}
+            InstrumentProvider instrumentProvider,
+            RpcProvider rpcProvider,
+            ShardManager shardManager,
+            CompletableFuture<Void> started) {}
 
     /** Builder for {@link SharedResourcesImpl}. */
     public static final class Builder implements SharedResources.Builder {
         private int numWorkerThreads = Runtime.getRuntime().availableProcessors();
         private int batchingThreads = OxiaClientBuilderImpl.DefaultBatchingThreads;
+        private BatcherWaitStrategy batcherWaitStrategy =
+                OxiaClientBuilderImpl.DefaultBatcherWaitStrategy;
         private boolean enableTls = OxiaClientBuilderImpl.DefaultEnableTls;
         private Authentication authentication;
         private Duration connectionKeepAliveTime = Duration.ofSeconds(10);
@@ -203,6 +234,13 @@ public class SharedResourcesImpl implements SharedResources {
             return this;
         }
 
+        @Override
+        public SharedResources.Builder batcherWaitStrategy(
+                @NonNull BatcherWaitStrategy batcherWaitStrategy) {
+            this.batcherWaitStrategy = batcherWaitStrategy;
+            return this;
+        }
+
         @Override
         public SharedResources.Builder enableTls(boolean enableTls) {
             this.enableTls = enableTls;
@@ -273,7 +311,16 @@ public class SharedResourcesImpl implements SharedResources {
                             connectionBackoffMaxDelay,
                             connectionKeepAliveTime,
                             connectionKeepAliveTimeout,
-                            maxConnectionPerNode);
+                            maxConnectionPerNode,
+                            OxiaClientBuilderImpl.DefaultMetricsLevel,
+                            batcherWaitStrategy,
+                            OxiaClientBuilderImpl.DefaultMaxBatchLinger,
+                            0,
+                            0,
+                            false,
+                            0L,
+                            null,
+                            0);
             return new SharedResourcesImpl(numWorkerThreads, transportConfig);
         }
     }
@@ -15,10 +15,13 @@
  */
 package io.oxia.client;
 
-import io.oxia.client.api.AsyncOxiaClient;
 import io.oxia.client.api.CloseableIterable;
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
+import io.oxia.client.api.IteratorPrefetch;
+import io.oxia.client.api.MaterializedView;
 import io.oxia.client.api.Notification;
+import io.oxia.client.api.Page;
 import io.oxia.client.api.PutResult;
 import io.oxia.client.api.SyncOxiaClient;
 import io.oxia.client.api.exceptions.UnexpectedVersionIdException;
@@ -30,13 +33,17 @@ import io.oxia.client.api.options.ListOption;
 import io.oxia.client.api.options.PutOption;
 import io.oxia.client.api.options.RangeScanOption;
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -44,7 +51,12 @@ import lombok.SneakyThrows;
 
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 class SyncOxiaClientImpl implements SyncOxiaClient {
-    private final AsyncOxiaClient asyncClient;
+    private final AsyncOxiaClientImpl asyncClient;
+    private final IteratorPrefetch iteratorPrefetch;
+
+    SyncOxiaClientImpl(AsyncOxiaClientImpl asyncClient) {
+        this(asyncClient, IteratorPrefetch.NONE);
+    }
 
     @Override
     public PutResult put(@NonNull String key, byte @NonNull [] value) {
@@ -65,6 +77,44 @@ class SyncOxiaClientImpl implements SyncOxiaClient {
         }
     }
 
+    @Override
+    public PutResult putBuffer(@NonNull String key, @NonNull ByteBuffer value) {
+        return putBuffer(key, value, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public @NonNull PutResult putBuffer(
+            @NonNull String key, @NonNull ByteBuffer value, @NonNull Set<PutOption> options) {
+        try {
+            return asyncClient.putBuffer(key, value, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public Map<String, PutResult> putAll(@NonNull Map<String, byte[]> records) {
+        return putAll(records, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public Map<String, PutResult> putAll(
+            @NonNull Map<String, byte[]> records, @NonNull Set<PutOption> options) {
+        try {
+            return asyncClient.putAll(records, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
     @SneakyThrows
     @Override
     public boolean delete(@NonNull String key) {
@@ -85,6 +135,25 @@ class SyncOxiaClientImpl implements SyncOxiaClient {
         }
     }
 
+    @Override
+    public Map<String, Boolean> deleteAll(@NonNull Collection<String> keys) {
+        return deleteAll(keys, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public Map<String, Boolean> deleteAll(
+            @NonNull Collection<String> keys, @NonNull Set<DeleteOption> options) {
+        try {
+            return asyncClient.deleteAll(keys, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
     @SneakyThrows
     @Override
     public void deleteRange(@NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
@@ -126,6 +195,52 @@ class SyncOxiaClientImpl implements SyncOxiaClient {
         }
     }
 
+    @Override
+    public Map<String, GetResult> getAll(@NonNull Collection<String> keys) {
+        return getAll(keys, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public Map<String, GetResult> getAll(
+            @NonNull Collection<String> keys, @NonNull Set<GetOption> options) {
+        try {
+            return asyncClient.getAll(keys, options).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public GetResultView getView(@NonNull String key) {
+        return getView(key, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public GetResultView getView(@NonNull String key, @NonNull Set<GetOption> options) {
+        var future = asyncClient.getView(key, options);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // Nobody will receive the view anymore
+            future.thenAccept(SyncOxiaClientImpl::closeView);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void closeView(GetResultView view) {
+        if (view != null) {
+            view.close();
+        }
+    }
+
     @SneakyThrows
     @Override
     public @NonNull List<String> list(
@@ -149,11 +264,60 @@ class SyncOxiaClientImpl implements SyncOxiaClient {
         }
     }
 
+    @SneakyThrows
+    @Override
+    public @NonNull Page<String> listPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken) {
+        return listPage(
+                startKeyInclusive, endKeyExclusive, pageSize, continuationToken, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public @NonNull Page<String> listPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            @NonNull Set<ListOption> options) {
+        try {
+            return asyncClient
+                    .listPage(startKeyInclusive, endKeyExclusive, pageSize, continuationToken, options)
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     public void notifications(@NonNull Consumer<Notification> notificationCallback) {
         asyncClient.notifications(notificationCallback);
     }
 
+    @SneakyThrows
+    @Override
+    public MaterializedView materializedView(
+            @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        var view = asyncClient.materializedView(startKeyInclusive, endKeyExclusive);
+        try {
+            view.ready().get();
+            return view;
+        } catch (InterruptedException e) {
+            view.close();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            view.close();
+            throw e.getCause();
+        }
+    }
+
     @Override
     public Closeable getSequenceUpdates(
             @NonNull String key,
@@ -162,6 +326,92 @@ class SyncOxiaClientImpl implements SyncOxiaClient {
         return asyncClient.getSequenceUpdates(key, listener, options);
     }
 
+    @Override
+    public CloseableIterable<String> listIterable(
+            @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        return listIterable(startKeyInclusive, endKeyExclusive, Collections.emptySet());
+    }
+
+    @Override
+    public CloseableIterable<String> listIterable(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            Set<ListOption> options) {
+        return new CloseableIterable<>() {
+            private final List<KeyIterator> active = new ArrayList<>();
+            private boolean closed = false;
+
+            @Override
+            public synchronized Iterator<String> iterator() {
+                if (closed) {
+                    throw new IllegalStateException("List iterable is closed");
+                }
+                KeyIterator ki = new KeyIterator();
+                active.add(ki);
+                asyncClient.list(startKeyInclusive, endKeyExclusive, ki, options);
+                return ki;
+            }
+
+            @Override
+            public synchronized void close() {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                for (KeyIterator ki : active) {
+                    ki.close();
+                }
+                active.clear();
+            }
+        };
+    }
+
+    @Override
+    public Stream<GetResult> rangeScanStream(
+            @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
+        return rangeScanStream(startKeyInclusive, endKeyExclusive, Collections.emptySet());
+    }
+
+    @Override
+    public Stream<GetResult> rangeScanStream(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            @NonNull Set<RangeScanOption> options) {
+        return asyncClient.rangeScanStream(
+                startKeyInclusive, endKeyExclusive, options, iteratorPrefetch);
+    }
+
+    @SneakyThrows
+    @Override
+    public @NonNull Page<GetResult> rangeScanPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken) {
+        return rangeScanPage(
+                startKeyInclusive, endKeyExclusive, pageSize, continuationToken, Collections.emptySet());
+    }
+
+    @SneakyThrows
+    @Override
+    public @NonNull Page<GetResult> rangeScanPage(
+            @NonNull String startKeyInclusive,
+            @NonNull String endKeyExclusive,
+            int pageSize,
+            String continuationToken,
+            @NonNull Set<RangeScanOption> options) {
+        try {
+            return asyncClient
+                    .rangeScanPage(startKeyInclusive, endKeyExclusive, pageSize, continuationToken, options)
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     public CloseableIterable<GetResult> rangeScan(
             @NonNull String startKeyInclusive, @NonNull String endKeyExclusive) {
@@ -182,7 +432,7 @@ class SyncOxiaClientImpl implements SyncOxiaClient {
                 if (closed) {
                     throw new IllegalStateException("Range scan iterable is closed");
                 }
-                GetResultIterator gri = new GetResultIterator();
+                GetResultIterator gri = new GetResultIterator(iteratorPrefetch);
                 active.add(gri);
                 asyncClient.rangeScan(startKeyInclusive, endKeyExclusive, gri, options);
                 return gri;
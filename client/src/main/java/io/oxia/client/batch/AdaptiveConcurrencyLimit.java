@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.batch;
+
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.metrics.Unit;
+import io.oxia.client.metrics.UpDownCounter;
+
+/**
+ * Gradient-style concurrency limit for the {@link DispatchWindow} of one (client, shard) pair,
+ * adapted from the round-trip time of the shard's requests.
+ *
+ * <p>Each RTT sample is compared with a long-term average of the RTT. While the samples stay close
+ * to the average, the leader is keeping up and the limit grows by about its square root per sample.
+ * When the samples rise above the average, requests are queueing at the leader and the limit
+ * shrinks in proportion, by at most half. A failed request cuts the limit by a tenth. The limit
+ * only grows while at least half of it is in use, so that a lightly loaded shard does not build up
+ * a limit it has never exercised, and it always stays within the configured bounds.
+ *
+ * <p>Not thread-safe: it is only accessed under the lock of its window.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    // Weight of the new limit computed from a sample
+    private static final double SMOOTHING = 0.2;
+
+    // Weight of a sample in the long-term RTT average
+    private static final double LONG_RTT_WEIGHT = 0.01;
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final UpDownCounter limitGauge;
+
+    private double limit;
+    private double longRttNanos = Double.NaN;
+    private int publishedLimit;
+
+    AdaptiveConcurrencyLimit(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            InstrumentProvider instrumentProvider,
+            Attributes attributes) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Invalid concurrency limit bounds: [" + minLimit + ", " + maxLimit + "]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = clamp(initialLimit);
+        this.limitGauge =
+                instrumentProvider.newUpDownCounter(
+                        "oxia.client.batch.inflight.limit",
+                        Unit.Requests,
+                        "The current limit of batches in flight to a shard",
+                        attributes);
+        publish();
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    /** A request completed after {@code rttNanos}, with {@code inFlight} requests outstanding. */
+    void onSample(long rttNanos, int inFlight) {
+        double rtt = Math.max(rttNanos, 1);
+        if (Double.isNaN(longRttNanos)) {
+            longRttNanos = rtt;
+        } else {
+            longRttNanos += LONG_RTT_WEIGHT * (rtt - longRttNanos);
+        }
+        if (longRttNanos > 2 * rtt) {
+            // Latency dropped well below the average (e.g. after a leader move): catch up faster
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longRttNanos / rtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        publish();
+    }
+
+    /** A request failed. */
+    void onDrop() {
+        limit = clamp(limit * BACKOFF_RATIO);
+        publish();
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    private void publish() {
+        int current = limit();
+        if (current != publishedLimit) {
+            limitGauge.add(current - publishedLimit);
+            publishedLimit = current;
+        }
+    }
+}
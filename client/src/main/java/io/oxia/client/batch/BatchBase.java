@@ -15,6 +15,7 @@
  */
 package io.oxia.client.batch;
 
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.RpcProvider;
 import lombok.Getter;
 import lombok.NonNull;
@@ -22,11 +23,13 @@ import lombok.NonNull;
 abstract class BatchBase {
     protected final @NonNull RpcProvider rpcProvider;
     @Getter private final long shardId;
+    @Getter private final @NonNull Priority priority;
 
     @Getter private final long startTimeNanos = System.nanoTime();
 
-    BatchBase(@NonNull RpcProvider rpcProvider, long shardId) {
+    BatchBase(@NonNull RpcProvider rpcProvider, long shardId, @NonNull Priority priority) {
         this.rpcProvider = rpcProvider;
         this.shardId = shardId;
+        this.priority = priority;
     }
 }
@@ -18,6 +18,7 @@ package io.oxia.client.batch;
 import static lombok.AccessLevel.PACKAGE;
 
 import io.oxia.client.ClientConfig;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.RpcProvider;
 import lombok.Getter;
 import lombok.NonNull;
@@ -30,13 +31,22 @@ abstract class BatchFactory {
     @Getter(PACKAGE)
     private final @NonNull ClientConfig config;
 
-    public abstract Batch getBatch(long shardId);
+    /** A new batch for the operations of the given priority on the given shard. */
+    public abstract Batch getBatch(long shardId, @NonNull Priority priority);
 
     /** The in-flight dispatch window for the given shard, or null when dispatch is unwindowed. */
     DispatchWindow getDispatchWindow(long shardId) {
         return null;
     }
 
+    /**
+     * The controller that decides how long to hold the open batch of the given shard when the batcher
+     * goes idle, or null when batches are flushed as soon as it does.
+     */
+    LingerController getLingerController(long shardId) {
+        return null;
+    }
+
     /** Fail every batch still held back by this factory's dispatch windows — the client closes. */
     void failWindows(Throwable error) {}
 }
@@ -16,9 +16,11 @@
 package io.oxia.client.batch;
 
 import io.oxia.client.ClientConfig;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.RpcProvider;
 import io.oxia.client.metrics.InstrumentProvider;
 import io.oxia.client.session.SessionManager;
+import java.util.List;
 import lombok.NonNull;
 
 /**
@@ -44,10 +46,37 @@ public class BatchManager implements AutoCloseable {
     }
 
     public void add(@NonNull Operation<?> operation) {
+        add(operation, Priority.Interactive);
+    }
+
+    /** Submits an operation to the batches of the given priority. */
+    public void add(@NonNull Operation<?> operation, @NonNull Priority priority) {
         if (closed) {
             throw new IllegalStateException("Batch manager is closed");
         }
-        pool.route(factory, operation);
+        pool.route(factory, operation, priority);
+    }
+
+    /**
+     * Submits operations that all target {@code shardId} in one go. They are handed to the shard's
+     * batcher as a single command and added to its batches in order.
+     */
+    public void addAll(long shardId, @NonNull List<? extends Operation<?>> operations) {
+        addAll(shardId, operations, Priority.Interactive);
+    }
+
+    /** Submits operations that all target {@code shardId} to the batches of the given priority. */
+    public void addAll(
+            long shardId,
+            @NonNull List<? extends Operation<?>> operations,
+            @NonNull Priority priority) {
+        if (closed) {
+            throw new IllegalStateException("Batch manager is closed");
+        }
+        if (operations.isEmpty()) {
+            return;
+        }
+        pool.routeAll(factory, shardId, operations, priority);
     }
 
     @Override
@@ -18,8 +18,14 @@ package io.oxia.client.batch;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import io.oxia.client.api.BatcherWaitStrategy;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.util.BatchedArrayBlockingQueue;
+import io.oxia.client.util.BatchedBlockingQueue;
+import io.oxia.client.util.MpscArrayBlockingQueue;
+import io.oxia.client.util.MpscArrayBlockingQueue.WaitStrategy;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
@@ -34,21 +40,35 @@ import lombok.NonNull;
  * <p>Each operation carries the {@link BatchFactory} of the client that submitted it (the factory
  * binds to that client's {@code RpcProvider}, session and config), so a single batcher can serve
  * many clients without being tied to any one of them.
+ *
+ * <p>Each operation also carries a {@link Priority}. Interactive and bulk operations on the same
+ * shard go to separate batches, which the shard's {@link DispatchWindow} dispatches through
+ * separate lanes, so a large bulk batch never delays an interactive operation by sharing its
+ * request.
  */
 final class Batcher implements AutoCloseable {
 
     private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
 
-    /** Identifies an open batch: the submitting client's factory and the target shard. */
-    private record BatchKey(BatchFactory factory, long shardId) {}
+    /**
+     * Identifies an open batch: the submitting client's factory, the target shard and the priority of
+     * its operations.
+     */
+    private record BatchKey(BatchFactory factory, long shardId, Priority priority) {}
+
+    sealed interface Command permits Enqueue, EnqueueAll, CloseFactory {}
 
-    sealed interface Command permits Enqueue, CloseFactory {}
+    record Enqueue(BatchFactory factory, Operation<?> operation, Priority priority)
+            implements Command {}
 
-    record Enqueue(BatchFactory factory, Operation<?> operation) implements Command {}
+    /** Operations submitted together, e.g. the keys of a multi-key call that map to one shard. */
+    record EnqueueAll(
+            BatchFactory factory, List<? extends Operation<?>> operations, Priority priority)
+            implements Command {}
 
     record CloseFactory(BatchFactory factory, CompletableFuture<Void> done) implements Command {}
 
-    @NonNull private final BatchedArrayBlockingQueue<Command> commands;
+    @NonNull private final BatchedBlockingQueue<Command> commands;
 
     // Open batches, grouped by (client factory, shard). Only accessed by the batcher thread.
     private final Map<BatchKey, Batch> openBatches = new HashMap<>();
@@ -57,17 +77,49 @@ final class Batcher implements AutoCloseable {
     private volatile boolean closed;
 
     Batcher(String name) {
-        this.commands = new BatchedArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY);
+        this(name, BatcherWaitStrategy.BLOCKING);
+    }
+
+    Batcher(String name, @NonNull BatcherWaitStrategy waitStrategy) {
+        this.commands = newCommandQueue(waitStrategy);
         this.thread = new DefaultThreadFactory(name).newThread(this::batcherLoop);
         this.thread.start();
     }
 
-    <R> void add(@NonNull BatchFactory factory, @NonNull Operation<R> operation) {
+    private static BatchedBlockingQueue<Command> newCommandQueue(BatcherWaitStrategy waitStrategy) {
+        return switch (waitStrategy) {
+            case BLOCKING -> new BatchedArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY);
+            case SPIN_THEN_PARK ->
+                    new MpscArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY, WaitStrategy.SPIN_THEN_PARK);
+            case PARK -> new MpscArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY, WaitStrategy.PARK);
+        };
+    }
+
+    <R> void add(
+            @NonNull BatchFactory factory,
+            @NonNull Operation<R> operation,
+            @NonNull Priority priority) {
         if (closed) {
             operation.fail(new IllegalStateException("Batcher has been closed"));
             return;
         }
-        put(new Enqueue(factory, operation));
+        put(new Enqueue(factory, operation, priority));
+    }
+
+    /**
+     * Enqueues a group of operations as a single command, so that they take one slot of the queue and
+     * a single producer-side hand-off regardless of their number.
+     */
+    void addAll(
+            @NonNull BatchFactory factory,
+            @NonNull List<? extends Operation<?>> operations,
+            @NonNull Priority priority) {
+        if (closed) {
+            var closedException = new IllegalStateException("Batcher has been closed");
+            operations.forEach(operation -> operation.fail(closedException));
+            return;
+        }
+        put(new EnqueueAll(factory, operations, priority));
     }
 
     /**
@@ -112,12 +164,15 @@ final class Batcher implements AutoCloseable {
                         count = commands.pollAll(local, 0, NANOSECONDS);
                         if (count == 0) {
                             // Queue is empty — no concurrent producers are filling it right
-                            // now. Flush the open batches immediately rather than lingering,
-                            // since there is nothing to batch with.
-                            sendAll();
+                            // now. Flush the open batches immediately, unless their shard's
+                            // linger controller expects more operations shortly.
+                            long lingerNanos = sendAll();
 
-                            // Block until the next command arrives.
-                            count = commands.takeAll(local);
+                            // Block until the next command arrives, or a held batch is due.
+                            count =
+                                    lingerNanos > 0
+                                            ? commands.pollAll(local, lingerNanos, NANOSECONDS)
+                                            : commands.takeAll(local);
                         }
                     }
                     index = 0;
@@ -131,7 +186,11 @@ final class Batcher implements AutoCloseable {
             Command command = local[index];
             local[index++] = null;
             if (command instanceof Enqueue enqueue) {
-                process(enqueue.factory(), enqueue.operation());
+                process(enqueue.factory(), enqueue.operation(), enqueue.priority());
+            } else if (command instanceof EnqueueAll enqueueAll) {
+                for (Operation<?> operation : enqueueAll.operations()) {
+                    process(enqueueAll.factory(), operation, enqueueAll.priority());
+                }
             } else if (command instanceof CloseFactory closeFactory) {
                 closeFactoryBatches(closeFactory.factory());
                 closeFactory.done().complete(null);
@@ -139,28 +198,32 @@ final class Batcher implements AutoCloseable {
         }
     }
 
-    private void process(BatchFactory factory, Operation<?> operation) {
-        var key = new BatchKey(factory, operation.shardId());
+    private void process(BatchFactory factory, Operation<?> operation, Priority priority) {
+        var key = new BatchKey(factory, operation.shardId(), priority);
         try {
+            LingerController lingerController = factory.getLingerController(operation.shardId());
+            if (lingerController != null) {
+                lingerController.onArrival(System.nanoTime());
+            }
             Batch batch = openBatches.get(key);
             if (batch == null) {
                 // Take back a batch parked in the shard's dispatch window, if any: it must keep
                 // accumulating, and stay ahead of newer operations, until a slot frees up.
                 DispatchWindow window = factory.getDispatchWindow(operation.shardId());
-                batch = window != null ? window.reclaim() : null;
+                batch = window != null ? window.reclaim(priority) : null;
                 if (batch == null) {
-                    batch = factory.getBatch(operation.shardId());
+                    batch = factory.getBatch(operation.shardId(), priority);
                 }
                 openBatches.put(key, batch);
             }
             if (!batch.canAdd(operation) && batch.size() > 0) {
-                send(factory, operation.shardId(), batch);
-                batch = factory.getBatch(operation.shardId());
+                send(factory, operation.shardId(), priority, batch);
+                batch = factory.getBatch(operation.shardId(), priority);
                 openBatches.put(key, batch);
             }
             batch.add(operation);
             if (batch.size() >= factory.getConfig().maxRequestsPerBatch()) {
-                send(factory, operation.shardId(), batch);
+                send(factory, operation.shardId(), priority, batch);
                 openBatches.remove(key);
             }
         } catch (Exception e) {
@@ -189,29 +252,47 @@ final class Batcher implements AutoCloseable {
     }
 
     // Dispatch a batch that takes no more operations, through the shard's window when it has one.
-    private static void send(BatchFactory factory, long shardId, Batch batch) {
+    private static void send(BatchFactory factory, long shardId, Priority priority, Batch batch) {
         DispatchWindow window = factory.getDispatchWindow(shardId);
         if (window == null) {
             batch.send();
         } else {
-            window.send(batch);
+            window.send(batch, priority);
         }
     }
 
-    private void sendAll() {
-        openBatches.forEach(
-                (key, batch) -> {
-                    // If the shard's window is exhausted, the batch is parked instead: it is
-                    // flushed when an in-flight request completes, or reclaimed to accumulate
-                    // more operations.
-                    DispatchWindow window = key.factory().getDispatchWindow(key.shardId());
-                    if (window == null) {
-                        batch.send();
-                    } else {
-                        window.sendOrPark(batch);
-                    }
-                });
-        openBatches.clear();
+    /**
+     * Flush the open batches, except those that their shard's linger controller decides to hold a
+     * little longer. Returns the time until the earliest held batch is due, or 0 if none is held.
+     */
+    private long sendAll() {
+        long now = System.nanoTime();
+        long nextDueNanos = Long.MAX_VALUE;
+        var it = openBatches.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            var key = entry.getKey();
+            Batch batch = entry.getValue();
+            DispatchWindow window = key.factory().getDispatchWindow(key.shardId());
+            LingerController lingerController = key.factory().getLingerController(key.shardId());
+            if (lingerController != null) {
+                long lingerNanos = lingerController.lingerNanos(batch.size(), window);
+                long dueNanos = batch.getStartTimeNanos() + lingerNanos - now;
+                if (dueNanos > 0) {
+                    nextDueNanos = Math.min(nextDueNanos, dueNanos);
+                    continue;
+                }
+            }
+            // If the shard's window is exhausted, the batch is parked instead: it is flushed when
+            // an in-flight request completes, or reclaimed to accumulate more operations.
+            if (window == null) {
+                batch.send();
+            } else {
+                window.sendOrPark(batch, key.priority());
+            }
+            it.remove();
+        }
+        return nextDueNanos == Long.MAX_VALUE ? 0 : nextDueNanos;
     }
 
     private void failPending() {
@@ -222,6 +303,8 @@ final class Batcher implements AutoCloseable {
         while ((command = commands.poll()) != null) {
             if (command instanceof Enqueue enqueue) {
                 enqueue.operation().fail(closedException);
+            } else if (command instanceof EnqueueAll enqueueAll) {
+                enqueueAll.operations().forEach(operation -> operation.fail(closedException));
             } else if (command instanceof CloseFactory closeFactory) {
                 closeFactory.done().complete(null);
             }
@@ -15,6 +15,9 @@
  */
 package io.oxia.client.batch;
 
+import io.oxia.client.api.BatcherWaitStrategy;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 
@@ -31,14 +34,33 @@ public final class BatcherPool implements AutoCloseable {
     private final Batcher[] batchers;
 
     public BatcherPool(@NonNull String name, int batchingThreads) {
+        this(name, batchingThreads, BatcherWaitStrategy.BLOCKING);
+    }
+
+    public BatcherPool(
+            @NonNull String name, int batchingThreads, @NonNull BatcherWaitStrategy waitStrategy) {
         this.batchers = new Batcher[batchingThreads];
         for (int i = 0; i < batchingThreads; i++) {
-            batchers[i] = new Batcher(name + "-" + i);
+            batchers[i] = new Batcher(name + "-" + i, waitStrategy);
         }
     }
 
-    void route(@NonNull BatchFactory factory, @NonNull Operation<?> operation) {
-        batchers[(int) Math.floorMod(operation.shardId(), batchers.length)].add(factory, operation);
+    void route(
+            @NonNull BatchFactory factory,
+            @NonNull Operation<?> operation,
+            @NonNull Priority priority) {
+        batchers[(int) Math.floorMod(operation.shardId(), batchers.length)]
+                .add(factory, operation, priority);
+    }
+
+    /** Routes a group of operations that all target {@code shardId} as a single command. */
+    void routeAll(
+            @NonNull BatchFactory factory,
+            long shardId,
+            @NonNull List<? extends Operation<?>> operations,
+            @NonNull Priority priority) {
+        batchers[(int) Math.floorMod(shardId, batchers.length)]
+                .addAll(factory, operations, priority);
     }
 
     /**
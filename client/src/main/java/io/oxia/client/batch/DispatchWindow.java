@@ -15,6 +15,7 @@
  */
 package io.oxia.client.batch;
 
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,32 +37,78 @@ import java.util.concurrent.locks.ReentrantLock;
  * batches complete. The batcher parks the open batch only when it goes idle, and takes it back
  * through {@link #reclaim} before opening a new batch for the shard, so the parked batch always
  * carries the youngest operations and dispatch order matches submission order.
+ *
+ * <p>The limit is either fixed, or adapted from the round-trip time of the completed requests by an
+ * {@link AdaptiveConcurrencyLimit}, so that each shard leader gets a window that tracks its
+ * available capacity.
+ *
+ * <p>The slots are shared by two lanes, one per {@link Priority}, each with its own held batches.
+ * Bulk batches may take at most {@link #BULK_SHARE_PERCENT} of the slots, so the rest is always
+ * available to interactive batches, which may also use every slot that bulk batches leave free. As
+ * slots free up, held interactive batches are dispatched before held bulk ones. Dispatch order is
+ * preserved within a lane, not across lanes.
  */
 final class DispatchWindow {
 
+    // Share of the slots that bulk batches may take, though never less than one slot.
+    static final int BULK_SHARE_PERCENT = 75;
+
     private final ReentrantLock lock = new ReentrantLock();
-    private final int maxBatchesInFlight;
+    private final AdaptiveConcurrencyLimit adaptiveLimit;
+    private int maxBatchesInFlight;
     private int batchesInFlight;
 
-    // Full batches waiting for a slot, oldest first.
-    private final ArrayDeque<Batch> readyBatches = new ArrayDeque<>();
+    // Indexed by priority ordinal.
+    private final Lane[] lanes = {new Lane(), new Lane()};
 
-    // Open batch parked at idle, awaiting either a slot or more operations.
-    private Batch parkedBatch;
+    private static final class Lane {
+        private int batchesInFlight;
+
+        // Full batches waiting for a slot, oldest first.
+        private final ArrayDeque<Batch> readyBatches = new ArrayDeque<>();
+
+        // Open batch parked at idle, awaiting either a slot or more operations.
+        private Batch parkedBatch;
+    }
 
     DispatchWindow(int maxBatchesInFlight) {
+        this.adaptiveLimit = null;
         this.maxBatchesInFlight = maxBatchesInFlight;
     }
 
+    DispatchWindow(AdaptiveConcurrencyLimit adaptiveLimit) {
+        this.adaptiveLimit = adaptiveLimit;
+        this.maxBatchesInFlight = adaptiveLimit.limit();
+    }
+
+    /** The current limit of batches in flight. */
+    int limit() {
+        lock.lock();
+        try {
+            return maxBatchesInFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /** Dispatch a batch that accepts no more operations, queueing it if the window is exhausted. */
     void send(Batch batch) {
+        send(batch, Priority.Interactive);
+    }
+
+    /**
+     * Dispatch a batch of the given priority that accepts no more operations, queueing it if its lane
+     * has no free slot.
+     */
+    void send(Batch batch, Priority priority) {
         lock.lock();
         try {
-            if (batchesInFlight >= maxBatchesInFlight) {
-                readyBatches.addLast(batch);
+            Lane lane = lanes[priority.ordinal()];
+            if (!hasFreeSlot(priority)) {
+                lane.readyBatches.addLast(batch);
                 return;
             }
-            batchesInFlight++;
+            acquire(lane);
         } finally {
             lock.unlock();
         }
@@ -74,25 +121,47 @@ final class DispatchWindow {
      * batcher through {@link #reclaim} to accumulate more operations.
      */
     void sendOrPark(Batch batch) {
+        sendOrPark(batch, Priority.Interactive);
+    }
+
+    /** Dispatch the open batch of the given priority, or park it in its lane. */
+    void sendOrPark(Batch batch, Priority priority) {
         lock.lock();
         try {
-            if (batchesInFlight >= maxBatchesInFlight) {
-                parkedBatch = batch;
+            Lane lane = lanes[priority.ordinal()];
+            if (!hasFreeSlot(priority)) {
+                lane.parkedBatch = batch;
                 return;
             }
-            batchesInFlight++;
+            acquire(lane);
         } finally {
             lock.unlock();
         }
         batch.send();
     }
 
+    /** Whether every slot is in use, so that a batch sent now would be held back. */
+    boolean isExhausted() {
+        lock.lock();
+        try {
+            return batchesInFlight >= maxBatchesInFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /** Take back the parked batch, if it has not been flushed yet. */
     Batch reclaim() {
+        return reclaim(Priority.Interactive);
+    }
+
+    /** Take back the parked batch of the given priority, if it has not been flushed yet. */
+    Batch reclaim(Priority priority) {
         lock.lock();
         try {
-            Batch batch = parkedBatch;
-            parkedBatch = null;
+            Lane lane = lanes[priority.ordinal()];
+            Batch batch = lane.parkedBatch;
+            lane.parkedBatch = null;
             return batch;
         } finally {
             lock.unlock();
@@ -104,35 +173,127 @@ final class DispatchWindow {
      * queued, flushing the parked batch.
      */
     void release() {
+        release(Priority.Interactive);
+    }
+
+    /** Return the slot of a completed batch of the given priority. */
+    void release(Priority priority) {
         lock.lock();
         try {
-            batchesInFlight--;
-            Batch next = readyBatches.pollFirst();
-            if (next == null) {
-                next = parkedBatch;
-                parkedBatch = null;
+            releaseSlot(priority);
+            dispatchHeldBatches();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Return the slot of a batch whose request succeeded after {@code rttNanos}. */
+    void release(long rttNanos) {
+        release(Priority.Interactive, rttNanos);
+    }
+
+    /** Return the slot of a batch of the given priority whose request succeeded. */
+    void release(Priority priority, long rttNanos) {
+        lock.lock();
+        try {
+            if (adaptiveLimit != null) {
+                adaptiveLimit.onSample(rttNanos, batchesInFlight);
+                maxBatchesInFlight = adaptiveLimit.limit();
             }
-            if (next != null) {
-                batchesInFlight++;
-                // Send while holding the lock: a slot freed concurrently must not let the batcher
-                // dispatch a newer batch ahead of this one.
-                next.send();
+            releaseSlot(priority);
+            dispatchHeldBatches();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Return the slot of a batch whose request failed. */
+    void releaseFailed() {
+        releaseFailed(Priority.Interactive);
+    }
+
+    /** Return the slot of a batch of the given priority whose request failed. */
+    void releaseFailed(Priority priority) {
+        lock.lock();
+        try {
+            if (adaptiveLimit != null) {
+                adaptiveLimit.onDrop();
+                maxBatchesInFlight = adaptiveLimit.limit();
             }
+            releaseSlot(priority);
+            dispatchHeldBatches();
         } finally {
             lock.unlock();
         }
     }
 
+    // Must be called with the lock held. Bulk batches are confined to their share of the slots;
+    // interactive batches may use any slot, and always keep the remainder of the window, even when
+    // bulk batches already fill it (which only happens with a window of a single slot).
+    private boolean hasFreeSlot(Priority priority) {
+        int bulkSlots = Math.max(1, maxBatchesInFlight * BULK_SHARE_PERCENT / 100);
+        if (priority == Priority.Bulk) {
+            return batchesInFlight < maxBatchesInFlight
+                    && lanes[Priority.Bulk.ordinal()].batchesInFlight < bulkSlots;
+        }
+        return batchesInFlight < maxBatchesInFlight
+                || lanes[Priority.Interactive.ordinal()].batchesInFlight
+                        < Math.max(1, maxBatchesInFlight - bulkSlots);
+    }
+
+    // Must be called with the lock held.
+    private void acquire(Lane lane) {
+        batchesInFlight++;
+        lane.batchesInFlight++;
+    }
+
+    // Must be called with the lock held.
+    private void releaseSlot(Priority priority) {
+        batchesInFlight--;
+        lanes[priority.ordinal()].batchesInFlight--;
+    }
+
+    // Must be called with the lock held. Dispatches the held batches of the interactive lane, then
+    // those of the bulk lane, for as long as they have free slots: the limit may have grown.
+    private void dispatchHeldBatches() {
+        for (Priority priority : Priority.values()) {
+            dispatchHeldBatches(priority);
+        }
+    }
+
+    // Must be called with the lock held. Dispatches the lane's queued batches, oldest first, then
+    // its parked one.
+    private void dispatchHeldBatches(Priority priority) {
+        Lane lane = lanes[priority.ordinal()];
+        while (hasFreeSlot(priority)) {
+            Batch next = lane.readyBatches.pollFirst();
+            if (next == null) {
+                next = lane.parkedBatch;
+                lane.parkedBatch = null;
+            }
+            if (next == null) {
+                return;
+            }
+            acquire(lane);
+            // Send while holding the lock: a slot freed concurrently must not let the batcher
+            // dispatch a newer batch ahead of this one.
+            next.send();
+        }
+    }
+
     /** Fail every batch that is still held back — the owning client is closing. */
     void fail(Throwable error) {
         List<Batch> toFail;
         lock.lock();
         try {
-            toFail = new ArrayList<>(readyBatches);
-            readyBatches.clear();
-            if (parkedBatch != null) {
-                toFail.add(parkedBatch);
-                parkedBatch = null;
+            toFail = new ArrayList<>();
+            for (Lane lane : lanes) {
+                toFail.addAll(lane.readyBatches);
+                lane.readyBatches.clear();
+                if (lane.parkedBatch != null) {
+                    toFail.add(lane.parkedBatch);
+                    lane.parkedBatch = null;
+                }
             }
         } finally {
             lock.unlock();
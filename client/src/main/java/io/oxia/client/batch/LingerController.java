@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.batch;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.metrics.Counter;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.metrics.Unit;
+import io.oxia.client.metrics.UpDownCounter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides how long the batcher holds the open batch of one (client, shard) pair once it has no more
+ * commands to process, instead of flushing it straight away.
+ *
+ * <p>Holding a batch only pays off when more operations for the shard are expected shortly, and it
+ * delays the operations already in it. The controller keeps moving averages of the interval between
+ * operations and of the request round-trip time, and lingers for as long as it takes to grow the
+ * batch to the size that the dispatch window carries at the current rate — the operations arriving
+ * during one round trip, spread over the window's slots. The linger is bounded by the configured
+ * maximum and by a fraction of the round-trip time, so the latency it adds stays small next to the
+ * request latency. There is no linger when the next operation is not expected within that bound, or
+ * when the window is exhausted: the batch is then parked and keeps accumulating on its own.
+ */
+final class LingerController {
+
+    // Weight of a new sample in the moving averages
+    private static final double SAMPLE_WEIGHT = 0.1;
+
+    // The linger never exceeds this fraction of the round-trip time
+    static final int RTT_BUDGET_DIVISOR = 4;
+
+    private final long maxLingerNanos;
+    private final int maxRequestsPerBatch;
+    private final int maxBatchesInFlight;
+
+    // Only accessed by the batcher thread serving the shard
+    private long lastArrivalNanos;
+    private double interArrivalNanos = Double.NaN;
+    private long lingerMicros;
+
+    // Updated by the threads completing the requests; 0 until the first request completes
+    private final AtomicLong rttNanos = new AtomicLong();
+
+    private final UpDownCounter linger;
+    private final Counter batchesSent;
+    private final Counter operationsSent;
+
+    LingerController(
+            long maxLingerNanos,
+            int maxRequestsPerBatch,
+            int maxBatchesInFlight,
+            InstrumentProvider instrumentProvider,
+            Attributes attributes) {
+        this.maxLingerNanos = maxLingerNanos;
+        this.maxRequestsPerBatch = maxRequestsPerBatch;
+        this.maxBatchesInFlight = maxBatchesInFlight;
+        this.linger =
+                instrumentProvider.newUpDownCounter(
+                        "oxia.client.batch.linger",
+                        Unit.Microseconds,
+                        "The linger currently chosen for the batches of a shard",
+                        attributes);
+        this.batchesSent =
+                instrumentProvider.newCounter(
+                        "oxia.client.batch.requests",
+                        Unit.Requests,
+                        "The number of batches sent to a shard",
+                        attributes);
+        this.operationsSent =
+                instrumentProvider.newCounter(
+                        "oxia.client.batch.operations",
+                        Unit.Events,
+                        "The number of operations sent to a shard in batches",
+                        attributes);
+    }
+
+    /** An operation for the shard was taken in by the batcher. */
+    void onArrival(long nowNanos) {
+        if (lastArrivalNanos != 0) {
+            // Gaps longer than the linger bound all mean the same thing: don't wait. Capping them
+            // lets the average recover quickly once operations flow again after an idle period.
+            double sample = Math.min(nowNanos - lastArrivalNanos, 2 * maxLingerNanos);
+            interArrivalNanos =
+                    Double.isNaN(interArrivalNanos)
+                            ? sample
+                            : interArrivalNanos + SAMPLE_WEIGHT * (sample - interArrivalNanos);
+        }
+        lastArrivalNanos = nowNanos;
+    }
+
+    /** A batch of {@code size} operations was dispatched. */
+    void onBatchSent(int size) {
+        batchesSent.increment();
+        operationsSent.add(size);
+    }
+
+    /** A request completed successfully after {@code nanos}. */
+    void onBatchCompleted(long nanos) {
+        long prev;
+        long next;
+        do {
+            prev = rttNanos.get();
+            next = prev == 0 ? nanos : (long) (prev + SAMPLE_WEIGHT * (nanos - prev));
+        } while (!rttNanos.compareAndSet(prev, next));
+    }
+
+    /**
+     * How long to hold an open batch of {@code batchSize} operations, counted from when the batch was
+     * opened. 0 means it should be flushed now.
+     */
+    long lingerNanos(int batchSize, DispatchWindow window) {
+        long lingerNanos = computeLinger(batchSize, window);
+        long micros = NANOSECONDS.toMicros(lingerNanos);
+        if (micros != lingerMicros) {
+            linger.add(micros - lingerMicros);
+            lingerMicros = micros;
+        }
+        return lingerNanos;
+    }
+
+    private long computeLinger(int batchSize, DispatchWindow window) {
+        long rtt = rttNanos.get();
+        if (rtt == 0 || (window != null && window.isExhausted())) {
+            return 0;
+        }
+        long budget = Math.min(maxLingerNanos, rtt / RTT_BUDGET_DIVISOR);
+        // Also false while no interval has been observed yet (NaN)
+        if (!(interArrivalNanos < budget)) {
+            return 0;
+        }
+        double opsPerRtt = rtt / Math.max(interArrivalNanos, 1);
+        int slots = window != null ? window.limit() : maxBatchesInFlight;
+        double targetSize = Math.min(maxRequestsPerBatch, opsPerRtt / slots);
+        double missing = targetSize - batchSize;
+        if (missing < 1) {
+            return 0;
+        }
+        return (long) Math.min(budget, missing * interArrivalNanos);
+    }
+}
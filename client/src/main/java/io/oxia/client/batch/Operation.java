@@ -18,13 +18,16 @@ package io.oxia.client.batch;
 import static io.oxia.client.api.options.defs.OptionVersionId.KEY_NOT_EXISTS;
 import static io.oxia.client.batch.Operation.ReadOperation;
 import static io.oxia.client.batch.Operation.ReadOperation.GetOperation;
+import static io.oxia.client.batch.Operation.ReadOperation.GetViewOperation;
 import static io.oxia.client.batch.Operation.WriteOperation;
 import static io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
 import static io.oxia.client.batch.Operation.WriteOperation.DeleteRangeOperation;
 import static io.oxia.client.batch.Operation.WriteOperation.PutOperation;
 
+import io.netty.buffer.Unpooled;
 import io.oxia.client.ProtoUtil;
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
 import io.oxia.client.api.PutResult;
 import io.oxia.client.api.exceptions.KeyAlreadyExistsException;
 import io.oxia.client.api.exceptions.SessionDoesNotExistException;
@@ -40,7 +43,7 @@ import io.oxia.proto.GetResponse;
 import io.oxia.proto.PutRequest;
 import io.oxia.proto.PutResponse;
 import io.oxia.proto.Status;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -59,27 +62,60 @@ public sealed interface Operation<R> permits ReadOperation, WriteOperation {
         callback().completeExceptionally(t);
     }
 
-    sealed interface ReadOperation<R> extends Operation<R> permits GetOperation {
+    sealed interface ReadOperation<R> extends Operation<R> permits GetOperation, GetViewOperation {
+
+        String key();
+
+        GetOptions options();
+
+        /** Fills in the given request with this operation's fields. */
+        default void toProto(GetRequest req) {
+            req.setKey(key())
+                    .setComparisonType(options().comparisonType())
+                    .setIncludeValue(options().includeValue());
+            if (options().secondaryIndexName() != null) {
+                req.setSecondaryIndexName(options().secondaryIndexName());
+            }
+        }
+
+        void complete(@NonNull GetResponse response);
+
         record GetOperation(
                 long shardId,
                 @NonNull CompletableFuture<GetResult> callback,
                 @NonNull String key,
                 @NonNull GetOptions options)
                 implements ReadOperation<GetResult> {
-            /** Fills in the given request with this operation's fields. */
-            void toProto(GetRequest req) {
-                req.setKey(key)
-                        .setComparisonType(options.comparisonType())
-                        .setIncludeValue(options.includeValue());
-                if (options.secondaryIndexName() != null) {
-                    req.setSecondaryIndexName(options.secondaryIndexName());
+
+            @Override
+            public void complete(@NonNull GetResponse response) {
+                switch (response.getStatus()) {
+                    case KEY_NOT_FOUND -> callback.complete(null);
+                    case OK -> callback.complete(ProtoUtil.getResultFromProto(key, response));
+                    default -> fail(new IllegalStateException("GRPC.Status: " + response.getStatus().name()));
                 }
             }
+        }
 
-            void complete(@NonNull GetResponse response) {
+        /** A get whose result shares the value of the response instead of copying it. */
+        record GetViewOperation(
+                long shardId,
+                @NonNull CompletableFuture<GetResultView> callback,
+                @NonNull String key,
+                @NonNull GetOptions options)
+                implements ReadOperation<GetResultView> {
+
+            @Override
+            public void complete(@NonNull GetResponse response) {
                 switch (response.getStatus()) {
                     case KEY_NOT_FOUND -> callback.complete(null);
-                    case OK -> callback.complete(ProtoUtil.getResultFromProto(key, response));
+                    case OK -> {
+                        var view = ProtoUtil.getResultViewFromProto(key, response);
+                        if (!callback.complete(view)) {
+                            // Timed out or cancelled: nobody else will release the view
+                            view.close();
+                        }
+                    }
                     default -> fail(new IllegalStateException("GRPC.Status: " + response.getStatus().name()));
                 }
             }
@@ -94,7 +130,7 @@ public sealed interface Operation<R> permits ReadOperation, WriteOperation {
                 @NonNull String key,
                 @NonNull Optional<String> partitionKey,
                 @NonNull Optional<List<Long>> sequenceKeysDeltas,
-                byte @NonNull [] value,
+                @NonNull ByteBuffer value,
                 @NonNull OptionalLong expectedVersionId,
                 OptionalLong sessionId,
                 Optional<String> clientIdentifier,
@@ -123,9 +159,40 @@ public sealed interface Operation<R> permits ReadOperation, WriteOperation {
                 }
             }
 
-            /** Fills in the given request with this operation's fields. */
+            public PutOperation(
+                    long shardId,
+                    @NonNull CompletableFuture<PutResult> callback,
+                    @NonNull String key,
+                    @NonNull Optional<String> partitionKey,
+                    @NonNull Optional<List<Long>> sequenceKeysDeltas,
+                    byte @NonNull [] value,
+                    @NonNull OptionalLong expectedVersionId,
+                    OptionalLong sessionId,
+                    Optional<String> clientIdentifier,
+                    List<OptionSecondaryIndex> secondaryIndexes,
+                    @NonNull OptionalLong overrideVersionId,
+                    @NonNull OptionalLong overrideModificationsCount) {
+                this(
+                        shardId,
+                        callback,
+                        key,
+                        partitionKey,
+                        sequenceKeysDeltas,
+                        ByteBuffer.wrap(value),
+                        expectedVersionId,
+                        sessionId,
+                        clientIdentifier,
+                        secondaryIndexes,
+                        overrideVersionId,
+                        overrideModificationsCount);
+            }
+
+            /**
+             * Fills in the given request with this operation's fields. The value is wrapped, not copied:
+             * the request references the caller's buffer until it is serialized on the write stream.
+             */
             void toProto(PutRequest req) {
-                req.setKey(key).setValue(value);
+                req.setKey(key).setValue(Unpooled.wrappedBuffer(value));
                 partitionKey.ifPresent(req::setPartitionKey);
                 expectedVersionId.ifPresent(req::setExpectedVersionId);
                 sessionId.ifPresent(req::setSessionId);
@@ -167,15 +234,13 @@ public sealed interface Operation<R> permits ReadOperation, WriteOperation {
                 }
                 PutOperation that = (PutOperation) o;
                 return key.equals(that.key)
-                        && Arrays.equals(value, that.value)
+                        && value.equals(that.value)
                         && Objects.equals(expectedVersionId, that.expectedVersionId);
             }
 
             @Override
             public int hashCode() {
-                int result = Objects.hash(key, expectedVersionId);
-                result = 31 * result + Arrays.hashCode(value);
-                return result;
+                return Objects.hash(key, value, expectedVersionId);
             }
         }
 
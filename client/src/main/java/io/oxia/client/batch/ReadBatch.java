@@ -17,12 +17,16 @@ package io.oxia.client.batch;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.grpc.stub.StreamObserver;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.RpcProvider;
+import io.oxia.client.options.GetOptions;
 import io.oxia.proto.GetResponse;
 import io.oxia.proto.ReadRequest;
 import io.oxia.proto.ReadResponse;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import lombok.NonNull;
 
@@ -30,16 +34,29 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
 
     private final ReadBatchFactory factory;
 
-    @VisibleForTesting final List<Operation.ReadOperation.GetOperation> gets = new ArrayList<>();
+    @VisibleForTesting final List<Operation.ReadOperation<?>> gets = new ArrayList<>();
+
+    // Index in `gets` of the first get of each (key, options) pair in this batch. A later identical
+    // get is not sent: it is attached to that one and completed from the same response.
+    private final Map<GetKey, Integer> getIndexes = new HashMap<>();
+
+    // The gets attached to the one at the given index in `gets`, created on the first duplicate.
+    private Map<Integer, List<Operation.ReadOperation.GetOperation>> duplicates;
 
     private final DispatchWindow window;
+    private final LingerController lingerController;
     private int responseIndex = 0;
     long startSendTimeNanos;
 
     ReadBatch(ReadBatchFactory factory, RpcProvider rpcProvider, long shardId) {
-        super(rpcProvider, shardId);
+        this(factory, rpcProvider, shardId, Priority.Interactive);
+    }
+
+    ReadBatch(ReadBatchFactory factory, RpcProvider rpcProvider, long shardId, Priority priority) {
+        super(rpcProvider, shardId, priority);
         this.factory = factory;
         this.window = factory.getDispatchWindow(shardId);
+        this.lingerController = factory.getLingerController(shardId);
     }
 
     @Override
@@ -49,10 +66,26 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
 
     public void add(@NonNull Operation<?> operation) {
         if (operation instanceof Operation.ReadOperation.GetOperation g) {
+            factory.getGetsCounter().increment();
+            Integer index = getIndexes.putIfAbsent(new GetKey(g.key(), g.options()), gets.size());
+            if (index != null) {
+                attachDuplicate(index, g);
+                return;
+            }
+        }
+        if (operation instanceof Operation.ReadOperation<?> g) {
             gets.add(g);
         }
     }
 
+    private void attachDuplicate(int index, Operation.ReadOperation.GetOperation get) {
+        if (duplicates == null) {
+            duplicates = new HashMap<>();
+        }
+        duplicates.computeIfAbsent(index, i -> new ArrayList<>(1)).add(get);
+        factory.getDeduplicatedGetsCounter().increment();
+    }
+
     @Override
     public int size() {
         return gets.size();
@@ -61,6 +94,9 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
     @Override
     public void send() {
         startSendTimeNanos = System.nanoTime();
+        if (lingerController != null) {
+            lingerController.onBatchSent(size());
+        }
         try {
             rpcProvider.read(toProto(), this);
         } catch (Throwable t) {
@@ -71,6 +107,9 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
     @Override
     public void fail(@NonNull Throwable batchError) {
         gets.forEach(g -> g.fail(batchError));
+        if (duplicates != null) {
+            duplicates.values().forEach(list -> list.forEach(g -> g.fail(batchError)));
+        }
     }
 
     @Override
@@ -78,6 +117,13 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
         for (int i = 0; i < response.getGetsCount(); i++) {
             GetResponse gr = response.getGetAt(i);
             gets.get(responseIndex).complete(gr);
+            if (duplicates != null) {
+                // Each attached get builds its own result from the shared response
+                var attached = duplicates.get(responseIndex);
+                if (attached != null) {
+                    attached.forEach(g -> g.complete(gr));
+                }
+            }
 
             ++responseIndex;
         }
@@ -87,22 +133,30 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
     public void onError(Throwable batchError) {
         // Free the window slot first, so the next batch is dispatched before the operation
         // callbacks below run.
-        window.release();
+        window.releaseFailed(getPriority());
         fail(batchError);
         factory.getReadRequestLatencyHistogram().recordFailure(System.nanoTime() - startSendTimeNanos);
     }
 
     @Override
     public void onCompleted() {
-        window.release();
+        long latencyNanos = System.nanoTime() - startSendTimeNanos;
+        window.release(getPriority(), latencyNanos);
         // complete pending request if the server close stream without any response
-        gets.forEach(
-                g -> {
-                    if (!g.callback().isDone()) {
-                        g.fail(new CancellationException());
-                    }
-                });
-        factory.getReadRequestLatencyHistogram().recordSuccess(System.nanoTime() - startSendTimeNanos);
+        gets.forEach(ReadBatch::cancelIfPending);
+        if (duplicates != null) {
+            duplicates.values().forEach(list -> list.forEach(ReadBatch::cancelIfPending));
+        }
+        factory.getReadRequestLatencyHistogram().recordSuccess(latencyNanos);
+        if (lingerController != null) {
+            lingerController.onBatchCompleted(latencyNanos);
+        }
+    }
+
+    private static void cancelIfPending(Operation.ReadOperation<?> get) {
+        if (!get.callback().isDone()) {
+            get.fail(new CancellationException());
+        }
     }
 
     @NonNull
@@ -114,4 +168,6 @@ final class ReadBatch extends BatchBase implements Batch, StreamObserver<ReadRes
         }
         return req;
     }
+
+    private record GetKey(String key, GetOptions options) {}
 }
@@ -17,9 +17,12 @@ package io.oxia.client.batch;
 
 import io.opentelemetry.api.common.Attributes;
 import io.oxia.client.ClientConfig;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.RpcProvider;
+import io.oxia.client.metrics.Counter;
 import io.oxia.client.metrics.InstrumentProvider;
 import io.oxia.client.metrics.LatencyHistogram;
+import io.oxia.client.metrics.Unit;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.Getter;
@@ -29,31 +32,88 @@ class ReadBatchFactory extends BatchFactory {
 
     @Getter private final LatencyHistogram readRequestLatencyHistogram;
 
+    // Their ratio is the share of gets served by an identical get in the same batch.
+    @Getter private final Counter getsCounter;
+    @Getter private final Counter deduplicatedGetsCounter;
+
     // In-flight dispatch window per shard, created lazily on first use.
     private final ConcurrentMap<Long, DispatchWindow> windows = new ConcurrentHashMap<>();
 
+    // Linger controller per shard, created lazily when adaptive lingering is enabled.
+    private final ConcurrentMap<Long, LingerController> lingerControllers =
+            new ConcurrentHashMap<>();
+    private final InstrumentProvider instrumentProvider;
+
     public ReadBatchFactory(
             @NonNull RpcProvider rpcProvider,
             @NonNull ClientConfig config,
             @NonNull InstrumentProvider instrumentProvider) {
         super(rpcProvider, config);
+        this.instrumentProvider = instrumentProvider;
 
         readRequestLatencyHistogram =
                 instrumentProvider.newLatencyHistogram(
                         "oxia.client.ops.req",
                         "The latency of a get batch request to the server",
                         Attributes.builder().put("oxia.batch.type", "read").build());
+        getsCounter =
+                instrumentProvider.newCounter(
+                        "oxia.client.batch.gets",
+                        Unit.Requests,
+                        "The number of gets added to read batches",
+                        Attributes.empty());
+        deduplicatedGetsCounter =
+                instrumentProvider.newCounter(
+                        "oxia.client.batch.gets.deduplicated",
+                        Unit.Requests,
+                        "The number of gets answered by an identical get in the same read batch",
+                        Attributes.empty());
     }
 
     @Override
-    public Batch getBatch(long shardId) {
-        return new ReadBatch(this, rpcProvider, shardId);
+    public Batch getBatch(long shardId, @NonNull Priority priority) {
+        return new ReadBatch(this, rpcProvider, shardId, priority);
     }
 
     @Override
     DispatchWindow getDispatchWindow(long shardId) {
-        return windows.computeIfAbsent(
-                shardId, s -> new DispatchWindow(getConfig().maxReadBatchesInFlight()));
+        return windows.computeIfAbsent(shardId, this::newDispatchWindow);
+    }
+
+    private DispatchWindow newDispatchWindow(long shardId) {
+        var config = getConfig();
+        if (config.maxAdaptiveBatchesInFlight() == 0) {
+            return new DispatchWindow(config.maxReadBatchesInFlight());
+        }
+        return new DispatchWindow(
+                new AdaptiveConcurrencyLimit(
+                        config.maxReadBatchesInFlight(),
+                        config.minAdaptiveBatchesInFlight(),
+                        config.maxAdaptiveBatchesInFlight(),
+                        instrumentProvider,
+                        Attributes.builder()
+                                .put("oxia.batch.type", "read")
+                                .put("oxia.shard", shardId)
+                                .build()));
+    }
+
+    @Override
+    LingerController getLingerController(long shardId) {
+        if (getConfig().maxBatchLinger().isZero()) {
+            return null;
+        }
+        return lingerControllers.computeIfAbsent(
+                shardId,
+                s ->
+                        new LingerController(
+                                getConfig().maxBatchLinger().toNanos(),
+                                getConfig().maxRequestsPerBatch(),
+                                getConfig().maxReadBatchesInFlight(),
+                                instrumentProvider,
+                                Attributes.builder()
+                                        .put("oxia.batch.type", "read")
+                                        .put("oxia.shard", s)
+                                        .build()));
     }
 
     @Override
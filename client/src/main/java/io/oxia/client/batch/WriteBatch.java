@@ -17,13 +17,16 @@ package io.oxia.client.batch;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.netty.buffer.ByteBufUtil;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.ManagedWriteStream;
 import io.oxia.client.grpc.RpcProvider;
 import io.oxia.client.session.SessionManager;
 import io.oxia.proto.WriteRequest;
 import io.oxia.proto.WriteResponse;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.NonNull;
 
 final class WriteBatch extends BatchBase implements Batch {
@@ -38,8 +41,19 @@ final class WriteBatch extends BatchBase implements Batch {
     @VisibleForTesting
     final List<Operation.WriteOperation.DeleteRangeOperation> deleteRanges = new ArrayList<>();
 
+    // Puts superseded by a later put to the same key, with the index in `puts` of the put that
+    // replaced them. Only used when coalescing is enabled.
+    private final List<Superseded> superseded = new ArrayList<>();
+
+    // Index in `puts` of the latest put to each key that a later unconditional put may supersede.
+    // Null when coalescing is disabled.
+    private final Map<String, Integer> coalescablePuts;
+
+    private record Superseded(Operation.WriteOperation.PutOperation put, int survivorIndex) {}
+
     private final SessionManager sessionManager;
     private final DispatchWindow window;
+    private final LingerController lingerController;
     private final int maxBatchSize;
     private int byteSize;
     private long bytes;
@@ -51,18 +65,30 @@ final class WriteBatch extends BatchBase implements Batch {
             @NonNull SessionManager sessionManager,
             long shardId,
             int maxBatchSize) {
-        super(rpcProvider, shardId);
+        this(factory, rpcProvider, sessionManager, shardId, maxBatchSize, Priority.Interactive);
+    }
+
+    WriteBatch(
+            @NonNull WriteBatchFactory factory,
+            @NonNull RpcProvider rpcProvider,
+            @NonNull SessionManager sessionManager,
+            long shardId,
+            int maxBatchSize,
+            @NonNull Priority priority) {
+        super(rpcProvider, shardId, priority);
         this.factory = factory;
         this.sessionManager = sessionManager;
         this.window = factory.getDispatchWindow(shardId);
+        this.lingerController = factory.getLingerController(shardId);
         this.byteSize = 0;
         this.maxBatchSize = maxBatchSize;
+        this.coalescablePuts = factory.getConfig().coalescePuts() ? new HashMap<>() : null;
     }
 
     // ByteBufUtil.utf8Bytes() computes the UTF-8 encoded length without materializing the bytes
     int sizeOf(@NonNull Operation<?> operation) {
         if (operation instanceof Operation.WriteOperation.PutOperation p) {
-            return ByteBufUtil.utf8Bytes(p.key()) + p.value().length;
+            return ByteBufUtil.utf8Bytes(p.key()) + p.value().remaining();
         } else if (operation instanceof Operation.WriteOperation.DeleteOperation d) {
             return ByteBufUtil.utf8Bytes(d.key());
         } else if (operation instanceof Operation.WriteOperation.DeleteRangeOperation r) {
@@ -74,16 +100,61 @@ final class WriteBatch extends BatchBase implements Batch {
 
     public void add(@NonNull Operation<?> operation) {
         if (operation instanceof Operation.WriteOperation.PutOperation p) {
+            if (coalescablePuts != null && coalesce(p)) {
+                return;
+            }
             puts.add(p);
-            bytes += p.value().length;
+            bytes += p.value().remaining();
         } else if (operation instanceof Operation.WriteOperation.DeleteOperation d) {
+            if (coalescablePuts != null) {
+                coalescablePuts.remove(d.key());
+            }
             deletes.add(d);
         } else if (operation instanceof Operation.WriteOperation.DeleteRangeOperation r) {
+            if (coalescablePuts != null) {
+                // The range may cover any of the keys
+                coalescablePuts.clear();
+            }
             deleteRanges.add(r);
         }
         byteSize += sizeOf(operation);
     }
 
+    /**
+     * Last-writer-wins: replace, in place, an earlier unconditional put to the same key that is still
+     * in this batch. Any other operation on the key in between (a conditional or ephemeral put, a
+     * delete, a range delete) stops the coalescing, so that it still observes the earlier put.
+     *
+     * @return whether the put was coalesced, otherwise it must be appended
+     */
+    private boolean coalesce(Operation.WriteOperation.PutOperation put) {
+        if (!isCoalescable(put)) {
+            coalescablePuts.remove(put.key());
+            return false;
+        }
+        Integer index = coalescablePuts.get(put.key());
+        if (index != null) {
+            var previous = puts.get(index);
+            if (previous.partitionKey().equals(put.partitionKey())) {
+                puts.set(index, put);
+                superseded.add(new Superseded(previous, index));
+                bytes += put.value().remaining() - previous.value().remaining();
+                byteSize += sizeOf(put) - sizeOf(previous);
+                return true;
+            }
+        }
+        coalescablePuts.put(put.key(), puts.size());
+        return false;
+    }
+
+    private static boolean isCoalescable(Operation.WriteOperation.PutOperation put) {
+        return put.expectedVersionId().isEmpty()
+                && put.sequenceKeysDeltas().isEmpty()
+                && (put.sessionId() == null || put.sessionId().isEmpty())
+                && put.overrideVersionId().isEmpty()
+                && put.overrideModificationsCount().isEmpty();
+    }
+
     @Override
     public boolean canAdd(@NonNull Operation<?> operation) {
         int size = sizeOf(operation);
@@ -98,6 +169,9 @@ final class WriteBatch extends BatchBase implements Batch {
     @Override
     public void send() {
         startSendTimeNanos = System.nanoTime();
+        if (lingerController != null) {
+            lingerController.onBatchSent(size());
+        }
         try {
             final ManagedWriteStream writeStream = rpcProvider.getWriteStream(getShardId());
             writeStream
@@ -106,21 +180,26 @@ final class WriteBatch extends BatchBase implements Batch {
                             (response, ex) -> {
                                 // Free the window slot first, so the next batch is dispatched
                                 // before the operation callbacks below run.
-                                window.release();
+                                long latencyNanos = System.nanoTime() - startSendTimeNanos;
                                 if (ex != null) {
+                                    window.releaseFailed(getPriority());
                                     handleError(ex);
                                 } else {
-                                    handleResponse(response);
+                                    window.release(getPriority(), latencyNanos);
+                                    handleResponse(response, latencyNanos);
                                 }
                             });
         } catch (Throwable t) {
-            window.release();
+            window.releaseFailed(getPriority());
             handleError(t);
         }
     }
 
-    private void handleResponse(WriteResponse response) {
-        factory.writeRequestLatencyHistogram.recordSuccess(System.nanoTime() - startSendTimeNanos);
+    private void handleResponse(WriteResponse response, long latencyNanos) {
+        factory.writeRequestLatencyHistogram.recordSuccess(latencyNanos);
+        if (lingerController != null) {
+            lingerController.onBatchCompleted(latencyNanos);
+        }
 
         for (var i = 0; i < deletes.size(); i++) {
             deletes.get(i).complete(response.getDeleteAt(i));
@@ -131,6 +210,9 @@ final class WriteBatch extends BatchBase implements Batch {
         for (var i = 0; i < puts.size(); i++) {
             puts.get(i).complete(response.getPutAt(i));
         }
+        for (var s : superseded) {
+            s.put().complete(response.getPutAt(s.survivorIndex()));
+        }
     }
 
     public void handleError(Throwable batchError) {
@@ -143,6 +225,7 @@ final class WriteBatch extends BatchBase implements Batch {
         deletes.forEach(d -> d.fail(batchError));
         deleteRanges.forEach(f -> f.fail(batchError));
         puts.forEach(p -> p.fail(batchError));
+        superseded.forEach(s -> s.put().fail(batchError));
     }
 
     @NonNull
@@ -17,6 +17,7 @@ package io.oxia.client.batch;
 
 import io.opentelemetry.api.common.Attributes;
 import io.oxia.client.ClientConfig;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.grpc.RpcProvider;
 import io.oxia.client.metrics.InstrumentProvider;
 import io.oxia.client.metrics.LatencyHistogram;
@@ -33,6 +34,11 @@ class WriteBatchFactory extends BatchFactory {
     // In-flight dispatch window per shard, created lazily on first use.
     private final ConcurrentMap<Long, DispatchWindow> windows = new ConcurrentHashMap<>();
 
+    // Linger controller per shard, created lazily when adaptive lingering is enabled.
+    private final ConcurrentMap<Long, LingerController> lingerControllers =
+            new ConcurrentHashMap<>();
+    private final InstrumentProvider instrumentProvider;
+
     public WriteBatchFactory(
             @NonNull RpcProvider rpcProvider,
             @NonNull SessionManager sessionManager,
@@ -40,6 +46,7 @@ class WriteBatchFactory extends BatchFactory {
             @NonNull InstrumentProvider instrumentProvider) {
         super(rpcProvider, config);
         this.sessionManager = sessionManager;
+        this.instrumentProvider = instrumentProvider;
 
         writeRequestLatencyHistogram =
                 instrumentProvider.newLatencyHistogram(
@@ -49,14 +56,50 @@ class WriteBatchFactory extends BatchFactory {
     }
 
     @Override
-    public Batch getBatch(long shardId) {
-        return new WriteBatch(this, rpcProvider, sessionManager, shardId, getConfig().maxBatchSize());
+    public Batch getBatch(long shardId, @NonNull Priority priority) {
+        return new WriteBatch(
+                this, rpcProvider, sessionManager, shardId, getConfig().maxBatchSize(), priority);
     }
 
     @Override
     DispatchWindow getDispatchWindow(long shardId) {
-        return windows.computeIfAbsent(
-                shardId, s -> new DispatchWindow(getConfig().maxWriteBatchesInFlight()));
+        return windows.computeIfAbsent(shardId, this::newDispatchWindow);
+    }
+
+    private DispatchWindow newDispatchWindow(long shardId) {
+        var config = getConfig();
+        if (config.maxAdaptiveBatchesInFlight() == 0) {
+            return new DispatchWindow(config.maxWriteBatchesInFlight());
+        }
+        return new DispatchWindow(
+                new AdaptiveConcurrencyLimit(
+                        config.maxWriteBatchesInFlight(),
+                        config.minAdaptiveBatchesInFlight(),
+                        config.maxAdaptiveBatchesInFlight(),
+                        instrumentProvider,
+                        Attributes.builder()
+                                .put("oxia.batch.type", "write")
+                                .put("oxia.shard", shardId)
+                                .build()));
+    }
+
+    @Override
+    LingerController getLingerController(long shardId) {
+        if (getConfig().maxBatchLinger().isZero()) {
+            return null;
+        }
+        return lingerControllers.computeIfAbsent(
+                shardId,
+                s ->
+                        new LingerController(
+                                getConfig().maxBatchLinger().toNanos(),
+                                getConfig().maxRequestsPerBatch(),
+                                getConfig().maxWriteBatchesInFlight(),
+                                instrumentProvider,
+                                Attributes.builder()
+                                        .put("oxia.batch.type", "write")
+                                        .put("oxia.shard", s)
+                                        .build()));
     }
 
     @Override
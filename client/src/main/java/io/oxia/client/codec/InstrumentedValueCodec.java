@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.codec;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.api.ValueCodec;
+import io.oxia.client.metrics.Counter;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.metrics.Unit;
+import java.nio.ByteBuffer;
+import lombok.NonNull;
+
+/**
+ * Wraps the configured {@link ValueCodec} to export, for encode and decode, the decoded and encoded
+ * byte counts (whose ratio is the compression ratio) and the time spent in the codec.
+ */
+public final class InstrumentedValueCodec implements ValueCodec {
+
+    private final ValueCodec codec;
+    private final Direction encode;
+    private final Direction decode;
+
+    public InstrumentedValueCodec(
+            @NonNull ValueCodec codec, @NonNull InstrumentProvider instrumentProvider) {
+        this.codec = codec;
+        this.encode = new Direction(instrumentProvider, "encode");
+        this.decode = new Direction(instrumentProvider, "decode");
+    }
+
+    @Override
+    public ByteBuffer encode(ByteBuffer value) {
+        long start = System.nanoTime();
+        int decodedBytes = value.remaining();
+        ByteBuffer encoded = codec.encode(value);
+        encode.record(decodedBytes, encoded.remaining(), System.nanoTime() - start);
+        return encoded;
+    }
+
+    @Override
+    public ByteBuffer decode(ByteBuffer stored) {
+        long start = System.nanoTime();
+        int encodedBytes = stored.remaining();
+        ByteBuffer decoded = codec.decode(stored);
+        decode.record(decoded.remaining(), encodedBytes, System.nanoTime() - start);
+        return decoded;
+    }
+
+    private static final class Direction {
+        private final Counter decodedBytes;
+        private final Counter encodedBytes;
+        private final Counter time;
+
+        Direction(InstrumentProvider instrumentProvider, String op) {
+            var attributes = Attributes.of(AttributeKey.stringKey("oxia.op"), op);
+            this.decodedBytes =
+                    instrumentProvider.newCounter(
+                            "oxia.client.codec.decoded.bytes",
+                            Unit.Bytes,
+                            "The size of the values before encoding / after decoding",
+                            attributes);
+            this.encodedBytes =
+                    instrumentProvider.newCounter(
+                            "oxia.client.codec.encoded.bytes",
+                            Unit.Bytes,
+                            "The size of the values as stored on the server",
+                            attributes);
+            this.time =
+                    instrumentProvider.newCounter(
+                            "oxia.client.codec.time",
+                            Unit.Nanoseconds,
+                            "The time spent encoding / decoding values",
+                            attributes);
+        }
+
+        void record(long decoded, long encoded, long nanos) {
+            decodedBytes.add(decoded);
+            encodedBytes.add(encoded);
+            time.add(nanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return codec.toString();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.codec;
+
+import java.util.Arrays;
+
+/**
+ * Compression in the LZ4 block format: a sequence of literal runs each followed by a back-reference
+ * of at least 4 bytes into the previous 64 KiB. It favors speed over ratio, with a single-probe
+ * hash table and no entropy coding.
+ */
+final class Lz4Block {
+
+    private static final int MIN_MATCH = 4;
+    // The last match must start at least 12 bytes before the end of the input
+    private static final int MF_LIMIT = 12;
+    // The last 5 bytes of the input are always literals
+    private static final int LAST_LITERALS = 5;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_LOG = 12;
+    private static final int RUN_MASK = 0xF;
+
+    private static final ThreadLocal<int[]> HASH_TABLE =
+            ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+    private Lz4Block() {}
+
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * @return the number of bytes written to {@code dst}, which must have room for {@link
+     *     #maxCompressedLength(int)} bytes
+     */
+    static int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff) {
+        final int end = srcOff + srcLen;
+        final int matchStartLimit = end - MF_LIMIT;
+        final int matchEndLimit = end - LAST_LITERALS;
+        // Positions are stored + 1 so that 0 means empty
+        final int[] table = HASH_TABLE.get();
+        Arrays.fill(table, 0);
+
+        int anchor = srcOff;
+        int ip = srcOff;
+        int op = dstOff;
+        while (ip < matchStartLimit) {
+            int sequence = readInt(src, ip);
+            int h = hash(sequence);
+            int ref = table[h] - 1;
+            table[h] = ip + 1;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                ip++;
+                continue;
+            }
+            while (ip > anchor && ref > srcOff && src[ip - 1] == src[ref - 1]) {
+                ip--;
+                ref--;
+            }
+            int matchLength = MIN_MATCH;
+            while (ip + matchLength < matchEndLimit && src[ip + matchLength] == src[ref + matchLength]) {
+                matchLength++;
+            }
+            op = writeSequence(src, anchor, ip - anchor, dst, op, ip - ref, matchLength);
+            ip += matchLength;
+            anchor = ip;
+        }
+        return writeLastLiterals(src, anchor, end - anchor, dst, op) - dstOff;
+    }
+
+    /**
+     * Decompresses exactly {@code dstLen} bytes from exactly {@code srcLen} bytes.
+     *
+     * @throws IllegalArgumentException if the input is not a well-formed block of that size
+     */
+    static void decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen) {
+        final int end = srcOff + srcLen;
+        final int outEnd = dstOff + dstLen;
+        int ip = srcOff;
+        int op = dstOff;
+        while (true) {
+            if (ip >= end) {
+                throw malformed();
+            }
+            int token = src[ip++] & 0xFF;
+
+            int literals = token >>> 4;
+            if (literals == RUN_MASK) {
+                int b;
+                do {
+                    if (ip >= end) {
+                        throw malformed();
+                    }
+                    b = src[ip++] & 0xFF;
+                    literals += b;
+                } while (b == 0xFF);
+            }
+            if (literals > end - ip || literals > outEnd - op) {
+                throw malformed();
+            }
+            System.arraycopy(src, ip, dst, op, literals);
+            ip += literals;
+            op += literals;
+            if (ip == end) {
+                break;
+            }
+
+            if (end - ip < 2) {
+                throw malformed();
+            }
+            int offset = (src[ip] & 0xFF) | (src[ip + 1] & 0xFF) << 8;
+            ip += 2;
+            if (offset == 0 || offset > op - dstOff) {
+                throw malformed();
+            }
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    if (ip >= end) {
+                        throw malformed();
+                    }
+                    b = src[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+            if (matchLength > outEnd - op) {
+                throw malformed();
+            }
+            // The match may overlap the bytes it produces, so copy forward one byte at a time
+            for (int i = 0; i < matchLength; i++) {
+                dst[op + i] = dst[op - offset + i];
+            }
+            op += matchLength;
+        }
+        if (op != outEnd) {
+            throw malformed();
+        }
+    }
+
+    private static int writeSequence(
+            byte[] src,
+            int literalsOff,
+            int literals,
+            byte[] dst,
+            int op,
+            int offset,
+            int matchLength) {
+        int tokenPos = op++;
+        int token = Math.min(literals, RUN_MASK) << 4;
+        if (literals >= RUN_MASK) {
+            op = writeLength(dst, op, literals - RUN_MASK);
+        }
+        System.arraycopy(src, literalsOff, dst, op, literals);
+        op += literals;
+        dst[op++] = (byte) offset;
+        dst[op++] = (byte) (offset >>> 8);
+        int extraMatch = matchLength - MIN_MATCH;
+        token |= Math.min(extraMatch, RUN_MASK);
+        if (extraMatch >= RUN_MASK) {
+            op = writeLength(dst, op, extraMatch - RUN_MASK);
+        }
+        dst[tokenPos] = (byte) token;
+        return op;
+    }
+
+    private static int writeLastLiterals(
+            byte[] src, int literalsOff, int literals, byte[] dst, int op) {
+        dst[op++] = (byte) (Math.min(literals, RUN_MASK) << 4);
+        if (literals >= RUN_MASK) {
+            op = writeLength(dst, op, literals - RUN_MASK);
+        }
+        System.arraycopy(src, literalsOff, dst, op, literals);
+        return op + literals;
+    }
+
+    private static int writeLength(byte[] dst, int op, int length) {
+        while (length >= 0xFF) {
+            dst[op++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+
+    private static int readInt(byte[] b, int i) {
+        return (b[i] & 0xFF)
+                | (b[i + 1] & 0xFF) << 8
+                | (b[i + 2] & 0xFF) << 16
+                | (b[i + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed compressed block");
+    }
+}
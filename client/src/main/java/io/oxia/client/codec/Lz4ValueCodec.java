@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.codec;
+
+import io.oxia.client.api.ValueCodec;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link ValueCodec} compressing values with the LZ4 block format.
+ *
+ * <p>Encoded values start with a 9 bytes header: a 4 bytes magic, the codec (raw or LZ4) and the
+ * decoded length. Values smaller than the threshold, or that do not shrink when compressed, are
+ * stored raw and without header, so that they remain readable by clients without the codec. The
+ * only exception is a raw value that happens to start with the magic, which is stored behind a
+ * "raw" header so that it is not mistaken for a compressed one.
+ *
+ * <p>Values without a valid header are returned unchanged by {@link #decode(ByteBuffer)}, which
+ * keeps the values written before compression was enabled readable.
+ */
+public final class Lz4ValueCodec implements ValueCodec {
+
+    public static final int DEFAULT_THRESHOLD_BYTES = 256;
+
+    static final int HEADER_SIZE = 9;
+    static final byte CODEC_RAW = 0;
+    static final byte CODEC_LZ4 = 1;
+    private static final byte[] MAGIC = {(byte) 0xF5, 'O', 'X', 'V'};
+    // LZ4 cannot expand its input by more than this factor
+    private static final int MAX_RATIO = 255;
+
+    private final int thresholdBytes;
+
+    public Lz4ValueCodec() {
+        this(DEFAULT_THRESHOLD_BYTES);
+    }
+
+    /**
+     * @param thresholdBytes the size below which values are stored uncompressed
+     */
+    public Lz4ValueCodec(int thresholdBytes) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("thresholdBytes must be >= 0");
+        }
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public ByteBuffer encode(ByteBuffer value) {
+        int length = value.remaining();
+        if (length > HEADER_SIZE && length >= thresholdBytes) {
+            byte[] src;
+            int srcOff;
+            if (value.hasArray()) {
+                src = value.array();
+                srcOff = value.arrayOffset() + value.position();
+            } else {
+                src = new byte[length];
+                value.get(value.position(), src);
+                srcOff = 0;
+            }
+            byte[] dst = new byte[HEADER_SIZE + Lz4Block.maxCompressedLength(length)];
+            int compressed = Lz4Block.compress(src, srcOff, length, dst, HEADER_SIZE);
+            if (HEADER_SIZE + compressed < length) {
+                writeHeader(dst, CODEC_LZ4, length);
+                return ByteBuffer.wrap(dst, 0, HEADER_SIZE + compressed);
+            }
+        }
+        if (!hasMagic(value)) {
+            return value;
+        }
+        byte[] escaped = new byte[HEADER_SIZE + length];
+        writeHeader(escaped, CODEC_RAW, length);
+        value.get(value.position(), escaped, HEADER_SIZE, length);
+        return ByteBuffer.wrap(escaped);
+    }
+
+    @Override
+    public ByteBuffer decode(ByteBuffer stored) {
+        int payload = stored.remaining() - HEADER_SIZE;
+        if (payload < 0 || !hasMagic(stored)) {
+            return stored;
+        }
+        int position = stored.position();
+        byte codec = stored.get(position + MAGIC.length);
+        int length = stored.getInt(position + MAGIC.length + 1);
+        if (codec == CODEC_RAW && length == payload) {
+            byte[] raw = new byte[length];
+            stored.get(position + HEADER_SIZE, raw);
+            return ByteBuffer.wrap(raw);
+        }
+        if (codec != CODEC_LZ4 || length < 0 || length > (long) payload * MAX_RATIO) {
+            return stored;
+        }
+
+        byte[] src;
+        int srcOff;
+        if (stored.hasArray()) {
+            src = stored.array();
+            srcOff = stored.arrayOffset() + position + HEADER_SIZE;
+        } else {
+            src = new byte[payload];
+            stored.get(position + HEADER_SIZE, src);
+            srcOff = 0;
+        }
+        byte[] decoded = new byte[length];
+        try {
+            Lz4Block.decompress(src, srcOff, payload, decoded, 0, length);
+        } catch (IllegalArgumentException e) {
+            // Not our output after all: a raw value starting with the magic, written by a client
+            // without this codec
+            return stored;
+        }
+        return ByteBuffer.wrap(decoded);
+    }
+
+    private static boolean hasMagic(ByteBuffer value) {
+        if (value.remaining() < MAGIC.length) {
+            return false;
+        }
+        int position = value.position();
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (value.get(position + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeHeader(byte[] dst, byte codec, int length) {
+        System.arraycopy(MAGIC, 0, dst, 0, MAGIC.length);
+        dst[MAGIC.length] = codec;
+        ByteBuffer.wrap(dst, MAGIC.length + 1, 4).putInt(length);
+    }
+
+    @Override
+    public String toString() {
+        return "Lz4ValueCodec[thresholdBytes=" + thresholdBytes + "]";
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.oxia.client.grpc;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
 import dev.failsafe.Failsafe;
 import dev.failsafe.RetryPolicy;
@@ -26,6 +27,8 @@ import io.grpc.stub.StreamObserver;
 import io.oxia.client.ClientConfig;
 import io.oxia.client.grpc.observer.CancelableStreamObserver;
 import io.oxia.client.grpc.observer.ManagedObservers;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.proto.CloseSessionRequest;
 import io.oxia.proto.CloseSessionResponse;
 import io.oxia.proto.CreateSessionRequest;
@@ -37,6 +40,7 @@ import io.oxia.proto.ListRequest;
 import io.oxia.proto.ListResponse;
 import io.oxia.proto.NotificationBatch;
 import io.oxia.proto.NotificationsRequest;
+import io.oxia.proto.OxiaClientGrpc;
 import io.oxia.proto.RangeScanRequest;
 import io.oxia.proto.RangeScanResponse;
 import io.oxia.proto.ReadRequest;
@@ -51,8 +55,13 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import lombok.NonNull;
 
 final class GrpcRpcProvider implements RpcProvider {
@@ -66,6 +75,8 @@ final class GrpcRpcProvider implements RpcProvider {
     private final ConnectionManager connectionManager;
     private final boolean ownsConnectionManager;
     private final ScheduledExecutorService asyncExecutor;
+    @VisibleForTesting final DeadlineTimer timer;
+    private final boolean ownsTimer;
     private final LongFunction<String> shardLeaderProvider;
     private final Map<Long, ManagedWriteStream> writeStreams;
 
@@ -77,32 +88,77 @@ final class GrpcRpcProvider implements RpcProvider {
                 clientConfig,
                 asyncExecutor,
                 new ConnectionManager(clientConfig, asyncExecutor),
-                shardLeaderProvider,
-                true);
+                true,
+                newTimer(),
+                true,
+                shardLeaderProvider);
     }
 
+    /**
+     * A provider over an externally-owned connection manager, which it does not close. Its
+     * write-stream deadlines are tracked on a timer of its own, which {@link #close()} stops.
+     */
     GrpcRpcProvider(
             @NonNull ClientConfig clientConfig,
             @NonNull ScheduledExecutorService asyncExecutor,
             @NonNull ConnectionManager connectionManager,
             @NonNull LongFunction<String> shardLeaderProvider) {
-        this(clientConfig, asyncExecutor, connectionManager, shardLeaderProvider, false);
+        this(
+                clientConfig,
+                asyncExecutor,
+                connectionManager,
+                false,
+                newTimer(),
+                true,
+                shardLeaderProvider);
+    }
+
+    GrpcRpcProvider(
+            @NonNull ClientConfig clientConfig,
+            @NonNull ScheduledExecutorService asyncExecutor,
+            @NonNull DeadlineTimer timer,
+            @NonNull LongFunction<String> shardLeaderProvider) {
+        this(
+                clientConfig,
+                asyncExecutor,
+                new ConnectionManager(clientConfig, asyncExecutor),
+                true,
+                timer,
+                false,
+                shardLeaderProvider);
+    }
+
+    GrpcRpcProvider(
+            @NonNull ClientConfig clientConfig,
+            @NonNull ScheduledExecutorService asyncExecutor,
+            @NonNull ConnectionManager connectionManager,
+            @NonNull DeadlineTimer timer,
+            @NonNull LongFunction<String> shardLeaderProvider) {
+        this(clientConfig, asyncExecutor, connectionManager, false, timer, false, shardLeaderProvider);
     }
 
     private GrpcRpcProvider(
             @NonNull ClientConfig clientConfig,
             @NonNull ScheduledExecutorService asyncExecutor,
             @NonNull ConnectionManager connectionManager,
-            @NonNull LongFunction<String> shardLeaderProvider,
-            boolean ownsConnectionManager) {
+            boolean ownsConnectionManager,
+            @NonNull DeadlineTimer timer,
+            boolean ownsTimer,
+            @NonNull LongFunction<String> shardLeaderProvider) {
         this.clientConfig = clientConfig;
         this.asyncExecutor = asyncExecutor;
         this.connectionManager = connectionManager;
         this.ownsConnectionManager = ownsConnectionManager;
+        this.timer = timer;
+        this.ownsTimer = ownsTimer;
         this.shardLeaderProvider = shardLeaderProvider;
         this.writeStreams = Maps.newConcurrentMap();
     }
 
+    private static DeadlineTimer newTimer() {
+        return new DeadlineTimer("oxia-rpc-timer", InstrumentProvider.NOOP);
+    }
+
     @Override
     public void getShardAssignments(
             @NonNull ShardAssignmentsRequest request,
@@ -276,7 +332,7 @@ final class GrpcRpcProvider implements RpcProvider {
                 (__, existingStream) -> {
                     if (existingStream == null || existingStream.isClosed()) {
                         return new ManagedWriteStream(
-                                shardId, this, asyncExecutor, clientConfig.requestTimeout());
+                                shardId, this, asyncExecutor, timer, clientConfig.requestTimeout());
                     }
                     return existingStream;
                 });
@@ -308,53 +364,132 @@ final class GrpcRpcProvider implements RpcProvider {
     @Override
     public void list(
             @NonNull ListRequest request, @NonNull CancelableStreamObserver<ListResponse> observer) {
-        final var hint = new AtomicReference<OxiaStatusException>();
-        try {
-            Failsafe.with(getRetryPolicy("list", hint))
-                    .with(asyncExecutor)
-                    .getStageAsync(
-                            () -> {
-                                final var barrierFuture = new CompletableFuture<Void>();
-                                final var barrierObserver =
-                                        ManagedObservers.toBarrierClientResponseObserver(observer, barrierFuture);
-                                try {
-                                    connectionManager
-                                            .getConnection(getLeader(request.getShard(), hint))
-                                            .stub()
-                                            .list(request, barrierObserver);
-                                } catch (Throwable error) {
-                                    barrierFuture.completeExceptionally(OxiaStatusException.from(error));
-                                }
-                                return barrierFuture;
-                            })
-                    .exceptionally(
-                            error -> {
-                                observer.onError(OxiaStatusException.from(error));
-                                return null;
-                            });
-        } catch (Throwable error) {
-            observer.onError(OxiaStatusException.from(error));
-        }
+        // With a secondary index, the keys come in the order of the index and the stream can't be
+        // resumed after the last one
+        keyRangeStream(
+                "list",
+                request.getShard(),
+                !request.hasSecondaryIndexName(),
+                null,
+                null,
+                observer,
+                ListResponse::getKeysCount,
+                ListResponse::getKeyAt,
+                (stub, resumeFrom, barrierObserver) ->
+                        stub.list(
+                                resumeFrom == null ? request : resumedList(request, resumeFrom),
+                                barrierObserver));
     }
 
     @Override
     public void rangeScan(
             @NonNull RangeScanRequest request,
             @NonNull CancelableStreamObserver<RangeScanResponse> observer) {
-        final var hint = new AtomicReference<OxiaStatusException>();
+        keyRangeStream(
+                "range scan",
+                request.getShard(),
+                !request.hasSecondaryIndexName(),
+                null,
+                null,
+                observer,
+                RangeScanResponse::getRecordsCount,
+                (response, index) -> {
+                    final var item = response.getRecordAt(index);
+                    return item.hasKey() ? item.getKey() : null;
+                },
+                (stub, resumeFrom, barrierObserver) ->
+                        stub.rangeScan(
+                                resumeFrom == null ? request : resumedRangeScan(request, resumeFrom),
+                                barrierObserver));
+    }
+
+    /** Starts a list or range scan stream, from {@code resumeFrom} when it is not null. */
+    @FunctionalInterface
+    private interface KeyRangeCall<RespT> {
+        void start(
+                OxiaClientGrpc.OxiaClientStub stub,
+                String resumeFrom,
+                StreamObserver<RespT> barrierObserver);
+    }
+
+    /**
+     * Opens a list or range scan stream on the leader of its shard.
+     *
+     * <p>Errors before the first response are retried like for the other calls. When the stream is
+     * {@code resumable}, a retryable error after that (a leader election, a node restart) doesn't
+     * fail the observer either: only this shard's stream is reopened, on the leader hinted by the
+     * error, from the key after the last one delivered. A stream whose last delivered item carries no
+     * key has no position to resume from, and fails with an {@link IllegalStateException} instead.
+     *
+     * @param keyAt the key of an item of a response, or null when it carries none
+     */
+    private <RespT> void keyRangeStream(
+            String operation,
+            long shardId,
+            boolean resumable,
+            String resumeFrom,
+            OxiaStatusException leaderHint,
+            CancelableStreamObserver<RespT> observer,
+            ToIntFunction<RespT> countOf,
+            BiFunction<RespT, Integer, String> keyAt,
+            KeyRangeCall<RespT> call) {
+        final var hint = new AtomicReference<>(leaderHint);
+        final var delivered = new AtomicBoolean();
+        final var lastKey = new AtomicReference<String>();
+        final Consumer<RespT> progress =
+                response -> {
+                    final int count = countOf.applyAsInt(response);
+                    if (count > 0) {
+                        delivered.set(true);
+                        lastKey.set(keyAt.apply(response, count - 1));
+                    }
+                };
+        final Predicate<OxiaStatusException> resume =
+                error -> {
+                    if (!error.isRetryable()) {
+                        return false;
+                    }
+                    if (delivered.get() && lastKey.get() == null) {
+                        // Resuming from the start would deliver the same items again
+                        observer.onError(
+                                new IllegalStateException(
+                                        "Can't resume the "
+                                                + operation
+                                                + " of shard "
+                                                + shardId
+                                                + ": the last item delivered has no key",
+                                        error));
+                        return true;
+                    }
+                    // Appending a NUL character gives the key that comes right after, in the order
+                    // of the keys
+                    final var from = delivered.get() ? lastKey.get() + "\0" : resumeFrom;
+                    log.warn()
+                            .attr("shard", shardId)
+                            .attr("resumeFrom", from)
+                            .exceptionMessage(error)
+                            .log("Resuming " + operation);
+                    keyRangeStream(
+                            operation, shardId, true, from, error, observer, countOf, keyAt, call);
+                    return true;
+                };
         try {
-            Failsafe.with(getRetryPolicy("range scan", hint))
+            Failsafe.with(getRetryPolicy(operation, hint))
                     .with(asyncExecutor)
                     .getStageAsync(
                             () -> {
                                 final var barrierFuture = new CompletableFuture<Void>();
-                                final var barrierObserver =
-                                        ManagedObservers.toBarrierClientResponseObserver(observer, barrierFuture);
+                                final StreamObserver<RespT> barrierObserver =
+                                        resumable
+                                                ? ManagedObservers.toResumableClientResponseObserver(
+                                                        observer, barrierFuture, progress, resume)
+                                                : ManagedObservers.toBarrierClientResponseObserver(
+                                                        observer, barrierFuture);
                                 try {
-                                    connectionManager
-                                            .getConnection(getLeader(request.getShard(), hint))
-                                            .stub()
-                                            .rangeScan(request, barrierObserver);
+                                    call.start(
+                                            connectionManager.getConnection(getLeader(shardId, hint)).stub(),
+                                            resumeFrom,
+                                            barrierObserver);
                                 } catch (Throwable error) {
                                     barrierFuture.completeExceptionally(OxiaStatusException.from(error));
                                 }
@@ -370,6 +505,25 @@ final class GrpcRpcProvider implements RpcProvider {
         }
     }
 
+    private static ListRequest resumedList(ListRequest request, String startKeyInclusive) {
+        final var resumed = new ListRequest();
+        resumed
+                .setShard(request.getShard())
+                .setStartInclusive(startKeyInclusive)
+                .setEndExclusive(request.getEndExclusive());
+        return resumed;
+    }
+
+    private static RangeScanRequest resumedRangeScan(
+            RangeScanRequest request, String startKeyInclusive) {
+        final var resumed = new RangeScanRequest();
+        resumed
+                .setShard(request.getShard())
+                .setStartInclusive(startKeyInclusive)
+                .setEndExclusive(request.getEndExclusive());
+        return resumed;
+    }
+
     @Override
     public void getSequenceUpdates(
             @NonNull GetSequenceUpdatesRequest request,
@@ -409,6 +563,9 @@ final class GrpcRpcProvider implements RpcProvider {
             writeStreams.values().forEach(ManagedWriteStream::close);
             writeStreams.clear();
         } finally {
+            if (ownsTimer) {
+                timer.close();
+            }
             if (ownsConnectionManager) {
                 connectionManager.close();
             }
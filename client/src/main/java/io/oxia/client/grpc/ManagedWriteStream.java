@@ -17,6 +17,7 @@ package io.oxia.client.grpc;
 
 import io.github.merlimat.slog.Logger;
 import io.oxia.client.util.Backoff;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.proto.WriteRequest;
 import io.oxia.proto.WriteResponse;
 import java.time.Duration;
@@ -41,7 +42,7 @@ public final class ManagedWriteStream implements AutoCloseable {
     private final Backoff backoff;
     private final long requestTimeoutMs;
     private final long requestTimeoutNanos;
-    private final ScheduledFuture<?> timeoutScheduler;
+    private final DeadlineTimer timer;
 
     private final ReentrantLock lock;
     @Getter private volatile boolean closed;
@@ -53,6 +54,7 @@ public final class ManagedWriteStream implements AutoCloseable {
             long shardId,
             RpcProvider rpcProvider,
             ScheduledExecutorService asyncExecutor,
+            @NonNull DeadlineTimer timer,
             @NonNull Duration requestTimeout) {
         this.shardId = shardId;
         this.log = Logger.get(ManagedWriteStream.class).with().attr("shard", shardId).build();
@@ -64,46 +66,42 @@ public final class ManagedWriteStream implements AutoCloseable {
         this.closed = false;
         this.requestTimeoutMs = requestTimeout.toMillis();
         this.requestTimeoutNanos = requestTimeout.toNanos();
-        final long timeoutInterval = Math.max(requestTimeoutMs / 10, Duration.ofSeconds(1).toMillis());
-        this.timeoutScheduler =
-                asyncExecutor.scheduleWithFixedDelay(
-                        () -> {
-                            List<InflightWrite> inflightsToFail = null;
-                            OxiaStatusException oxiaStatusException = null;
-                            lock.lock();
-                            try {
-                                final InflightWrite inflightWrite = inflightWrites.peekFirst();
-                                if (inflightWrite == null) {
-                                    return;
-                                }
-                                final long requestAgeNanos = System.nanoTime() - inflightWrite.timestampNanos;
-                                if (requestAgeNanos < requestTimeoutNanos) {
-                                    return;
-                                }
-                                final long requestAgeMs = TimeUnit.NANOSECONDS.toMillis(requestAgeNanos);
-                                log.warn()
-                                        .attr("requestAgeMs", requestAgeMs)
-                                        .attr("requestTimeoutMs", requestTimeoutMs)
-                                        .attr("pendingWrites", inflightWrites.size())
-                                        .log("Write stream timed out, close and re-create it.");
-                                oxiaStatusException = OxiaStatusException.timeout(new TimeoutException());
-                                inflightsToFail = close0(oxiaStatusException);
-                            } finally {
-                                lock.unlock();
-                                if (inflightsToFail != null) {
-                                    for (InflightWrite inflight : inflightsToFail) {
-                                        try {
-                                            inflight.future.completeExceptionally(oxiaStatusException);
-                                        } catch (Throwable ex) {
-                                            log.warn().exceptionMessage(ex).log("Failed to complete inflight write");
-                                        }
-                                    }
-                                }
-                            }
-                        },
-                        timeoutInterval,
-                        timeoutInterval,
-                        TimeUnit.MILLISECONDS);
+        this.timer = timer;
+    }
+
+    /**
+     * A write that is still unanswered after the request timeout means the stream is stuck: fail
+     * every inflight write and close the stream so that the next write re-creates it.
+     */
+    private void onWriteTimeout(InflightWrite timedOut) {
+        List<InflightWrite> inflightsToFail = null;
+        OxiaStatusException oxiaStatusException = null;
+        lock.lock();
+        try {
+            if (timedOut.future.isDone()) {
+                return;
+            }
+            final long requestAgeMs =
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timedOut.timestampNanos);
+            log.warn()
+                    .attr("requestAgeMs", requestAgeMs)
+                    .attr("requestTimeoutMs", requestTimeoutMs)
+                    .attr("pendingWrites", inflightWrites.size())
+                    .log("Write stream timed out, close and re-create it.");
+            oxiaStatusException = OxiaStatusException.timeout(new TimeoutException());
+            inflightsToFail = close0(oxiaStatusException);
+        } finally {
+            lock.unlock();
+            if (inflightsToFail != null) {
+                for (InflightWrite inflight : inflightsToFail) {
+                    try {
+                        inflight.future.completeExceptionally(oxiaStatusException);
+                    } catch (Throwable ex) {
+                        log.warn().exceptionMessage(ex).log("Failed to complete inflight write");
+                    }
+                }
+            }
+        }
     }
 
     void handleResponse(ManagedSubWriteStream source, WriteResponse value) {
@@ -201,6 +199,11 @@ public final class ManagedWriteStream implements AutoCloseable {
                 return CompletableFuture.failedFuture(closedError);
             }
             inflightWrites.addLast(inflightWrite);
+            timer.whenExpired(
+                    future,
+                    requestTimeoutNanos,
+                    TimeUnit.NANOSECONDS,
+                    () -> asyncExecutor.execute(() -> onWriteTimeout(inflightWrite)));
             log.debug(
                     event ->
                             event
@@ -340,7 +343,6 @@ public final class ManagedWriteStream implements AutoCloseable {
         }
         closed = true;
         closedError = error;
-        timeoutScheduler.cancel(false);
         if (subStreamObserver != null) {
             var closingObserver = subStreamObserver;
             subStreamObserver = null;
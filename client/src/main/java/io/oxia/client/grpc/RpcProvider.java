@@ -18,6 +18,7 @@ package io.oxia.client.grpc;
 import io.grpc.stub.StreamObserver;
 import io.oxia.client.ClientConfig;
 import io.oxia.client.grpc.observer.CancelableStreamObserver;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.proto.*;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -37,7 +38,8 @@ public interface RpcProvider extends AutoCloseable {
      * Create an {@link RpcProvider} that routes over an externally-owned {@link ConnectionManager}.
      *
      * <p>The provider will <b>not</b> close the connection manager when it is closed; the owner (for
-     * example a shared-resources pool) is responsible for that.
+     * example a shared-resources pool) is responsible for that. The write-stream deadlines are
+     * tracked on a timer owned by the provider, which is stopped when it is closed.
      */
     static RpcProvider create(
             @NonNull ClientConfig clientConfig,
@@ -47,6 +49,33 @@ public interface RpcProvider extends AutoCloseable {
         return new GrpcRpcProvider(clientConfig, asyncExecutor, connectionManager, shardLeaderProvider);
     }
 
+    /**
+     * Create an {@link RpcProvider} that tracks write-stream deadlines on an externally-owned {@link
+     * DeadlineTimer}. The provider will <b>not</b> close the timer when it is closed.
+     */
+    static RpcProvider create(
+            @NonNull ClientConfig clientConfig,
+            @NonNull ScheduledExecutorService asyncExecutor,
+            @NonNull DeadlineTimer timer,
+            @NonNull LongFunction<String> shardLeaderProvider) {
+        return new GrpcRpcProvider(clientConfig, asyncExecutor, timer, shardLeaderProvider);
+    }
+
+    /**
+     * Create an {@link RpcProvider} that routes over an externally-owned {@link ConnectionManager}
+     * and tracks write-stream deadlines on an externally-owned {@link DeadlineTimer}. The provider
+     * closes neither of them.
+     */
+    static RpcProvider create(
+            @NonNull ClientConfig clientConfig,
+            @NonNull ScheduledExecutorService asyncExecutor,
+            @NonNull ConnectionManager connectionManager,
+            @NonNull DeadlineTimer timer,
+            @NonNull LongFunction<String> shardLeaderProvider) {
+        return new GrpcRpcProvider(
+                clientConfig, asyncExecutor, connectionManager, timer, shardLeaderProvider);
+    }
+
     void getShardAssignments(
             @NonNull ShardAssignmentsRequest request, @NonNull StreamObserver<ShardAssignments> observer);
 
@@ -35,6 +35,11 @@ public abstract class CancelableStreamObserver<T> implements StreamObserver<T> {
     @GuardedBy("lock")
     private ClientCallStreamObserver<?> requestStream;
 
+    // Whether the message requested last hasn't been delivered yet, so that a stream that replaces
+    // the current one only delivers a message once one has been requested
+    @GuardedBy("lock")
+    private boolean awaitingMessage;
+
     public CancelableStreamObserver() {
         this(false);
     }
@@ -49,6 +54,7 @@ public abstract class CancelableStreamObserver<T> implements StreamObserver<T> {
         this.manualFlowControl = manualFlowControl;
         this.terminated = false;
         this.requestStream = null;
+        this.awaitingMessage = true;
     }
 
     public void cancel() {
@@ -101,7 +107,7 @@ public abstract class CancelableStreamObserver<T> implements StreamObserver<T> {
                 if (manualFlowControl) {
                     // Must happen before the call is started: injectRequestStream is invoked
                     // from ClientResponseObserver.beforeStart()
-                    requestStream.disableAutoRequestWithInitial(1);
+                    requestStream.disableAutoRequestWithInitial(awaitingMessage ? 1 : 0);
                 }
                 previousStream = this.requestStream;
                 this.requestStream = requestStream;
@@ -123,6 +129,7 @@ public abstract class CancelableStreamObserver<T> implements StreamObserver<T> {
             if (terminated) {
                 return;
             }
+            awaitingMessage = true;
             stream = requestStream;
         } finally {
             lock.unlock();
@@ -139,6 +146,7 @@ public abstract class CancelableStreamObserver<T> implements StreamObserver<T> {
             if (terminated) {
                 return;
             }
+            awaitingMessage = false;
             handleNext(value);
         } finally {
             lock.unlock();
@@ -18,6 +18,8 @@ package io.oxia.client.grpc.observer;
 import io.grpc.stub.StreamObserver;
 import io.oxia.client.grpc.OxiaStatusException;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import lombok.NonNull;
 
 public final class ManagedObservers {
@@ -60,4 +62,13 @@ public final class ManagedObservers {
                     @NonNull CompletableFuture<Void> barrierFuture) {
         return new BarrierClientResponseObserver<>(streamObserver, barrierFuture);
     }
+
+    public static <ReqT, RespT>
+            ResumableClientResponseObserver<ReqT, RespT> toResumableClientResponseObserver(
+                    @NonNull CancelableStreamObserver<RespT> streamObserver,
+                    @NonNull CompletableFuture<Void> barrierFuture,
+                    @NonNull Consumer<RespT> progress,
+                    @NonNull Predicate<OxiaStatusException> resume) {
+        return new ResumableClientResponseObserver<>(streamObserver, barrierFuture, progress, resume);
+    }
 }
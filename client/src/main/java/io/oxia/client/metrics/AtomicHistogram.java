@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-bucket histogram that records with a couple of uncontended {@link LongAdder} increments
+ * and no locks. Readers see a weakly consistent snapshot, which is all a metrics exporter needs.
+ */
+final class AtomicHistogram {
+
+    /**
+     * Inclusive upper bounds of the buckets; values above the last bound go to an overflow bucket.
+     */
+    private final long[] upperBounds;
+
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+
+    AtomicHistogram(long[] upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        this.buckets = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long value) {
+        int idx = Arrays.binarySearch(upperBounds, value);
+        buckets[idx >= 0 ? idx : -idx - 1].increment();
+        sum.add(value);
+    }
+
+    long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    long sum() {
+        return sum.sum();
+    }
+
+    int bucketCount() {
+        return buckets.length;
+    }
+
+    /** The number of recorded values {@code <=} the upper bound of bucket {@code idx}. */
+    long cumulativeCount(int idx) {
+        long count = 0;
+        for (int i = 0; i <= idx; i++) {
+            count += buckets[i].sum();
+        }
+        return count;
+    }
+}
@@ -16,28 +16,31 @@
 package io.oxia.client.metrics;
 
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.metrics.LongCounter;
-import io.opentelemetry.api.metrics.LongCounterBuilder;
-import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Counter {
 
-    private final LongCounter counter;
-    private final Attributes attributes;
+    private final LongAdder value;
 
     Counter(
-            Meter meter,
+            InstrumentProvider provider,
             String name,
             Unit unit,
             String description,
-            String namespace,
             Attributes attributes) {
-        LongCounterBuilder builder =
-                meter.counterBuilder(name).setDescription(description).setUnit(unit.toString());
-
-        attributes = attributes.toBuilder().put("oxia.namespace", namespace).build();
-        this.counter = builder.build();
-        this.attributes = attributes;
+        this.value =
+                provider.series(
+                        "counter",
+                        name,
+                        attributes,
+                        LongAdder::new,
+                        adder ->
+                                provider
+                                        .meter()
+                                        .counterBuilder(name)
+                                        .setDescription(description)
+                                        .setUnit(unit.toString())
+                                        .buildWithCallback(m -> m.record(adder.sum(), attributes)));
     }
 
     public void increment() {
@@ -45,6 +48,6 @@ public class Counter {
     }
 
     public void add(long delta) {
-        counter.add(delta, attributes);
+        value.add(delta);
     }
 }
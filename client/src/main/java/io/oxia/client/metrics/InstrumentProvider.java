@@ -15,43 +15,156 @@
  */
 package io.oxia.client.metrics;
 
+import io.github.merlimat.slog.Logger;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.oxia.client.api.MetricsLevel;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-public class InstrumentProvider {
+/**
+ * Creates the client's instruments.
+ *
+ * <p>Instruments accumulate in memory on the hot path; OpenTelemetry reads them through observable
+ * instruments when it collects. The only exception are the latency histograms at {@link
+ * MetricsLevel#DETAILED}, which record into native OpenTelemetry histograms.
+ *
+ * <p>An observable instrument must report each attribute set once per collection, so instruments
+ * with the same name and attributes share one accumulator, even across clients that export to the
+ * same {@link MeterProvider}. {@link #close()} releases this provider's share; the observable is
+ * unregistered when its last user is gone.
+ */
+public class InstrumentProvider implements AutoCloseable {
+    private static final Logger log = Logger.get(InstrumentProvider.class);
 
     public static final InstrumentProvider NOOP =
-            new InstrumentProvider(OpenTelemetry.noop(), "default");
+            new InstrumentProvider(OpenTelemetry.noop(), "default", MetricsLevel.OFF);
+
+    private static final ConcurrentMap<SeriesKey, Series> SERIES = new ConcurrentHashMap<>();
 
     private final String namespace;
+    private final MeterProvider meterProvider;
     private final Meter meter;
+    private final MetricsLevel level;
+    private final List<SeriesKey> acquired = new CopyOnWriteArrayList<>();
 
     public InstrumentProvider(OpenTelemetry otel, String namespace) {
+        this(otel, namespace, MetricsLevel.DETAILED);
+    }
+
+    public InstrumentProvider(OpenTelemetry otel, String namespace, MetricsLevel level) {
         this.namespace = namespace;
+        this.level = level;
         if (otel == null) {
             otel = GlobalOpenTelemetry.get();
         }
 
+        this.meterProvider =
+                level == MetricsLevel.OFF ? MeterProvider.noop() : otel.getMeterProvider();
         this.meter =
-                otel.getMeterProvider()
+                meterProvider
                         .meterBuilder("io.oxia.client")
                         //                .setInstrumentationVersion(OxiaClient.getVersion())
                         .build();
     }
 
     public Counter newCounter(String name, Unit unit, String description, Attributes attributes) {
-        return new Counter(meter, name, unit, description, namespace, attributes);
+        return new Counter(this, name, unit, description, withNamespace(attributes));
     }
 
     public UpDownCounter newUpDownCounter(
             String name, Unit unit, String description, Attributes attributes) {
-        return new UpDownCounter(meter, name, unit, description, namespace, attributes);
+        return new UpDownCounter(this, name, unit, description, withNamespace(attributes));
     }
 
     public LatencyHistogram newLatencyHistogram(
             String name, String description, Attributes attributes) {
-        return new LatencyHistogram(meter, name, description, namespace, attributes);
+        return new LatencyHistogram(this, name, description, withNamespace(attributes));
+    }
+
+    MetricsLevel level() {
+        return level;
+    }
+
+    Meter meter() {
+        return meter;
+    }
+
+    /**
+     * Return the accumulator of the {@code kind} instrument {@code name} with {@code attributes},
+     * creating it and registering its observable instrument(s) with {@code register} on first use.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T series(
+            String kind,
+            String name,
+            Attributes attributes,
+            Supplier<T> factory,
+            Function<T, AutoCloseable> register) {
+        if (level == MetricsLevel.OFF) {
+            return factory.get();
+        }
+        var key = new SeriesKey(meterProvider, kind, name, attributes);
+        var series =
+                SERIES.compute(
+                        key,
+                        (k, existing) -> {
+                            if (existing == null) {
+                                T value = factory.get();
+                                existing = new Series(value, register.apply(value));
+                            }
+                            existing.refs++;
+                            return existing;
+                        });
+        acquired.add(key);
+        return (T) series.value;
+    }
+
+    private Attributes withNamespace(Attributes attributes) {
+        if (namespace == null) {
+            return attributes;
+        }
+        return attributes.toBuilder().put("oxia.namespace", namespace).build();
+    }
+
+    @Override
+    public void close() {
+        for (SeriesKey key : acquired) {
+            SERIES.computeIfPresent(
+                    key,
+                    (k, series) -> {
+                        if (--series.refs > 0) {
+                            return series;
+                        }
+                        try {
+                            series.observable.close();
+                        } catch (Exception e) {
+                            log.warn().exceptionMessage(e).log("Failed to unregister observable instrument");
+                        }
+                        return null;
+                    });
+        }
+        acquired.clear();
+    }
+
+    private record SeriesKey(
+            MeterProvider meterProvider, String kind, String name, Attributes attributes) {}
+
+    private static final class Series {
+        private final Object value;
+        private final AutoCloseable observable;
+        private int refs;
+
+        private Series(Object value, AutoCloseable observable) {
+            this.value = value;
+            this.observable = observable;
+        }
     }
 }
@@ -16,13 +16,22 @@
 package io.oxia.client.metrics;
 
 import com.google.common.collect.Lists;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleHistogram;
-import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
-import io.opentelemetry.api.metrics.Meter;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Records operation latencies, split by success and failure.
+ *
+ * <p>At {@link io.oxia.client.api.MetricsLevel#DETAILED} the latencies go to a native OpenTelemetry
+ * histogram. At {@link io.oxia.client.api.MetricsLevel#BASIC} they go to a lock-free {@link
+ * AtomicHistogram} with the same buckets, exported at collection time as the {@code <name>.count},
+ * {@code <name>.sum} and {@code <name>.bucket} counters (the latter cumulative, keyed by the {@code
+ * le} upper bound, in seconds). OpenTelemetry has no asynchronous histogram instrument.
+ */
 public class LatencyHistogram {
 
     private static final List<Double> latencyHistogramBuckets =
@@ -31,55 +40,141 @@ public class LatencyHistogram {
 
     private static final double NANOS = TimeUnit.SECONDS.toNanos(1);
 
-    private final Attributes successAttributes;
+    private static final long[] latencyHistogramBoundsNanos =
+            latencyHistogramBuckets.stream().mapToLong(b -> (long) (b * NANOS)).toArray();
 
-    private final Attributes failedAttributes;
-    private final DoubleHistogram histogram;
+    private static final String[] bucketLabels =
+            latencyHistogramBuckets.stream()
+                    .map(b -> BigDecimal.valueOf(b).toPlainString())
+                    .toArray(String[]::new);
 
-    private LatencyHistogram() {
-        successAttributes = null;
-        failedAttributes = null;
-        histogram = null;
-    }
+    private static final AttributeKey<String> LE = AttributeKey.stringKey("le");
 
-    LatencyHistogram(
-            Meter meter, String name, String description, String namespace, Attributes attributes) {
-        DoubleHistogramBuilder builder =
-                meter
-                        .histogramBuilder(name)
-                        .setDescription(description)
-                        .setUnit(Unit.Seconds.toString())
-                        .setExplicitBucketBoundariesAdvice(latencyHistogramBuckets);
+    private final InstrumentProvider provider;
+    private final String name;
+    private final String description;
+    private final Attributes successAttributes;
+    private final Attributes failedAttributes;
 
-        if (namespace != null) {
-            attributes = attributes.toBuilder().put("oxia.namespace", namespace).build();
-        }
+    private final DoubleHistogram histogram;
+    private final AtomicHistogram success;
+    private final AtomicHistogram failed;
 
-        successAttributes = attributes.toBuilder().put("oxia.response.status", "success").build();
-        failedAttributes = attributes.toBuilder().put("oxia.response.status", "failed").build();
-        this.histogram = builder.build();
+    LatencyHistogram(
+            InstrumentProvider provider, String name, String description, Attributes attributes) {
+        this(
+                provider,
+                name,
+                description,
+                attributes.toBuilder().put("oxia.response.status", "success").build(),
+                attributes.toBuilder().put("oxia.response.status", "failed").build());
     }
 
     private LatencyHistogram(
-            DoubleHistogram histogram, Attributes successAttributes, Attributes failedAttributes) {
-        this.histogram = histogram;
+            InstrumentProvider provider,
+            String name,
+            String description,
+            Attributes successAttributes,
+            Attributes failedAttributes) {
+        this.provider = provider;
+        this.name = name;
+        this.description = description;
         this.successAttributes = successAttributes;
         this.failedAttributes = failedAttributes;
+        switch (provider.level()) {
+            case DETAILED -> {
+                this.histogram =
+                        provider
+                                .meter()
+                                .histogramBuilder(name)
+                                .setDescription(description)
+                                .setUnit(Unit.Seconds.toString())
+                                .setExplicitBucketBoundariesAdvice(latencyHistogramBuckets)
+                                .build();
+                this.success = null;
+                this.failed = null;
+            }
+            case BASIC -> {
+                this.histogram = null;
+                this.success = atomicHistogram(successAttributes);
+                this.failed = atomicHistogram(failedAttributes);
+            }
+            default -> {
+                this.histogram = null;
+                this.success = null;
+                this.failed = null;
+            }
+        }
     }
 
     /** Create a new histograms that inherits the old histograms attributes and adds new ones. */
     public LatencyHistogram withAttributes(Attributes attributes) {
         return new LatencyHistogram(
-                histogram,
+                provider,
+                name,
+                description,
                 successAttributes.toBuilder().putAll(attributes).build(),
                 failedAttributes.toBuilder().putAll(attributes).build());
     }
 
     public void recordSuccess(long latencyNanos) {
-        histogram.record(latencyNanos / NANOS, successAttributes);
+        if (histogram != null) {
+            histogram.record(latencyNanos / NANOS, successAttributes);
+        } else if (success != null) {
+            success.record(latencyNanos);
+        }
     }
 
     public void recordFailure(long latencyNanos) {
-        histogram.record(latencyNanos / NANOS, failedAttributes);
+        if (histogram != null) {
+            histogram.record(latencyNanos / NANOS, failedAttributes);
+        } else if (failed != null) {
+            failed.record(latencyNanos);
+        }
+    }
+
+    private AtomicHistogram atomicHistogram(Attributes attributes) {
+        return provider.series(
+                "histogram",
+                name,
+                attributes,
+                () -> new AtomicHistogram(latencyHistogramBoundsNanos),
+                h -> {
+                    var meter = provider.meter();
+                    var count =
+                            meter
+                                    .counterBuilder(name + ".count")
+                                    .setDescription(description)
+                                    .setUnit(Unit.Requests.toString())
+                                    .buildWithCallback(m -> m.record(h.count(), attributes));
+                    var sum =
+                            meter
+                                    .counterBuilder(name + ".sum")
+                                    .ofDoubles()
+                                    .setDescription(description)
+                                    .setUnit(Unit.Seconds.toString())
+                                    .buildWithCallback(m -> m.record(h.sum() / NANOS, attributes));
+                    var bucketAttributes = new Attributes[h.bucketCount()];
+                    for (int i = 0; i < bucketAttributes.length; i++) {
+                        var le = i < bucketLabels.length ? bucketLabels[i] : "+Inf";
+                        bucketAttributes[i] = attributes.toBuilder().put(LE, le).build();
+                    }
+                    var buckets =
+                            meter
+                                    .counterBuilder(name + ".bucket")
+                                    .setDescription(description)
+                                    .setUnit(Unit.Requests.toString())
+                                    .buildWithCallback(
+                                            m -> {
+                                                for (int i = 0; i < bucketAttributes.length; i++) {
+                                                    m.record(h.cumulativeCount(i), bucketAttributes[i]);
+                                                }
+                                            });
+                    return () -> {
+                        count.close();
+                        sum.close();
+                        buckets.close();
+                    };
+                });
     }
 }
@@ -20,6 +20,8 @@ public enum Unit {
     Events,
     Requests,
     Seconds,
+    Microseconds,
+    Nanoseconds,
     Sessions,
     None,
     ;
@@ -38,6 +40,12 @@ public enum Unit {
             case Seconds:
                 return "s";
 
+            case Microseconds:
+                return "us";
+
+            case Nanoseconds:
+                return "ns";
+
             case Sessions:
                 return "{session}";
 
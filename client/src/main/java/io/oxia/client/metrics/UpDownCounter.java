@@ -16,31 +16,31 @@
 package io.oxia.client.metrics;
 
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.metrics.LongUpDownCounter;
-import io.opentelemetry.api.metrics.LongUpDownCounterBuilder;
-import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.atomic.LongAdder;
 
 public class UpDownCounter {
 
-    private final LongUpDownCounter counter;
-    private final Attributes attributes;
+    private final LongAdder value;
 
     UpDownCounter(
-            Meter meter,
+            InstrumentProvider provider,
             String name,
             Unit unit,
             String description,
-            String namespace,
             Attributes attributes) {
-        LongUpDownCounterBuilder builder =
-                meter.upDownCounterBuilder(name).setDescription(description).setUnit(unit.toString());
-
-        if (namespace != null) {
-            attributes = attributes.toBuilder().put("oxia.namespace", namespace).build();
-        }
-
-        this.counter = builder.build();
-        this.attributes = attributes;
+        this.value =
+                provider.series(
+                        "up-down-counter",
+                        name,
+                        attributes,
+                        LongAdder::new,
+                        adder ->
+                                provider
+                                        .meter()
+                                        .upDownCounterBuilder(name)
+                                        .setDescription(description)
+                                        .setUnit(unit.toString())
+                                        .buildWithCallback(m -> m.record(adder.sum(), attributes)));
     }
 
     public void increment() {
@@ -52,7 +52,7 @@ public class UpDownCounter {
     }
 
     public void add(long delta) {
-        counter.add(delta, attributes);
+        value.add(delta);
     }
 
     public void subtract(long diff) {
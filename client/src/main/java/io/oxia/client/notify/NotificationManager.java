@@ -41,6 +41,7 @@ public class NotificationManager implements AutoCloseable, Consumer<ShardAssignm
     private final @NonNull ShardNotificationReceiver.Factory receiverFactory;
     private final @NonNull ShardManager shardManager;
     private final CompositeConsumer<Notification> compositeCallback;
+    private final CompositeConsumer<Long> shardResetCallback = new CompositeConsumer<>();
 
     @Getter private final ScheduledExecutorService executor;
     private volatile boolean started = false;
@@ -108,6 +109,26 @@ public class NotificationManager implements AutoCloseable, Consumer<ShardAssignm
         }
     }
 
+    public void removeCallback(@NonNull Consumer<Notification> callback) {
+        compositeCallback.remove(callback);
+    }
+
+    /**
+     * Registers a callback that is told the id of a shard whose notifications may have been missed:
+     * its stream (re)started without an offset to resume from, or the shard was removed.
+     */
+    public void registerShardResetCallback(@NonNull Consumer<Long> callback) {
+        shardResetCallback.add(callback);
+    }
+
+    public void removeShardResetCallback(@NonNull Consumer<Long> callback) {
+        shardResetCallback.remove(callback);
+    }
+
+    void onShardReset(long shardId) {
+        shardResetCallback.accept(shardId);
+    }
+
     private void bootstrap() {
         connectNotificationReceivers(
                 new ShardAssignmentChanges(
@@ -115,7 +136,13 @@ public class NotificationManager implements AutoCloseable, Consumer<ShardAssignm
     }
 
     private void connectNotificationReceivers(@NonNull ShardAssignmentChanges changes) {
-        changes.removed().forEach(shard -> shardReceivers.remove(shard.id()).close());
+        changes
+                .removed()
+                .forEach(
+                        shard -> {
+                            shardReceivers.remove(shard.id()).close();
+                            onShardReset(shard.id());
+                        });
         changes
                 .added()
                 .forEach(
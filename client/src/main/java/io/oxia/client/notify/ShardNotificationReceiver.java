@@ -71,6 +71,10 @@ public class ShardNotificationReceiver implements Closeable, StreamObserver<Noti
     }
 
     void start() {
+        if (offset.isEmpty()) {
+            // The stream starts from now on: changes made before it are not notified
+            notificationManager.onShardReset(shardId);
+        }
         var request = new NotificationsRequest();
         request.setShard(shardId);
         offset.ifPresent(request::setStartOffsetExclusive);
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.operation.rangescan;
+
+import io.oxia.client.api.GetResultView;
+import io.oxia.client.api.RangeScanViewConsumer;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** The {@link RangeScanViewConsumer} counterpart of {@link CompositeRangeScanConsumer}. */
+public class CompositeRangeScanViewConsumer implements RangeScanViewConsumer {
+    private final RangeScanViewConsumer delegate;
+    private final ReentrantLock lock;
+    private int pendingCompletedRequests;
+    private boolean completed;
+
+    public CompositeRangeScanViewConsumer(int shards, RangeScanViewConsumer delegate) {
+        this.pendingCompletedRequests = shards;
+        this.delegate = delegate;
+        this.completed = false;
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public boolean onNext(GetResultView view) {
+        lock.lock();
+        try {
+            if (completed) {
+                // Dirty data: the delegate will never see this view, so it has to be released here
+                view.close();
+                return false;
+            }
+            final boolean wantNext = delegate.onNext(view);
+            if (!wantNext) {
+                completed = true;
+                delegate.onCompleted();
+            }
+            return wantNext;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        lock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            delegate.onError(throwable);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onCompleted() {
+        lock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            pendingCompletedRequests -= 1;
+            if (pendingCompletedRequests == 0) {
+                completed = true;
+                delegate.onCompleted();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
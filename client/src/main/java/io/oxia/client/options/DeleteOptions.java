@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.options;
+
+import io.oxia.client.OptionsUtils;
+import io.oxia.client.api.options.DeleteOption;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+public record DeleteOptions(
+        Optional<String> partitionKey, OptionalLong expectedVersionId, Priority priority) {
+
+    public DeleteOptions(Optional<String> partitionKey, OptionalLong expectedVersionId) {
+        this(partitionKey, expectedVersionId, Priority.Interactive);
+    }
+
+    public static DeleteOptions parseFrom(Set<DeleteOption> options) {
+        return new DeleteOptions(
+                OptionsUtils.getPartitionKey(options),
+                OptionsUtils.getVersionId(options),
+                OptionsUtils.getPriority(options));
+    }
+
+    /** The key that the record is routed by. */
+    public String routingKey(String key) {
+        return partitionKey.orElse(key);
+    }
+
+    public DeleteOptions withExpectedVersionId(long expectedVersionId) {
+        return new DeleteOptions(partitionKey, OptionalLong.of(expectedVersionId), priority);
+    }
+}
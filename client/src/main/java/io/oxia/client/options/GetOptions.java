@@ -19,6 +19,8 @@ import io.oxia.client.api.options.GetOption;
 import io.oxia.client.api.options.defs.OptionComparisonType;
 import io.oxia.client.api.options.defs.OptionIncludeValue;
 import io.oxia.client.api.options.defs.OptionPartitionKey;
+import io.oxia.client.api.options.defs.OptionPriority;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.api.options.defs.OptionSecondaryIndexName;
 import io.oxia.proto.KeyComparisonType;
 import java.util.Set;
@@ -27,13 +29,23 @@ public record GetOptions(
         String partitionKey,
         boolean includeValue,
         KeyComparisonType comparisonType,
-        String secondaryIndexName) {
+        String secondaryIndexName,
+        Priority priority) {
+
+    public GetOptions(
+            String partitionKey,
+            boolean includeValue,
+            KeyComparisonType comparisonType,
+            String secondaryIndexName) {
+        this(partitionKey, includeValue, comparisonType, secondaryIndexName, Priority.Interactive);
+    }
 
     public static GetOptions parseFrom(Set<GetOption> options) {
         boolean includeValue = true;
         KeyComparisonType comparisonType = KeyComparisonType.EQUAL;
         String partitionKey = null;
         String secondaryIndexName = null;
+        Priority priority = Priority.Interactive;
         for (GetOption option : options) {
             if (option instanceof OptionIncludeValue) {
                 includeValue = ((OptionIncludeValue) option).includeValue();
@@ -58,7 +70,12 @@ public record GetOptions(
                 secondaryIndexName = ((OptionSecondaryIndexName) option).secondaryIndexName();
                 continue;
             }
+            if (option instanceof OptionPriority) {
+                priority = ((OptionPriority) option).priority();
+                continue;
+            }
         }
-        return new GetOptions(partitionKey, includeValue, comparisonType, secondaryIndexName);
+        return new GetOptions(
+                partitionKey, includeValue, comparisonType, secondaryIndexName, priority);
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.options;
+
+import io.oxia.client.OptionsUtils;
+import io.oxia.client.api.PutResult;
+import io.oxia.client.api.options.PutOption;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
+import io.oxia.client.api.options.defs.OptionSecondaryIndex;
+import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public record PutOptions(
+        Optional<String> partitionKey,
+        OptionalLong expectedVersionId,
+        Optional<List<Long>> sequenceKeysDeltas,
+        List<OptionSecondaryIndex> secondaryIndexes,
+        OptionalLong overrideVersionId,
+        OptionalLong overrideModificationsCount,
+        boolean ephemeral,
+        Priority priority) {
+
+    public PutOptions(
+            Optional<String> partitionKey,
+            OptionalLong expectedVersionId,
+            Optional<List<Long>> sequenceKeysDeltas,
+            List<OptionSecondaryIndex> secondaryIndexes,
+            OptionalLong overrideVersionId,
+            OptionalLong overrideModificationsCount,
+            boolean ephemeral) {
+        this(
+                partitionKey,
+                expectedVersionId,
+                sequenceKeysDeltas,
+                secondaryIndexes,
+                overrideVersionId,
+                overrideModificationsCount,
+                ephemeral,
+                Priority.Interactive);
+    }
+
+    public static PutOptions parseFrom(Set<PutOption> options) {
+        return new PutOptions(
+                OptionsUtils.getPartitionKey(options),
+                OptionsUtils.getVersionId(options),
+                OptionsUtils.getSequenceKeysDeltas(options),
+                OptionsUtils.getSecondaryIndexes(options),
+                OptionsUtils.getOverrideVersionId(options),
+                OptionsUtils.getOverrideModificationsCount(options),
+                OptionsUtils.isEphemeral(options),
+                OptionsUtils.getPriority(options));
+    }
+
+    /** The key that the record is routed by. */
+    public String routingKey(String key) {
+        return partitionKey.orElse(key);
+    }
+
+    public PutOptions withExpectedVersionId(long expectedVersionId) {
+        return new PutOptions(
+                partitionKey,
+                OptionalLong.of(expectedVersionId),
+                sequenceKeysDeltas,
+                secondaryIndexes,
+                overrideVersionId,
+                overrideModificationsCount,
+                ephemeral,
+                priority);
+    }
+
+    /**
+     * Creates the operation writing {@code value} at {@code key} with these options. The session id
+     * and client identifier are only set for ephemeral records.
+     */
+    public PutOperation toOperation(
+            long shardId,
+            CompletableFuture<PutResult> callback,
+            String key,
+            ByteBuffer value,
+            OptionalLong sessionId,
+            Optional<String> clientIdentifier) {
+        return new PutOperation(
+                shardId,
+                callback,
+                key,
+                partitionKey,
+                sequenceKeysDeltas,
+                value,
+                expectedVersionId,
+                sessionId,
+                clientIdentifier,
+                secondaryIndexes,
+                overrideVersionId,
+                overrideModificationsCount);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.options;
+
+import io.oxia.client.OptionsUtils;
+import io.oxia.client.api.options.RangeScanOption;
+import java.util.Optional;
+import java.util.Set;
+
+public record RangeScanOptions(
+        Optional<String> partitionKey, Optional<String> secondaryIndexName, boolean ordered) {
+
+    public RangeScanOptions(Optional<String> partitionKey, Optional<String> secondaryIndexName) {
+        this(partitionKey, secondaryIndexName, false);
+    }
+
+    public static RangeScanOptions parseFrom(Set<RangeScanOption> options) {
+        return new RangeScanOptions(
+                OptionsUtils.getPartitionKey(options),
+                OptionsUtils.getSecondaryIndexName(options),
+                OptionsUtils.isOrdered(options));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.util;
+
+import io.grpc.netty.shaded.io.netty.util.HashedWheelTimer;
+import io.grpc.netty.shaded.io.netty.util.Timeout;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.metrics.LatencyHistogram;
+import io.oxia.client.metrics.UpDownCounter;
+import io.oxia.client.metrics.Unit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.NonNull;
+
+/**
+ * A hashed timing wheel that tracks the deadlines of pending operations.
+ *
+ * <p>{@link CompletableFuture#orTimeout} schedules every deadline on the JDK's single global
+ * delayer, whose priority queue becomes a hotspot at high request rates and keeps cancelled entries
+ * around until they expire. The wheel inserts and cancels in constant time, and a deadline is
+ * cancelled as soon as the future it guards completes.
+ *
+ * <p>Deadlines fire with a resolution of one tick. How late they actually fire is recorded in the
+ * {@code oxia.client.timer.lag} histogram.
+ */
+public final class DeadlineTimer implements AutoCloseable {
+
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer;
+    private final LatencyHistogram histogramLag;
+    private final UpDownCounter gaugePending;
+
+    public DeadlineTimer(@NonNull String name, @NonNull InstrumentProvider instrumentProvider) {
+        this(name, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, instrumentProvider);
+    }
+
+    public DeadlineTimer(
+            @NonNull String name,
+            long tickDuration,
+            @NonNull TimeUnit unit,
+            @NonNull InstrumentProvider instrumentProvider) {
+        this.timer =
+                new HashedWheelTimer(
+                        new DefaultThreadFactory(name, true), tickDuration, unit, TICKS_PER_WHEEL);
+        this.histogramLag =
+                instrumentProvider.newLatencyHistogram(
+                        "oxia.client.timer.lag",
+                        "Delay between a deadline and the moment the timer fired it",
+                        Attributes.empty());
+        this.gaugePending =
+                instrumentProvider.newUpDownCounter(
+                        "oxia.client.timer.pending",
+                        Unit.Events,
+                        "Current number of deadlines tracked by the timer",
+                        Attributes.empty());
+    }
+
+    /**
+     * Fail {@code future} with a {@link TimeoutException} if it is not completed within {@code
+     * timeout}, like {@link CompletableFuture#orTimeout}.
+     *
+     * @return the same future
+     */
+    public <T> @NonNull CompletableFuture<T> orTimeout(
+            @NonNull CompletableFuture<T> future, long timeout, @NonNull TimeUnit unit) {
+        return whenExpired(
+                future, timeout, unit, () -> future.completeExceptionally(new TimeoutException()));
+    }
+
+    /**
+     * Run {@code action} on the timer thread if {@code future} is not completed within {@code
+     * timeout}. The deadline is cancelled as soon as the future completes. The action must be short;
+     * anything heavier should be handed off to an executor.
+     *
+     * @return the same future
+     */
+    public <T> @NonNull CompletableFuture<T> whenExpired(
+            @NonNull CompletableFuture<T> future,
+            long timeout,
+            @NonNull TimeUnit unit,
+            @NonNull Runnable action) {
+        if (future.isDone()) {
+            return future;
+        }
+        final long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        final Timeout handle;
+        try {
+            handle =
+                    timer.newTimeout(
+                            t -> {
+                                gaugePending.decrement();
+                                histogramLag.recordSuccess(Math.max(0, System.nanoTime() - deadlineNanos));
+                                if (!future.isDone()) {
+                                    action.run();
+                                }
+                            },
+                            timeout,
+                            unit);
+        } catch (IllegalStateException e) {
+            // The timer has been stopped, the owner is shutting down
+            future.completeExceptionally(e);
+            return future;
+        }
+        gaugePending.increment();
+        future.whenComplete(
+                (r, e) -> {
+                    if (handle.cancel()) {
+                        gaugePending.decrement();
+                    }
+                });
+        return future;
+    }
+
+    @Override
+    public void close() {
+        // Deadlines that never fired belong to operations the owner fails on its own shutdown path
+        gaugePending.subtract(timer.stop().size());
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.util;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+
+/**
+ * A lock-free bounded ring buffer for many producer threads and a single consumer thread.
+ *
+ * <p>Producers claim slots with a CAS on the producer index and publish into them with an ordered
+ * store; they never take a lock and only wake the consumer when it is actually parked. When the
+ * queue is full, producers back off by spinning and then parking briefly.
+ *
+ * <p>Only one thread may call the consuming methods ({@code poll}, {@code peek}, {@code take},
+ * {@code takeAll}, {@code pollAll}, {@code drainTo}, {@code clear}). How the consumer waits for
+ * items is selected with a {@link WaitStrategy}.
+ */
+public class MpscArrayBlockingQueue<T> extends AbstractQueue<T> implements BatchedBlockingQueue<T> {
+
+    /** How the consumer waits when the queue is empty. */
+    public enum WaitStrategy {
+        /**
+         * Busy-spin, then yield, before parking. Lowest hand-off latency, at the cost of burning some
+         * CPU on the consumer thread after the queue empties.
+         */
+        SPIN_THEN_PARK,
+
+        /** Park as soon as the queue is empty. */
+        PARK,
+    }
+
+    private static final int SPIN_ITERATIONS = 1_000;
+    private static final int YIELD_ITERATIONS = 100;
+    private static final int PRODUCER_SPIN_ITERATIONS = 100;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> buffer;
+    private final WaitStrategy waitStrategy;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    // Only advanced by the consumer
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    private volatile Thread parkedConsumer;
+
+    public MpscArrayBlockingQueue(int capacity, @NonNull WaitStrategy waitStrategy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than zero: " + capacity);
+        }
+        this.capacity = capacity;
+        // The ring is sized to a power of two, the capacity is still enforced exactly
+        int ringSize = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = ringSize - 1;
+        this.buffer = new AtomicReferenceArray<>(ringSize);
+        this.waitStrategy = waitStrategy;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    // Producer side
+
+    @Override
+    public boolean offer(@NonNull T e) {
+        long pi;
+        do {
+            pi = producerIndex.get();
+            if (pi - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(pi, pi + 1));
+        buffer.lazySet(index(pi), e);
+        wakeConsumer();
+        return true;
+    }
+
+    /** Publish up to {@code len} items in a single claim. Returns how many were published. */
+    private int offerAll(T[] a, int offset, int len) {
+        long pi;
+        int toInsert;
+        do {
+            pi = producerIndex.get();
+            long available = capacity - (pi - consumerIndex.get());
+            if (available <= 0) {
+                return 0;
+            }
+            toInsert = (int) Math.min(available, len);
+        } while (!producerIndex.compareAndSet(pi, pi + toInsert));
+        for (int i = 0; i < toInsert; i++) {
+            buffer.lazySet(index(pi + i), a[offset + i]);
+        }
+        wakeConsumer();
+        return toInsert;
+    }
+
+    private void wakeConsumer() {
+        Thread consumer = parkedConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    @Override
+    public void put(@NonNull T e) throws InterruptedException {
+        for (int attempt = 0; !offer(e); attempt++) {
+            waitForSpace(attempt);
+        }
+    }
+
+    @Override
+    public void putAll(T[] a, int offset, int len) throws InterruptedException {
+        int attempt = 0;
+        while (len > 0) {
+            int published = offerAll(a, offset, len);
+            if (published == 0) {
+                waitForSpace(attempt++);
+            } else {
+                offset += published;
+                len -= published;
+                attempt = 0;
+            }
+        }
+    }
+
+    @Override
+    public boolean offer(T e, long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; !offer(e); attempt++) {
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            waitForSpace(attempt);
+        }
+        return true;
+    }
+
+    private static void waitForSpace(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (attempt < PRODUCER_SPIN_ITERATIONS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+    }
+
+    // Consumer side
+
+    private boolean hasItems() {
+        return producerIndex.get() != consumerIndex.get();
+    }
+
+    /** Wait until an item is claimed by a producer, or the timeout expires. */
+    private boolean awaitItems(boolean timed, long nanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (hasItems()) {
+            return true;
+        }
+        if (timed && nanos <= 0) {
+            return false;
+        }
+        final long deadline = timed ? System.nanoTime() + nanos : 0;
+
+        if (waitStrategy == WaitStrategy.SPIN_THEN_PARK) {
+            for (int i = 0; i < SPIN_ITERATIONS + YIELD_ITERATIONS; i++) {
+                if (i < SPIN_ITERATIONS) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                if (hasItems()) {
+                    return true;
+                }
+                if (timed && deadline - System.nanoTime() <= 0) {
+                    return false;
+                }
+            }
+        }
+
+        // Producers check the parked consumer after claiming a slot, so publishing it before the
+        // last emptiness check below guarantees that a concurrent offer either is seen here or
+        // unparks this thread.
+        parkedConsumer = Thread.currentThread();
+        try {
+            while (!hasItems()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (timed) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            return true;
+        } finally {
+            parkedConsumer = null;
+        }
+    }
+
+    /** Read the slot at {@code idx}, which a producer has claimed but may not have stored yet. */
+    private T awaitPublished(int idx) {
+        T e;
+        while ((e = buffer.get(idx)) == null) {
+            Thread.onSpinWait();
+        }
+        return e;
+    }
+
+    private int drain(T[] array, int maxElements) {
+        long ci = consumerIndex.get();
+        int toDrain = (int) Math.min(producerIndex.get() - ci, maxElements);
+        for (int i = 0; i < toDrain; i++) {
+            int idx = index(ci + i);
+            array[i] = awaitPublished(idx);
+            buffer.lazySet(idx, null);
+        }
+        consumerIndex.lazySet(ci + toDrain);
+        return toDrain;
+    }
+
+    @Override
+    public T poll() {
+        long ci = consumerIndex.get();
+        if (ci == producerIndex.get()) {
+            return null;
+        }
+        int idx = index(ci);
+        T e = awaitPublished(idx);
+        buffer.lazySet(idx, null);
+        consumerIndex.lazySet(ci + 1);
+        return e;
+    }
+
+    @Override
+    public T peek() {
+        long ci = consumerIndex.get();
+        if (ci == producerIndex.get()) {
+            return null;
+        }
+        return awaitPublished(index(ci));
+    }
+
+    @Override
+    public @NonNull T take() throws InterruptedException {
+        awaitItems(false, 0);
+        return poll();
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitItems(true, unit.toNanos(timeout)) ? poll() : null;
+    }
+
+    @Override
+    public int takeAll(T[] array) throws InterruptedException {
+        awaitItems(false, 0);
+        return drain(array, array.length);
+    }
+
+    @Override
+    public int pollAll(T[] array, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!awaitItems(true, unit.toNanos(timeout))) {
+            return 0;
+        }
+        return drain(array, array.length);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super T> c) {
+        return drainTo(c, capacity);
+    }
+
+    @Override
+    public int drainTo(@NonNull Collection<? super T> c, int maxElements) {
+        int drained = 0;
+        T e;
+        while (drained < maxElements && (e = poll()) != null) {
+            c.add(e);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // Discard
+        }
+    }
+
+    @Override
+    public int size() {
+        long ci = consumerIndex.get();
+        long pi = producerIndex.get();
+        return (int) Math.min(pi - ci, capacity);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public @NonNull Iterator<T> iterator() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -19,25 +19,39 @@ import static io.oxia.client.api.options.PutOption.IfVersionIdEquals;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.empty;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.ListConsumer;
 import io.oxia.client.api.PutResult;
 import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.api.ValueCodec;
 import io.oxia.client.api.Version;
 import io.oxia.client.api.options.DeleteOption;
+import io.oxia.client.api.options.GetOption;
+import io.oxia.client.api.options.ListOption;
+import io.oxia.client.api.options.PutOption;
+import io.oxia.client.api.options.RangeScanOption;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.batch.BatchManager;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteRangeOperation;
 import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
+import io.oxia.client.codec.Lz4ValueCodec;
 import io.oxia.client.grpc.RpcProvider;
 import io.oxia.client.grpc.observer.CancelableStreamObserver;
 import io.oxia.client.metrics.InstrumentProvider;
@@ -45,14 +59,23 @@ import io.oxia.client.notify.NotificationManager;
 import io.oxia.client.operation.rangescan.CompositeRangeScanConsumer;
 import io.oxia.client.session.SessionManager;
 import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.proto.ListRequest;
 import io.oxia.proto.ListResponse;
+import io.oxia.proto.RangeScanRequest;
+import io.oxia.proto.RangeScanResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeoutException;
@@ -81,11 +104,28 @@ class AsyncOxiaClientImplTest {
 
     private final Duration requestTimeout = Duration.ofSeconds(1);
     private static final long maxPendingBytes = 256L * 1024 * 1024;
+    private static final int maxRequestsPerBatch = 10;
+    private static final int maxBatchSize = 128 * 1024;
 
     private AsyncOxiaClientImpl newClient(long maxPendingBytes) {
+        return newClient(maxPendingBytes, null);
+    }
+
+    private AsyncOxiaClientImpl newClient(long maxPendingBytes, NearCache nearCache) {
+        return newClient(maxPendingBytes, nearCache, null);
+    }
+
+    private AsyncOxiaClientImpl newClient(
+            long maxPendingBytes, NearCache nearCache, ValueCodec valueCodec) {
+        return newClient(maxPendingBytes, nearCache, valueCodec, 0);
+    }
+
+    private AsyncOxiaClientImpl newClient(
+            long maxPendingBytes, NearCache nearCache, ValueCodec valueCodec, int valueChunkSize) {
         return new AsyncOxiaClientImpl(
                 "client-identity",
                 Executors.newSingleThreadScheduledExecutor(),
+                new DeadlineTimer("test-timer", InstrumentProvider.NOOP),
                 InstrumentProvider.NOOP,
                 rpcProvider,
                 shardManager,
@@ -93,8 +133,13 @@ class AsyncOxiaClientImplTest {
                 readBatchManager,
                 writeBatchManager,
                 sessionManager,
+                nearCache,
+                valueCodec,
+                valueChunkSize,
                 requestTimeout,
                 maxPendingBytes,
+                maxRequestsPerBatch,
+                maxBatchSize,
                 true);
     }
 
@@ -117,7 +162,7 @@ class AsyncOxiaClientImplTest {
         var key = "key";
         var value = "hello".getBytes(UTF_8);
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.put(key, value);
         assertThat(result).isNotCompleted();
         assertThat(opCaptor.getValue())
@@ -125,12 +170,26 @@ class AsyncOxiaClientImplTest {
                         o -> {
                             assertThat(o.key()).isEqualTo(key);
                             assertThat(o.expectedVersionId()).isEmpty();
-                            assertThat(o.value()).isEqualTo(value);
+                            assertThat(o.value()).isEqualTo(ByteBuffer.wrap(value));
                             var putResult = new PutResult(key, new Version(1, 2, 3, 4, empty(), empty()));
                             o.callback().complete(putResult);
                         });
     }
 
+    @Test
+    void putAndGetWithPriority() {
+        var putCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        var getCaptor = ArgumentCaptor.forClass(GetOperation.class);
+        when(shardManager.getShardForKey(any())).thenReturn(1L);
+        doNothing().when(writeBatchManager).add(putCaptor.capture(), eq(Priority.Bulk));
+        doNothing().when(readBatchManager).add(getCaptor.capture(), eq(Priority.Interactive));
+
+        client.put("a", new byte[1], Set.of(PutOption.PriorityBulk));
+        client.get("a", Set.of(GetOption.PriorityInteractive));
+        assertThat(putCaptor.getValue().key()).isEqualTo("a");
+        assertThat(getCaptor.getValue().key()).isEqualTo("a");
+    }
+
     @Test
     void putWithTimeout() {
         var opCaptor = ArgumentCaptor.forClass(PutOperation.class);
@@ -138,7 +197,7 @@ class AsyncOxiaClientImplTest {
         var key = "key";
         var value = "hello".getBytes(UTF_8);
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.put(key, value);
         try {
             result.join();
@@ -155,7 +214,7 @@ class AsyncOxiaClientImplTest {
         var opCaptor = ArgumentCaptor.forClass(PutOperation.class);
         var shardId = 1L;
         when(shardManager.getShardForKey(any())).thenReturn(shardId);
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
 
         // utf8("a") + 8 value bytes = 9: the first put fits within the 10 bytes limit
         var smallClient = newClient(10);
@@ -188,7 +247,7 @@ class AsyncOxiaClientImplTest {
         var value = "hello".getBytes(UTF_8);
         var throwable = new RuntimeException();
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doThrow(throwable).when(writeBatchManager).add(opCaptor.capture());
+        doThrow(throwable).when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.put(key, value);
         assertThat(result).isCompletedExceptionally();
     }
@@ -213,6 +272,45 @@ class AsyncOxiaClientImplTest {
         assertThat(client.put(key, null)).isCompletedExceptionally();
     }
 
+    @Test
+    void putByteBuffer() {
+        var opCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        var shardId = 1L;
+        var key = "key";
+        var value = ByteBuffer.allocateDirect(16);
+        value.put("xxhello".getBytes(UTF_8)).flip().position(2);
+        when(shardManager.getShardForKey(key)).thenReturn(shardId);
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
+        var result = client.putBuffer(key, value);
+        assertThat(result).isNotCompleted();
+        assertThat(value.position()).isEqualTo(2);
+        assertThat(opCaptor.getValue())
+                .satisfies(
+                        o -> {
+                            assertThat(o.value().isDirect()).isTrue();
+                            assertThat(o.value()).isEqualTo(ByteBuffer.wrap("hello".getBytes(UTF_8)));
+                            var putResult = new PutResult(key, new Version(1, 2, 3, 4, empty(), empty()));
+                            o.callback().complete(putResult);
+                        });
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void putByteBufferTimeoutWaitsForRelease() {
+        var opCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        var shardId = 1L;
+        var key = "key";
+        when(shardManager.getShardForKey(key)).thenReturn(shardId);
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
+        var result = client.putBuffer(key, ByteBuffer.wrap("hello".getBytes(UTF_8)));
+
+        // The deadline has expired, but the buffer is still referenced by the pending operation
+        await().during(requestTimeout.multipliedBy(2)).until(() -> !result.isDone());
+
+        opCaptor.getValue().callback().completeExceptionally(new RuntimeException("abandoned"));
+        assertThatThrownBy(result::join).hasCauseInstanceOf(TimeoutException.class);
+    }
+
     @Test
     void putExpectedVersion() {
         var opCaptor = ArgumentCaptor.forClass(PutOperation.class);
@@ -221,7 +319,7 @@ class AsyncOxiaClientImplTest {
         var expectedVersionId = 2L;
         var value = "hello".getBytes(UTF_8);
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.put(key, value, Set.of(IfVersionIdEquals(expectedVersionId)));
         assertThat(result).isNotCompleted();
         assertThat(opCaptor.getValue())
@@ -229,7 +327,7 @@ class AsyncOxiaClientImplTest {
                         o -> {
                             assertThat(o.key()).isEqualTo(key);
                             assertThat(o.expectedVersionId()).hasValue(expectedVersionId);
-                            assertThat(o.value()).isEqualTo(value);
+                            assertThat(o.value()).isEqualTo(ByteBuffer.wrap(value));
                         });
     }
 
@@ -241,13 +339,44 @@ class AsyncOxiaClientImplTest {
         assertThat(result).isCompletedExceptionally();
     }
 
+    @Test
+    void preparedPut() {
+        var opCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        var shardId = 1L;
+        var value = "hello".getBytes(UTF_8);
+        when(shardManager.getShardForKey("pk")).thenReturn(shardId);
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
+        var prepared = client.preparePut(Set.of(PutOption.PartitionKey("pk")));
+        prepared.put("a", value);
+        prepared.put("b", value, 3L);
+        assertThat(opCaptor.getAllValues())
+                .satisfiesExactly(
+                        o -> {
+                            assertThat(o.key()).isEqualTo("a");
+                            assertThat(o.partitionKey()).hasValue("pk");
+                            assertThat(o.expectedVersionId()).isEmpty();
+                        },
+                        o -> {
+                            assertThat(o.key()).isEqualTo("b");
+                            assertThat(o.partitionKey()).hasValue("pk");
+                            assertThat(o.expectedVersionId()).hasValue(3L);
+                        });
+    }
+
+    @Test
+    void preparePutInvalidOptions() {
+        assertThatThrownBy(
+                        () -> client.preparePut(Set.of(IfVersionIdEquals(1L), IfVersionIdEquals(2L))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void delete() {
         var opCaptor = ArgumentCaptor.forClass(DeleteOperation.class);
         var shardId = 1L;
         var key = "key";
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.delete(key);
         assertThat(result).isNotCompleted();
         assertThat(opCaptor.getValue())
@@ -266,7 +395,7 @@ class AsyncOxiaClientImplTest {
         var key = "key";
         var throwable = new RuntimeException();
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doThrow(throwable).when(writeBatchManager).add(opCaptor.capture());
+        doThrow(throwable).when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.delete(key);
         assertThat(result).isNotCompleted();
     }
@@ -305,7 +434,7 @@ class AsyncOxiaClientImplTest {
         var key = "key";
         var expectedVersionId = 2L;
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.delete(key, Set.of(DeleteOption.IfVersionIdEquals(expectedVersionId)));
         assertThat(result).isNotCompleted();
         assertThat(opCaptor.getValue())
@@ -325,13 +454,28 @@ class AsyncOxiaClientImplTest {
         assertThat(result).isCompletedExceptionally();
     }
 
+    @Test
+    void preparedDelete() {
+        var opCaptor = ArgumentCaptor.forClass(DeleteOperation.class);
+        var shardId = 1L;
+        when(shardManager.getShardForKey("key")).thenReturn(shardId);
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
+        var prepared = client.prepareDelete(Set.of(DeleteOption.IfVersionIdEquals(1L)));
+        prepared.delete("key");
+        prepared.delete("key", 2L);
+        assertThat(opCaptor.getAllValues())
+                .satisfiesExactly(
+                        o -> assertThat(o.expectedVersionId()).hasValue(1L),
+                        o -> assertThat(o.expectedVersionId()).hasValue(2L));
+    }
+
     @Test
     void deleteRange() {
         var opCaptor = ArgumentCaptor.forClass(DeleteRangeOperation.class);
         var startInclusive = "a-startInclusive";
         var endExclusive = "z-endExclusive";
         when(shardManager.allShardIds()).thenReturn(Set.of(1L, 2L, 3L));
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.deleteRange(startInclusive, endExclusive);
         assertThat(result).isNotCompleted();
 
@@ -358,7 +502,7 @@ class AsyncOxiaClientImplTest {
         var startInclusive = "a-startInclusive";
         var endExclusive = "z-endExclusive";
         when(shardManager.allShardIds()).thenReturn(Set.of(1L, 2L, 3L));
-        doNothing().when(writeBatchManager).add(opCaptor.capture());
+        doNothing().when(writeBatchManager).add(opCaptor.capture(), any());
         var result = client.deleteRange(startInclusive, endExclusive);
         assertThat(result).isNotCompleted();
 
@@ -398,7 +542,7 @@ class AsyncOxiaClientImplTest {
         var shardId = 1L;
         var key = "key";
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doNothing().when(readBatchManager).add(opCaptor.capture());
+        doNothing().when(readBatchManager).add(opCaptor.capture(), any());
         var result = client.get(key);
         assertThat(result).isNotCompleted();
         assertThat(opCaptor.getValue())
@@ -411,6 +555,297 @@ class AsyncOxiaClientImplTest {
                         });
     }
 
+    @Test
+    void getFromNearCache() throws Exception {
+        client.close();
+        client = newClient(maxPendingBytes, new NearCache(1024 * 1024, InstrumentProvider.NOOP));
+        var getCaptor = ArgumentCaptor.forClass(GetOperation.class);
+        var putCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        var key = "key";
+        when(shardManager.getShardForKey(key)).thenReturn(1L);
+        doNothing().when(readBatchManager).add(getCaptor.capture(), any());
+        doNothing().when(writeBatchManager).add(putCaptor.capture(), any());
+
+        var first = client.get(key);
+        var getResult = new GetResult(key, new byte[1], new Version(1, 2, 3, 4, empty(), empty()));
+        getCaptor.getValue().callback().complete(getResult);
+        assertThat(first.join()).isEqualTo(getResult);
+
+        // Served from the cache, as a copy of the cached result
+        var second = client.get(key).join();
+        assertThat(second).isEqualTo(getResult);
+        second.value()[0] = 1;
+        assertThat(client.get(key).join()).isEqualTo(getResult);
+        assertThat(getCaptor.getAllValues()).hasSize(1);
+
+        // A local write drops the key before it completes
+        client.put(key, new byte[2]);
+        putCaptor
+                .getValue()
+                .callback()
+                .complete(new PutResult(key, new Version(2, 2, 3, 4, empty(), empty())));
+        assertThat(client.get(key)).isNotCompleted();
+        assertThat(getCaptor.getAllValues()).hasSize(2);
+    }
+
+    @Test
+    void putAndGetWithValueCodec() throws Exception {
+        client.close();
+        client = newClient(maxPendingBytes, null, new Lz4ValueCodec(16));
+        var getCaptor = ArgumentCaptor.forClass(GetOperation.class);
+        var putCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        var key = "key";
+        when(shardManager.getShardForKey(key)).thenReturn(1L);
+        doNothing().when(readBatchManager).add(getCaptor.capture(), any());
+        doNothing().when(writeBatchManager).add(putCaptor.capture(), any());
+
+        var value = "{\"field\":\"value\"}".repeat(20).getBytes(UTF_8);
+        client.put(key, value);
+        var stored = putCaptor.getValue().value();
+        assertThat(stored.remaining()).isLessThan(value.length);
+
+        // Both the encoded value and a value written without the codec are returned decoded
+        var version = new Version(1, 2, 3, 4, empty(), empty());
+        byte[] storedBytes = new byte[stored.remaining()];
+        stored.get(storedBytes);
+        var get = client.get(key);
+        getCaptor.getValue().callback().complete(new GetResult(key, storedBytes, version));
+        assertThat(get.join()).isEqualTo(new GetResult(key, value, version));
+
+        var legacy = client.get(key);
+        getCaptor.getValue().callback().complete(new GetResult(key, value, version));
+        assertThat(legacy.join()).isEqualTo(new GetResult(key, value, version));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllGroupsKeysByShard() {
+        when(shardManager.getShardForKey("a")).thenReturn(1L);
+        when(shardManager.getShardForKey("b")).thenReturn(2L);
+        when(shardManager.getShardForKey("c")).thenReturn(1L);
+        var submitted = new HashMap<Long, List<GetOperation>>();
+        doAnswer(
+                        invocation -> {
+                            submitted.put(invocation.getArgument(0), invocation.getArgument(1));
+                            return null;
+                        })
+                .when(readBatchManager)
+                .addAll(anyLong(), any(), any());
+
+        var result = client.getAll(List.of("a", "b", "c", "a"));
+        assertThat(result).isNotCompleted();
+        assertThat(submitted).containsOnlyKeys(1L, 2L);
+        assertThat(submitted.get(1L)).extracting(GetOperation::key).containsExactly("a", "c");
+        assertThat(submitted.get(2L)).extracting(GetOperation::key).containsExactly("b");
+
+        submitted.get(2L).get(0).callback().complete(null);
+        submitted.get(1L).forEach(
+                o ->
+                        o.callback()
+                                .complete(
+                                        new GetResult(
+                                                o.key(), new byte[1], new Version(1, 2, 3, 4, empty(), empty()))));
+        assertThat(result.join()).containsOnlyKeys("a", "c");
+        assertThat(result.join().keySet()).containsExactly("a", "c");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllFailsOnFirstError() {
+        when(shardManager.getShardForKey(any())).thenReturn(1L);
+        var captor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(readBatchManager).addAll(anyLong(), captor.capture(), any());
+
+        var result = client.getAll(List.of("a", "b"));
+        var operations = (List<GetOperation>) captor.getValue();
+        operations.get(0).callback().completeExceptionally(new IllegalStateException("failed"));
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void getAllRejectsComparisonOptions() {
+        assertThat(client.getAll(List.of("a"), Set.of(GetOption.ComparisonFloor)))
+                .isCompletedExceptionally();
+    }
+
+    @Test
+    void getAllEmpty() {
+        assertThat(client.getAll(List.of())).isCompletedWithValue(Map.of());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putAll() {
+        when(shardManager.getShardForKey("a")).thenReturn(1L);
+        when(shardManager.getShardForKey("b")).thenReturn(2L);
+        var submitted = new HashMap<Long, List<PutOperation>>();
+        doAnswer(
+                        invocation -> {
+                            submitted.put(invocation.getArgument(0), invocation.getArgument(1));
+                            return null;
+                        })
+                .when(writeBatchManager)
+                .addAll(anyLong(), any(), any());
+
+        var records = new LinkedHashMap<String, byte[]>();
+        records.put("b", "hello".getBytes(UTF_8));
+        records.put("a", "world".getBytes(UTF_8));
+        var result = client.putAll(records);
+        assertThat(submitted).containsOnlyKeys(1L, 2L);
+        assertThat(submitted.get(1L).get(0).value())
+                .isEqualTo(ByteBuffer.wrap("world".getBytes(UTF_8)));
+
+        submitted.values().stream()
+                .flatMap(List::stream)
+                .forEach(
+                        o ->
+                                o.callback()
+                                        .complete(new PutResult(o.key(), new Version(1, 2, 3, 4, empty(), empty()))));
+        assertThat(result.join().keySet()).containsExactly("b", "a");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putAllChunksLargeValues() throws Exception {
+        client.close();
+        client = newClient(maxPendingBytes, null, null, 100);
+        when(shardManager.getShardForKey(any())).thenReturn(1L);
+        var groupCaptor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(writeBatchManager).addAll(eq(1L), groupCaptor.capture(), any());
+        var putCaptor = ArgumentCaptor.forClass(PutOperation.class);
+        doNothing().when(writeBatchManager).add(putCaptor.capture(), any());
+        var getCaptor = ArgumentCaptor.forClass(GetOperation.class);
+        doNothing().when(readBatchManager).add(getCaptor.capture());
+
+        var records = new LinkedHashMap<String, byte[]>();
+        records.put("small", new byte[10]);
+        records.put("large", new byte[250]);
+        var result = client.putAll(records);
+
+        // Only the small value is submitted as a single record, the large one is split in chunks
+        var group = (List<PutOperation>) groupCaptor.getValue();
+        assertThat(group).extracting(PutOperation::key).containsExactly("small");
+        assertThat(putCaptor.getAllValues())
+                .hasSize(3)
+                .allSatisfy(o -> assertThat(o.key()).startsWith(ChunkedValues.CHUNK_KEY_PREFIX));
+
+        var version = new Version(1, 2, 3, 4, empty(), empty());
+        group.get(0).callback().complete(new PutResult("small", version));
+        putCaptor.getAllValues().forEach(o -> o.callback().complete(new PutResult(o.key(), version)));
+        getCaptor.getValue().callback().complete(null);
+
+        var manifest = putCaptor.getValue();
+        assertThat(manifest.key()).isEqualTo("large");
+        manifest.callback().complete(new PutResult("large", version));
+        assertThat(result.join().keySet()).containsExactly("small", "large");
+    }
+
+    @Test
+    void bulkWriter() {
+        when(shardManager.getShardForKey("a")).thenReturn(1L);
+        when(shardManager.getShardForKey("b")).thenReturn(2L);
+        var submitted = new HashMap<Long, List<PutOperation>>();
+        doAnswer(
+                        invocation -> {
+                            submitted.put(invocation.getArgument(0), invocation.getArgument(1));
+                            return null;
+                        })
+                .when(writeBatchManager)
+                .addAll(anyLong(), any(), eq(Priority.Bulk));
+
+        var failures = new HashMap<String, Throwable>();
+        var writer = client.bulkWriter(Set.of(), failures::put);
+        writer.write("a", "hello".getBytes(UTF_8));
+        writer.write("b", "world".getBytes(UTF_8));
+        assertThat(submitted).isEmpty();
+
+        var flushed = writer.flush();
+        assertThat(submitted).containsOnlyKeys(1L, 2L);
+        assertThat(submitted.get(2L).get(0).value())
+                .isEqualTo(ByteBuffer.wrap("world".getBytes(UTF_8)));
+
+        submitted.get(1L).get(0).callback().complete(null);
+        assertThat(flushed).isNotDone();
+        var failure = new IllegalStateException("failed");
+        submitted.get(2L).get(0).callback().completeExceptionally(failure);
+        assertThat(flushed).isCompletedExceptionally();
+        assertThat(failures).containsExactly(Map.entry("b", failure));
+        assertThat(writer.flush()).isCompletedExceptionally();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void bulkWriterSubmitsFullGroups() {
+        when(shardManager.getShardForKey(any())).thenReturn(1L);
+        var captor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(writeBatchManager).addAll(eq(1L), captor.capture(), any());
+
+        var writer = client.bulkWriter(Set.of(PutOption.PriorityInteractive), (key, ex) -> {});
+        for (int i = 0; i <= maxRequestsPerBatch; i++) {
+            writer.write("key-" + i, new byte[1]);
+        }
+        verify(writeBatchManager).addAll(eq(1L), any(), eq(Priority.Interactive));
+        assertThat((List<PutOperation>) captor.getValue()).hasSize(maxRequestsPerBatch);
+
+        var flushed = writer.flush();
+        assertThat((List<PutOperation>) captor.getValue()).hasSize(1);
+        captor.getAllValues().stream()
+                .flatMap(operations -> ((List<PutOperation>) operations).stream())
+                .forEach(o -> o.callback().complete(null));
+        assertThat(flushed).isCompleted();
+
+        writer.close();
+        assertThatThrownBy(() -> writer.write("key", new byte[1]))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void bulkWriterRejectsEphemeralRecords() {
+        assertThatThrownBy(() -> client.bulkWriter(Set.of(PutOption.AsEphemeralRecord), (k, e) -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteAll() {
+        when(shardManager.getShardForKey(any())).thenReturn(1L);
+        var captor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(writeBatchManager).addAll(anyLong(), captor.capture(), any());
+
+        var result = client.deleteAll(List.of("a", "b"));
+        var operations = (List<DeleteOperation>) captor.getValue();
+        assertThat(operations).extracting(DeleteOperation::key).containsExactly("a", "b");
+        operations.get(0).callback().complete(true);
+        operations.get(1).callback().complete(false);
+        assertThat(result.join()).containsExactly(Map.entry("a", true), Map.entry("b", false));
+    }
+
+    @Test
+    void deleteAllClosedBatchManager() {
+        when(shardManager.getShardForKey(any())).thenReturn(1L);
+        doThrow(new IllegalStateException("Batch manager is closed"))
+                .when(writeBatchManager)
+                .addAll(anyLong(), any(), any());
+        assertThat(client.deleteAll(List.of("a"))).isCompletedExceptionally();
+    }
+
+    @Test
+    void preparedGet() {
+        var opCaptor = ArgumentCaptor.forClass(GetOperation.class);
+        var shardId = 1L;
+        var key = "key";
+        when(shardManager.getShardForKey(key)).thenReturn(shardId);
+        doNothing().when(readBatchManager).add(opCaptor.capture(), any());
+        var result = client.prepareGet(Set.of(GetOption.ExcludeValue)).get(key);
+        assertThat(result).isNotCompleted();
+        assertThat(opCaptor.getValue())
+                .satisfies(
+                        o -> {
+                            assertThat(o.key()).isEqualTo(key);
+                            assertThat(o.options().includeValue()).isFalse();
+                        });
+    }
+
     @Test
     void getFails() {
         var opCaptor = ArgumentCaptor.forClass(GetOperation.class);
@@ -418,7 +853,7 @@ class AsyncOxiaClientImplTest {
         var key = "key";
         var throwable = new RuntimeException();
         when(shardManager.getShardForKey(key)).thenReturn(shardId);
-        doThrow(throwable).when(readBatchManager).add(opCaptor.capture());
+        doThrow(throwable).when(readBatchManager).add(opCaptor.capture(), any());
         var result = client.get(key);
         assertThat(result).isCompletedExceptionally();
     }
@@ -462,6 +897,56 @@ class AsyncOxiaClientImplTest {
                 .containsExactlyInAnyOrder("0-a", "0-b", "0-c", "0-d", "1-a", "1-b", "1-c", "1-d");
     }
 
+    @Test
+    void listMergesShardsInKeyOrder() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(1L, 0L));
+        setupListStub();
+
+        assertThat(client.list("a", "e").join())
+                .containsExactly("0-a", "0-b", "0-c", "0-d", "1-a", "1-b", "1-c", "1-d");
+    }
+
+    @Test
+    void listWithLimit() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupListStub();
+
+        assertThat(client.list("a", "e", Set.of(ListOption.Limit(3))).join())
+                .containsExactly("0-a", "0-b", "0-c");
+    }
+
+    @Test
+    void listWithConsumer() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupListStub();
+
+        var keys = new ArrayList<String>();
+        var completed = new AtomicInteger();
+        client.list(
+                "a",
+                "e",
+                new ListConsumer() {
+                    @Override
+                    public boolean onNext(String key) {
+                        keys.add(key);
+                        return !key.equals("1-b");
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        fail("unexpected", throwable);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.incrementAndGet();
+                    }
+                });
+
+        assertThat(keys).containsExactly("0-a", "0-b", "0-c", "0-d", "1-a", "1-b");
+        assertThat(completed).hasValue(1);
+    }
+
     @Test
     void listWithTimeout() {
         when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
@@ -494,6 +979,44 @@ class AsyncOxiaClientImplTest {
         assertThat(client.list("a", null)).isCompletedExceptionally();
     }
 
+    @Test
+    void listPage() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupListStub();
+
+        var page = client.listPage("a", "e", 3, null).join();
+        assertThat(page.items()).containsExactly("0-a", "0-b", "0-c");
+        assertThat(page.continuationToken()).isPresent();
+
+        page = client.listPage("a", "e", 3, page.continuationToken().get()).join();
+        assertThat(page.items()).containsExactly("0-d", "1-a", "1-b");
+        assertThat(page.continuationToken()).isPresent();
+
+        page = client.listPage("a", "e", 3, page.continuationToken().get()).join();
+        assertThat(page.items()).containsExactly("1-c", "1-d");
+        assertThat(page.continuationToken()).isEmpty();
+
+        // Shard 0 is resumed at the last key of the first page, shard 1 from the start
+        verify(rpcProvider)
+                .list(
+                        argThat(r -> r.getShard() == 0 && r.getStartInclusive().equals("0-c")),
+                        any(CancelableStreamObserver.class));
+        verify(rpcProvider, times(2))
+                .list(
+                        argThat(r -> r.getShard() == 1 && r.getStartInclusive().equals("a")),
+                        any(CancelableStreamObserver.class));
+    }
+
+    @Test
+    void listPageInvalidArguments() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+
+        assertThat(client.listPage("a", "e", 0, null)).isCompletedExceptionally();
+        assertThat(client.listPage("a", "e", 3, "not a token")).isCompletedExceptionally();
+        assertThat(client.listPage("a", "e", 3, null, Set.of(ListOption.UseIndex("idx"))))
+                .isCompletedExceptionally();
+    }
+
     private void setupListStub() {
         doAnswer(
                         i -> {
@@ -516,6 +1039,171 @@ class AsyncOxiaClientImplTest {
         return response;
     }
 
+    @Test
+    void rangeScanOrdered() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupRangeScanStub();
+
+        var keys = new ArrayList<String>();
+        var completed = new AtomicInteger();
+        client.rangeScan(
+                "a",
+                "z",
+                new RangeScanConsumer() {
+                    @Override
+                    public boolean onNext(GetResult result) {
+                        keys.add(result.key());
+                        return true;
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        fail("unexpected", throwable);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.incrementAndGet();
+                    }
+                },
+                Set.of(RangeScanOption.Ordered));
+
+        assertThat(keys).containsExactly("a", "b", "c", "d", "e", "f");
+        assertThat(completed).hasValue(1);
+    }
+
+    @Test
+    void rangeScanOrderedIterator() throws Exception {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupRangeScanStub();
+
+        var keys = new ArrayList<String>();
+        try (var scan =
+                new SyncOxiaClientImpl(client).rangeScan("a", "z", Set.of(RangeScanOption.Ordered))) {
+            scan.forEach(result -> keys.add(result.key()));
+        }
+
+        assertThat(keys).containsExactly("a", "b", "c", "d", "e", "f");
+    }
+
+    @Test
+    void rangeScanOrderedWithSecondaryIndex() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+
+        var error = new CompletableFuture<Throwable>();
+        client.rangeScan(
+                "a",
+                "z",
+                new RangeScanConsumer() {
+                    @Override
+                    public boolean onNext(GetResult result) {
+                        return true;
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        error.complete(throwable);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        error.complete(null);
+                    }
+                },
+                Set.of(RangeScanOption.Ordered, RangeScanOption.UseIndex("idx")));
+
+        assertThat(error.join()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rangeScanPage() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupRangeScanStub();
+
+        var page = client.rangeScanPage("a", "z", 4, null).join();
+        assertThat(page.items()).extracting(GetResult::key).containsExactly("a", "b", "c", "d");
+        assertThat(page.continuationToken()).isPresent();
+
+        var token = page.continuationToken().get();
+        page = new SyncOxiaClientImpl(client).rangeScanPage("a", "z", 4, token);
+        assertThat(page.items()).extracting(GetResult::key).containsExactly("e", "f");
+        assertThat(page.continuationToken()).isEmpty();
+    }
+
+    @Test
+    void rangeScanStream() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupRangeScanStub();
+        var sync = new SyncOxiaClientImpl(client);
+
+        try (var stream = sync.rangeScanStream("a", "z")) {
+            assertThat(stream.parallel().map(GetResult::key))
+                    .containsExactlyInAnyOrder("a", "b", "c", "d", "e", "f");
+        }
+        try (var stream = sync.rangeScanStream("a", "z", Set.of(RangeScanOption.Ordered))) {
+            assertThat(stream.map(GetResult::key)).containsExactly("a", "b", "c", "d", "e", "f");
+        }
+    }
+
+    @Test
+    void rangeScanPublisher() {
+        when(shardManager.allShardIds()).thenReturn(Set.of(0L, 1L));
+        setupRangeScanStub();
+
+        var keys = new ArrayList<String>();
+        var completed = new CompletableFuture<Void>();
+        client.rangeScanPublisher("a", "z", Set.of(RangeScanOption.Ordered))
+                .subscribe(
+                        new Flow.Subscriber<>() {
+                            @Override
+                            public void onSubscribe(Flow.Subscription subscription) {
+                                subscription.request(Long.MAX_VALUE);
+                            }
+
+                            @Override
+                            public void onNext(GetResult result) {
+                                keys.add(result.key());
+                            }
+
+                            @Override
+                            public void onError(Throwable throwable) {
+                                completed.completeExceptionally(throwable);
+                            }
+
+                            @Override
+                            public void onComplete() {
+                                completed.complete(null);
+                            }
+                        });
+
+        completed.join();
+        assertThat(keys).containsExactly("a", "b", "c", "d", "e", "f");
+    }
+
+    private void setupRangeScanStub() {
+        // Shard 0 holds "a", "c", "e" and shard 1 holds "b", "d", "f"
+        doAnswer(
+                        i -> {
+                            var request = (RangeScanRequest) i.getArgument(0);
+                            var so = (CancelableStreamObserver<RangeScanResponse>) i.getArgument(1);
+                            var shardId = request.getShard();
+                            so.onNext(rangeScanResponse(shardId == 0 ? "a" : "b", shardId == 0 ? "c" : "d"));
+                            so.onNext(rangeScanResponse(shardId == 0 ? "e" : "f"));
+                            so.onCompleted();
+                            return null;
+                        })
+                .when(rpcProvider)
+                .rangeScan(any(RangeScanRequest.class), any(CancelableStreamObserver.class));
+    }
+
+    private RangeScanResponse rangeScanResponse(String... keys) {
+        var response = new RangeScanResponse();
+        for (String key : keys) {
+            response.addRecord().setKey(key).setValue(key.getBytes(UTF_8)).setVersion().setVersionId(1L);
+        }
+        return response;
+    }
+
     @Test
     void close() throws Exception {
         client.close();
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.oxia.client.api.PutResult;
+import io.oxia.client.api.options.PutOption;
+import io.oxia.client.batch.BatchManager;
+import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
+import io.oxia.client.metrics.Counter;
+import io.oxia.client.metrics.UpDownCounter;
+import io.oxia.client.options.PutOptions;
+import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.PendingBytesLimiter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkWriterImplTest {
+
+    private static final int maxGroupRecords = 3;
+    private static final long maxGroupBytes = 100;
+
+    private final List<List<PutOperation>> submitted = new ArrayList<>();
+    private final Map<String, Throwable> failures = new LinkedHashMap<>();
+
+    private ShardManager shardManager;
+    private BatchManager writeBatchManager;
+    private PendingBytesLimiter pendingBytesLimiter;
+    private ChunkedValues chunkedValues;
+    private UpDownCounter gaugePendingPutRequests;
+    private UpDownCounter gaugePendingPutBytes;
+    private Counter counterPutBytes;
+
+    @BeforeEach
+    void setUp() {
+        shardManager = mock(ShardManager.class);
+        when(shardManager.getShardForKey(anyString())).thenReturn(1L);
+        writeBatchManager = mock(BatchManager.class);
+        doAnswer(
+                        invocation -> {
+                            submitted.add(new ArrayList<>(invocation.getArgument(1)));
+                            return null;
+                        })
+                .when(writeBatchManager)
+                .addAll(anyLong(), any(), any());
+        pendingBytesLimiter = spy(new PendingBytesLimiter(1000));
+        chunkedValues = mock(ChunkedValues.class);
+        gaugePendingPutRequests = mock(UpDownCounter.class);
+        gaugePendingPutBytes = mock(UpDownCounter.class);
+        counterPutBytes = mock(Counter.class);
+    }
+
+    private BulkWriterImpl newWriter() {
+        return new BulkWriterImpl(
+                shardManager,
+                writeBatchManager,
+                pendingBytesLimiter,
+                null,
+                chunkedValues,
+                null,
+                gaugePendingPutRequests,
+                gaugePendingPutBytes,
+                counterPutBytes,
+                () -> {},
+                PutOptions.parseFrom(Set.of(PutOption.PriorityBulk)),
+                maxGroupRecords,
+                maxGroupBytes,
+                failures::put);
+    }
+
+    @Test
+    void groupsAreSubmittedAtTheConfiguredLimits() {
+        var writer = newWriter();
+        writer.write("a", new byte[9]);
+        writer.write("b", new byte[9]);
+        assertThat(submitted).isEmpty();
+        writer.write("c", new byte[9]);
+        assertThat(submitted).hasSize(1);
+        verify(pendingBytesLimiter).acquire(30);
+
+        writer.write("d", new byte[99]);
+        assertThat(submitted).hasSize(2);
+        assertThat(submitted.get(1)).extracting(PutOperation::key).containsExactly("d");
+        verify(pendingBytesLimiter).acquire(100);
+    }
+
+    @Test
+    void generationsCompleteInOrder() {
+        var writer = newWriter();
+        writer.write("a", new byte[9]);
+        var first = writer.flush();
+        writer.write("b", new byte[9]);
+        var second = writer.flush();
+        assertThat(submitted).hasSize(2);
+
+        submitted.get(1).get(0).callback().complete(null);
+        verify(pendingBytesLimiter).release(10);
+        assertThat(second).isNotDone();
+
+        submitted.get(0).get(0).callback().complete(null);
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        verify(counterPutBytes, times(2)).add(9);
+        verify(gaugePendingPutRequests, times(2)).add(1);
+        verify(gaugePendingPutRequests, times(2)).decrement();
+
+        // An empty generation completes with the ones before it
+        assertThat(writer.flush()).isCompleted();
+    }
+
+    @Test
+    void chunkedRecordsAreWrittenAfterTheShardGroup() {
+        var chunked = new CompletableFuture<PutResult>();
+        when(chunkedValues.shouldChunk(any(), any()))
+                .thenAnswer(invocation -> ((ByteBuffer) invocation.getArgument(0)).remaining() > 50);
+        when(chunkedValues.put(eq("large"), any(), any())).thenReturn(chunked);
+
+        var writer = newWriter();
+        writer.write("a", new byte[9]);
+        writer.write("large", new byte[500]);
+        var order = inOrder(writeBatchManager, chunkedValues);
+        order.verify(writeBatchManager).addAll(eq(1L), any(), any());
+        order.verify(chunkedValues).put(eq("large"), any(), any());
+
+        var flushed = writer.flush();
+        submitted.get(0).get(0).callback().complete(null);
+        assertThat(flushed).isNotDone();
+
+        var failure = new IllegalStateException("failed");
+        chunked.completeExceptionally(failure);
+        assertThat(flushed).isCompletedExceptionally();
+        assertThat(failures).containsExactly(Map.entry("large", failure));
+        verify(gaugePendingPutBytes).add(-500);
+        // The chunked path accounts for its own pending bytes
+        verify(pendingBytesLimiter).acquire(10);
+        verify(pendingBytesLimiter).release(10);
+    }
+
+    @Test
+    void failedAcquireFailsTheGroup() {
+        var failure = new RuntimeException("Interrupted while waiting on the pending bytes limit");
+        doThrow(failure).when(pendingBytesLimiter).acquire(anyLong());
+
+        var writer = newWriter();
+        writer.write("a", new byte[9]);
+        writer.write("b", new byte[9]);
+        var flushed = writer.flush();
+
+        assertThat(submitted).isEmpty();
+        assertThat(flushed).isCompletedExceptionally();
+        assertThat(failures).containsOnlyKeys("a", "b");
+        verify(pendingBytesLimiter, never()).release(anyLong());
+        verify(gaugePendingPutRequests).add(2);
+        verify(gaugePendingPutRequests, times(2)).decrement();
+    }
+
+    @Test
+    void closeWaitsForThePendingRecords() {
+        var writer = newWriter();
+        writer.write("a", new byte[9]);
+        writer.write("b", new byte[9]);
+        var closing = CompletableFuture.runAsync(writer::close);
+        await().untilAsserted(() -> assertThat(submitted).hasSize(1));
+        assertThat(closing).isNotDone();
+
+        submitted.get(0).get(0).callback().complete(null);
+        submitted.get(0).get(1).callback().completeExceptionally(new IllegalStateException("failed"));
+        // Failed records are only reported to the failure callback
+        await().until(closing::isDone);
+        assertThat(closing).isCompleted();
+        assertThat(failures).containsOnlyKeys("b");
+        verify(pendingBytesLimiter).release(20);
+
+        assertThatThrownBy(() -> writer.write("c", new byte[9]))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(writer.flush()).isCompletedExceptionally();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static java.util.Optional.empty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.PutResult;
+import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.api.Version;
+import io.oxia.client.api.exceptions.UnexpectedVersionIdException;
+import io.oxia.client.batch.BatchManager;
+import io.oxia.client.batch.Operation;
+import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
+import io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
+import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
+import io.oxia.client.options.DeleteOptions;
+import io.oxia.client.options.PutOptions;
+import io.oxia.client.shard.ShardManager;
+import io.oxia.client.util.PendingBytesLimiter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedValuesTest {
+
+    private static final PutOptions putOptions =
+            new PutOptions(
+                    Optional.empty(),
+                    OptionalLong.empty(),
+                    Optional.empty(),
+                    List.of(),
+                    OptionalLong.empty(),
+                    OptionalLong.empty(),
+                    false);
+
+    /** The records of the fake server, which executes the submitted operations on {@link #run()}. */
+    private final Map<String, GetResult> records = new TreeMap<>();
+
+    private final List<Operation<?>> submitted = new ArrayList<>();
+    private long lastVersionId;
+    private ChunkedValues chunkedValues;
+
+    @BeforeEach
+    void setUp() {
+        var shardManager = mock(ShardManager.class);
+        when(shardManager.getShardForKey(anyString())).thenReturn(1L);
+        var batchManager = mock(BatchManager.class);
+        doAnswer(
+                        invocation -> {
+                            submitted.add(invocation.getArgument(0));
+                            return null;
+                        })
+                .when(batchManager)
+                .add(any(), any());
+        doAnswer(
+                        invocation -> {
+                            submitted.addAll(invocation.getArgument(1));
+                            return null;
+                        })
+                .when(batchManager)
+                .addAll(anyLong(), any(), any());
+        chunkedValues =
+                new ChunkedValues(
+                        100, shardManager, batchManager, batchManager, new PendingBytesLimiter(1000), null);
+    }
+
+    @Test
+    void putSplitsTheValueIntoChunks() {
+        byte[] value = randomValue(950);
+        assertThat(chunkedValues.shouldChunk(ByteBuffer.wrap(value), putOptions)).isTrue();
+        assertThat(chunkedValues.shouldChunk(ByteBuffer.wrap(new byte[100]), putOptions)).isFalse();
+
+        var put = chunkedValues.put("key", ByteBuffer.wrap(value), putOptions);
+        run();
+        assertThat(put.join().key()).isEqualTo("key");
+        assertThat(records.keySet())
+                .hasSize(11)
+                .filteredOn(ChunkedValues::isChunkKey)
+                .hasSize(10);
+        assertThat(ChunkedValues.isManifest(ByteBuffer.wrap(records.get("key").value()))).isTrue();
+
+        var resolved = chunkedValues.resolve(records.get("key"));
+        run();
+        assertThat(resolved.join().value()).isEqualTo(value);
+        assertThat(resolved.join().version()).isEqualTo(records.get("key").version());
+    }
+
+    @Test
+    void overwriteAndDeleteDropTheReplacedChunks() {
+        chunkedValues.put("key", ByteBuffer.wrap(randomValue(950)), putOptions);
+        run();
+        var replaced = records.get("key");
+
+        byte[] value = randomValue(250);
+        chunkedValues.put("key", ByteBuffer.wrap(value), putOptions);
+        run();
+        assertThat(records).hasSize(4);
+
+        // A reader holding the replaced manifest reads the record again
+        var resolved = chunkedValues.resolve(replaced);
+        run();
+        assertThat(resolved.join().value()).isEqualTo(value);
+
+        var deleted =
+                chunkedValues.delete(1L, "key", new DeleteOptions(Optional.empty(), OptionalLong.empty()));
+        run();
+        assertThat(deleted.join()).isTrue();
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    void concurrentWriteIsRetried() {
+        var put = chunkedValues.put("key", ByteBuffer.wrap(randomValue(950)), putOptions);
+        // Another client writes the record after it was read, before the manifest is committed
+        runReads();
+        write("key", new byte[1]);
+        run();
+
+        assertThat(put.join().version().versionId()).isEqualTo(lastVersionId);
+        assertThat(records).hasSize(11);
+    }
+
+    @Test
+    void rangeScanDeliversResolvedRecordsInOrder() {
+        byte[] value = randomValue(950);
+        chunkedValues.put("b", ByteBuffer.wrap(value), putOptions);
+        run();
+        write("a", new byte[1]);
+        write("c", new byte[2]);
+
+        List<GetResult> delivered = new ArrayList<>();
+        var completed = new CompletableFuture<Void>();
+        var consumer =
+                chunkedValues.resolving(
+                        new RangeScanConsumer() {
+                            @Override
+                            public boolean onNext(GetResult result) {
+                                delivered.add(result);
+                                return true;
+                            }
+
+                            @Override
+                            public void onError(Throwable throwable) {
+                                completed.completeExceptionally(throwable);
+                            }
+
+                            @Override
+                            public void onCompleted() {
+                                completed.complete(null);
+                            }
+                        });
+        List.copyOf(records.values()).forEach(consumer::onNext);
+        consumer.onCompleted();
+        // The chunk records are skipped and "c" waits for the chunks of "b"
+        assertThat(delivered).extracting(GetResult::key).containsExactly("a");
+        assertThat(completed).isNotDone();
+
+        run();
+        assertThat(completed).isCompleted();
+        assertThat(delivered).extracting(GetResult::key).containsExactly("a", "b", "c");
+        assertThat(delivered.get(1).value()).isEqualTo(value);
+    }
+
+    @Test
+    void manifest() {
+        var manifest = new ChunkedValues.Manifest("routing", "id", 3, 300);
+        assertThat(ChunkedValues.Manifest.parse(manifest.serialize())).isEqualTo(manifest);
+        assertThat(manifest.chunkKey(2)).isEqualTo("__oxia_chunks/id/2");
+        assertThat(ChunkedValues.Manifest.parse(new byte[] {(byte) 0xF5, 'O', 'X', 'C', 0, 0, 0, 1}))
+                .isNull();
+        assertThat(ChunkedValues.Manifest.parse("{\"json\":true}".getBytes())).isNull();
+    }
+
+    private static byte[] randomValue(int size) {
+        byte[] value = new byte[size];
+        new Random(size).nextBytes(value);
+        return value;
+    }
+
+    private void write(String key, byte[] value) {
+        var version = new Version(++lastVersionId, 0, 0, 0, empty(), empty());
+        records.put(key, new GetResult(key, value, version));
+    }
+
+    private void runReads() {
+        for (var operation : List.copyOf(submitted)) {
+            if (operation instanceof GetOperation get) {
+                submitted.remove(get);
+                get.callback().complete(records.get(get.key()));
+            }
+        }
+    }
+
+    /** Executes the submitted operations, and the ones they submit, until there are none left. */
+    private void run() {
+        while (!submitted.isEmpty()) {
+            var operation = submitted.remove(0);
+            if (operation instanceof GetOperation get) {
+                get.callback().complete(records.get(get.key()));
+            } else if (operation instanceof PutOperation put) {
+                var current = records.get(put.key());
+                long currentVersionId = current != null ? current.version().versionId() : -1;
+                if (put.expectedVersionId().isPresent()
+                        && put.expectedVersionId().getAsLong() != currentVersionId) {
+                    put.callback()
+                            .completeExceptionally(new UnexpectedVersionIdException(put.key(), currentVersionId));
+                    continue;
+                }
+                byte[] value = new byte[put.value().remaining()];
+                put.value().get(put.value().position(), value);
+                write(put.key(), value);
+                put.callback().complete(new PutResult(put.key(), records.get(put.key()).version()));
+            } else if (operation instanceof DeleteOperation delete) {
+                var current = records.get(delete.key());
+                if (delete.expectedVersionId().isPresent()
+                        && (current == null
+                                || current.version().versionId() != delete.expectedVersionId().getAsLong())) {
+                    delete
+                            .callback()
+                            .completeExceptionally(new UnexpectedVersionIdException(delete.key(), -1));
+                    continue;
+                }
+                delete.callback().complete(records.remove(delete.key()) != null);
+            }
+        }
+    }
+}
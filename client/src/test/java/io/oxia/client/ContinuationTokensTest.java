@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ContinuationTokensTest {
+
+    private static Optional<String> encode(List<Long> shardIds, Map<Long, String> positions) {
+        return ContinuationTokens.encode("a", "z", Optional.empty(), shardIds, positions);
+    }
+
+    private static Map<Long, String> decode(String token, List<Long> shardIds) {
+        return ContinuationTokens.decode(token, "a", "z", Optional.empty(), shardIds);
+    }
+
+    @Test
+    void firstPage() {
+        Map<Long, String> expected = new HashMap<>();
+        expected.put(0L, null);
+        expected.put(1L, null);
+        assertThat(decode(null, List.of(0L, 1L))).isEqualTo(expected);
+    }
+
+    @Test
+    void roundTrip() {
+        Map<Long, String> positions = new HashMap<>();
+        positions.put(0L, "key/é");
+        positions.put(2L, null);
+
+        var token = encode(List.of(2L, 1L, 0L), positions);
+        assertThat(token).isPresent();
+        assertThat(token.get()).matches("[A-Za-z0-9_-]+");
+        assertThat(decode(token.get(), List.of(0L, 1L, 2L))).isEqualTo(positions);
+    }
+
+    @Test
+    void keysLongerThan64KB() {
+        var key = "é".repeat(40_000);
+        var token = encode(List.of(0L), Map.of(0L, key)).orElseThrow();
+        assertThat(decode(token, List.of(0L))).isEqualTo(Map.of(0L, key));
+    }
+
+    @Test
+    void noTokenOnceAllShardsAreDone() {
+        assertThat(encode(List.of(0L, 1L), Map.of())).isEmpty();
+    }
+
+    @Test
+    void invalidToken() {
+        assertThatThrownBy(() -> decode("not a token", List.of(0L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // Unsupported version
+        var token = Base64.getUrlEncoder().encodeToString(new byte[] {3, 0, 0, 0, 0});
+        assertThatThrownBy(() -> decode(token, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        // Truncated key
+        var truncated = encode(List.of(0L), Map.of(0L, "key")).orElseThrow();
+        assertThatThrownBy(() -> decode(truncated.substring(0, truncated.length() - 2), List.of(0L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tokenOfAnotherRange() {
+        var token = encode(List.of(0L, 1L), Map.of(0L, "b")).orElseThrow();
+        assertThatThrownBy(
+                        () -> ContinuationTokens.decode(token, "a", "y", Optional.empty(), List.of(0L, 1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[a, z)");
+        assertThatThrownBy(
+                        () -> ContinuationTokens.decode(token, "b", "z", Optional.empty(), List.of(0L, 1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tokenOfAnotherIndex() {
+        var token = encode(List.of(0L), Map.of(0L, "b")).orElseThrow();
+        assertThatThrownBy(
+                        () -> ContinuationTokens.decode(token, "a", "z", Optional.of("idx"), List.of(0L)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        var indexToken =
+                ContinuationTokens.encode("a", "z", Optional.of("idx"), List.of(0L), Map.of(0L, "b"))
+                        .orElseThrow();
+        assertThat(ContinuationTokens.decode(indexToken, "a", "z", Optional.of("idx"), List.of(0L)))
+                .isEqualTo(Map.of(0L, "b"));
+        assertThatThrownBy(() -> decode(indexToken, List.of(0L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("secondary index idx");
+    }
+
+    @Test
+    void shardsHaveChanged() {
+        var token = encode(List.of(0L, 1L), Map.of(0L, "a")).orElseThrow();
+        assertThatThrownBy(() -> decode(token, List.of(0L, 1L, 2L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.IteratorPrefetch;
 import io.oxia.client.api.Version;
 import java.util.ArrayList;
 import java.util.List;
@@ -144,12 +145,73 @@ class GetResultIteratorTest {
         assertThat(handle.cancelled).isTrue();
     }
 
+    @Test
+    void prefetchByRecords() {
+        var it = new GetResultIterator(IteratorPrefetch.records(2));
+        var handle = new TestStreamHandle();
+        it.onStreamStarted(handle);
+
+        it.onNext(result("a"));
+        it.onNext(result("b"));
+        it.onNext(result("c"));
+        it.onStreamIdle(handle);
+        assertThat(handle.requested).hasValue(0);
+
+        it.next();
+        assertThat(handle.requested).hasValue(0);
+
+        // 1 record left: the next response is requested before the buffer drains
+        it.next();
+        assertThat(handle.requested).hasValue(1);
+
+        it.next();
+        it.onNext(result("d"));
+        it.onStreamIdle(handle);
+        // Still below the watermark: requested right away
+        assertThat(handle.requested).hasValue(2);
+    }
+
+    @Test
+    void prefetchByBytes() {
+        var it = new GetResultIterator(IteratorPrefetch.bytes(10));
+        var handle = new TestStreamHandle();
+        it.onStreamStarted(handle);
+
+        for (String key : List.of("a", "b", "c")) {
+            it.onNext(new GetResult(key, new byte[6], result(key).version()));
+        }
+        it.onStreamIdle(handle);
+
+        it.next();
+        assertThat(handle.requested).hasValue(0);
+
+        // 6 bytes left
+        it.next();
+        assertThat(handle.requested).hasValue(1);
+    }
+
+    @Test
+    void invalidPrefetch() {
+        assertThatThrownBy(() -> IteratorPrefetch.records(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IteratorPrefetch.bytes(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void concurrentProducerAndConsumer() throws Exception {
+        assertConcurrentProducerAndConsumer(new GetResultIterator());
+    }
+
+    @Test
+    void concurrentProducerAndConsumerWithPrefetch() throws Exception {
+        assertConcurrentProducerAndConsumer(new GetResultIterator(IteratorPrefetch.records(8)));
+    }
+
+    private void assertConcurrentProducerAndConsumer(GetResultIterator it) throws Exception {
         final int batches = 20;
         final int recordsPerBatch = 5;
 
-        var it = new GetResultIterator();
         var demand = new Semaphore(0);
         var handle =
                 new FlowControlledRangeScanConsumer.StreamHandle() {
@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static java.util.Optional.empty;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.Notification;
+import io.oxia.client.api.RangeScanConsumer;
+import io.oxia.client.api.Version;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MaterializedViewImplTest {
+
+    record Scan(long shardId, RangeScanConsumer consumer) {}
+
+    record Fetch(List<String> keys, CompletableFuture<Map<String, GetResult>> future) {
+        void complete(GetResult... results) {
+            Map<String, GetResult> map = new HashMap<>();
+            for (GetResult result : results) {
+                map.put(result.key(), result);
+            }
+            future.complete(map);
+        }
+    }
+
+    // Keys starting with "a" are in shard 1, the others in shard 2
+    class FakeSource implements MaterializedViewImpl.Source {
+        final List<Scan> scans = new ArrayList<>();
+        final List<Fetch> fetches = new ArrayList<>();
+
+        @Override
+        public Set<Long> shardIds() {
+            return Set.of(1L, 2L);
+        }
+
+        @Override
+        public long shardForKey(String key) {
+            return key.startsWith("a") ? 1L : 2L;
+        }
+
+        @Override
+        public void scan(
+                long shardId,
+                String startKeyInclusive,
+                String endKeyExclusive,
+                RangeScanConsumer consumer) {
+            assertThat(startKeyInclusive).isEqualTo("a");
+            assertThat(endKeyExclusive).isEqualTo("y");
+            scans.add(new Scan(shardId, consumer));
+        }
+
+        @Override
+        public CompletableFuture<Map<String, GetResult>> fetch(List<String> keys) {
+            var fetch = new Fetch(List.copyOf(keys), new CompletableFuture<>());
+            fetches.add(fetch);
+            return fetch.future();
+        }
+
+        Scan scan(long shardId) {
+            return scans.stream().filter(s -> s.shardId() == shardId).reduce((a, b) -> b).orElseThrow();
+        }
+
+        Fetch lastFetch() {
+            return fetches.get(fetches.size() - 1);
+        }
+    }
+
+    FakeSource source;
+    MaterializedViewImpl view;
+
+    private static GetResult record(String key, long versionId) {
+        return new GetResult(
+                key, new byte[] {(byte) versionId}, new Version(versionId, 0, 0, 0, empty(), empty()));
+    }
+
+    @BeforeEach
+    void setup() {
+        source = new FakeSource();
+        view =
+                new MaterializedViewImpl("a", "y", source, mock(ScheduledExecutorService.class), v -> {});
+        view.start();
+    }
+
+    private void load(GetResult... records) {
+        for (GetResult record : records) {
+            source.scan(source.shardForKey(record.key())).consumer().onNext(record);
+        }
+        source.scan(1L).consumer().onCompleted();
+        source.scan(2L).consumer().onCompleted();
+    }
+
+    @Test
+    void loadAndFollowChanges() {
+        assertThat(source.scans).hasSize(2);
+        load(record("a1", 1), record("b1", 1));
+        assertThat(view.ready()).isCompleted();
+        assertThat(view.size()).isEqualTo(2);
+        assertThat(view.get("a1")).isEqualTo(record("a1", 1));
+
+        view.onNotification(new Notification.KeyModified("a1", 2));
+        view.onNotification(new Notification.KeyCreated("z1", 1));
+        assertThat(source.lastFetch().keys()).containsExactly("a1");
+        source.lastFetch().complete(record("a1", 2));
+        assertThat(view.get("a1")).isEqualTo(record("a1", 2));
+
+        view.onNotification(new Notification.KeyDeleted("b1"));
+        source.lastFetch().complete();
+        assertThat(view.get("b1")).isNull();
+        assertThat(source.fetches).hasSize(2);
+    }
+
+    @Test
+    void changesDuringLoadAreFetchedAfterIt() {
+        source.scan(1L).consumer().onNext(record("a1", 1));
+        view.onNotification(new Notification.KeyModified("a1", 2));
+        view.onNotification(new Notification.KeyCreated("b2", 1));
+        source.scan(1L).consumer().onCompleted();
+        assertThat(source.fetches).isEmpty();
+
+        source.scan(2L).consumer().onCompleted();
+        assertThat(view.ready()).isNotCompleted();
+        assertThat(source.lastFetch().keys()).containsExactly("a1", "b2");
+
+        source.lastFetch().complete(record("a1", 2), record("b2", 1));
+        assertThat(view.ready()).isCompleted();
+        assertThat(view.snapshot()).containsOnlyKeys("a1", "b2");
+    }
+
+    @Test
+    void rangeDeleteDuringLoadIsAppliedAgain() {
+        source.scan(1L).consumer().onNext(record("a1", 1));
+        view.onNotification(new Notification.KeyRangeDelete("a", "b"));
+        // The scan of shard 1 returns a record read before the range delete
+        source.scan(1L).consumer().onNext(record("a2", 1));
+        source.scan(1L).consumer().onCompleted();
+        source.scan(2L).consumer().onCompleted();
+
+        assertThat(view.ready()).isCompleted();
+        assertThat(view.size()).isZero();
+    }
+
+    @Test
+    void shardResetRescansOnlyThatShard() {
+        load(record("a1", 1), record("a2", 1), record("b1", 1));
+        view.onShardReset(1L);
+        assertThat(source.scans).hasSize(3);
+        assertThat(source.scans.get(2).shardId()).isEqualTo(1L);
+
+        // a2 is gone from the new scan: it is fetched to confirm it was deleted
+        source.scan(1L).consumer().onNext(record("a1", 3));
+        source.scan(1L).consumer().onCompleted();
+        assertThat(source.lastFetch().keys()).containsExactly("a2");
+        source.lastFetch().complete();
+
+        assertThat(view.snapshot()).containsOnlyKeys("a1", "b1");
+        assertThat(view.get("a1")).isEqualTo(record("a1", 3));
+    }
+
+    @Test
+    void dropFetchOfKeyNotifiedAgain() {
+        load(record("a1", 1));
+        view.onNotification(new Notification.KeyModified("a1", 2));
+        var inFlight = source.lastFetch();
+        view.onNotification(new Notification.KeyModified("a1", 3));
+        assertThat(source.fetches).hasSize(1);
+
+        inFlight.complete(record("a1", 2));
+        assertThat(view.get("a1")).isEqualTo(record("a1", 1));
+        source.lastFetch().complete(record("a1", 3));
+        assertThat(view.get("a1")).isEqualTo(record("a1", 3));
+    }
+
+    @Test
+    void neverReplaceNewerVersion() {
+        load(record("a1", 5));
+        view.onNotification(new Notification.KeyModified("a1", 4));
+        source.lastFetch().complete(record("a1", 4));
+        assertThat(view.get("a1")).isEqualTo(record("a1", 5));
+    }
+
+    @Test
+    void snapshotIsIsolated() {
+        load(record("a1", 1));
+        var snapshot = view.snapshot();
+        view.onNotification(new Notification.KeyCreated("a2", 1));
+        source.lastFetch().complete(record("a2", 1));
+
+        assertThat(snapshot).containsOnlyKeys("a1");
+        assertThat(view.snapshot()).containsOnlyKeys("a1", "a2");
+    }
+
+    @Test
+    void closeStopsFollowingChanges() {
+        var closed = new ArrayList<MaterializedViewImpl>();
+        view =
+                new MaterializedViewImpl(
+                        "a", "y", source, mock(ScheduledExecutorService.class), closed::add);
+        view.start();
+        view.close();
+        view.close();
+
+        assertThat(closed).containsExactly(view);
+        assertThat(view.ready()).isCompletedExceptionally();
+        view.onNotification(new Notification.KeyCreated("a1", 1));
+        assertThat(source.fetches).isEmpty();
+    }
+}
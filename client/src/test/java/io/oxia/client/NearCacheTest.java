@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static java.util.Optional.empty;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.Notification;
+import io.oxia.client.api.Version;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.options.GetOptions;
+import io.oxia.proto.KeyComparisonType;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+    NearCache cache = new NearCache(1024 * 1024, InstrumentProvider.NOOP);
+
+    private static GetResult result(String key, long versionId) {
+        return new GetResult(key, new byte[] {(byte) versionId}, version(versionId));
+    }
+
+    private static Version version(long versionId) {
+        return new Version(versionId, 0, 0, 0, empty(), empty());
+    }
+
+    /** Looks up the key, and on a miss fills it with {@code onMiss} as read from the server. */
+    private CompletableFuture<GetResult> get(String key, GetResult onMiss) {
+        var result = new CompletableFuture<GetResult>();
+        long stamp = cache.stamp();
+        if (!cache.lookup(key, null, 1L, stamp, result)) {
+            cache.fill(key, null, 1L, stamp, onMiss);
+            result.complete(onMiss);
+        }
+        return result;
+    }
+
+    private boolean isCached(String key) {
+        return cache.lookup(key, null, 1L, cache.stamp(), new CompletableFuture<>());
+    }
+
+    @Test
+    void isCacheable() {
+        assertThat(NearCache.isCacheable(new GetOptions(null, true, KeyComparisonType.EQUAL, null)))
+                .isTrue();
+        assertThat(NearCache.isCacheable(new GetOptions("p", true, KeyComparisonType.EQUAL, null)))
+                .isTrue();
+        assertThat(NearCache.isCacheable(new GetOptions(null, false, KeyComparisonType.EQUAL, null)))
+                .isFalse();
+        assertThat(NearCache.isCacheable(new GetOptions(null, true, KeyComparisonType.FLOOR, null)))
+                .isFalse();
+        assertThat(NearCache.isCacheable(new GetOptions(null, true, KeyComparisonType.EQUAL, "idx")))
+                .isFalse();
+    }
+
+    @Test
+    void hitAfterFill() {
+        get("a", result("a", 1));
+        var hit = new CompletableFuture<GetResult>();
+        assertThat(cache.lookup("a", null, 1L, cache.stamp(), hit)).isTrue();
+        assertThat(hit).isCompletedWithValue(result("a", 1));
+
+        // Another partition key or shard is a different record
+        assertThat(cache.lookup("a", "p", 1L, cache.stamp(), new CompletableFuture<>())).isFalse();
+        assertThat(cache.lookup("a", null, 2L, cache.stamp(), new CompletableFuture<>())).isFalse();
+    }
+
+    @Test
+    void negativeCachingDroppedOnCreate() {
+        get("a", null);
+        var hit = new CompletableFuture<GetResult>();
+        assertThat(cache.lookup("a", null, 1L, cache.stamp(), hit)).isTrue();
+        assertThat(hit).isCompletedWithValue(null);
+
+        cache.onNotification(new Notification.KeyCreated("a", 1));
+        assertThat(isCached("a")).isFalse();
+    }
+
+    @Test
+    void notificationsInvalidate() {
+        get("a", result("a", 1));
+        get("b", result("b", 1));
+        get("c", result("c", 1));
+        get("d", result("d", 1));
+
+        cache.onNotification(new Notification.KeyModified("a", 2));
+        cache.onNotification(new Notification.KeyDeleted("b"));
+        assertThat(isCached("a")).isFalse();
+        assertThat(isCached("b")).isFalse();
+        assertThat(isCached("c")).isTrue();
+
+        cache.onNotification(new Notification.KeyRangeDelete("c", "d"));
+        assertThat(isCached("c")).isFalse();
+        assertThat(isCached("d")).isTrue();
+    }
+
+    @Test
+    void rejectFillRacingWithInvalidation() {
+        var miss = new CompletableFuture<GetResult>();
+        long stamp = cache.stamp();
+        assertThat(cache.lookup("a", null, 1L, stamp, miss)).isFalse();
+
+        // The key changes while the get is in flight, and is read again meanwhile
+        cache.onNotification(new Notification.KeyModified("a", 2));
+        get("a", result("a", 2));
+
+        cache.fill("a", null, 1L, stamp, result("a", 1));
+        var hit = new CompletableFuture<GetResult>();
+        assertThat(cache.lookup("a", null, 1L, cache.stamp(), hit)).isTrue();
+        assertThat(hit).isCompletedWithValue(result("a", 2));
+    }
+
+    @Test
+    void rejectOlderVersion() {
+        long stamp = cache.stamp();
+        cache.lookup("a", null, 1L, stamp, new CompletableFuture<>());
+        cache.fill("a", null, 1L, stamp, result("a", 3));
+        cache.fill("a", null, 1L, stamp, result("a", 2));
+
+        var hit = new CompletableFuture<GetResult>();
+        assertThat(cache.lookup("a", null, 1L, cache.stamp(), hit)).isTrue();
+        assertThat(hit).isCompletedWithValue(result("a", 3));
+    }
+
+    @Test
+    void invalidateShard() {
+        get("a", result("a", 1));
+        long stamp = cache.stamp();
+        cache.lookup("b", null, 2L, stamp, new CompletableFuture<>());
+        cache.fill("b", null, 2L, stamp, result("b", 1));
+
+        cache.invalidateShard(1L);
+        assertThat(isCached("a")).isFalse();
+        assertThat(cache.lookup("b", null, 2L, cache.stamp(), new CompletableFuture<>())).isTrue();
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.oxia.client.grpc.observer.CancelableStreamObserver;
+import io.oxia.client.grpc.observer.ManagedObservers;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(30)
+class OrderedShardMergeTest {
+
+    private final Map<Long, CancelableStreamObserver<List<String>>> observers = new HashMap<>();
+    private final Map<Long, ClientCallStreamObserver<Object>> streams = new HashMap<>();
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setup() {
+        sink = new RecordingSink();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void open(long shardId, CancelableStreamObserver<List<String>> observer) {
+        ClientCallStreamObserver<Object> stream = mock(ClientCallStreamObserver.class);
+        ManagedObservers.toBarrierClientResponseObserver(observer, new CompletableFuture<>())
+                .beforeStart(stream);
+        observers.put(shardId, observer);
+        streams.put(shardId, stream);
+    }
+
+    private OrderedShardMerge<List<String>, String> start(
+            Predicate<String> filter, FlowControlledRangeScanConsumer flowControl, long limit) {
+        var merge =
+                new OrderedShardMerge<List<String>, String>(
+                        response -> response, key -> key, sink, flowControl, filter, limit);
+        merge.start(List.of(0L, 1L), this::open);
+        return merge;
+    }
+
+    private OrderedShardMerge<List<String>, String> start(
+            FlowControlledRangeScanConsumer flowControl, long limit) {
+        return start(key -> true, flowControl, limit);
+    }
+
+    @Test
+    void keysAreMergedInOrder() {
+        start(null, -1);
+
+        observers.get(0L).onNext(List.of("a", "c"));
+        assertThat(sink.keys).isEmpty();
+
+        observers.get(1L).onNext(List.of("b", "e"));
+        // "e" can't be emitted before shard 0 has been asked for what comes after "c"
+        assertThat(sink.keys).containsExactly("a", "b", "c");
+        verify(streams.get(0L)).request(1);
+        verify(streams.get(1L), never()).request(anyInt());
+
+        observers.get(0L).onNext(List.of("d", "f"));
+        assertThat(sink.keys).containsExactly("a", "b", "c", "d", "e");
+        verify(streams.get(1L)).request(1);
+
+        observers.get(1L).onCompleted();
+        assertThat(sink.keys).containsExactly("a", "b", "c", "d", "e", "f");
+        assertThat(sink.completed).isZero();
+
+        observers.get(0L).onCompleted();
+        assertThat(sink.completed).isEqualTo(1);
+        assertThat(sink.errors).isEmpty();
+    }
+
+    @Test
+    void filteredKeysAreSkipped() {
+        start(key -> !key.startsWith("x"), null, 2);
+
+        observers.get(0L).onNext(List.of("a", "xb", "xc", "z"));
+        observers.get(1L).onNext(List.of("xa", "d", "e"));
+
+        assertThat(sink.keys).containsExactly("a", "d");
+        assertThat(sink.completed).isEqualTo(1);
+    }
+
+    @Test
+    void limitCancelsTheRemainingStreams() {
+        start(null, 3);
+
+        observers.get(0L).onNext(List.of("a", "c", "e"));
+        observers.get(1L).onNext(List.of("b", "d", "f"));
+
+        assertThat(sink.keys).containsExactly("a", "b", "c");
+        assertThat(sink.completed).isEqualTo(1);
+        verify(streams.get(0L)).cancel(anyString(), any());
+        verify(streams.get(1L)).cancel(anyString(), any());
+
+        observers.get(0L).onNext(List.of("g"));
+        assertThat(sink.keys).hasSize(3);
+    }
+
+    @Test
+    void consumerCanStopTheList() {
+        sink.stopAfter = 2;
+        start(null, -1);
+
+        observers.get(0L).onNext(List.of("a", "c"));
+        observers.get(1L).onNext(List.of("b", "d"));
+
+        assertThat(sink.keys).containsExactly("a", "b");
+        assertThat(sink.completed).isEqualTo(1);
+        verify(streams.get(0L)).cancel(anyString(), any());
+        verify(streams.get(1L)).cancel(anyString(), any());
+    }
+
+    @Test
+    void shardErrorFailsTheList() {
+        start(null, -1);
+
+        observers.get(0L).onNext(List.of("a"));
+        observers.get(1L).onError(new RuntimeException("failed"));
+
+        assertThat(sink.keys).isEmpty();
+        assertThat(sink.errors)
+                .singleElement()
+                .extracting(Throwable::getMessage)
+                .isEqualTo("failed");
+        assertThat(sink.completed).isZero();
+        verify(streams.get(0L)).cancel(anyString(), any());
+    }
+
+    @Test
+    void flowControlledConsumerResumesTheStreams() {
+        var idle = new ArrayList<FlowControlledRangeScanConsumer.StreamHandle>();
+        var flowControl =
+                new FlowControlledRangeScanConsumer() {
+                    @Override
+                    public void onStreamStarted(StreamHandle handle) {}
+
+                    @Override
+                    public void onStreamIdle(StreamHandle handle) {
+                        idle.add(handle);
+                    }
+                };
+        var stream = start(flowControl, -1);
+
+        observers.get(0L).onNext(List.of("a"));
+        observers.get(1L).onNext(List.of("b", "c"));
+        assertThat(sink.keys).containsExactly("a");
+        assertThat(idle).containsExactly(stream);
+        verify(streams.get(0L), never()).request(anyInt());
+
+        stream.requestNext();
+        verify(streams.get(0L)).request(1);
+
+        observers.get(0L).onCompleted();
+        assertThat(sink.keys).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void cancelIsSilent() {
+        var stream = start(null, -1);
+        observers.get(0L).onNext(List.of("a"));
+
+        stream.cancel();
+        observers.get(1L).onNext(List.of("b"));
+
+        assertThat(sink.keys).isEmpty();
+        assertThat(sink.completed).isZero();
+        assertThat(sink.errors).isEmpty();
+        verify(streams.get(0L), times(1)).cancel(anyString(), any());
+        verify(streams.get(1L), times(1)).cancel(anyString(), any());
+    }
+
+    @Test
+    void noShards() {
+        new OrderedShardMerge<List<String>, String>(
+                        response -> response, key -> key, sink, null, key -> true, -1)
+                .start(List.of(), this::open);
+        assertThat(sink.completed).isEqualTo(1);
+    }
+
+    @Test
+    void resumedShardsSkipTheMergedKeys() {
+        Map<Long, String> resumeAfter = new HashMap<>();
+        resumeAfter.put(0L, "b");
+        resumeAfter.put(1L, null);
+        new OrderedShardMerge<List<String>, String>(
+                        response -> response, key -> key, sink, null, key -> true, -1)
+                .start(resumeAfter, this::open);
+
+        observers.get(0L).onNext(List.of("a", "b", "d"));
+        observers.get(1L).onNext(List.of("a", "c"));
+        observers.get(0L).onCompleted();
+        observers.get(1L).onCompleted();
+
+        assertThat(sink.keys).containsExactly("a", "c", "d");
+        assertThat(sink.completed).isEqualTo(1);
+    }
+
+    @Test
+    void resumePositions() {
+        var merge = start(null, 2);
+
+        observers.get(0L).onNext(List.of("a"));
+        observers.get(0L).onCompleted();
+        observers.get(1L).onNext(List.of("b", "c", "d"));
+
+        assertThat(sink.keys).containsExactly("a", "b");
+        // Shard 0 has been fully merged
+        assertThat(merge.resumePositions()).isEqualTo(Map.of(1L, "b"));
+
+        var untouched = start(null, 1);
+        observers.get(0L).onNext(List.of("a"));
+        observers.get(1L).onNext(List.of("b"));
+
+        Map<Long, String> expected = new HashMap<>();
+        expected.put(0L, "a");
+        expected.put(1L, null);
+        assertThat(untouched.resumePositions()).isEqualTo(expected);
+    }
+
+    @Test
+    void resumePositionsOfAConsumerThatStopsMidBatch() {
+        sink.stopAfter = 2;
+        var merge = start(null, -1);
+
+        observers.get(0L).onNext(List.of("a", "c"));
+        observers.get(0L).onCompleted();
+        observers.get(1L).onNext(List.of("b", "d"));
+
+        // "c" and "d" were merged with "a" and "b", but never delivered
+        assertThat(sink.keys).containsExactly("a", "b");
+        assertThat(sink.completed).isEqualTo(1);
+        assertThat(merge.resumePositions()).isEqualTo(Map.of(0L, "a", 1L, "b"));
+    }
+
+    private static class RecordingSink implements OrderedShardMerge.Sink<String> {
+        final List<String> keys = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        int completed = 0;
+        int stopAfter = -1;
+
+        @Override
+        public boolean onNext(String key) {
+            keys.add(key);
+            return keys.size() != stopAfter;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed++;
+        }
+    }
+}
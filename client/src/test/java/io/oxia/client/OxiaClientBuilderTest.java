@@ -21,8 +21,11 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.oxia.client.api.Authentication;
+import io.oxia.client.api.BatcherWaitStrategy;
+import io.oxia.client.api.MetricsLevel;
 import io.oxia.client.api.OxiaClientBuilder;
 import io.oxia.client.auth.TokenAuthentication;
+import io.oxia.client.codec.Lz4ValueCodec;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Properties;
@@ -51,6 +54,68 @@ class OxiaClientBuilderTest {
         assertThatNoException().isThrownBy(() -> builder.batchLinger(Duration.ofMillis(1)));
     }
 
+    @Test
+    void adaptiveBatchesInFlight() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().maxAdaptiveBatchesInFlight()).isZero();
+        assertThatThrownBy(() -> builder.adaptiveBatchesInFlight(0, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.adaptiveBatchesInFlight(8, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        builder.adaptiveBatchesInFlight(1, 32);
+        assertThat(impl.getClientConfig().minAdaptiveBatchesInFlight()).isEqualTo(1);
+        assertThat(impl.getClientConfig().maxAdaptiveBatchesInFlight()).isEqualTo(32);
+    }
+
+    @Test
+    void coalescePuts() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().coalescePuts()).isFalse();
+        builder.coalescePuts(true);
+        assertThat(impl.getClientConfig().coalescePuts()).isTrue();
+    }
+
+    @Test
+    void nearCache() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().nearCacheMaxBytes()).isZero();
+        assertThatThrownBy(() -> builder.nearCache(-1)).isInstanceOf(IllegalArgumentException.class);
+        builder.nearCache(1024 * 1024);
+        assertThat(impl.getClientConfig().nearCacheMaxBytes()).isEqualTo(1024 * 1024);
+    }
+
+    @Test
+    void valueCodec() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().valueCodec()).isNull();
+        assertThatThrownBy(() -> builder.compressValues(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        builder.compressValues(1024);
+        assertThat(impl.getClientConfig().valueCodec()).isInstanceOf(Lz4ValueCodec.class);
+        builder.valueCodec(null);
+        assertThat(impl.getClientConfig().valueCodec()).isNull();
+    }
+
+    @Test
+    void chunkLargeValues() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().valueChunkSize()).isZero();
+        assertThatThrownBy(() -> builder.chunkLargeValues(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        builder.chunkLargeValues(1024 * 1024);
+        assertThat(impl.getClientConfig().valueChunkSize()).isEqualTo(1024 * 1024);
+    }
+
+    @Test
+    void adaptiveBatchLinger() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().maxBatchLinger()).isEqualTo(ZERO);
+        assertThatThrownBy(() -> builder.adaptiveBatchLinger(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        builder.adaptiveBatchLinger(Duration.ofMillis(2));
+        assertThat(impl.getClientConfig().maxBatchLinger()).isEqualTo(Duration.ofMillis(2));
+    }
+
     @Test
     void maxRequestsPerBatch() {
         assertThatThrownBy(() -> builder.maxRequestsPerBatch(0))
@@ -69,6 +134,34 @@ class OxiaClientBuilderTest {
         assertThatNoException().isThrownBy(() -> builder.sessionTimeout(Duration.ofMillis(1)));
     }
 
+    @Test
+    void metricsLevel() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().metricsLevel()).isEqualTo(MetricsLevel.DETAILED);
+        builder.metricsLevel(MetricsLevel.OFF);
+        assertThat(impl.getClientConfig().metricsLevel()).isEqualTo(MetricsLevel.OFF);
+
+        Properties properties = new Properties();
+        properties.setProperty("metricsLevel", "basic");
+        builder.loadConfig(properties);
+        assertThat(impl.getClientConfig().metricsLevel()).isEqualTo(MetricsLevel.BASIC);
+    }
+
+    @Test
+    void batcherWaitStrategy() {
+        OxiaClientBuilderImpl impl = (OxiaClientBuilderImpl) builder;
+        assertThat(impl.getClientConfig().batcherWaitStrategy())
+                .isEqualTo(BatcherWaitStrategy.BLOCKING);
+        builder.batcherWaitStrategy(BatcherWaitStrategy.PARK);
+        assertThat(impl.getClientConfig().batcherWaitStrategy()).isEqualTo(BatcherWaitStrategy.PARK);
+
+        Properties properties = new Properties();
+        properties.setProperty("batcherWaitStrategy", "spin_then_park");
+        builder.loadConfig(properties);
+        assertThat(impl.getClientConfig().batcherWaitStrategy())
+                .isEqualTo(BatcherWaitStrategy.SPIN_THEN_PARK);
+    }
+
     @Test
     void loadConfigWithIllegalArgument() {
         assertThatThrownBy(() -> builder.loadConfig("configPath"))
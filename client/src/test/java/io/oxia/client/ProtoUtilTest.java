@@ -15,8 +15,15 @@
  */
 package io.oxia.client;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.oxia.client.api.Version;
+import io.oxia.proto.GetResponse;
+import io.oxia.proto.Status;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 class ProtoUtilTest {
@@ -30,4 +37,48 @@ class ProtoUtilTest {
         assertThat(ProtoUtil.uint32ToLong(-1)).isEqualTo(4294967295L);
         assertThat(ProtoUtil.uint32ToLong(0)).isEqualTo(0L);
     }
+
+    @Test
+    void getResultView() {
+        var response = new GetResponse();
+        response.setStatus(Status.OK).setValue("hello".getBytes(UTF_8));
+        response
+                .setVersion()
+                .setVersionId(1L)
+                .setCreatedTimestamp(2L)
+                .setModifiedTimestamp(3L)
+                .setModificationsCount(4L)
+                .setSessionId(5L)
+                .setClientIdentity("client-id");
+
+        var view = ProtoUtil.getResultViewFromProto("original-key", response);
+        assertThat(view.key()).isEqualTo("original-key");
+        assertThat(view.value()).isEqualTo(ByteBuffer.wrap("hello".getBytes(UTF_8)));
+        assertThat(view.value()).isSameAs(view.value());
+        assertThat(view.versionId()).isEqualTo(1L);
+        assertThat(view.modificationsCount()).isEqualTo(4L);
+        assertThat(view.version())
+                .isEqualTo(new Version(1L, 2L, 3L, 4L, Optional.of(5L), Optional.of("client-id")));
+        assertThat(view.toGetResult())
+                .isEqualTo(ProtoUtil.getResultFromProto("original-key", response));
+
+        view.close();
+        view.close();
+        assertThatThrownBy(view::value).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(view::version).isInstanceOf(IllegalStateException.class);
+        assertThat(view.key()).isEqualTo("original-key");
+    }
+
+    @Test
+    void getResultViewWithoutValue() {
+        var response = new GetResponse();
+        response.setKey("key").setStatus(Status.OK);
+        response.setVersion().setVersionId(1L);
+
+        try (var view = ProtoUtil.getResultViewFromProto("original-key", response)) {
+            assertThat(view.key()).isEqualTo("key");
+            assertThat(view.value().remaining()).isZero();
+            assertThat(view.toGetResult().value()).isEmpty();
+        }
+    }
 }
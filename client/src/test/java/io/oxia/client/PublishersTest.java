@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.oxia.client.api.ListConsumer;
+import io.oxia.client.api.Notification;
+import io.oxia.client.notify.NotificationManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
+
+@Timeout(30)
+class PublishersTest {
+
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        int completed = 0;
+        RuntimeException onNextFailure;
+        Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if (onNextFailure != null) {
+                throw onNextFailure;
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed++;
+        }
+    }
+
+    @Test
+    void demandThrottlesTheStream() {
+        var handle = mock(FlowControlledRangeScanConsumer.StreamHandle.class);
+        var consumers = new ArrayList<ListConsumer>();
+        var subscriber = new RecordingSubscriber<String>();
+        Publishers.list(consumers::add).subscribe(subscriber);
+
+        var consumer = consumers.get(0);
+        var flowControl = (FlowControlledRangeScanConsumer) consumer;
+        flowControl.onStreamStarted(handle);
+        consumer.onNext("a");
+        consumer.onNext("b");
+        flowControl.onStreamIdle(handle);
+        assertThat(subscriber.items).isEmpty();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly("a");
+        // "b" is still buffered
+        verify(handle, never()).requestNext();
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly("a", "b");
+        verify(handle).requestNext();
+
+        consumer.onNext("c");
+        flowControl.onStreamIdle(handle);
+        // The demand has been met by "c": the stream stays idle
+        verify(handle).requestNext();
+        consumer.onCompleted();
+        assertThat(subscriber.items).containsExactly("a", "b", "c");
+        assertThat(subscriber.completed).isEqualTo(1);
+    }
+
+    @Test
+    void idleStreamIsRequestedRightAwayWhenTheSubscriberIsWaiting() {
+        var handle = mock(FlowControlledRangeScanConsumer.StreamHandle.class);
+        var consumers = new ArrayList<ListConsumer>();
+        var subscriber = new RecordingSubscriber<String>();
+        Publishers.list(consumers::add).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        var consumer = consumers.get(0);
+        var flowControl = (FlowControlledRangeScanConsumer) consumer;
+        flowControl.onStreamStarted(handle);
+        consumer.onNext("a");
+        flowControl.onStreamIdle(handle);
+
+        assertThat(subscriber.items).containsExactly("a");
+        verify(handle).requestNext();
+    }
+
+    @Test
+    void cancelCancelsTheStreams() {
+        var handle = mock(FlowControlledRangeScanConsumer.StreamHandle.class);
+        var consumers = new ArrayList<ListConsumer>();
+        var subscriber = new RecordingSubscriber<String>();
+        Publishers.list(consumers::add).subscribe(subscriber);
+
+        var consumer = consumers.get(0);
+        ((FlowControlledRangeScanConsumer) consumer).onStreamStarted(handle);
+        subscriber.subscription.cancel();
+        subscriber.subscription.cancel();
+
+        verify(handle, times(1)).cancel();
+        assertThat(consumer.onNext("a")).isFalse();
+        consumer.onCompleted();
+        assertThat(subscriber.items).isEmpty();
+        assertThat(subscriber.completed).isZero();
+    }
+
+    @Test
+    void invalidRequestFailsTheSubscription() {
+        var handle = mock(FlowControlledRangeScanConsumer.StreamHandle.class);
+        var consumers = new ArrayList<ListConsumer>();
+        var subscriber = new RecordingSubscriber<String>();
+        Publishers.list(consumers::add).subscribe(subscriber);
+        ((FlowControlledRangeScanConsumer) consumers.get(0)).onStreamStarted(handle);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.errors).singleElement().isInstanceOf(IllegalArgumentException.class);
+        verify(handle).cancel();
+    }
+
+    @Test
+    void throwingSubscriberCancelsTheSubscription() {
+        var handle = mock(FlowControlledRangeScanConsumer.StreamHandle.class);
+        var consumers = new ArrayList<ListConsumer>();
+        var subscriber = new RecordingSubscriber<String>();
+        subscriber.onNextFailure = new IllegalStateException("failed");
+        Publishers.list(consumers::add).subscribe(subscriber);
+
+        var consumer = consumers.get(0);
+        ((FlowControlledRangeScanConsumer) consumer).onStreamStarted(handle);
+        consumer.onNext("a");
+        consumer.onNext("b");
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.items).containsExactly("a");
+        assertThat(subscriber.errors).containsExactly(subscriber.onNextFailure);
+        verify(handle).cancel();
+
+        // The subscription is not left stuck draining: it has been cancelled
+        subscriber.subscription.request(1);
+        assertThat(consumer.onNext("c")).isFalse();
+        consumer.onCompleted();
+        assertThat(subscriber.items).containsExactly("a");
+        assertThat(subscriber.completed).isZero();
+        assertThat(subscriber.errors).hasSize(1);
+    }
+
+    @Test
+    void startFailureFailsTheSubscription() {
+        var subscriber = new RecordingSubscriber<String>();
+        Publishers.list(
+                        consumer -> {
+                            throw new IllegalStateException("closed");
+                        })
+                .subscribe(subscriber);
+
+        assertThat(subscriber.errors).singleElement().isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void notificationsOverflow() {
+        var notificationManager = mock(NotificationManager.class);
+        var subscriber = new RecordingSubscriber<Notification>();
+        Publishers.notifications(notificationManager, 2).subscribe(subscriber);
+
+        ArgumentCaptor<Consumer<Notification>> callback = ArgumentCaptor.forClass(Consumer.class);
+        verify(notificationManager).registerCallback(callback.capture());
+        var notification = new Notification.KeyCreated("a", 1L);
+        subscriber.subscription.request(1);
+        callback.getValue().accept(notification);
+        assertThat(subscriber.items).containsExactly(notification);
+
+        callback.getValue().accept(notification);
+        callback.getValue().accept(notification);
+        assertThat(subscriber.errors).isEmpty();
+        callback.getValue().accept(notification);
+
+        assertThat(subscriber.errors).singleElement().isInstanceOf(IllegalStateException.class);
+        verify(notificationManager).removeCallback(callback.getValue());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.Version;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(30)
+class ShardSpliteratorTest {
+
+    private final List<Long> opened = Collections.synchronizedList(new ArrayList<>());
+
+    private static GetResult result(String key) {
+        return new GetResult(
+                key, new byte[0], new Version(0, 0, 0, 0, Optional.empty(), Optional.empty()));
+    }
+
+    /** Shard {@code n} holds the keys "n-0" to "n-9". */
+    private void scan(long shardId, GetResultIterator iterator) {
+        opened.add(shardId);
+        for (int i = 0; i < 10; i++) {
+            iterator.onNext(result(shardId + "-" + i));
+        }
+        iterator.onCompleted();
+    }
+
+    @Test
+    void sequential() {
+        try (var stream = ShardSpliterator.stream(List.of(0L, 1L, 2L), this::scan)) {
+            assertThat(stream.map(GetResult::key).toList()).hasSize(30).startsWith("0-0", "0-1");
+        }
+        assertThat(opened).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void parallel() {
+        var consumers = new ConcurrentHashMap<Long, Set<String>>();
+        List<Long> shardIds = List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        try (var stream = ShardSpliterator.stream(shardIds, this::scan)) {
+            var keys =
+                    stream
+                            .parallel()
+                            .peek(
+                                    r ->
+                                            consumers
+                                                    .computeIfAbsent(
+                                                            Long.parseLong(r.key().split("-")[0]),
+                                                            k -> ConcurrentHashMap.newKeySet())
+                                                    .add(Thread.currentThread().getName()))
+                            .map(GetResult::key)
+                            .collect(Collectors.toSet());
+            assertThat(keys).hasSize(80);
+        }
+        assertThat(opened).containsExactlyInAnyOrderElementsOf(shardIds);
+        // Each shard is consumed by a single split
+        assertThat(consumers.values()).allSatisfy(names -> assertThat(names).hasSize(1));
+    }
+
+    @Test
+    void splitsByShard() {
+        var root = ShardSpliterator.stream(List.of(0L, 1L, 2L), this::scan).spliterator();
+        var split = root.trySplit();
+        assertThat(split).isNotNull();
+        assertThat(split.trySplit()).isNull();
+
+        var keys = new ArrayList<String>();
+        root.forEachRemaining(r -> keys.add(r.key()));
+        split.forEachRemaining(r -> keys.add(r.key()));
+        assertThat(keys).hasSize(30);
+        assertThat(opened).containsExactlyInAnyOrder(0L, 1L, 2L);
+        assertThat(root.estimateSize()).isZero();
+    }
+
+    @Test
+    void shardsAreOpenedLazily() {
+        var handle = mock(FlowControlledRangeScanConsumer.StreamHandle.class);
+        var stream =
+                ShardSpliterator.stream(
+                        List.of(0L, 1L),
+                        (shardId, iterator) -> {
+                            opened.add(shardId);
+                            iterator.onStreamStarted(handle);
+                            iterator.onNext(result(shardId + "-a"));
+                        });
+
+        var it = stream.iterator();
+        assertThat(opened).isEmpty();
+        assertThat(it.next().key()).isEqualTo("0-a");
+        assertThat(opened).containsExactly(0L);
+
+        // Closing the stream cancels the open shard scan
+        stream.close();
+        verify(handle).cancel();
+        assertThatThrownBy(it::hasNext).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.metrics.InstrumentProvider;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static AdaptiveConcurrencyLimit newLimit(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimit(
+                initial, min, max, InstrumentProvider.NOOP, Attributes.empty());
+    }
+
+    private static void samples(AdaptiveConcurrencyLimit limit, int count, long rttNanos) {
+        for (int i = 0; i < count; i++) {
+            limit.onSample(rttNanos, limit.limit());
+        }
+    }
+
+    @Test
+    void invalidBounds() {
+        assertThatThrownBy(() -> newLimit(1, 0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newLimit(1, 5, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void initialLimitIsClamped() {
+        assertThat(newLimit(4, 1, 2).limit()).isEqualTo(2);
+        assertThat(newLimit(4, 8, 16).limit()).isEqualTo(8);
+    }
+
+    @Test
+    void growsToMaxWhileRttIsStable() {
+        var limit = newLimit(1, 1, 10);
+        samples(limit, 100, RTT);
+
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void doesNotGrowWhileUnderused() {
+        var limit = newLimit(4, 1, 10);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 1);
+        }
+
+        assertThat(limit.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void shrinksWhenRttRises() {
+        var limit = newLimit(10, 1, 10);
+        samples(limit, 100, RTT);
+        assertThat(limit.limit()).isEqualTo(10);
+
+        // Requests queue up at the leader
+        samples(limit, 30, 4 * RTT);
+
+        assertThat(limit.limit()).isBetween(2, 6);
+    }
+
+    @Test
+    void backsOffOnFailures() {
+        var limit = newLimit(10, 2, 10);
+        limit.onDrop();
+        assertThat(limit.limit()).isEqualTo(9);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onDrop();
+        }
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+}
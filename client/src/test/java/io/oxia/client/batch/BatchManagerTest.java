@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 import io.oxia.client.ClientConfig;
 import io.oxia.client.OxiaClientBuilderImpl;
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
 import io.oxia.client.options.GetOptions;
 import io.oxia.proto.KeyComparisonType;
@@ -90,7 +91,7 @@ class BatchManagerTest {
     @Test
     void routesOperationsByShard() {
         when(batchFactory.getConfig()).thenReturn(config);
-        when(batchFactory.getBatch(anyLong())).thenReturn(batch);
+        when(batchFactory.getBatch(anyLong(), any())).thenReturn(batch);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(1);
 
@@ -103,7 +104,7 @@ class BatchManagerTest {
                 .untilAsserted(
                         () -> {
                             for (long shardId = 0; shardId < 4; shardId++) {
-                                verify(batchFactory).getBatch(shardId);
+                                verify(batchFactory).getBatch(shardId, Priority.Interactive);
                             }
                         });
     }
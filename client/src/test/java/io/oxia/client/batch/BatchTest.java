@@ -48,6 +48,7 @@ import io.oxia.client.api.Authentication;
 import io.oxia.client.api.GetResult;
 import io.oxia.client.api.PutResult;
 import io.oxia.client.api.exceptions.UnexpectedVersionIdException;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteRangeOperation;
@@ -533,6 +534,127 @@ class BatchTest {
             window.sendOrPark(next);
             verify(next).send();
         }
+
+        private WriteBatch coalescingBatch() {
+            var coalescingConfig =
+                    new OxiaClientBuilderImpl("address").coalescePuts(true).getClientConfig();
+            var factory =
+                    new WriteBatchFactory(
+                            mock(RpcProvider.class),
+                            mock(SessionManager.class),
+                            coalescingConfig,
+                            InstrumentProvider.NOOP);
+            return new WriteBatch(factory, clientByShardId, sessionManager, shardId, 1024 * 1024);
+        }
+
+        private PutOperation unconditionalPut(
+                CompletableFuture<PutResult> callback, String key, String value) {
+            return new PutOperation(
+                    1L,
+                    callback,
+                    key,
+                    Optional.empty(),
+                    Optional.empty(),
+                    value.getBytes(StandardCharsets.UTF_8),
+                    OptionalLong.empty(),
+                    OptionalLong.empty(),
+                    Optional.empty(),
+                    Collections.emptyList(),
+                    OptionalLong.empty(),
+                    OptionalLong.empty());
+        }
+
+        @Test
+        public void coalesceUnconditionalPuts() {
+            batch = coalescingBatch();
+            var first = new CompletableFuture<PutResult>();
+            var other = new CompletableFuture<PutResult>();
+            var last = new CompletableFuture<PutResult>();
+            var lastPut = unconditionalPut(last, "a", "v3");
+            var otherPut = unconditionalPut(other, "b", "v");
+
+            batch.add(unconditionalPut(first, "a", "v1"));
+            batch.add(otherPut);
+            batch.add(unconditionalPut(new CompletableFuture<>(), "a", "v2"));
+            batch.add(lastPut);
+
+            // Only the last put to "a" is sent, in place of the first one
+            assertThat(batch.puts).containsExactly(lastPut, otherPut);
+            assertThat(batch.size()).isEqualTo(2);
+
+            var resp = new WriteResponse();
+            resp.addPut().setStatus(OK).setVersion().setVersionId(3);
+            resp.addPut().setStatus(OK).setVersion().setVersionId(1);
+            when(writeStream.send(any())).thenReturn(CompletableFuture.completedFuture(resp));
+            batch.send();
+
+            // The superseded puts complete with the result of the last one
+            Awaitility.await().untilAsserted(() -> assertThat(first).isCompleted());
+            assertThat(first.join().version().versionId()).isEqualTo(3);
+            assertThat(last.join().version().versionId()).isEqualTo(3);
+            assertThat(other.join().version().versionId()).isEqualTo(1);
+        }
+
+        @Test
+        public void conditionalOperationsStopCoalescing() {
+            batch = coalescingBatch();
+            var put1 = unconditionalPut(new CompletableFuture<>(), "a", "v1");
+            var put2 = unconditionalPut(new CompletableFuture<>(), "a", "v2");
+            var put3 = unconditionalPut(new CompletableFuture<>(), "a", "v3");
+            var put4 = unconditionalPut(new CompletableFuture<>(), "a", "v4");
+            var conditionalPut =
+                    new PutOperation(
+                            1L,
+                            new CompletableFuture<>(),
+                            "a",
+                            Optional.empty(),
+                            Optional.empty(),
+                            new byte[0],
+                            OptionalLong.of(1),
+                            OptionalLong.empty(),
+                            Optional.empty(),
+                            Collections.emptyList(),
+                            OptionalLong.empty(),
+                            OptionalLong.empty());
+            var deleteA = new DeleteOperation(1L, new CompletableFuture<>(), "a", OptionalLong.empty());
+
+            // The conditional put must observe put1, and the delete put2
+            batch.add(put1);
+            batch.add(conditionalPut);
+            batch.add(put2);
+            batch.add(deleteA);
+            batch.add(put3);
+            batch.add(deleteRange);
+            batch.add(put4);
+
+            assertThat(batch.puts).containsExactly(put1, conditionalPut, put2, put3, put4);
+        }
+
+        @Test
+        public void coalescedPutsFailWithBatch() {
+            batch = coalescingBatch();
+            var first = new CompletableFuture<PutResult>();
+            var last = new CompletableFuture<PutResult>();
+            batch.add(unconditionalPut(first, "a", "v1"));
+            batch.add(unconditionalPut(last, "a", "v2"));
+
+            var batchError = Status.UNAVAILABLE.asRuntimeException();
+            when(writeStream.send(any())).thenReturn(CompletableFuture.failedFuture(batchError));
+            batch.send();
+
+            Awaitility.await().untilAsserted(() -> assertThat(first).isCompletedExceptionally());
+            assertThat(last).isCompletedExceptionally();
+        }
+
+        @Test
+        public void noCoalescingByDefault() {
+            var put1 = unconditionalPut(new CompletableFuture<>(), "a", "v1");
+            var put2 = unconditionalPut(new CompletableFuture<>(), "a", "v2");
+            batch.add(put1);
+            batch.add(put2);
+
+            assertThat(batch.puts).containsExactly(put1, put2);
+        }
     }
 
     @Nested
@@ -594,6 +716,52 @@ class BatchTest {
             assertThat(getCallable).isCompletedWithValueMatching(Objects::isNull);
         }
 
+        @Test
+        public void deduplicateIdenticalGets() {
+            var options = new GetOptions(null, true, KeyComparisonType.EQUAL, null);
+            var first = new GetOperation(1L, new CompletableFuture<>(), "k", options);
+            var second = new GetOperation(1L, new CompletableFuture<>(), "k", options);
+            var other = new GetOperation(1L, new CompletableFuture<>(), "other", options);
+            var withoutValue =
+                    new GetOperation(
+                            1L,
+                            new CompletableFuture<>(),
+                            "k",
+                            new GetOptions(null, false, KeyComparisonType.EQUAL, null));
+            batch.add(first);
+            batch.add(other);
+            batch.add(second);
+            batch.add(withoutValue);
+
+            assertThat(batch.gets).containsExactly(first, other, withoutValue);
+            assertThat(batch.toProto().getGetsCount()).isEqualTo(3);
+
+            var response = new ReadResponse();
+            var hit = response.addGet().setStatus(OK).setValue("v".getBytes(StandardCharsets.UTF_8));
+            hit.setVersion().setVersionId(1L);
+            response.addGet().setStatus(KEY_NOT_FOUND);
+            response.addGet().setStatus(OK).setVersion().setVersionId(1L);
+            batch.onNext(response);
+
+            assertThat(first.callback()).isCompleted();
+            assertThat(second.callback().join()).isEqualTo(first.callback().join());
+            assertThat(other.callback()).isCompletedWithValueMatching(Objects::isNull);
+            assertThat(withoutValue.callback()).isCompletedWithValueMatching(Objects::nonNull);
+        }
+
+        @Test
+        public void deduplicatedGetsFailWithBatch() {
+            var duplicate = new GetOperation(1L, new CompletableFuture<>(), get.key(), get.options());
+            readResponses.add(o -> o.onError(Status.UNAVAILABLE.asRuntimeException()));
+
+            batch.add(get);
+            batch.add(duplicate);
+            batch.send();
+
+            assertThat(getCallable).isCompletedExceptionally();
+            assertThat(duplicate.callback()).isCompletedExceptionally();
+        }
+
         @Test
         public void sendFail() {
             var batchError = Status.UNAVAILABLE.asRuntimeException();
@@ -769,7 +937,7 @@ class BatchTest {
             void apply() {
                 var batch =
                         new WriteBatchFactory(clientByShardId, sessionManager, config, InstrumentProvider.NOOP)
-                                .getBatch(shardId);
+                                .getBatch(shardId, Priority.Interactive);
                 assertThat(batch.getShardId()).isEqualTo(shardId);
             }
         }
@@ -781,7 +949,7 @@ class BatchTest {
             void apply() {
                 var batch =
                         new ReadBatchFactory(clientByShardId, config, InstrumentProvider.NOOP)
-                                .getBatch(shardId);
+                                .getBatch(shardId, Priority.Interactive);
                 assertThat(batch.getShardId()).isEqualTo(shardId);
             }
         }
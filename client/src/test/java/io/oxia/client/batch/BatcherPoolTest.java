@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import io.oxia.client.ClientConfig;
 import io.oxia.client.OxiaClientBuilderImpl;
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
 import io.oxia.client.options.GetOptions;
 import io.oxia.proto.KeyComparisonType;
@@ -90,8 +91,8 @@ class BatcherPoolTest {
     void oneThreadPoolServesMultipleClients() {
         when(factoryA.getConfig()).thenReturn(config);
         when(factoryB.getConfig()).thenReturn(config);
-        when(factoryA.getBatch(1L)).thenReturn(batchA);
-        when(factoryB.getBatch(1L)).thenReturn(batchB);
+        when(factoryA.getBatch(1L, Priority.Interactive)).thenReturn(batchA);
+        when(factoryB.getBatch(1L, Priority.Interactive)).thenReturn(batchB);
         when(batchA.canAdd(any())).thenReturn(true);
         when(batchA.size()).thenReturn(1);
         when(batchB.canAdd(any())).thenReturn(true);
@@ -99,15 +100,15 @@ class BatcherPoolTest {
 
         // Both operations target shard 1, so they land on the same batcher thread, but each is
         // batched through its own client's factory.
-        pool.route(factoryA, newOp(1L));
-        pool.route(factoryB, newOp(1L));
+        pool.route(factoryA, newOp(1L), Priority.Interactive);
+        pool.route(factoryB, newOp(1L), Priority.Interactive);
 
         await()
                 .untilAsserted(
                         () -> {
-                            verify(factoryA).getBatch(1L);
+                            verify(factoryA).getBatch(1L, Priority.Interactive);
                             verify(batchA).send();
-                            verify(factoryB).getBatch(1L);
+                            verify(factoryB).getBatch(1L, Priority.Interactive);
                             verify(batchB).send();
                         });
     }
@@ -115,18 +116,18 @@ class BatcherPoolTest {
     @Test
     void closingOneClientKeepsThePoolRunningForOthers() {
         when(factoryB.getConfig()).thenReturn(config);
-        when(factoryB.getBatch(1L)).thenReturn(batchB);
+        when(factoryB.getBatch(1L, Priority.Interactive)).thenReturn(batchB);
         when(batchB.canAdd(any())).thenReturn(true);
         when(batchB.size()).thenReturn(1);
 
         // A closing client only detaches itself; the shared pool stays up.
         pool.closeFactory(factoryA).join();
 
-        pool.route(factoryB, newOp(1L));
+        pool.route(factoryB, newOp(1L), Priority.Interactive);
         await()
                 .untilAsserted(
                         () -> {
-                            verify(factoryB).getBatch(1L);
+                            verify(factoryB).getBatch(1L, Priority.Interactive);
                             verify(batchB).send();
                         });
     }
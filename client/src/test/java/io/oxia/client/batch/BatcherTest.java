@@ -18,7 +18,11 @@ package io.oxia.client.batch;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -27,16 +31,21 @@ import static org.mockito.Mockito.when;
 
 import io.oxia.client.ClientConfig;
 import io.oxia.client.OxiaClientBuilderImpl;
+import io.oxia.client.api.BatcherWaitStrategy;
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
 import io.oxia.client.options.GetOptions;
 import io.oxia.proto.KeyComparisonType;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -80,7 +89,7 @@ class BatcherTest {
     }
 
     private void add(Operation<?> operation) {
-        batcher.add(batchFactory, operation);
+        batcher.add(batchFactory, operation, Priority.Interactive);
     }
 
     private static Operation<?> newOp(long shardId) {
@@ -95,7 +104,7 @@ class BatcherTest {
     void singleOperationIsFlushedImmediately() {
         var op = newOp(1L);
         when(batchFactory.getConfig()).thenReturn(config);
-        when(batchFactory.getBatch(1L)).thenReturn(batch);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(1);
 
@@ -110,10 +119,65 @@ class BatcherTest {
                         });
     }
 
+    @Test
+    void addAllEnqueuesGroupInOrder() {
+        var op1 = newOp(1L);
+        var op2 = newOp(1L);
+        when(batchFactory.getConfig()).thenReturn(config);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
+        when(batch.canAdd(any())).thenReturn(true);
+        when(batch.size()).thenReturn(1, 2);
+
+        batcher.addAll(batchFactory, List.of(op1, op2), Priority.Interactive);
+
+        // The whole group lands in the same batch, which is then flushed once
+        await()
+                .untilAsserted(
+                        () -> {
+                            var inOrder = inOrder(batch);
+                            inOrder.verify(batch).add(op1);
+                            inOrder.verify(batch).add(op2);
+                            inOrder.verify(batch).send();
+                        });
+        verify(batchFactory, times(1)).getBatch(1L, Priority.Interactive);
+    }
+
+    @Test
+    void addAllAfterCloseFailsOperations() {
+        var op = newOp(1L);
+        batcher.close();
+
+        batcher.addAll(batchFactory, List.of(op), Priority.Interactive);
+
+        assertThat(op.callback()).isCompletedExceptionally();
+    }
+
+    @Test
+    void holdsBatchWhileLingering() {
+        var lingerController = mock(LingerController.class);
+        var op = newOp(1L);
+        when(batchFactory.getConfig()).thenReturn(config);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
+        when(batchFactory.getLingerController(1L)).thenReturn(lingerController);
+        when(batch.canAdd(any())).thenReturn(true);
+        when(batch.size()).thenReturn(1);
+        when(batch.getStartTimeNanos()).thenReturn(System.nanoTime());
+        when(lingerController.lingerNanos(anyInt(), any()))
+                .thenReturn(Duration.ofMillis(300).toNanos());
+
+        add(op);
+
+        // The batch is held while the controller expects more operations, then flushed
+        await().untilAsserted(() -> verify(batch).add(op));
+        verify(batch, after(100).never()).send();
+        await().untilAsserted(() -> verify(batch).send());
+        verify(lingerController).onArrival(anyLong());
+    }
+
     @Test
     void sendBatchWhenFull() {
         when(batchFactory.getConfig()).thenReturn(config);
-        when(batchFactory.getBatch(1L)).thenReturn(batch);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(config.maxRequestsPerBatch());
 
@@ -126,7 +190,7 @@ class BatcherTest {
     void sealBatchWhenOperationDoesNotFit() {
         var op = newOp(1L);
         when(batchFactory.getConfig()).thenReturn(config);
-        when(batchFactory.getBatch(1L)).thenReturn(batch);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
         when(batch.canAdd(any())).thenReturn(false);
         when(batch.size()).thenReturn(1);
 
@@ -137,7 +201,7 @@ class BatcherTest {
         await()
                 .untilAsserted(
                         () -> {
-                            verify(batchFactory, times(2)).getBatch(1L);
+                            verify(batchFactory, times(2)).getBatch(1L, Priority.Interactive);
                             verify(batch).add(op);
                         });
     }
@@ -146,8 +210,8 @@ class BatcherTest {
     void groupOperationsByShard() {
         var batch2 = mock(Batch.class);
         when(batchFactory.getConfig()).thenReturn(config);
-        when(batchFactory.getBatch(1L)).thenReturn(batch);
-        when(batchFactory.getBatch(2L)).thenReturn(batch2);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
+        when(batchFactory.getBatch(2L, Priority.Interactive)).thenReturn(batch2);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(1);
         when(batch2.canAdd(any())).thenReturn(true);
@@ -170,12 +234,41 @@ class BatcherTest {
                         });
     }
 
+    @Test
+    void groupOperationsByPriority() {
+        var bulkBatch = mock(Batch.class);
+        when(batchFactory.getConfig()).thenReturn(config);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
+        when(batchFactory.getBatch(1L, Priority.Bulk)).thenReturn(bulkBatch);
+        when(batch.canAdd(any())).thenReturn(true);
+        when(batch.size()).thenReturn(1);
+        when(bulkBatch.canAdd(any())).thenReturn(true);
+        when(bulkBatch.size()).thenReturn(1);
+
+        var op1 = newOp(1L);
+        var op2 = newOp(1L);
+        batcher.add(batchFactory, op1, Priority.Bulk);
+        batcher.add(batchFactory, op2, Priority.Interactive);
+
+        // Operations of the same shard with different priorities never share a batch
+        await()
+                .untilAsserted(
+                        () -> {
+                            verify(bulkBatch).add(op1);
+                            verify(bulkBatch).send();
+                            verify(batch).add(op2);
+                            verify(batch).send();
+                        });
+        verify(batch, never()).add(op1);
+        verify(bulkBatch, never()).add(op2);
+    }
+
     @Test
     void failedOperationDoesNotBreakTheBatcher() {
         var op1 = newOp(1L);
         var op2 = newOp(1L);
         when(batchFactory.getConfig()).thenReturn(config);
-        when(batchFactory.getBatch(1L)).thenReturn(batch);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
         when(batch.canAdd(any())).thenReturn(true);
         doThrow(new RuntimeException("add failed")).when(batch).add(op1);
         // Empty after the failed add, then one operation
@@ -208,7 +301,7 @@ class BatcherTest {
         var batch2 = mock(Batch.class);
         when(batchFactory.getConfig()).thenReturn(config);
         when(batchFactory.getDispatchWindow(1L)).thenReturn(window);
-        when(batchFactory.getBatch(1L)).thenReturn(batch, batch2);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch, batch2);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(1);
         when(batch2.canAdd(any())).thenReturn(true);
@@ -237,7 +330,7 @@ class BatcherTest {
         var batch3 = mock(Batch.class);
         when(batchFactory.getConfig()).thenReturn(config);
         when(batchFactory.getDispatchWindow(1L)).thenReturn(window);
-        when(batchFactory.getBatch(1L)).thenReturn(batch, batch2, batch3);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch, batch2, batch3);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(1);
         when(batch2.canAdd(any())).thenReturn(true);
@@ -275,8 +368,8 @@ class BatcherTest {
         when(batchFactory.getConfig()).thenReturn(config);
         when(batchFactory.getDispatchWindow(1L)).thenReturn(window1);
         when(batchFactory.getDispatchWindow(2L)).thenReturn(window2);
-        when(batchFactory.getBatch(1L)).thenReturn(batch);
-        when(batchFactory.getBatch(2L)).thenReturn(shard2Batch);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
+        when(batchFactory.getBatch(2L, Priority.Interactive)).thenReturn(shard2Batch);
         when(batch.canAdd(any())).thenReturn(true);
         when(batch.size()).thenReturn(1, 2);
         when(shard2Batch.canAdd(any())).thenReturn(true);
@@ -293,4 +386,25 @@ class BatcherTest {
         await().untilAsserted(() -> verify(shard2Batch).send());
         verify(batch, times(1)).send();
     }
+
+    @ParameterizedTest
+    @EnumSource(BatcherWaitStrategy.class)
+    void waitStrategies(BatcherWaitStrategy waitStrategy) {
+        when(batchFactory.getConfig()).thenReturn(config);
+        when(batchFactory.getBatch(1L, Priority.Interactive)).thenReturn(batch);
+        when(batch.canAdd(any())).thenReturn(true);
+        when(batch.size()).thenReturn(1);
+
+        try (var lockFreeBatcher = new Batcher("test-batcher-" + waitStrategy, waitStrategy)) {
+            var op = newOp(1L);
+            lockFreeBatcher.add(batchFactory, op);
+
+            await()
+                    .untilAsserted(
+                            () -> {
+                                verify(batch).add(op);
+                                verify(batch).send();
+                            });
+        }
+    }
 }
@@ -20,6 +20,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.api.options.defs.OptionPriority.Priority;
+import io.oxia.client.metrics.InstrumentProvider;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 class DispatchWindowTest {
@@ -151,4 +155,124 @@ class DispatchWindowTest {
         verify(full, never()).send();
         verify(open, never()).send();
     }
+
+    @Test
+    void adaptiveLimitFollowsCompletedRequests() {
+        var limit = new AdaptiveConcurrencyLimit(2, 1, 4, InstrumentProvider.NOOP, Attributes.empty());
+        var window = new DispatchWindow(limit);
+        var batch1 = mock(Batch.class);
+        var batch2 = mock(Batch.class);
+        var batch3 = mock(Batch.class);
+
+        window.send(batch1);
+        window.send(batch2);
+        window.send(batch3);
+        verify(batch3, never()).send();
+
+        // A failed request shrinks the window to a single slot, still held by batch2
+        window.releaseFailed();
+        assertThat(window.limit()).isEqualTo(1);
+        verify(batch3, never()).send();
+
+        // A successful request grows it back, dispatching the queued batch
+        window.release(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(window.limit()).isEqualTo(2);
+        verify(batch3).send();
+    }
+
+    @Test
+    void bulkBatchesLeaveSlotsToInteractiveOnes() {
+        var window = new DispatchWindow(4);
+        var bulk1 = mock(Batch.class);
+        var bulk2 = mock(Batch.class);
+        var bulk3 = mock(Batch.class);
+        var bulk4 = mock(Batch.class);
+        var interactive = mock(Batch.class);
+
+        window.send(bulk1, Priority.Bulk);
+        window.send(bulk2, Priority.Bulk);
+        window.send(bulk3, Priority.Bulk);
+        window.send(bulk4, Priority.Bulk);
+        verify(bulk3).send();
+        // Bulk batches are confined to their share of the window
+        verify(bulk4, never()).send();
+
+        window.send(interactive, Priority.Interactive);
+        verify(interactive).send();
+    }
+
+    @Test
+    void interactiveBatchesMayUseEverySlot() {
+        var window = new DispatchWindow(2);
+        var interactive1 = mock(Batch.class);
+        var interactive2 = mock(Batch.class);
+        var bulk = mock(Batch.class);
+
+        window.send(interactive1, Priority.Interactive);
+        window.send(interactive2, Priority.Interactive);
+        verify(interactive2).send();
+
+        window.sendOrPark(bulk, Priority.Bulk);
+        verify(bulk, never()).send();
+
+        window.release(Priority.Interactive);
+        verify(bulk).send();
+    }
+
+    @Test
+    void singleSlotWindowKeepsASlotForInteractiveBatches() {
+        var window = new DispatchWindow(1);
+        var bulk = mock(Batch.class);
+        var interactive1 = mock(Batch.class);
+        var interactive2 = mock(Batch.class);
+
+        window.send(bulk, Priority.Bulk);
+        window.send(interactive1, Priority.Interactive);
+        verify(bulk).send();
+        verify(interactive1).send();
+
+        // The interactive lane holds its slot: the next interactive batch waits for it
+        window.send(interactive2, Priority.Interactive);
+        verify(interactive2, never()).send();
+        window.release(Priority.Bulk);
+        verify(interactive2, never()).send();
+        window.release(Priority.Interactive);
+        verify(interactive2).send();
+    }
+
+    @Test
+    void heldInteractiveBatchesAreDispatchedFirst() {
+        var window = new DispatchWindow(2);
+        var inflight1 = mock(Batch.class);
+        var inflight2 = mock(Batch.class);
+        var bulk = mock(Batch.class);
+        var interactive = mock(Batch.class);
+
+        window.send(inflight1, Priority.Interactive);
+        window.send(inflight2, Priority.Interactive);
+        window.send(bulk, Priority.Bulk);
+        window.sendOrPark(interactive, Priority.Interactive);
+        verify(bulk, never()).send();
+        verify(interactive, never()).send();
+
+        window.release(Priority.Interactive);
+        verify(interactive).send();
+        verify(bulk, never()).send();
+
+        window.release(Priority.Interactive);
+        verify(bulk).send();
+    }
+
+    @Test
+    void reclaimTakesBackTheParkedBatchOfItsLane() {
+        var window = new DispatchWindow(1);
+        var inflight = mock(Batch.class);
+        var bulk = mock(Batch.class);
+
+        window.send(inflight, Priority.Bulk);
+        window.sendOrPark(bulk, Priority.Bulk);
+
+        assertThat(window.reclaim(Priority.Interactive)).isNull();
+        assertThat(window.reclaim(Priority.Bulk)).isSameAs(bulk);
+    }
 }
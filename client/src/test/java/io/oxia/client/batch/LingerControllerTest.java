@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.opentelemetry.api.common.Attributes;
+import io.oxia.client.metrics.InstrumentProvider;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LingerControllerTest {
+
+    private static final long MAX_LINGER = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long INTERVAL = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private static LingerController newController() {
+        return newController(4);
+    }
+
+    private static LingerController newController(int maxBatchesInFlight) {
+        return new LingerController(
+                MAX_LINGER, 1000, maxBatchesInFlight, InstrumentProvider.NOOP, Attributes.empty());
+    }
+
+    private static void arrivals(LingerController controller, int count, long intervalNanos) {
+        long now = 1;
+        for (int i = 0; i < count; i++) {
+            controller.onArrival(now);
+            now += intervalNanos;
+        }
+    }
+
+    @Test
+    void noLingerUntilRttIsKnown() {
+        var controller = newController();
+        arrivals(controller, 100, INTERVAL);
+
+        assertThat(controller.lingerNanos(1, null)).isZero();
+    }
+
+    @Test
+    void lingerUntilBatchReachesWindowShare() {
+        var controller = newController();
+        arrivals(controller, 100, INTERVAL);
+        controller.onBatchCompleted(RTT);
+
+        // 100 operations per round trip, spread over 4 slots: a batch of 1 waits for 24 more,
+        // which fits in the budget of a quarter of the round trip
+        assertThat(controller.lingerNanos(1, null)).isEqualTo(24 * INTERVAL);
+        assertThat(controller.lingerNanos(20, null)).isEqualTo(5 * INTERVAL);
+        assertThat(controller.lingerNanos(25, null)).isZero();
+    }
+
+    @Test
+    void lingerIsBoundedByRtt() {
+        // With a single slot, the batch would have to wait for a whole round trip to fill up
+        var controller = newController(1);
+        arrivals(controller, 100, INTERVAL);
+        controller.onBatchCompleted(RTT);
+
+        assertThat(controller.lingerNanos(1, null))
+                .isEqualTo(RTT / LingerController.RTT_BUDGET_DIVISOR);
+    }
+
+    @Test
+    void lingerIsBoundedByMaxLinger() {
+        var controller = newController(1);
+        arrivals(controller, 100, INTERVAL);
+        controller.onBatchCompleted(10 * RTT);
+
+        assertThat(controller.lingerNanos(1, null)).isEqualTo(MAX_LINGER);
+    }
+
+    @Test
+    void noLingerWhenNextOperationIsNotExpectedSoon() {
+        var controller = newController();
+        arrivals(controller, 100, TimeUnit.MICROSECONDS.toNanos(500));
+        controller.onBatchCompleted(RTT);
+
+        assertThat(controller.lingerNanos(1, null)).isZero();
+    }
+
+    @Test
+    void noLingerWhenWindowIsExhausted() {
+        var controller = newController();
+        arrivals(controller, 100, INTERVAL);
+        controller.onBatchCompleted(RTT);
+
+        var window = new DispatchWindow(1);
+        assertThat(controller.lingerNanos(1, window)).isPositive();
+
+        window.send(mock(Batch.class));
+        assertThat(controller.lingerNanos(1, window)).isZero();
+
+        window.release();
+        assertThat(controller.lingerNanos(1, window)).isPositive();
+    }
+
+    @Test
+    void rttIsSmoothed() {
+        var controller = newController();
+        arrivals(controller, 100, INTERVAL);
+        controller.onBatchCompleted(RTT);
+        // A single slower request only moves the average by a tenth of the difference: 1.1ms
+        controller.onBatchCompleted(2 * RTT);
+
+        // 110 operations per round trip, spread over 4 slots
+        assertThat(controller.lingerNanos(1, null)).isEqualTo(26 * INTERVAL + INTERVAL / 2);
+    }
+}
@@ -26,11 +26,13 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.oxia.client.api.GetResult;
+import io.oxia.client.api.GetResultView;
 import io.oxia.client.api.PutResult;
 import io.oxia.client.api.exceptions.KeyAlreadyExistsException;
 import io.oxia.client.api.exceptions.SessionDoesNotExistException;
 import io.oxia.client.api.exceptions.UnexpectedVersionIdException;
 import io.oxia.client.batch.Operation.ReadOperation.GetOperation;
+import io.oxia.client.batch.Operation.ReadOperation.GetViewOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteOperation;
 import io.oxia.client.batch.Operation.WriteOperation.DeleteRangeOperation;
 import io.oxia.client.batch.Operation.WriteOperation.PutOperation;
@@ -44,12 +46,14 @@ import io.oxia.proto.GetResponse;
 import io.oxia.proto.KeyComparisonType;
 import io.oxia.proto.PutRequest;
 import io.oxia.proto.PutResponse;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -128,6 +132,65 @@ class OperationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests of get view operation")
+    class GetViewOperationTests {
+
+        CompletableFuture<GetResultView> callback = new CompletableFuture<>();
+        GetViewOperation op =
+                new GetViewOperation(
+                        1L, callback, "key", new GetOptions(null, true, KeyComparisonType.EQUAL, null));
+
+        @Test
+        void completeKeyNotFound() {
+            var response = new GetResponse();
+            response.setStatus(KEY_NOT_FOUND);
+            op.complete(response);
+            assertThat(callback).isCompletedWithValueMatching(Objects::isNull);
+        }
+
+        @Test
+        void completeOk() {
+            var payload = "hello".getBytes(UTF_8);
+            var response = new GetResponse();
+            response.setKey("my-key").setStatus(OK).setValue(payload);
+            response
+                    .setVersion()
+                    .setVersionId(1L)
+                    .setCreatedTimestamp(2L)
+                    .setModifiedTimestamp(3L)
+                    .setModificationsCount(4L);
+            op.complete(response);
+            assertThat(callback).isCompleted();
+            try (var view = callback.join()) {
+                assertThat(view.key()).isEqualTo("my-key");
+                assertThat(view.value().isReadOnly()).isTrue();
+                assertThat(view.value()).isEqualTo(ByteBuffer.wrap(payload));
+                assertThat(view.versionId()).isEqualTo(1L);
+                assertThat(view.toGetResult())
+                        .isEqualTo(
+                                new GetResult(
+                                        "my-key",
+                                        payload,
+                                        new io.oxia.client.api.Version(
+                                                1L, 2L, 3L, 4L, Optional.empty(), Optional.empty())));
+            }
+        }
+
+        @Test
+        void completeAfterTimeoutReleasesView() {
+            var response = new GetResponse();
+            response.setKey("my-key").setStatus(OK).setValue("hello".getBytes(UTF_8));
+            response.setVersion().setVersionId(1L);
+            var valueBuffer = response.getValueSlice();
+            var refCnt = valueBuffer.refCnt();
+
+            callback.completeExceptionally(new TimeoutException());
+            op.complete(response);
+            assertThat(valueBuffer.refCnt()).isEqualTo(refCnt);
+        }
+    }
+
     @Nested
     @DisplayName("Tests of put operation")
     class PutOperationTests {
@@ -223,7 +286,7 @@ class OperationTest {
                     .satisfies(
                             r -> {
                                 assertThat(r.getKey()).isEqualTo(op.key());
-                                assertThat(r.getValue()).isEqualTo(op.value());
+                                assertThat(ByteBuffer.wrap(r.getValue())).isEqualTo(op.value());
                                 assertThat(r.hasExpectedVersionId()).isFalse();
                                 assertThat(r.hasSessionId()).isFalse();
                                 assertThat(r.hasClientIdentity()).isFalse();
@@ -252,7 +315,7 @@ class OperationTest {
                     .satisfies(
                             r -> {
                                 assertThat(r.getKey()).isEqualTo(op.key());
-                                assertThat(r.getValue()).isEqualTo(op.value());
+                                assertThat(ByteBuffer.wrap(r.getValue())).isEqualTo(op.value());
                                 assertThat(r.getExpectedVersionId()).isEqualTo(1L);
                                 assertThat(r.hasSessionId()).isFalse();
                                 assertThat(r.hasClientIdentity()).isFalse();
@@ -282,7 +345,7 @@ class OperationTest {
                             r -> {
                                 assertThat(r.getKey()).isEqualTo(op.key());
                                 assertThat(r.getPartitionKey()).isEqualTo(op.partitionKey().get());
-                                assertThat(r.getValue()).isEqualTo(op.value());
+                                assertThat(ByteBuffer.wrap(r.getValue())).isEqualTo(op.value());
                                 assertThat(r.hasSessionId()).isFalse();
                                 assertThat(r.hasClientIdentity()).isFalse();
                             });
@@ -310,7 +373,7 @@ class OperationTest {
                     .satisfies(
                             r -> {
                                 assertThat(r.getKey()).isEqualTo(op.key());
-                                assertThat(r.getValue()).isEqualTo(op.value());
+                                assertThat(ByteBuffer.wrap(r.getValue())).isEqualTo(op.value());
                                 assertThat(r.getExpectedVersionId()).isEqualTo(KEY_NOT_EXISTS);
                                 assertThat(r.hasSessionId()).isFalse();
                                 assertThat(r.hasClientIdentity()).isFalse();
@@ -339,7 +402,7 @@ class OperationTest {
                     .satisfies(
                             r -> {
                                 assertThat(r.getKey()).isEqualTo(op.key());
-                                assertThat(r.getValue()).isEqualTo(op.value());
+                                assertThat(ByteBuffer.wrap(r.getValue())).isEqualTo(op.value());
                                 assertThat(r.hasExpectedVersionId()).isFalse();
                                 assertThat(r.getSessionId()).isEqualTo(sessionId);
                                 assertThat(r.getClientIdentity()).isEqualTo("client-id");
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class Lz4ValueCodecTest {
+
+    private final Lz4ValueCodec codec = new Lz4ValueCodec(64);
+
+    @Test
+    void roundTrip() {
+        var random = new Random(1);
+        for (int size : new int[] {0, 1, 9, 63, 64, 100, 1000, 70_000, 300_000}) {
+            byte[] randomBytes = new byte[size];
+            random.nextBytes(randomBytes);
+            byte[] repetitive = new byte[size];
+            for (int i = 0; i < size; i++) {
+                repetitive[i] = (byte) ("{\"key\":" + i / 100 + "}").charAt(i % 10);
+            }
+            assertRoundTrip(randomBytes);
+            assertRoundTrip(repetitive);
+        }
+    }
+
+    @Test
+    void compressesAboveThreshold() {
+        var value = "{\"field\":\"value\"}".repeat(100).getBytes(UTF_8);
+        var encoded = codec.encode(ByteBuffer.wrap(value));
+        assertThat(encoded.remaining()).isLessThan(value.length / 5);
+
+        // Below the threshold, and when compression does not help, the value is stored as-is
+        var small = ByteBuffer.wrap("{\"field\":\"value\"}".getBytes(UTF_8));
+        assertThat(codec.encode(small)).isSameAs(small);
+        byte[] randomBytes = new byte[1000];
+        new Random(1).nextBytes(randomBytes);
+        var incompressible = ByteBuffer.wrap(randomBytes);
+        assertThat(codec.encode(incompressible)).isSameAs(incompressible);
+    }
+
+    @Test
+    void legacyValuesAreReturnedUnchanged() {
+        var legacy = ByteBuffer.wrap("{\"field\":\"value\"}".repeat(100).getBytes(UTF_8));
+        assertThat(codec.decode(legacy)).isSameAs(legacy);
+
+        // A raw value that starts like a compressed one but is not a valid block
+        byte[] lookalike = new byte[100];
+        System.arraycopy(new byte[] {(byte) 0xF5, 'O', 'X', 'V', 1, 0, 0, 1, 0}, 0, lookalike, 0, 9);
+        var buffer = ByteBuffer.wrap(lookalike);
+        assertThat(codec.decode(buffer)).isSameAs(buffer);
+    }
+
+    @Test
+    void rawValuesStartingWithTheMagicAreEscaped() {
+        byte[] value = {(byte) 0xF5, 'O', 'X', 'V', 1, 2, 3};
+        var encoded = codec.encode(ByteBuffer.wrap(value));
+        assertThat(encoded.remaining()).isEqualTo(Lz4ValueCodec.HEADER_SIZE + value.length);
+        assertThat(encoded.get(4)).isEqualTo(Lz4ValueCodec.CODEC_RAW);
+        assertThat(codec.decode(encoded)).isEqualTo(ByteBuffer.wrap(value));
+    }
+
+    @Test
+    void buffersAreNotModified() {
+        var value = "{\"field\":\"value\"}".repeat(100).getBytes(UTF_8);
+        var direct = ByteBuffer.allocateDirect(value.length + 10).position(5);
+        direct.put(value).flip().position(5);
+        var encoded = codec.encode(direct);
+        assertThat(direct.position()).isEqualTo(5);
+
+        var readOnly = encoded.asReadOnlyBuffer();
+        assertThat(codec.decode(readOnly)).isEqualTo(ByteBuffer.wrap(value));
+        assertThat(readOnly.position()).isZero();
+    }
+
+    private void assertRoundTrip(byte[] value) {
+        var encoded = codec.encode(ByteBuffer.wrap(value));
+        var decoded = codec.decode(encoded);
+        assertThat(decoded).isEqualTo(ByteBuffer.wrap(value));
+    }
+}
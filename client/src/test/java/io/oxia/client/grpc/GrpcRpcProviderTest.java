@@ -31,6 +31,8 @@ import io.grpc.stub.StreamObserver;
 import io.oxia.client.OxiaClientBuilderImpl;
 import io.oxia.client.api.OxiaClientBuilder;
 import io.oxia.client.grpc.observer.CancelableStreamObserver;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.proto.CloseSessionRequest;
 import io.oxia.proto.CloseSessionResponse;
 import io.oxia.proto.CreateSessionRequest;
@@ -50,10 +52,14 @@ import io.oxia.proto.ReadResponse;
 import io.oxia.proto.SessionHeartbeat;
 import io.oxia.proto.WriteResponse;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.NonNull;
 import org.junit.jupiter.api.Test;
 
@@ -566,6 +572,225 @@ class GrpcRpcProviderTest {
         }
     }
 
+    @Test
+    void listResumesAfterMidStreamFailure() throws Exception {
+        var resumedFrom = new AtomicReference<String>();
+        var resumedEnd = new AtomicReference<String>();
+        var leaderService =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void list(ListRequest request, StreamObserver<ListResponse> responseObserver) {
+                        resumedFrom.set(request.getStartInclusive());
+                        resumedEnd.set(request.getEndExclusive());
+                        responseObserver.onNext(new ListResponse().addAllKeys(List.of("c")));
+                        responseObserver.onCompleted();
+                    }
+                };
+        Server leaderServer =
+                ServerBuilder.forPort(0).directExecutor().addService(leaderService).build().start();
+        var leaderAddress = "localhost:" + leaderServer.getPort();
+        var staleLeaderService =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void list(ListRequest request, StreamObserver<ListResponse> responseObserver) {
+                        responseObserver.onNext(new ListResponse().addAllKeys(List.of("a", "b")));
+                        responseObserver.onError(retryableErrorWithLeaderHint(leaderAddress));
+                    }
+                };
+        Server staleLeaderServer =
+                ServerBuilder.forPort(0).directExecutor().addService(staleLeaderService).build().start();
+        var staleLeaderAddress = "localhost:" + staleLeaderServer.getPort();
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var config =
+                ((OxiaClientBuilderImpl)
+                                OxiaClientBuilder.create(staleLeaderAddress)
+                                        .connectionBackoff(Duration.ofMillis(10), Duration.ofMillis(50)))
+                        .getClientConfig();
+
+        try (var provider = new GrpcRpcProvider(config, executor, shardId -> staleLeaderAddress)) {
+            var request = new ListRequest();
+            request.setShard(1).setStartInclusive("a").setEndExclusive("z");
+            var keys = new CopyOnWriteArrayList<String>();
+            var done = new CompletableFuture<Void>();
+
+            provider.list(
+                    request,
+                    keyCollectingObserver(
+                            response -> {
+                                for (int i = 0; i < response.getKeysCount(); i++) {
+                                    keys.add(response.getKeyAt(i));
+                                }
+                            },
+                            done));
+
+            done.get(10, TimeUnit.SECONDS);
+            assertThat(keys).containsExactly("a", "b", "c");
+            assertThat(resumedFrom.get()).isEqualTo("b\0");
+            assertThat(resumedEnd.get()).isEqualTo("z");
+        } finally {
+            executor.shutdownNow();
+            staleLeaderServer.shutdownNow();
+            leaderServer.shutdownNow();
+        }
+    }
+
+    @Test
+    void rangeScanResumesAfterMidStreamFailure() throws Exception {
+        var resumedFrom = new AtomicReference<String>();
+        var leaderService =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void rangeScan(
+                            RangeScanRequest request, StreamObserver<RangeScanResponse> responseObserver) {
+                        resumedFrom.set(request.getStartInclusive());
+                        responseObserver.onNext(rangeScanResponse("c"));
+                        responseObserver.onCompleted();
+                    }
+                };
+        Server leaderServer =
+                ServerBuilder.forPort(0).directExecutor().addService(leaderService).build().start();
+        var leaderAddress = "localhost:" + leaderServer.getPort();
+        var staleLeaderService =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void rangeScan(
+                            RangeScanRequest request, StreamObserver<RangeScanResponse> responseObserver) {
+                        responseObserver.onNext(rangeScanResponse("a", "b"));
+                        responseObserver.onError(retryableErrorWithLeaderHint(leaderAddress));
+                    }
+                };
+        Server staleLeaderServer =
+                ServerBuilder.forPort(0).directExecutor().addService(staleLeaderService).build().start();
+        var staleLeaderAddress = "localhost:" + staleLeaderServer.getPort();
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var config =
+                ((OxiaClientBuilderImpl)
+                                OxiaClientBuilder.create(staleLeaderAddress)
+                                        .connectionBackoff(Duration.ofMillis(10), Duration.ofMillis(50)))
+                        .getClientConfig();
+
+        try (var provider = new GrpcRpcProvider(config, executor, shardId -> staleLeaderAddress)) {
+            var request = new RangeScanRequest();
+            request.setShard(1).setStartInclusive("a").setEndExclusive("z");
+            var keys = new CopyOnWriteArrayList<String>();
+            var done = new CompletableFuture<Void>();
+
+            provider.rangeScan(
+                    request,
+                    keyCollectingObserver(
+                            response -> {
+                                for (int i = 0; i < response.getRecordsCount(); i++) {
+                                    keys.add(response.getRecordAt(i).getKey());
+                                }
+                            },
+                            done));
+
+            done.get(10, TimeUnit.SECONDS);
+            assertThat(keys).containsExactly("a", "b", "c");
+            assertThat(resumedFrom.get()).isEqualTo("b\0");
+        } finally {
+            executor.shutdownNow();
+            staleLeaderServer.shutdownNow();
+            leaderServer.shutdownNow();
+        }
+    }
+
+    @Test
+    void rangeScanOfKeylessRecordsIsNotResumedFromTheStart() throws Exception {
+        var resumed = new AtomicInteger();
+        var leaderService =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void rangeScan(
+                            RangeScanRequest request, StreamObserver<RangeScanResponse> responseObserver) {
+                        resumed.incrementAndGet();
+                        responseObserver.onCompleted();
+                    }
+                };
+        Server leaderServer =
+                ServerBuilder.forPort(0).directExecutor().addService(leaderService).build().start();
+        var leaderAddress = "localhost:" + leaderServer.getPort();
+        var staleLeaderService =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void rangeScan(
+                            RangeScanRequest request, StreamObserver<RangeScanResponse> responseObserver) {
+                        var response = rangeScanResponse("a");
+                        response.addRecord().setVersion().setVersionId(1L);
+                        responseObserver.onNext(response);
+                        responseObserver.onError(retryableErrorWithLeaderHint(leaderAddress));
+                    }
+                };
+        Server staleLeaderServer =
+                ServerBuilder.forPort(0).directExecutor().addService(staleLeaderService).build().start();
+        var staleLeaderAddress = "localhost:" + staleLeaderServer.getPort();
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var config =
+                ((OxiaClientBuilderImpl)
+                                OxiaClientBuilder.create(staleLeaderAddress)
+                                        .connectionBackoff(Duration.ofMillis(10), Duration.ofMillis(50)))
+                        .getClientConfig();
+
+        try (var provider = new GrpcRpcProvider(config, executor, shardId -> staleLeaderAddress)) {
+            var request = new RangeScanRequest();
+            request.setShard(1).setStartInclusive("a").setEndExclusive("z");
+            var records = new AtomicInteger();
+            var done = new CompletableFuture<Void>();
+
+            provider.rangeScan(
+                    request,
+                    keyCollectingObserver(response -> records.addAndGet(response.getRecordsCount()), done));
+
+            // Resuming from "a" would deliver both records again
+            assertThatThrownBy(() -> done.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("no key");
+            assertThat(records).hasValue(2);
+            assertThat(resumed).hasValue(0);
+        } finally {
+            executor.shutdownNow();
+            staleLeaderServer.shutdownNow();
+            leaderServer.shutdownNow();
+        }
+    }
+
+    @Test
+    void listWithSecondaryIndexIsNotResumed() throws Exception {
+        var attempts = new AtomicInteger();
+        var service =
+                new OxiaClientGrpc.OxiaClientImplBase() {
+                    @Override
+                    public void list(ListRequest request, StreamObserver<ListResponse> responseObserver) {
+                        attempts.incrementAndGet();
+                        responseObserver.onNext(new ListResponse().addAllKeys(List.of("a")));
+                        responseObserver.onError(retryableErrorWithLeaderHint(""));
+                    }
+                };
+        Server server = ServerBuilder.forPort(0).directExecutor().addService(service).build().start();
+        var address = "localhost:" + server.getPort();
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var config =
+                ((OxiaClientBuilderImpl)
+                                OxiaClientBuilder.create(address)
+                                        .connectionBackoff(Duration.ofMillis(10), Duration.ofMillis(50)))
+                        .getClientConfig();
+
+        try (var provider = new GrpcRpcProvider(config, executor, shardId -> address)) {
+            var request = new ListRequest();
+            request.setShard(1).setStartInclusive("a").setEndExclusive("z").setSecondaryIndexName("idx");
+            var done = new CompletableFuture<Void>();
+
+            provider.list(request, keyCollectingObserver(response -> {}, done));
+
+            assertThatThrownBy(() -> done.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OxiaStatusException.class);
+            assertThat(attempts).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+            server.shutdownNow();
+        }
+    }
+
     @Test
     void getSequenceUpdatesRetriesWithLeaderHint() throws Exception {
         var leaderServerRequests = new AtomicReference<GetSequenceUpdatesRequest>();
@@ -719,6 +944,34 @@ class GrpcRpcProviderTest {
         }
     }
 
+    @Test
+    void closeStopsTheTimerOwnedByTheProvider() throws Exception {
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        var config =
+                ((OxiaClientBuilderImpl) OxiaClientBuilder.create("localhost:0")).getClientConfig();
+        var sharedTimer = new DeadlineTimer("shared-timer", InstrumentProvider.NOOP);
+
+        try (var connectionManager = new ConnectionManager(config, executor)) {
+            var provider =
+                    new GrpcRpcProvider(config, executor, connectionManager, shardId -> "localhost:0");
+            var ownedTimer = provider.timer;
+            provider.close();
+            var afterClose = ownedTimer.orTimeout(new CompletableFuture<Void>(), 1, TimeUnit.MINUTES);
+            assertThatThrownBy(afterClose::join).hasCauseInstanceOf(IllegalStateException.class);
+
+            // A timer handed in by the owner of the provider is left running
+            var sharing =
+                    new GrpcRpcProvider(
+                            config, executor, connectionManager, sharedTimer, shardId -> "localhost:0");
+            sharing.close();
+            assertThat(sharedTimer.orTimeout(new CompletableFuture<Void>(), 1, TimeUnit.MINUTES))
+                    .isNotDone();
+        } finally {
+            sharedTimer.close();
+            executor.shutdownNow();
+        }
+    }
+
     private static <T> StreamObserver<T> capturingStreamObserver(AtomicReference<T> response) {
         return new StreamObserver<>() {
             @Override
@@ -750,6 +1003,34 @@ class GrpcRpcProviderTest {
         };
     }
 
+    private static <T> CancelableStreamObserver<T> keyCollectingObserver(
+            Consumer<T> onResponse, CompletableFuture<Void> done) {
+        return new CancelableStreamObserver<>() {
+            @Override
+            protected void handleNext(@NonNull T value) {
+                onResponse.accept(value);
+            }
+
+            @Override
+            protected void handleError(@NonNull Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            protected void handleComplete() {
+                done.complete(null);
+            }
+        };
+    }
+
+    private static RangeScanResponse rangeScanResponse(String... keys) {
+        var response = new RangeScanResponse();
+        for (String key : keys) {
+            response.addRecord().setKey(key).setVersion().setVersionId(1L);
+        }
+        return response;
+    }
+
     private static Throwable retryableErrorWithLeaderHint(String leaderAddress) {
         var grpcStatus =
                 com.google.rpc.Status.newBuilder()
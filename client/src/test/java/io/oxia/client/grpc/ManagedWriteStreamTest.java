@@ -31,8 +31,13 @@ import io.grpc.ServerBuilder;
 import io.grpc.Status;
 import io.grpc.protobuf.StatusProto;
 import io.grpc.stub.StreamObserver;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.oxia.client.OxiaClientBuilderImpl;
 import io.oxia.client.api.OxiaClientBuilder;
+import io.oxia.client.metrics.InstrumentProvider;
+import io.oxia.client.util.DeadlineTimer;
 import io.oxia.proto.OxiaClientGrpc;
 import io.oxia.proto.WriteRequest;
 import io.oxia.proto.WriteResponse;
@@ -42,11 +47,20 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 class ManagedWriteStreamTest {
 
+    private final DeadlineTimer timer = new DeadlineTimer("test-timer", InstrumentProvider.NOOP);
+
+    @AfterEach
+    void closeTimer() {
+        timer.close();
+    }
+
     @Test
     void completesWritesInResponseOrder() throws Exception {
         var requests = new ConcurrentLinkedQueue<WriteRequest>();
@@ -56,7 +70,8 @@ class ManagedWriteStreamTest {
         var config = clientConfig(address);
 
         try (var provider = new GrpcRpcProvider(config, executor, shard -> address);
-                var stream = new ManagedWriteStream(1, provider, executor, config.requestTimeout())) {
+                var stream =
+                        new ManagedWriteStream(1, provider, executor, timer, config.requestTimeout())) {
             var first = writeRequest(1);
             var second = writeRequest(2);
 
@@ -98,7 +113,8 @@ class ManagedWriteStreamTest {
         var config = clientConfig(address);
 
         try (var provider = new GrpcRpcProvider(config, executor, shard -> address);
-                var stream = new ManagedWriteStream(1, provider, executor, config.requestTimeout())) {
+                var stream =
+                        new ManagedWriteStream(1, provider, executor, timer, config.requestTimeout())) {
             var pending = stream.send(() -> writeRequest(1));
 
             stream.close();
@@ -141,7 +157,8 @@ class ManagedWriteStreamTest {
                         });
 
         var executor = Executors.newSingleThreadScheduledExecutor();
-        try (var stream = new ManagedWriteStream(1, rpcProvider, executor, Duration.ofSeconds(30))) {
+        try (var stream =
+                new ManagedWriteStream(1, rpcProvider, executor, timer, Duration.ofSeconds(30))) {
             var pending = stream.send(() -> writeRequest(1));
 
             stream.close();
@@ -216,6 +233,101 @@ class ManagedWriteStreamTest {
         }
     }
 
+    @Test
+    void unansweredWriteTimesOutAndClosesTheStream() throws Exception {
+        var rpcProvider = mock(RpcProvider.class);
+        var completedStreams = new AtomicInteger();
+        when(rpcProvider.writeStream(anyLong(), nullable(OxiaStatusException.class), any()))
+                .thenReturn(
+                        new StreamObserver<WriteRequest>() {
+                            @Override
+                            public void onNext(WriteRequest value) {}
+
+                            @Override
+                            public void onError(Throwable t) {}
+
+                            @Override
+                            public void onCompleted() {
+                                completedStreams.incrementAndGet();
+                            }
+                        });
+
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        try (var stream =
+                new ManagedWriteStream(1, rpcProvider, executor, timer, Duration.ofMillis(50))) {
+            var first = stream.send(() -> writeRequest(1));
+            var second = stream.send(() -> writeRequest(2));
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OxiaStatusException.class)
+                    .satisfies(
+                            error -> {
+                                var oxiaError = (OxiaStatusException) error.getCause();
+                                assertThat(oxiaError.getStatusCode()).isEqualTo(OxiaStatusCode.TIMEOUT);
+                                assertThat(oxiaError).hasCauseInstanceOf(TimeoutException.class);
+                            });
+            // The whole stream is failed, not only the write whose deadline fired
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OxiaStatusException.class);
+            assertThat(stream.isClosed()).isTrue();
+            assertThat(completedStreams).hasValue(1);
+            assertThat(stream.send(() -> writeRequest(3))).isCompletedExceptionally();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void responseBeforeDeadlineCancelsTheTimeout() throws Exception {
+        var metricReader = InMemoryMetricReader.create();
+        var otel =
+                OpenTelemetrySdk.builder()
+                        .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+                        .build();
+        var rpcProvider = mock(RpcProvider.class);
+        var responseObservers = new ConcurrentLinkedQueue<StreamObserver<WriteResponse>>();
+        when(rpcProvider.writeStream(anyLong(), nullable(OxiaStatusException.class), any()))
+                .thenAnswer(
+                        invocation -> {
+                            responseObservers.add(invocation.getArgument(2));
+                            return new StreamObserver<WriteRequest>() {
+                                @Override
+                                public void onNext(WriteRequest value) {}
+
+                                @Override
+                                public void onError(Throwable t) {}
+
+                                @Override
+                                public void onCompleted() {}
+                            };
+                        });
+
+        var executor = Executors.newSingleThreadScheduledExecutor();
+        try (var trackingTimer =
+                        new DeadlineTimer(
+                                "tracking-timer",
+                                1,
+                                TimeUnit.MILLISECONDS,
+                                new InstrumentProvider(otel, "default"));
+                var stream =
+                        new ManagedWriteStream(
+                                1, rpcProvider, executor, trackingTimer, Duration.ofMillis(100))) {
+            var future = stream.send(() -> writeRequest(1));
+            assertThat(pendingDeadlines(metricReader)).isEqualTo(1);
+
+            responseObservers.peek().onNext(new WriteResponse());
+            assertThat(future).isCompleted();
+            assertThat(pendingDeadlines(metricReader)).isZero();
+
+            await()
+                    .during(Duration.ofMillis(300))
+                    .untilAsserted(() -> assertThat(stream.isClosed()).isFalse());
+            assertThat(responseObservers).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void replaysInflightWritesAfterRetryableError() throws Exception {
         var leaderRequests = new ConcurrentLinkedQueue<WriteRequest>();
@@ -252,7 +364,8 @@ class ManagedWriteStreamTest {
         var config = clientConfig(staleAddress);
 
         try (var provider = new GrpcRpcProvider(config, executor, shard -> staleAddress);
-                var stream = new ManagedWriteStream(1, provider, executor, config.requestTimeout())) {
+                var stream =
+                        new ManagedWriteStream(1, provider, executor, timer, config.requestTimeout())) {
             var firstFuture = stream.send(() -> writeRequest(1));
             var secondFuture = stream.send(() -> writeRequest(2));
 
@@ -308,7 +421,8 @@ class ManagedWriteStreamTest {
                         });
 
         var executor = Executors.newSingleThreadScheduledExecutor();
-        try (var stream = new ManagedWriteStream(1, rpcProvider, executor, Duration.ofSeconds(30))) {
+        try (var stream =
+                new ManagedWriteStream(1, rpcProvider, executor, timer, Duration.ofSeconds(30))) {
             var future = stream.send(() -> writeRequest(1));
             await()
                     .untilAsserted(
@@ -360,7 +474,8 @@ class ManagedWriteStreamTest {
                         });
 
         var executor = Executors.newSingleThreadScheduledExecutor();
-        try (var stream = new ManagedWriteStream(1, rpcProvider, executor, Duration.ofSeconds(30))) {
+        try (var stream =
+                new ManagedWriteStream(1, rpcProvider, executor, timer, Duration.ofSeconds(30))) {
             var future = stream.send(() -> writeRequest(1));
             assertThat(requestCount).hasValue(1);
             assertThat(responseObservers).hasSize(1);
@@ -427,6 +542,14 @@ class ManagedWriteStreamTest {
                 .toList();
     }
 
+    private static long pendingDeadlines(InMemoryMetricReader metricReader) {
+        return metricReader.collectAllMetrics().stream()
+                .filter(metric -> metric.getName().equals("oxia.client.timer.pending"))
+                .flatMap(metric -> metric.getLongSumData().getPoints().stream())
+                .mapToLong(point -> point.getValue())
+                .sum();
+    }
+
     private static io.oxia.client.ClientConfig clientConfig(String address) {
         return ((OxiaClientBuilderImpl)
                         OxiaClientBuilder.create(address)
@@ -114,6 +114,30 @@ class CancelableStreamObserverTest {
         verify(requestStream).disableAutoRequestWithInitial(1);
     }
 
+    @Test
+    void replacementStreamOnlyDeliversRequestedMessages() {
+        var observer = new RecordingStreamObserver(true);
+        @SuppressWarnings("unchecked")
+        ClientCallStreamObserver<String> first = mock(ClientCallStreamObserver.class);
+        @SuppressWarnings("unchecked")
+        ClientCallStreamObserver<String> second = mock(ClientCallStreamObserver.class);
+        @SuppressWarnings("unchecked")
+        ClientCallStreamObserver<String> third = mock(ClientCallStreamObserver.class);
+        observer.injectRequestStream(first);
+        observer.onNext("a");
+
+        // The first stream failed before the next message was requested
+        observer.injectRequestStream(second);
+        verify(second).disableAutoRequestWithInitial(0);
+
+        observer.requestNextMessage();
+        verify(second).request(1);
+
+        // The requested message is still to be delivered
+        observer.injectRequestStream(third);
+        verify(third).disableAutoRequestWithInitial(1);
+    }
+
     @Test
     void autoFlowControlByDefault() {
         var observer = new RecordingStreamObserver();
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.oxia.client.api.MetricsLevel;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentProviderTest {
+
+    private static final Attributes PUT = Attributes.of(AttributeKey.stringKey("oxia.op"), "put");
+
+    private InMemoryMetricReader metricReader;
+    private OpenTelemetry otel;
+
+    @BeforeEach
+    void setUp() {
+        metricReader = InMemoryMetricReader.create();
+        otel =
+                OpenTelemetrySdk.builder()
+                        .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+                        .build();
+    }
+
+    @Test
+    void countersAreObservedAtCollection() {
+        var provider = new InstrumentProvider(otel, "ns", MetricsLevel.BASIC);
+        var counter = provider.newCounter("oxia.test.counter", Unit.Bytes, "test", PUT);
+        var gauge = provider.newUpDownCounter("oxia.test.gauge", Unit.Events, "test", PUT);
+        counter.add(10);
+        counter.increment();
+        gauge.increment();
+        gauge.increment();
+        gauge.decrement();
+
+        var metrics = collect();
+        assertThat(sum(metrics.get("oxia.test.counter"))).isEqualTo(11);
+        assertThat(sum(metrics.get("oxia.test.gauge"))).isEqualTo(1);
+        assertThat(
+                        metrics.get("oxia.test.counter").getLongSumData().getPoints().iterator().next()
+                                .getAttributes()
+                                .get(AttributeKey.stringKey("oxia.namespace")))
+                .isEqualTo("ns");
+    }
+
+    @Test
+    void identicalSeriesAreSharedAcrossProviders() {
+        var first = new InstrumentProvider(otel, "ns", MetricsLevel.BASIC);
+        var second = new InstrumentProvider(otel, "ns", MetricsLevel.BASIC);
+        first.newCounter("oxia.test.counter", Unit.Bytes, "test", PUT).add(1);
+        second.newCounter("oxia.test.counter", Unit.Bytes, "test", PUT).add(2);
+        assertThat(sum(collect().get("oxia.test.counter"))).isEqualTo(3);
+
+        first.close();
+        assertThat(sum(collect().get("oxia.test.counter"))).isEqualTo(3);
+
+        second.close();
+        assertThat(collect()).doesNotContainKey("oxia.test.counter");
+    }
+
+    @Test
+    void basicLatencyIsExportedAsCounters() {
+        var provider = new InstrumentProvider(otel, "ns", MetricsLevel.BASIC);
+        var histogram = provider.newLatencyHistogram("oxia.test.latency", "test", PUT);
+        histogram.recordSuccess(TimeUnit.MICROSECONDS.toNanos(200));
+        histogram.recordSuccess(TimeUnit.MILLISECONDS.toNanos(2));
+        histogram.recordFailure(TimeUnit.SECONDS.toNanos(120));
+
+        var metrics = collect();
+        assertThat(metrics).doesNotContainKey("oxia.test.latency");
+        assertThat(sum(metrics.get("oxia.test.latency.count"))).isEqualTo(3);
+        assertThat(
+                        metrics.get("oxia.test.latency.sum").getDoubleSumData().getPoints().stream()
+                                .mapToDouble(p -> p.getValue())
+                                .sum())
+                .isCloseTo(120.0022, within(1e-6));
+
+        var buckets =
+                metrics.get("oxia.test.latency.bucket").getLongSumData().getPoints().stream()
+                        .filter(
+                                p ->
+                                        "success"
+                                                .equals(
+                                                        p.getAttributes()
+                                                                .get(AttributeKey.stringKey("oxia.response.status"))))
+                        .collect(
+                                Collectors.toMap(
+                                        p -> p.getAttributes().get(AttributeKey.stringKey("le")),
+                                        LongPointData::getValue));
+        assertThat(buckets)
+                .containsEntry("0.0005", 1L)
+                .containsEntry("0.001", 1L)
+                .containsEntry("0.0025", 2L)
+                .containsEntry("+Inf", 2L);
+    }
+
+    @Test
+    void detailedLatencyUsesNativeHistogram() {
+        var provider = new InstrumentProvider(otel, "ns", MetricsLevel.DETAILED);
+        provider.newLatencyHistogram("oxia.test.latency", "test", PUT).recordSuccess(1_000_000);
+
+        var metrics = collect();
+        assertThat(metrics.get("oxia.test.latency").getHistogramData().getPoints())
+                .singleElement()
+                .satisfies(p -> assertThat(p.getCount()).isEqualTo(1));
+    }
+
+    @Test
+    void offRecordsNothing() {
+        var provider = new InstrumentProvider(otel, "ns", MetricsLevel.OFF);
+        provider.newCounter("oxia.test.counter", Unit.Bytes, "test", PUT).add(1);
+        provider.newLatencyHistogram("oxia.test.latency", "test", PUT).recordSuccess(1_000_000);
+
+        assertThat(collect()).isEmpty();
+    }
+
+    private Map<String, MetricData> collect() {
+        return metricReader.collectAllMetrics().stream()
+                .collect(Collectors.toMap(MetricData::getName, m -> m));
+    }
+
+    private static long sum(MetricData metric) {
+        return metric.getLongSumData().getPoints().stream().mapToLong(LongPointData::getValue).sum();
+    }
+}
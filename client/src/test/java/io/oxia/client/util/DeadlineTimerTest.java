@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.oxia.client.metrics.InstrumentProvider;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(30)
+class DeadlineTimerTest {
+
+    private InMemoryMetricReader metricReader;
+    private DeadlineTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        metricReader = InMemoryMetricReader.create();
+        var otel =
+                OpenTelemetrySdk.builder()
+                        .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+                        .build();
+        timer =
+                new DeadlineTimer(
+                        "test-timer", 1, TimeUnit.MILLISECONDS, new InstrumentProvider(otel, "default"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void expiredFutureFailsWithTimeout() {
+        var future = timer.orTimeout(new CompletableFuture<String>(), 10, TimeUnit.MILLISECONDS);
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        await().untilAsserted(() -> assertThat(histogramCount("oxia.client.timer.lag")).isEqualTo(1));
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void completedFutureCancelsDeadline() {
+        var future = new CompletableFuture<String>();
+        var expired = new AtomicInteger();
+        timer.whenExpired(future, 50, TimeUnit.MILLISECONDS, expired::incrementAndGet);
+        assertThat(pending()).isEqualTo(1);
+
+        future.complete("done");
+        assertThat(pending()).isZero();
+
+        await()
+                .during(Duration.ofMillis(200))
+                .untilAsserted(() -> assertThat(expired.get()).isZero());
+        assertThat(future.join()).isEqualTo("done");
+        assertThat(histogramCount("oxia.client.timer.lag")).isZero();
+    }
+
+    @Test
+    void alreadyCompletedFutureIsNotTracked() {
+        var future = CompletableFuture.completedFuture("done");
+        assertThat(timer.orTimeout(future, 1, TimeUnit.MILLISECONDS)).isSameAs(future);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    void stoppedTimerFailsFuture() {
+        timer.close();
+        var future = timer.orTimeout(new CompletableFuture<String>(), 1, TimeUnit.SECONDS);
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private MetricData metric(String name) {
+        return metricReader.collectAllMetrics().stream()
+                .filter(m -> m.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private long pending() {
+        var metric = metric("oxia.client.timer.pending");
+        return metric == null
+                ? 0
+                : metric.getLongSumData().getPoints().stream().mapToLong(p -> p.getValue()).sum();
+    }
+
+    private long histogramCount(String name) {
+        var metric = metric(name);
+        return metric == null
+                ? 0
+                : metric.getHistogramData().getPoints().stream().mapToLong(p -> p.getCount()).sum();
+    }
+}
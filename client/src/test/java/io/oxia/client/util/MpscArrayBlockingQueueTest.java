@@ -0,0 +1,302 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.common.collect.Lists;
+import io.oxia.client.util.MpscArrayBlockingQueue.WaitStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class MpscArrayBlockingQueueTest {
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void simple(WaitStrategy waitStrategy) throws Exception {
+        BlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(4, waitStrategy);
+
+        assertNull(queue.poll());
+        assertEquals(4, queue.remainingCapacity());
+        assertThrows(NoSuchElementException.class, queue::element);
+        assertThrows(UnsupportedOperationException.class, queue::iterator);
+
+        // Test index rollover
+        for (int i = 0; i < 100; i++) {
+            queue.add(i);
+
+            assertEquals(i, queue.take().intValue());
+        }
+
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        queue.offer(4);
+
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        List<Integer> list = new ArrayList<>();
+        queue.drainTo(list, 3);
+
+        assertEquals(1, queue.size());
+        assertEquals(Lists.newArrayList(1, 2, 3), list);
+        assertEquals(4, queue.peek().intValue());
+
+        assertEquals(4, queue.element().intValue());
+        assertEquals(4, queue.remove().intValue());
+        assertThrows(NoSuchElementException.class, queue::remove);
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void capacityIsNotRoundedUp(WaitStrategy waitStrategy) {
+        BlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(3, waitStrategy);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertTrue(queue.offer(3));
+        assertFalse(queue.offer(4));
+        assertEquals(3, queue.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void blockWhenFull(WaitStrategy waitStrategy) throws Exception {
+        BlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(4, waitStrategy);
+
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertTrue(queue.offer(3));
+        assertTrue(queue.offer(4));
+        assertFalse(queue.offer(5));
+        assertFalse(queue.offer(5, 1, TimeUnit.MILLISECONDS));
+
+        CountDownLatch latch = new CountDownLatch(1);
+
+        new Thread(
+                        () -> {
+                            try {
+                                queue.put(5);
+                                latch.countDown();
+                            } catch (Exception e) {
+                                e.printStackTrace();
+                            }
+                        })
+                .start();
+
+        Thread.sleep(100);
+        assertEquals(1, latch.getCount());
+
+        assertEquals(1, (int) queue.poll());
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(4, queue.size());
+
+        queue.clear();
+        assertEquals(0, queue.size());
+
+        assertTrue(queue.offer(1, 1, TimeUnit.SECONDS));
+        assertTrue(queue.offer(2, 1, TimeUnit.SECONDS));
+        assertTrue(queue.offer(3, 1, TimeUnit.SECONDS));
+        assertEquals(3, queue.size());
+
+        List<Integer> list = new ArrayList<>();
+        queue.drainTo(list);
+        assertEquals(0, queue.size());
+
+        assertEquals(Lists.newArrayList(1, 2, 3), list);
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void pollTimeout(WaitStrategy waitStrategy) throws Exception {
+        BlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(4, waitStrategy);
+
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+
+        queue.put(1);
+        assertEquals(1, queue.poll(1, TimeUnit.MILLISECONDS).intValue());
+
+        // 0 timeout should not block
+        assertNull(queue.poll(0, TimeUnit.HOURS));
+
+        queue.put(2);
+        queue.put(3);
+        assertEquals(2, queue.poll(1, TimeUnit.HOURS).intValue());
+        assertEquals(3, queue.poll(1, TimeUnit.HOURS).intValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void takeWakesUpParkedConsumer(WaitStrategy waitStrategy) throws Exception {
+        BatchedBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(10, waitStrategy);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Integer> taken = new AtomicReference<>();
+
+        new Thread(
+                        () -> {
+                            try {
+                                Integer[] local = new Integer[10];
+                                assertEquals(1, queue.takeAll(local));
+                                taken.set(local[0]);
+                                latch.countDown();
+                            } catch (Exception e) {
+                                e.printStackTrace();
+                            }
+                        })
+                .start();
+
+        // Make sure background thread is parked
+        Thread.sleep(100);
+        queue.put(7);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(7, taken.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void interruptConsumer(WaitStrategy waitStrategy) throws Exception {
+        BatchedBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(10, waitStrategy);
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                queue.takeAll(new Integer[10]);
+                            } catch (InterruptedException e) {
+                                latch.countDown();
+                            }
+                        });
+        consumer.start();
+
+        Thread.sleep(100);
+        consumer.interrupt();
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void drainToArray(WaitStrategy waitStrategy) throws Exception {
+        BatchedBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(100, waitStrategy);
+
+        for (int i = 0; i < 10; i++) {
+            queue.add(i);
+        }
+
+        Integer[] local = new Integer[5];
+        int items = queue.takeAll(local);
+        assertEquals(5, items);
+        for (int i = 0; i < items; i++) {
+            assertEquals(i, (int) local[i]);
+        }
+
+        assertEquals(5, queue.size());
+
+        items = queue.pollAll(local, 1, TimeUnit.SECONDS);
+        assertEquals(5, items);
+        for (int i = 0; i < items; i++) {
+            assertEquals(i + 5, (int) local[i]);
+        }
+
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.pollAll(local, 1, TimeUnit.MILLISECONDS));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void putAll(WaitStrategy waitStrategy) throws Exception {
+        BatchedBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(10, waitStrategy);
+
+        Integer[] items = new Integer[100];
+        for (int i = 0; i < 100; i++) {
+            items[i] = i;
+        }
+
+        // More items than the capacity: the producer waits for the consumer to make room
+        Thread producer =
+                new Thread(
+                        () -> {
+                            try {
+                                queue.putAll(items, 0, items.length);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        producer.start();
+
+        List<Integer> received = new ArrayList<>();
+        Integer[] local = new Integer[7];
+        while (received.size() < items.length) {
+            int n = queue.takeAll(local);
+            for (int i = 0; i < n; i++) {
+                received.add(local[i]);
+            }
+        }
+        producer.join();
+
+        assertEquals(List.of(items), received);
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void multipleProducers(WaitStrategy waitStrategy) throws Exception {
+        int producers = 4;
+        int itemsPerProducer = 10_000;
+        BatchedBlockingQueue<Long> queue = new MpscArrayBlockingQueue<>(64, waitStrategy);
+
+        for (int p = 0; p < producers; p++) {
+            long producerId = p;
+            new Thread(
+                            () -> {
+                                try {
+                                    for (long i = 0; i < itemsPerProducer; i++) {
+                                        queue.put(producerId * itemsPerProducer + i);
+                                    }
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            })
+                    .start();
+        }
+
+        // Every item is received exactly once, and in order for each producer
+        long[] next = new long[producers];
+        Long[] local = new Long[16];
+        int received = 0;
+        while (received < producers * itemsPerProducer) {
+            int n = queue.pollAll(local, 10, TimeUnit.SECONDS);
+            assertTrue(n > 0);
+            for (int i = 0; i < n; i++) {
+                int producer = (int) (local[i] / itemsPerProducer);
+                assertEquals(producer * (long) itemsPerProducer + next[producer], local[i]);
+                next[producer]++;
+            }
+            received += n;
+        }
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.perf.bulk;
+
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+import io.oxia.client.OxiaClientBuilderImpl;
+
+@Parameters(commandDescription = "Export a key range of an Oxia namespace to a file, or import it.")
+public class BulkArguments {
+
+    @Parameter(
+            names = {"-h", "--help"},
+            description = "Help message",
+            help = true)
+    boolean help;
+
+    @Parameter(
+            names = {"-a", "--service-addr"},
+            description = "Oxia Service Address")
+    String serviceAddr = "localhost:6648";
+
+    @Parameter(
+            names = {"-n", "--namespace"},
+            description = "Oxia namespace")
+    String namespace = "default";
+
+    @Parameter(
+            names = {"--request-timeout-ms"},
+            description = "Requests timeout")
+    long requestTimeoutMs = OxiaClientBuilderImpl.DefaultRequestTimeout.toMillis();
+
+    @Parameter(
+            names = {"--report-interval-s"},
+            description = "Interval between the progress reports")
+    int reportIntervalSeconds = 10;
+
+    @Parameter(
+            names = {"--buffer-size-kb"},
+            description = "Size of the file I/O buffer")
+    int bufferSizeKb = 4 * 1024;
+
+    @Parameters(commandDescription = "Scan a key range, across all the shards, into a file.")
+    static class Export {
+        @Parameter(
+                names = {"-f", "--file"},
+                description = "File to write the records to",
+                required = true)
+        String file;
+
+        @Parameter(
+                names = {"--start"},
+                description = "Start of the key range, inclusive")
+        String startKeyInclusive = "";
+
+        @Parameter(
+                names = {"--end"},
+                description = "End of the key range, exclusive",
+                required = true)
+        String endKeyExclusive;
+    }
+
+    @Parameters(commandDescription = "Write the records of an exported file.")
+    static class Import {
+        @Parameter(
+                names = {"-f", "--file"},
+                description = "File to read the records from",
+                required = true)
+        String file;
+
+        @Parameter(
+                names = {"--chunk-records"},
+                description = "Records written by each putAll call")
+        int chunkRecords = 10_000;
+
+        @Parameter(
+                names = {"-o", "--max-outstanding-chunks"},
+                description = "Max number of chunks being written concurrently")
+        int maxOutstandingChunks = 8;
+
+        @Parameter(
+                names = {"--max-requests-per-batch"},
+                description = "Maximum requests per batch")
+        int maxRequestsPerBatch = OxiaClientBuilderImpl.DefaultMaxRequestsPerBatch;
+
+        @Parameter(
+                names = {"--max-batch-linger-ms"},
+                description = "Max time a batch may be held by adaptive lingering, 0 to disable")
+        long maxBatchLingerMs = OxiaClientBuilderImpl.DefaultMaxBatchLinger.toMillis();
+
+        @Parameter(
+                names = {"--max-write-batches-in-flight"},
+                description = "Maximum write batches in flight per shard")
+        int maxWriteBatchesInFlight = OxiaClientBuilderImpl.DefaultMaxWriteBatchesInFlight;
+
+        @Parameter(
+                names = {"--batching-threads"},
+                description = "Threads assembling the batches")
+        int batchingThreads = OxiaClientBuilderImpl.DefaultBatchingThreads;
+    }
+}
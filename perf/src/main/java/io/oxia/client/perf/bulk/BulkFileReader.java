@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.perf.bulk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** Reads, sequentially, the records of a file written by {@link BulkFileWriter}. */
+final class BulkFileReader implements Closeable {
+
+    record Record(String key, byte[] value) {}
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final long size;
+    private boolean finished;
+    private long consumed;
+    private long records;
+
+    // Read by the progress reports, concurrently with the import
+    private volatile long position;
+
+    BulkFileReader(Path path, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        buffer.flip();
+        try {
+            if (readInt() != BulkFileWriter.MAGIC) {
+                throw new IOException("Not a bulk export file: " + path);
+            }
+            int version = readInt();
+            if (version != BulkFileWriter.VERSION) {
+                throw new IOException("Unsupported bulk export file version: " + version);
+            }
+            consumed = 2 * Integer.BYTES;
+            position = consumed;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the next record, or null once all the records have been read
+     * @throws EOFException if the file was truncated
+     * @throws IOException if the number of records the file declares differs from those read
+     */
+    Record next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        int keyLength = readInt();
+        if (keyLength == BulkFileWriter.END_OF_RECORDS) {
+            long declared = readLong();
+            if (declared != records) {
+                throw new IOException(
+                        "The file declares " + declared + " records, but " + records + " were read");
+            }
+            finished = true;
+            return null;
+        }
+        String key = new String(readBytes(keyLength), UTF_8);
+        byte[] value = readBytes(readInt());
+        consumed += 2 * Integer.BYTES + keyLength + value.length;
+        position = consumed;
+        records++;
+        return new Record(key, value);
+    }
+
+    /** The number of records read so far. */
+    long records() {
+        return records;
+    }
+
+    /** How many bytes of the file have been consumed by the records read so far. */
+    long position() {
+        return position;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int readInt() throws IOException {
+        ensure(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    private long readLong() throws IOException {
+        ensure(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Corrupted bulk export file, invalid length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining()) {
+                fill();
+            }
+            int chunk = Math.min(buffer.remaining(), length - offset);
+            buffer.get(bytes, offset, chunk);
+            offset += chunk;
+        }
+        return bytes;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        while (buffer.remaining() < bytes) {
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        buffer.compact();
+        try {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Truncated bulk export file");
+            }
+        } finally {
+            buffer.flip();
+        }
+    }
+}
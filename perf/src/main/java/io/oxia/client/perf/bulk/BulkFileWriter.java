@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.perf.bulk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the records of an export, sequentially, through a direct buffer.
+ *
+ * <p>The file starts with {@link #MAGIC} and {@link #VERSION}, followed by one entry per record:
+ * the length of the UTF-8 key, the key, the length of the value and the value. The records end with
+ * {@link #END_OF_RECORDS} in place of a key length, followed by the number of records, so that a
+ * truncated file is detected on import.
+ *
+ * <p>The records of the different shards of a scan are written concurrently, so the writes are
+ * serialized.
+ */
+final class BulkFileWriter implements Closeable {
+    static final int MAGIC = 0x4F584B56; // "OXKV"
+    static final int VERSION = 1;
+    static final int END_OF_RECORDS = -1;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long records;
+    private boolean closed;
+
+    BulkFileWriter(Path path, int bufferSize) throws IOException {
+        this.channel =
+                FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        putInt(MAGIC);
+        putInt(VERSION);
+    }
+
+    synchronized void write(String key, byte[] value) throws IOException {
+        if (closed) {
+            throw new IOException("The bulk file is closed");
+        }
+        byte[] keyBytes = key.getBytes(UTF_8);
+        putInt(keyBytes.length);
+        put(keyBytes);
+        putInt(value.length);
+        put(value);
+        records++;
+    }
+
+    synchronized long records() {
+        return records;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            putInt(END_OF_RECORDS);
+            putLong(records);
+            flush();
+            channel.force(false);
+        }
+    }
+
+    private void putInt(int value) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush();
+        }
+        buffer.putInt(value);
+    }
+
+    private void putLong(long value) throws IOException {
+        if (buffer.remaining() < Long.BYTES) {
+            flush();
+        }
+        buffer.putLong(value);
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
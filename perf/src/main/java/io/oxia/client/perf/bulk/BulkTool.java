@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.perf.bulk;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.ParameterException;
+import io.github.merlimat.slog.Logger;
+import io.oxia.client.api.AsyncOxiaClient;
+import io.oxia.client.api.GetResult;
+import io.oxia.client.api.OxiaClientBuilder;
+import io.oxia.client.api.RangeScanConsumer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Snapshots a key range of a namespace to a local file, and restores it.
+ *
+ * <p>The export scans all the shards concurrently into a {@link BulkFileWriter} file. The import
+ * reads the file sequentially in chunks of {@code --chunk-records} records, each written with a
+ * single {@code putAll()} that groups the chunk by shard into full batches, and keeps up to {@code
+ * --max-outstanding-chunks} chunks in flight. Only the keys and the values are restored: the
+ * versions, the ephemeral state, the partition keys and the secondary indexes of the records are
+ * not part of the export.
+ */
+public class BulkTool {
+
+    private static final Logger log = Logger.get(BulkTool.class);
+
+    public static void main(String[] args) throws Exception {
+        BulkArguments arguments = new BulkArguments();
+        BulkArguments.Export exportArguments = new BulkArguments.Export();
+        BulkArguments.Import importArguments = new BulkArguments.Import();
+        JCommander jc =
+                JCommander.newBuilder()
+                        .programName("oxia-java bulk")
+                        .addObject(arguments)
+                        .addCommand("export", exportArguments)
+                        .addCommand("import", importArguments)
+                        .build();
+
+        try {
+            jc.parse(args);
+        } catch (ParameterException e) {
+            System.out.println(e.getMessage());
+            jc.usage();
+            System.exit(1);
+        }
+
+        if (arguments.help || jc.getParsedCommand() == null) {
+            jc.usage();
+            System.exit(1);
+        }
+
+        boolean succeeded;
+        if (jc.getParsedCommand().equals("export")) {
+            try (AsyncOxiaClient client = clientBuilder(arguments).asyncClient().get()) {
+                succeeded = export(client, arguments, exportArguments);
+            }
+        } else {
+            try (AsyncOxiaClient client =
+                    clientBuilder(arguments)
+                            .maxRequestsPerBatch(importArguments.maxRequestsPerBatch)
+                            .adaptiveBatchLinger(Duration.ofMillis(importArguments.maxBatchLingerMs))
+                            .maxWriteBatchesInFlight(importArguments.maxWriteBatchesInFlight)
+                            .batchingThreads(importArguments.batchingThreads)
+                            .asyncClient()
+                            .get()) {
+                succeeded = importFile(client, arguments, importArguments);
+            }
+        }
+        System.exit(succeeded ? 0 : 1);
+    }
+
+    private static OxiaClientBuilder clientBuilder(BulkArguments arguments) {
+        return OxiaClientBuilder.create(arguments.serviceAddr)
+                .requestTimeout(Duration.ofMillis(arguments.requestTimeoutMs))
+                .namespace(arguments.namespace);
+    }
+
+    private static boolean export(
+            AsyncOxiaClient client, BulkArguments arguments, BulkArguments.Export exportArguments)
+            throws IOException {
+        Path path = Path.of(exportArguments.file);
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try (BulkFileWriter writer = new BulkFileWriter(path, arguments.bufferSizeKb * 1024);
+                ProgressReporter progress =
+                        new ProgressReporter(
+                                "Export", Duration.ofSeconds(arguments.reportIntervalSeconds), null)) {
+            client.rangeScan(
+                    exportArguments.startKeyInclusive,
+                    exportArguments.endKeyExclusive,
+                    new RangeScanConsumer() {
+                        @Override
+                        public boolean onNext(GetResult result) {
+                            try {
+                                writer.write(result.key(), result.value());
+                            } catch (IOException e) {
+                                done.completeExceptionally(new UncheckedIOException(e));
+                                return false;
+                            }
+                            progress.record(result.key().length() + result.value().length);
+                            return true;
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            done.completeExceptionally(throwable);
+                        }
+
+                        @Override
+                        public void onCompleted() {
+                            done.complete(null);
+                        }
+                    });
+            try {
+                done.join();
+            } catch (RuntimeException e) {
+                log.error().exceptionMessage(e).log("Export failed");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean importFile(
+            AsyncOxiaClient client, BulkArguments arguments, BulkArguments.Import importArguments)
+            throws IOException, InterruptedException {
+        Path path = Path.of(importArguments.file);
+        Semaphore outstanding = new Semaphore(importArguments.maxOutstandingChunks);
+        try (BulkFileReader reader = new BulkFileReader(path, arguments.bufferSizeKb * 1024);
+                ProgressReporter progress =
+                        new ProgressReporter(
+                                "Import",
+                                Duration.ofSeconds(arguments.reportIntervalSeconds),
+                                () -> percentRead(reader))) {
+            boolean readFully = true;
+            Map<String, byte[]> chunk = new HashMap<>();
+            long chunkBytes = 0;
+            try {
+                BulkFileReader.Record record;
+                while ((record = reader.next()) != null) {
+                    chunk.put(record.key(), record.value());
+                    chunkBytes += record.key().length() + record.value().length;
+                    if (chunk.size() >= importArguments.chunkRecords) {
+                        writeChunk(client, chunk, chunkBytes, outstanding, progress);
+                        chunk = new HashMap<>();
+                        chunkBytes = 0;
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    writeChunk(client, chunk, chunkBytes, outstanding, progress);
+                }
+            } catch (IOException e) {
+                log.error().exceptionMessage(e).log("Failed to read the file");
+                readFully = false;
+            }
+            // Wait for the chunks still in flight
+            outstanding.acquire(importArguments.maxOutstandingChunks);
+            return readFully && progress.failed() == 0;
+        }
+    }
+
+    /**
+     * Writes a chunk of records with a single {@code putAll()}, which groups them by shard and hands
+     * each group to the batching layer at once, instead of one put per record.
+     */
+    private static void writeChunk(
+            AsyncOxiaClient client,
+            Map<String, byte[]> chunk,
+            long chunkBytes,
+            Semaphore outstanding,
+            ProgressReporter progress)
+            throws InterruptedException {
+        outstanding.acquire();
+        client.putAll(chunk)
+                .whenComplete(
+                        (results, ex) -> {
+                            if (ex != null) {
+                                log.warn()
+                                        .attr("records", chunk.size())
+                                        .exceptionMessage(ex)
+                                        .log("Write of a chunk failed");
+                                progress.failures(chunk.size());
+                            } else {
+                                progress.record(chunk.size(), chunkBytes);
+                            }
+                            outstanding.release();
+                        });
+    }
+
+    private static long percentRead(BulkFileReader reader) {
+        return reader.size() == 0 ? 100 : reader.position() * 100 / reader.size();
+    }
+}
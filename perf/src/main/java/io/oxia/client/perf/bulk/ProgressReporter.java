@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.perf.bulk;
+
+import io.github.merlimat.slog.Logger;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/** Periodically logs the throughput of a bulk operation, and its totals once it is closed. */
+final class ProgressReporter implements AutoCloseable {
+    private static final Logger log = Logger.get(ProgressReporter.class);
+    private static final double MB = 1024 * 1024;
+
+    private final String operation;
+    private final LongSupplier percentDone;
+    private final LongAdder records = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final ScheduledExecutorService executor;
+    private final long startTime = System.nanoTime();
+    private long lastReportTime = startTime;
+    private long lastRecords;
+    private long lastBytes;
+
+    /**
+     * @param percentDone how far along the operation is, in percent, or null when it's not known up
+     *     front
+     */
+    ProgressReporter(String operation, Duration interval, LongSupplier percentDone) {
+        this.operation = operation;
+        this.percentDone = percentDone;
+        this.executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, "oxia-bulk-progress");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.scheduleAtFixedRate(
+                this::report, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    void record(int recordBytes) {
+        records.increment();
+        bytes.add(recordBytes);
+    }
+
+    void record(int count, long recordsBytes) {
+        records.add(count);
+        bytes.add(recordsBytes);
+    }
+
+    void failures(int count) {
+        failed.add(count);
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    private synchronized void report() {
+        long now = System.nanoTime();
+        long totalRecords = records.sum();
+        long totalBytes = bytes.sum();
+        double elapsed = (now - lastReportTime) / 1e9;
+        log.infof(
+                "%s - %,d records (%s) - %,9.0f rec/s - %7.1f MB/s - Failed: %,d",
+                operation,
+                totalRecords,
+                percentDone != null ? percentDone.getAsLong() + "%" : "-",
+                (totalRecords - lastRecords) / elapsed,
+                (totalBytes - lastBytes) / MB / elapsed,
+                failed.sum());
+        lastReportTime = now;
+        lastRecords = totalRecords;
+        lastBytes = totalBytes;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        double elapsed = (System.nanoTime() - startTime) / 1e9;
+        long totalRecords = records.sum();
+        long totalBytes = bytes.sum();
+        log.infof(
+                "%s done - %,d records, %.1f MB in %.1f s - %,.0f rec/s - %.1f MB/s - Failed: %,d",
+                operation,
+                totalRecords,
+                totalBytes / MB,
+                elapsed,
+                totalRecords / elapsed,
+                totalBytes / MB / elapsed,
+                failed.sum());
+    }
+}
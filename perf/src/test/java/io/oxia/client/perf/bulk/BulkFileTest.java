@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 The Oxia Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.oxia.client.perf.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BulkFileTest {
+
+    private static final int BUFFER_SIZE = 64;
+
+    @TempDir Path dir;
+
+    @Test
+    void emptyFile() throws IOException {
+        Path file = dir.resolve("empty.bin");
+        try (var writer = new BulkFileWriter(file, BUFFER_SIZE)) {
+            assertThat(writer.records()).isZero();
+        }
+
+        try (var reader = new BulkFileReader(file, BUFFER_SIZE)) {
+            assertThat(reader.next()).isNull();
+            assertThat(reader.next()).isNull();
+            assertThat(reader.records()).isZero();
+        }
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        Path file = dir.resolve("records.bin");
+        var random = new Random(1);
+        List<BulkFileReader.Record> records = new ArrayList<>();
+        records.add(new BulkFileReader.Record("empty", new byte[0]));
+        records.add(new BulkFileReader.Record("clé-ünïcode", new byte[] {1, 2, 3}));
+        for (int i = 0; i < 3; i++) {
+            // Much larger than the buffers, so that they are split across many reads and writes
+            byte[] value = new byte[1024 * 1024 + i];
+            random.nextBytes(value);
+            records.add(new BulkFileReader.Record("large-" + i, value));
+        }
+        write(file, records);
+
+        try (var reader = new BulkFileReader(file, BUFFER_SIZE)) {
+            for (var expected : records) {
+                var record = reader.next();
+                assertThat(record.key()).isEqualTo(expected.key());
+                assertThat(record.value()).isEqualTo(expected.value());
+            }
+            assertThat(reader.next()).isNull();
+            assertThat(reader.records()).isEqualTo(records.size());
+            assertThat(reader.position()).isEqualTo(reader.size() - Integer.BYTES - Long.BYTES);
+        }
+    }
+
+    @Test
+    void truncatedFile() throws IOException {
+        Path file = dir.resolve("truncated.bin");
+        write(
+                file,
+                List.of(
+                        new BulkFileReader.Record("a", new byte[100]),
+                        new BulkFileReader.Record("b", new byte[100])));
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // Cut the file in the middle of the second value
+            channel.truncate(channel.size() - Integer.BYTES - Long.BYTES - 50);
+        }
+
+        try (var reader = new BulkFileReader(file, BUFFER_SIZE)) {
+            assertThat(reader.next().key()).isEqualTo("a");
+            assertThatThrownBy(reader::next).isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Test
+    void missingEndOfRecords() throws IOException {
+        Path file = dir.resolve("unterminated.bin");
+        write(file, List.of(new BulkFileReader.Record("a", new byte[10])));
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - Integer.BYTES - Long.BYTES);
+        }
+
+        try (var reader = new BulkFileReader(file, BUFFER_SIZE)) {
+            assertThat(reader.next().key()).isEqualTo("a");
+            assertThatThrownBy(reader::next).isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Test
+    void wrongRecordCount() throws IOException {
+        Path file = dir.resolve("count.bin");
+        write(
+                file,
+                List.of(
+                        new BulkFileReader.Record("a", new byte[10]),
+                        new BulkFileReader.Record("b", new byte[10])));
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, 3), channel.size() - Long.BYTES);
+        }
+
+        try (var reader = new BulkFileReader(file, BUFFER_SIZE)) {
+            assertThat(reader.next().key()).isEqualTo("a");
+            assertThat(reader.next().key()).isEqualTo("b");
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("The file declares 3 records, but 2 were read");
+        }
+    }
+
+    @Test
+    void notABulkFile() throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatThrownBy(() -> new BulkFileReader(file, BUFFER_SIZE))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("Not a bulk export file");
+    }
+
+    private static void write(Path file, List<BulkFileReader.Record> records) throws IOException {
+        try (var writer = new BulkFileWriter(file, BUFFER_SIZE)) {
+            for (var record : records) {
+                writer.write(record.key(), record.value());
+            }
+            assertThat(writer.records()).isEqualTo(records.size());
+        }
+    }
+}